@@ -2,11 +2,17 @@ package com.kopo.hanagreenworld.activity.controller;
 
 import com.kopo.hanagreenworld.activity.domain.Challenge;
 import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeListResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeDetailResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationRequest;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeRecordResponse;
+import com.kopo.hanagreenworld.activity.dto.ChallengeReviewQueueResponse;
+import com.kopo.hanagreenworld.activity.service.AiImagePreparer;
+import com.kopo.hanagreenworld.activity.service.AiVerificationCache;
+import com.kopo.hanagreenworld.activity.service.ChallengeReviewService;
 import com.kopo.hanagreenworld.activity.service.ChallengeService;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import com.kopo.hanagreenworld.common.util.SecurityUtil;
@@ -28,6 +34,9 @@ import java.util.Map;
 public class ChallengeController {
 
     private final ChallengeService challengeService;
+    private final AiVerificationCache aiVerificationCache;
+    private final AiImagePreparer aiImagePreparer;
+    private final ChallengeReviewService challengeReviewService;
 
     @Operation(summary = "에코챌린지 목록 조회", description = "활성화된 모든 에코챌린지를 조회합니다.")
     @GetMapping
@@ -123,7 +132,7 @@ public class ChallengeController {
         }
     }
 
-    @Operation(summary = "AI 검증 시작", description = "사용자가 인증 완료 버튼을 눌렀을 때 AI 검증을 시작합니다.")
+    @Operation(summary = "AI 검증 시작", description = "사용자가 인증 완료 버튼을 눌렀을 때 AI 검증을 요청합니다. 검증 결과는 /user/queue/verification 으로 전송됩니다.")
     @PostMapping("/{challengeId}/verify")
     public ResponseEntity<ApiResponse<ChallengeParticipationResponse>> startAiVerification(
             @PathVariable Long challengeId) {
@@ -136,9 +145,12 @@ public class ChallengeController {
                     .body(ApiResponse.error("챌린지 참여 기록을 찾을 수 없습니다."));
             }
 
-            // AI 검증 시작
+            // AI 검증 요청 (결과는 /user/queue/verification 으로 전송)
             ChallengeParticipationResponse response = challengeService.startAiVerification(memberId, record.getId());
             
+            if ("VERIFYING".equals(response.getData().getVerificationStatus())) {
+                return ResponseEntity.accepted().body(ApiResponse.success(response.getMessage(), response));
+            }
             return ResponseEntity.ok(ApiResponse.success(response.getMessage(), response));
         } catch (Exception e) {
             return ResponseEntity.status(500)
@@ -156,6 +168,23 @@ public class ChallengeController {
         return ResponseEntity.ok(ApiResponse.success("검토 필요한 챌린지 목록을 조회했습니다.", responseList));
     }
 
+    @Operation(summary = "[관리자] 검토 대기열 조회", description = "검토 필요 챌린지를 오래된 순으로 페이지 조회합니다. 다음 페이지는 nextCursor를 afterId로 전달합니다.")
+    @GetMapping("/admin/review-queue")
+    public ResponseEntity<ApiResponse<ChallengeReviewQueueResponse>> getReviewQueue(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        ChallengeReviewQueueResponse response = challengeReviewService.getReviewQueue(afterId, size);
+        return ResponseEntity.ok(ApiResponse.success("검토 대기열을 조회했습니다.", response));
+    }
+
+    @Operation(summary = "[관리자] 챌린지 일괄 승인/거부", description = "검토 필요 상태의 챌린지 여러 건을 한 번에 승인하거나 거부하고 기록별 처리 결과를 반환합니다.")
+    @PostMapping("/admin/bulk-review")
+    public ResponseEntity<ApiResponse<ChallengeBulkReviewResponse>> bulkReviewChallenges(
+            @RequestBody ChallengeBulkReviewRequest request) {
+        ChallengeBulkReviewResponse response = challengeReviewService.bulkReview(request);
+        return ResponseEntity.ok(ApiResponse.success("챌린지 일괄 검토를 완료했습니다.", response));
+    }
+
     @Operation(summary = "[관리자] 챌린지 수동 승인", description = "검토 필요 상태의 챌린지를 수동으로 승인합니다.")
     @PostMapping("/admin/{recordId}/approve")
     public ResponseEntity<ApiResponse<Void>> adminApproveChallenge(@PathVariable Long recordId) {
@@ -173,6 +202,20 @@ public class ChallengeController {
         return ResponseEntity.ok(ApiResponse.success("챌린지가 거부되었습니다.", null));
     }
 
+    @Operation(summary = "[관리자] AI 검증 결과 캐시 통계", description = "AI 검증 결과 캐시의 적중률, 절약한 AI 호출 시간, 모델 버전을 조회합니다.")
+    @GetMapping("/admin/ai-cache-stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAiVerificationCacheStats() {
+        SecurityUtil.requireAdmin();
+        return ResponseEntity.ok(ApiResponse.success("AI 검증 결과 캐시 통계를 조회했습니다.", aiVerificationCache.getStats()));
+    }
+
+    @Operation(summary = "[관리자] AI 전송 이미지 축소 통계", description = "AI 서버로 보낸 이미지의 축소 건수, 원본 대비 전송 크기 비율, 평균 처리 시간을 조회합니다.")
+    @GetMapping("/admin/ai-image-stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAiImagePrepareStats() {
+        SecurityUtil.requireAdmin();
+        return ResponseEntity.ok(ApiResponse.success("AI 전송 이미지 축소 통계를 조회했습니다.", aiImagePreparer.getStats()));
+    }
+
     @Operation(summary = "팀별 챌린지 참여 상태 조회", description = "특정 팀의 챌린지 참여 상태를 조회합니다.")
     @GetMapping("/team/{teamId}/participations")
     public ResponseEntity<ApiResponse<List<ChallengeRecordResponse>>> getTeamChallengeParticipations(@PathVariable Long teamId) {
@@ -125,8 +125,19 @@ public class Challenge extends DateTimeEntity {
     }
 
     public boolean isCurrentlyActive() {
-        LocalDateTime now = LocalDateTime.now();
-        
+        return isWithinPeriod(startDate, endDate, LocalDateTime.now());
+    }
+
+    public boolean hasStarted() {
+        return hasStarted(startDate, LocalDateTime.now());
+    }
+
+    public boolean hasEnded() {
+        return hasEnded(endDate, LocalDateTime.now());
+    }
+
+    // 기간 판정은 카탈로그의 읽기 전용 뷰(ChallengeView)와 함께 쓴다
+    static boolean isWithinPeriod(LocalDateTime startDate, LocalDateTime endDate, LocalDateTime now) {
         // 시작 날짜가 설정되지 않은 경우 항상 활성
         if (startDate == null && endDate == null) {
             return true;
@@ -147,24 +158,30 @@ public class Challenge extends DateTimeEntity {
                (now.isBefore(endDate) || now.isEqual(endDate));
     }
 
-    public boolean hasStarted() {
+    static boolean hasStarted(LocalDateTime startDate, LocalDateTime now) {
         if (startDate == null) {
             return true; // 시작 날짜가 설정되지 않은 경우 항상 시작된 것으로 간주
         }
-        return LocalDateTime.now().isAfter(startDate) || LocalDateTime.now().isEqual(startDate);
+        return now.isAfter(startDate) || now.isEqual(startDate);
     }
 
-    public boolean hasEnded() {
+    static boolean hasEnded(LocalDateTime endDate, LocalDateTime now) {
         if (endDate == null) {
             return false; // 종료 날짜가 설정되지 않은 경우 종료되지 않은 것으로 간주
         }
-        return LocalDateTime.now().isAfter(endDate);
+        return now.isAfter(endDate);
     }
 
-    public void validateAndUpdateActiveStatus() {
+    /**
+     * 기간에 맞춰 isActive 갱신
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean validateAndUpdateActiveStatus() {
         boolean shouldBeActive = isCurrentlyActive();
         if (this.isActive != shouldBeActive) {
             this.isActive = shouldBeActive;
+            return true;
         }
+        return false;
     }
 }
\ No newline at end of file
@@ -20,7 +20,9 @@ import lombok.NoArgsConstructor;
     indexes = {
         @Index(name = "idx_challenge_record_challenge", columnList = "challenge_id"),
         @Index(name = "idx_challenge_record_member", columnList = "member_id"),
-        @Index(name = "idx_challenge_record_date", columnList = "activity_date")
+        @Index(name = "idx_challenge_record_date", columnList = "activity_date"),
+        // 상태별 id 순 조회 (검토 대기열 keyset 페이징)
+        @Index(name = "idx_challenge_record_status", columnList = "verification_status")
     }
 )
 @Getter
@@ -0,0 +1,61 @@
+package com.kopo.hanagreenworld.activity.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 챌린지 읽기 전용 뷰 (ChallengeCatalog 스냅샷용)
+ *
+ * 모든 필드가 final이라 여러 요청 스레드가 공유해도 안전하다.
+ * 상태를 바꾸거나 연관관계로 저장할 때는 ChallengeRepository로 엔티티를 조회해서 쓴다.
+ */
+@Getter
+public final class ChallengeView {
+
+    private final Long id;
+    private final Challenge.ChallengeCode code;
+    private final String title;
+    private final String description;
+    private final Challenge.ChallengeRewardPolicy rewardPolicy;
+    private final Integer points;
+    private final Integer teamScore;
+    private final Boolean isTeamChallenge;
+    private final Boolean isLeaderOnly;
+    private final Boolean isActive;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Double carbonSaved;
+
+    private ChallengeView(Challenge challenge) {
+        this.id = challenge.getId();
+        this.code = challenge.getCode();
+        this.title = challenge.getTitle();
+        this.description = challenge.getDescription();
+        this.rewardPolicy = challenge.getRewardPolicy();
+        this.points = challenge.getPoints();
+        this.teamScore = challenge.getTeamScore();
+        this.isTeamChallenge = challenge.getIsTeamChallenge();
+        this.isLeaderOnly = challenge.getIsLeaderOnly();
+        this.isActive = challenge.getIsActive();
+        this.startDate = challenge.getStartDate();
+        this.endDate = challenge.getEndDate();
+        this.carbonSaved = challenge.getCarbonSaved();
+    }
+
+    public static ChallengeView from(Challenge challenge) {
+        return new ChallengeView(challenge);
+    }
+
+    public boolean isCurrentlyActive() {
+        return Challenge.isWithinPeriod(startDate, endDate, LocalDateTime.now());
+    }
+
+    public boolean hasStarted() {
+        return Challenge.hasStarted(startDate, LocalDateTime.now());
+    }
+
+    public boolean hasEnded() {
+        return Challenge.hasEnded(endDate, LocalDateTime.now());
+    }
+}
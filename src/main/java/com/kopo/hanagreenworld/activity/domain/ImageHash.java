@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 @Table(name = "image_hashes", 
        indexes = {
            @Index(name = "idx_image_hash", columnList = "imageHash"),
+           @Index(name = "idx_perceptual_hash", columnList = "perceptualHash"),
            @Index(name = "idx_member_id", columnList = "memberId"),
            @Index(name = "idx_created_at", columnList = "createdAt")
        })
@@ -39,6 +41,10 @@ public class ImageHash {
     @Column(name = "image_hash", nullable = false, length = 32)
     private String imageHash;
 
+    // 64비트 dHash (유사 이미지 탐지용, 디코딩할 수 없는 이미지는 null)
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+
     @Column(name = "file_size")
     private Long fileSize;
 
@@ -49,13 +55,19 @@ public class ImageHash {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 다른 서버의 유사 이미지 색인이 수정된 해시를 가져가는 기준 (컬럼 추가 전 행은 null)
+    @LastModifiedDate
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
     @Builder
     public ImageHash(Long memberId, Long challengeId, String imageUrl, 
-                    String imageHash, Long fileSize, String contentType) {
+                    String imageHash, Long perceptualHash, Long fileSize, String contentType) {
         this.memberId = memberId;
         this.challengeId = challengeId;
         this.imageUrl = imageUrl;
         this.imageHash = imageHash;
+        this.perceptualHash = perceptualHash;
         this.fileSize = fileSize;
         this.contentType = contentType;
     }
@@ -63,9 +75,10 @@ public class ImageHash {
     /**
      * 이미지 해시 정보 업데이트
      */
-    public void updateImageInfo(String imageUrl, String imageHash, Long fileSize, String contentType) {
+    public void updateImageInfo(String imageUrl, String imageHash, Long perceptualHash, Long fileSize, String contentType) {
         this.imageUrl = imageUrl;
         this.imageHash = imageHash;
+        this.perceptualHash = perceptualHash;
         this.fileSize = fileSize;
         this.contentType = contentType;
     }
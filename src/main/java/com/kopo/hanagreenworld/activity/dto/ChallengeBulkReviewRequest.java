@@ -0,0 +1,22 @@
+package com.kopo.hanagreenworld.activity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChallengeBulkReviewRequest {
+    private List<Long> recordIds;
+    private Action action; // APPROVE, REJECT
+    private String reason; // 거부 사유 (선택사항)
+
+    public enum Action {
+        APPROVE, REJECT
+    }
+}
@@ -0,0 +1,33 @@
+package com.kopo.hanagreenworld.activity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeBulkReviewResponse {
+    private Integer total;
+    private Integer approved;
+    private Integer rejected;
+    private Integer skipped; // 이미 처리되었거나 검토 대상이 아닌 기록
+    private Integer notFound;
+    private Integer failed; // 청크 처리 중 오류로 롤백된 기록
+    private List<RecordResult> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordResult {
+        private Long recordId;
+        private String result; // APPROVED, REJECTED, SKIPPED, NOT_FOUND, FAILED
+        private Integer pointsAwarded;
+        private String message;
+    }
+}
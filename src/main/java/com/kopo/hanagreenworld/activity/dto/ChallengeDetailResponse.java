@@ -1,6 +1,7 @@
 package com.kopo.hanagreenworld.activity.dto;
 
 import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -44,7 +45,7 @@ public class ChallengeDetailResponse {
     private String rewardDesc;
     private String note;
 
-    public static ChallengeDetailResponse from(Challenge challenge, Boolean isParticipated, 
+    public static ChallengeDetailResponse from(ChallengeView challenge, Boolean isParticipated, 
                                              String participationStatus, LocalDateTime participationDate) {
         return ChallengeDetailResponse.builder()
                 .id(challenge.getId())
@@ -76,7 +77,7 @@ public class ChallengeDetailResponse {
                 .build();
     }
 
-    private static String getPeriodStatus(Challenge challenge) {
+    private static String getPeriodStatus(ChallengeView challenge) {
         if (challenge.getStartDate() == null && challenge.getEndDate() == null) {
             return "ACTIVE"; // 기간이 설정되지 않은 경우 항상 활성
         }
@@ -90,7 +91,7 @@ public class ChallengeDetailResponse {
         }
     }
 
-    private static String getPeriodDescription(Challenge challenge) {
+    private static String getPeriodDescription(ChallengeView challenge) {
         if (challenge.getStartDate() == null && challenge.getEndDate() == null) {
             return "상시 진행";
         }
@@ -222,7 +223,7 @@ public class ChallengeDetailResponse {
         }
     }
 
-    private static String getRewardDesc(Challenge challenge) {
+    private static String getRewardDesc(ChallengeView challenge) {
         if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.POINTS) {
             return "+" + challenge.getPoints() + " 씨앗";
         } else {
@@ -1,6 +1,7 @@
 package com.kopo.hanagreenworld.activity.dto;
 
 import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -25,6 +26,7 @@ public class ChallengeListResponse {
     private String note;
     private Boolean isParticipated;
     private String participationStatus;
+    private Integer todayParticipationCount;
     
     // 챌린지 기간 정보
     private LocalDateTime startDate;
@@ -32,7 +34,8 @@ public class ChallengeListResponse {
     private Boolean isCurrentlyActive;
     private String periodStatus; // "UPCOMING", "ACTIVE", "ENDED"
 
-    public static ChallengeListResponse from(Challenge challenge, Boolean isParticipated, String participationStatus) {
+    public static ChallengeListResponse from(ChallengeView challenge, Boolean isParticipated, String participationStatus,
+                                             Integer todayParticipationCount) {
         return ChallengeListResponse.builder()
                 .id(challenge.getId())
                 .code(challenge.getCode().name())
@@ -50,6 +53,7 @@ public class ChallengeListResponse {
                 .note(getNote(challenge.getCode()))
                 .isParticipated(isParticipated)
                 .participationStatus(participationStatus)
+                .todayParticipationCount(todayParticipationCount)
                 .startDate(challenge.getStartDate())
                 .endDate(challenge.getEndDate())
                 .isCurrentlyActive(challenge.isCurrentlyActive())
@@ -164,7 +168,7 @@ public class ChallengeListResponse {
         }
     }
 
-    private static String getRewardDesc(Challenge challenge) {
+    private static String getRewardDesc(ChallengeView challenge) {
         if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.POINTS) {
             return "+" + challenge.getPoints() + " 씨앗";
         } else {
@@ -196,7 +200,7 @@ public class ChallengeListResponse {
         }
     }
 
-    private static String getPeriodStatus(Challenge challenge) {
+    private static String getPeriodStatus(ChallengeView challenge) {
         if (challenge.getStartDate() == null && challenge.getEndDate() == null) {
             return "ACTIVE"; // 기간이 설정되지 않은 경우 항상 활성
         }
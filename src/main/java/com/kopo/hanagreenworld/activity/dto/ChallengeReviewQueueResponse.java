@@ -0,0 +1,38 @@
+package com.kopo.hanagreenworld.activity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeReviewQueueResponse {
+    private List<Item> items;
+    private Long nextCursor; // 다음 페이지 요청 시 afterId로 전달 (마지막 페이지면 null)
+    private Boolean hasNext;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long recordId;
+        private Long challengeId;
+        private String challengeCode;
+        private String challengeTitle;
+        private Long memberId;
+        private String memberName;
+        private Long teamId;
+        private String imageUrl;
+        private Double aiConfidence;
+        private String aiExplanation;
+        private LocalDateTime activityDate;
+        private LocalDateTime submittedAt;
+    }
+}
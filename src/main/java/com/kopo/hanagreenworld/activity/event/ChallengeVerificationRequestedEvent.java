@@ -0,0 +1,14 @@
+package com.kopo.hanagreenworld.activity.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 챌린지 인증 사진 검증이 요청됨 (커밋 후 검증 작업 큐에 등록된다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChallengeVerificationRequestedEvent {
+
+    private final Long recordId;
+}
@@ -1,12 +1,17 @@
 package com.kopo.hanagreenworld.activity.repository;
 
 import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,29 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
     List<ChallengeRecord> findByVerificationStatus(String verificationStatus);
     List<ChallengeRecord> findByVerificationStatusOrderByCreatedAtDesc(String verificationStatus);
     
+    @Query("SELECT cr FROM ChallengeRecord cr JOIN FETCH cr.challenge WHERE cr.verificationStatus = :verificationStatus")
+    List<ChallengeRecord> findByVerificationStatusWithChallenge(@Param("verificationStatus") String verificationStatus);
+    
+    // 관리자 검토 대기열 (기록ID, 챌린지ID, 챌린지 코드, 챌린지명, 회원ID, 회원명, 팀ID, 이미지, AI 신뢰도, AI 설명, 활동일, 제출일)
+    @Query("SELECT cr.id, c.id, c.code, c.title, m.memberId, m.name, cr.teamId, cr.imageUrl, " +
+           "cr.aiConfidence, cr.aiExplanation, cr.activityDate, cr.createdAt " +
+           "FROM ChallengeRecord cr JOIN cr.challenge c JOIN cr.member m " +
+           "WHERE cr.verificationStatus = 'NEEDS_REVIEW' AND cr.id > :afterId " +
+           "ORDER BY cr.id")
+    List<Object[]> findReviewQueue(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // 회원의 챌린지별 참여 요약 (챌린지ID, 최근 기록 상태, 최근 기록 검증 시각, 오늘 참여 횟수) - 참여한 챌린지만 반환
+    @Query("SELECT cr.challenge.id, cr.verificationStatus, cr.verifiedAt, " +
+           "(SELECT COUNT(t) FROM ChallengeRecord t WHERE t.member.memberId = :memberId " +
+           "AND t.challenge.id = cr.challenge.id AND t.createdAt >= :startOfDay) " +
+           "FROM ChallengeRecord cr " +
+           "WHERE cr.member.memberId = :memberId AND cr.challenge.id IN :challengeIds " +
+           "AND cr.id = (SELECT MAX(r.id) FROM ChallengeRecord r " +
+           "WHERE r.member.memberId = :memberId AND r.challenge.id = cr.challenge.id)")
+    List<Object[]> findParticipationSummaries(@Param("memberId") Long memberId,
+                                              @Param("challengeIds") Collection<Long> challengeIds,
+                                              @Param("startOfDay") LocalDateTime startOfDay);
+    
     // 환경 임팩트 계산용
     List<ChallengeRecord> findByMemberIdAndVerificationStatus(Long memberId, String verificationStatus);
     
@@ -67,4 +95,59 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
            "AND cr.verificationStatus = 'VERIFIED' " +
            "AND DATE_FORMAT(cr.activityDate, '%Y-%m') = :reportDate")
     Double calculateTeamMonthlyCarbonSaved(@Param("teamId") Long teamId, @Param("reportDate") String reportDate);
-}
\ No newline at end of file
+    
+    // 여러 팀의 기간별 완료 챌린지 수 (팀ID, 개수)
+    @Query("SELECT mt.team.id, COUNT(cr) FROM ChallengeRecord cr " +
+           "JOIN MemberTeam mt ON cr.member.memberId = mt.member.memberId " +
+           "WHERE mt.team.id IN :teamIds AND mt.isActive = true " +
+           "AND cr.verificationStatus = 'VERIFIED' " +
+           "AND cr.activityDate >= :start AND cr.activityDate < :end " +
+           "GROUP BY mt.team.id")
+    List<Object[]> countTeamCompletedChallengesBetween(@Param("teamIds") Collection<Long> teamIds,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+    
+    // 여러 팀의 탄소 절감량 (팀ID, 합계)
+    @Query("SELECT mt.team.id, COALESCE(SUM(c.carbonSaved), 0) FROM ChallengeRecord cr " +
+           "JOIN cr.challenge c " +
+           "JOIN MemberTeam mt ON cr.member.memberId = mt.member.memberId " +
+           "WHERE mt.team.id IN :teamIds AND mt.isActive = true " +
+           "AND cr.verificationStatus = 'VERIFIED' " +
+           "GROUP BY mt.team.id")
+    List<Object[]> sumTeamCarbonSaved(@Param("teamIds") Collection<Long> teamIds);
+    
+    // 여러 팀의 기간별 탄소 절감량 (팀ID, 합계)
+    @Query("SELECT mt.team.id, COALESCE(SUM(c.carbonSaved), 0) FROM ChallengeRecord cr " +
+           "JOIN cr.challenge c " +
+           "JOIN MemberTeam mt ON cr.member.memberId = mt.member.memberId " +
+           "WHERE mt.team.id IN :teamIds AND mt.isActive = true " +
+           "AND cr.verificationStatus = 'VERIFIED' " +
+           "AND cr.activityDate >= :start AND cr.activityDate < :end " +
+           "GROUP BY mt.team.id")
+    List<Object[]> sumTeamCarbonSavedBetween(@Param("teamIds") Collection<Long> teamIds,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end);
+    
+    // AI 검증 요청/결과 반영 시 같은 기록의 중복 처리 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cr FROM ChallengeRecord cr WHERE cr.id = :id")
+    Optional<ChallengeRecord> findByIdForUpdate(@Param("id") Long id);
+    
+    // 관리자 일괄 검토 - 청크 단위로 잠근다 (id 순서로 잠가 동시 요청 간 교착을 피한다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cr FROM ChallengeRecord cr WHERE cr.id IN :ids ORDER BY cr.id")
+    List<ChallengeRecord> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    
+    // 검증 작업이 유실된 것으로 보이는 VERIFYING 기록
+    @Query("SELECT cr.id FROM ChallengeRecord cr " +
+           "WHERE cr.verificationStatus = 'VERIFYING' AND cr.modifiedAt < :staleBefore " +
+           "ORDER BY cr.modifiedAt")
+    List<Long> findStaleVerifyingIds(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+    
+    // 재등록 권한 선점 - 여러 서버가 같은 기록을 동시에 다시 등록하지 않도록 수정 시각을 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChallengeRecord cr SET cr.modifiedAt = :now " +
+           "WHERE cr.id = :id AND cr.verificationStatus = 'VERIFYING' AND cr.modifiedAt < :staleBefore")
+    int claimStaleVerifying(@Param("id") Long id, @Param("now") LocalDateTime now,
+                            @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,11 +1,14 @@
 package com.kopo.hanagreenworld.activity.repository;
 
 import com.kopo.hanagreenworld.activity.domain.ImageHash;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +30,22 @@ public interface ImageHashRepository extends JpaRepository<ImageHash, Long> {
     long countDistinctMembersByImageHash(@Param("imageHash") String imageHash);
 
     long countByMemberId(Long memberId);
+
+    // Bloom 필터 적재용 (id, 회원ID, 해시) - id 기준 키셋 페이징
+    @Query("SELECT ih.id, ih.memberId, ih.imageHash FROM ImageHash ih WHERE ih.id > :afterId ORDER BY ih.id")
+    List<Object[]> findHashKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 유사 이미지 색인 적재용 (id, dHash) - id 기준 키셋 페이징
+    @Query("SELECT ih.id, ih.perceptualHash FROM ImageHash ih " +
+           "WHERE ih.perceptualHash IS NOT NULL AND ih.id > :afterId ORDER BY ih.id")
+    List<Object[]> findPerceptualHashesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 유사 이미지 색인 갱신용 - since 이후 수정된 기존 행의 dHash
+    @Query("SELECT ih.perceptualHash FROM ImageHash ih " +
+           "WHERE ih.perceptualHash IS NOT NULL AND ih.modifiedAt >= :since")
+    List<Long> findPerceptualHashesModifiedSince(@Param("since") LocalDateTime since);
+
+    // 색인이 찾은 유사 해시를 실제로 사용한 회원 (수정으로 바뀐 해시는 제외된다)
+    @Query("SELECT DISTINCT ih.memberId FROM ImageHash ih WHERE ih.perceptualHash IN :hashes")
+    List<Long> findMemberIdsByPerceptualHashIn(@Param("hashes") Collection<Long> hashes);
 }
@@ -0,0 +1,204 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.drew.imaging.jpeg.JpegSegmentType;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifReader;
+import com.kopo.hanagreenworld.common.util.ImageResizer;
+import com.kopo.hanagreenworld.common.util.JpegHeaderReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 서버 전송용 이미지 준비 - 디코딩 → 긴 변 max-edge로 영역 평균 축소 → 메타데이터 없이 JPEG 재인코딩
+ *
+ * 분류 모델은 수백 픽셀이면 충분하므로 수 MB 원본 대신 작은 JPEG를 보내 업로드 시간을 줄인다.
+ * 디코딩/인코딩은 CPU 작업이라 크기가 정해진 전용 풀에서 실행하며, 풀이 가득 찼거나
+ * ImageIO가 읽지 못하는 형식(HEIC 등)이거나 결과가 원본보다 크면 원본을 그대로 보낸다.
+ * 캐시 키는 원본 MD5를 그대로 쓰므로 이 단계는 AI 결과 캐시에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiImagePreparer {
+
+    private static final String FILENAME = "challenge_image.jpg";
+    private static final int HEADER_MAX_BYTES = 256 * 1024;
+
+    @Value("${ai.image.prepare.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.image.prepare.max-edge:768}")
+    private int maxEdge;
+
+    @Value("${ai.image.prepare.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${ai.image.prepare.pool-size:0}")
+    private int poolSize;
+
+    @Value("${ai.image.prepare.queue-capacity:32}")
+    private int queueCapacity;
+
+    private ExecutorService prepareExecutor;
+
+    private final AtomicLong prepared = new AtomicLong();
+    private final AtomicLong passedThrough = new AtomicLong();
+    private final AtomicLong originalBytes = new AtomicLong();
+    private final AtomicLong preparedBytes = new AtomicLong();
+    private final AtomicLong prepareMillis = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        // 기본값은 CPU 코어 수 (디코딩이 다른 요청 처리 스레드를 굶기지 않도록 상한을 둔다)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        prepareExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-image-prepare-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prepareExecutor.shutdownNow();
+    }
+
+    /**
+     * multipart 전송용 이미지 (축소본 또는 원본)
+     *
+     * @throws InterruptedException 검증이 취소되어 대기 중 인터럽트된 경우 (인터럽트 상태는 유지)
+     */
+    public Resource prepare(ImageVerificationContext image) throws InterruptedException {
+        if (!enabled) {
+            return passThrough(image);
+        }
+
+        Future<Resized> future;
+        try {
+            future = prepareExecutor.submit(() -> resize(image));
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 이미지 준비 풀 포화 - 원본 전송: {}", image.getImageUrl());
+            return passThrough(image);
+        }
+
+        Resized resized;
+        try {
+            resized = future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (Exception e) {
+            log.warn("AI 이미지 준비 실패 - 원본 전송: {}, error={}", image.getImageUrl(), e.getMessage());
+            return passThrough(image);
+        }
+
+        if (resized == null || resized.bytes().length >= image.getSize()) {
+            return passThrough(image);
+        }
+
+        // 처리 시간은 축소본을 실제로 보낸 건만 합산한다 (원본 전송으로 끝난 시도는 평균에 넣지 않는다)
+        prepared.incrementAndGet();
+        originalBytes.addAndGet(image.getSize());
+        preparedBytes.addAndGet(resized.bytes().length);
+        prepareMillis.addAndGet(resized.elapsedMillis());
+        return new ByteArrayResource(resized.bytes()) {
+            @Override
+            public String getFilename() {
+                return FILENAME;
+            }
+        };
+    }
+
+    public Map<String, Object> getStats() {
+        long preparedCount = prepared.get();
+        long original = originalBytes.get();
+        long reduced = preparedBytes.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxEdge", maxEdge);
+        stats.put("jpegQuality", jpegQuality);
+        stats.put("prepared", preparedCount);
+        stats.put("passedThrough", passedThrough.get());
+        stats.put("originalBytes", original);
+        stats.put("preparedBytes", reduced);
+        stats.put("sizeRatio", original == 0 ? 0.0 : (double) reduced / original);
+        stats.put("avgPrepareMillis", preparedCount == 0 ? 0.0 : (double) prepareMillis.get() / preparedCount);
+        return stats;
+    }
+
+    /**
+     * @return 재인코딩한 JPEG와 처리 시간, 디코딩할 수 없으면 null
+     */
+    private Resized resize(ImageVerificationContext image) throws Exception {
+        long startTime = System.currentTimeMillis();
+        BufferedImage decoded;
+        try (InputStream in = image.openStream()) {
+            decoded = ImageResizer.readSubsampled(in, maxEdge);
+        }
+        if (decoded == null) {
+            return null;
+        }
+
+        BufferedImage resized = ImageResizer.fitWithin(decoded, maxEdge);
+        // 메타데이터를 지우면 방향 태그도 사라지므로 회전은 픽셀에 반영한다
+        resized = ImageResizer.applyOrientation(resized, readOrientation(image));
+        byte[] encoded = ImageResizer.encodeJpeg(resized, jpegQuality);
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.debug("AI 전송 이미지 준비: {}x{} → {}x{}, {}바이트 → {}바이트, {}ms",
+                decoded.getWidth(), decoded.getHeight(), resized.getWidth(), resized.getHeight(),
+                image.getSize(), encoded.length, elapsed);
+        return new Resized(encoded, elapsed);
+    }
+
+    private int readOrientation(ImageVerificationContext image) {
+        try (InputStream in = image.openStream()) {
+            JpegHeaderReader.Result header = JpegHeaderReader.read(in, HEADER_MAX_BYTES);
+            if (header == null) {
+                return 1;
+            }
+            Metadata metadata = new Metadata();
+            new ExifReader().readJpegSegments(header.getApp1Segments(), metadata, JpegSegmentType.APP1);
+            ExifIFD0Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (directory != null && directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                return directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+            }
+        } catch (Exception e) {
+            log.debug("이미지 방향 정보 추출 실패: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    private Resource passThrough(ImageVerificationContext image) {
+        passedThrough.incrementAndGet();
+        return image.asResource(FILENAME);
+    }
+
+    private record Resized(byte[] bytes, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 검증 결과 캐시 - 키: (이미지 MD5, 챌린지 코드, AI 모델 버전)
+ *
+ * 같은 기록의 재시도나 NEEDS_REVIEW 후 같은 사진 재제출 시 AI 추론을 다시 하지 않는다.
+ * 크기 제한 LRU + TTL이며, AI 서버가 알려준 모델 버전이 바뀌면 전체를 비운다.
+ * 성공 응답만 캐시한다. (서버 오류/시간 초과는 다음 시도에서 다시 호출)
+ * AiVerificationResult는 변경 가능한 객체라 저장/반환 시 복사본을 쓴다. (호출 측 수정이 캐시에 번지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiVerificationCache {
+
+    @Value("${ai.verification.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${ai.verification.cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${ai.model.version:default}")
+    private volatile String modelVersion;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong savedMillis = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Map<String, CachedResult> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public AiVerificationService.AiVerificationResult get(String digest, String challengeCode) {
+        if (digest == null) {
+            return null;
+        }
+
+        String key = toKey(digest, challengeCode);
+        CachedResult cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && cached.isExpired(ttlMinutes)) {
+                entries.remove(key);
+                cached = null;
+            }
+        }
+
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        savedMillis.addAndGet(cached.latencyMillis);
+        return copy(cached.result);
+    }
+
+    public void put(String digest, String challengeCode,
+                    AiVerificationService.AiVerificationResult result, long latencyMillis) {
+        if (digest == null || result == null || !result.isSuccess()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(toKey(digest, challengeCode), new CachedResult(copy(result), latencyMillis, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * AI 서버 응답의 모델 버전 반영 - 바뀌었으면 이전 모델의 결과를 모두 버린다
+     */
+    public void updateModelVersion(String reportedVersion) {
+        if (reportedVersion == null || reportedVersion.isBlank() || Objects.equals(reportedVersion, modelVersion)) {
+            return;
+        }
+        synchronized (entries) {
+            if (Objects.equals(reportedVersion, modelVersion)) {
+                return;
+            }
+            log.info("AI 모델 버전 변경 - 검증 결과 캐시 초기화: {} → {} ({}건 삭제)",
+                    modelVersion, reportedVersion, entries.size());
+            modelVersion = reportedVersion;
+            entries.clear();
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("modelVersion", modelVersion);
+        stats.put("size", size);
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("savedLatencyMillis", savedMillis.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private String toKey(String digest, String challengeCode) {
+        return digest + "|" + challengeCode + "|" + modelVersion;
+    }
+
+    private static AiVerificationService.AiVerificationResult copy(AiVerificationService.AiVerificationResult result) {
+        return AiVerificationService.AiVerificationResult.builder()
+                .success(result.isSuccess())
+                .verificationResult(result.getVerificationResult())
+                .confidence(result.getConfidence())
+                .explanation(result.getExplanation())
+                .detectedItems(result.getDetectedItems())
+                .build();
+    }
+
+    private static class CachedResult {
+        private final AiVerificationService.AiVerificationResult result;
+        // 원래 AI 호출에 걸린 시간 (적중 시 절약한 시간으로 집계)
+        private final long latencyMillis;
+        private final long cachedAt;
+
+        CachedResult(AiVerificationService.AiVerificationResult result, long latencyMillis, long cachedAt) {
+            this.result = result;
+            this.latencyMillis = latencyMillis;
+            this.cachedAt = cachedAt;
+        }
+
+        boolean isExpired(long ttlMinutes) {
+            return System.currentTimeMillis() - cachedAt > ttlMinutes * 60_000L;
+        }
+    }
+}
@@ -5,18 +5,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.InputStream;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,19 +21,18 @@ public class AiVerificationService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final AiVerificationCache aiVerificationCache;
+    private final AiImagePreparer aiImagePreparer;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
-    public AiVerificationResult verifyChallengeImage(String imageUrl, String challengeTitle, String challengeCode) {
+    public AiVerificationResult verifyChallengeImage(ImageVerificationContext image, String challengeTitle, String challengeCode) {
         try {
-            log.info("AI 검증 시작 - URL: {}, 챌린지: {} ({})", imageUrl, challengeTitle, challengeCode);
+            log.info("AI 검증 시작 - URL: {}, 챌린지: {} ({})", image.getImageUrl(), challengeTitle, challengeCode);
 
-            // 이미지 다운로드
-            byte[] imageBytes = downloadImage(imageUrl);
-            
-            if (imageBytes == null || imageBytes.length == 0) {
-                log.error("이미지 다운로드 실패: {}", imageUrl);
+            if (!image.isLoaded()) {
+                log.error("이미지 다운로드 실패: {}", image.getImageUrl());
                 return AiVerificationResult.builder()
                         .success(false)
                         .verificationResult("NEEDS_REVIEW")
@@ -48,20 +41,22 @@ public class AiVerificationService {
                         .build();
             }
 
+            // 같은 사진 + 같은 챌린지의 이전 결과가 있으면 AI 서버 호출 생략
+            String digest = image.getDigest();
+            AiVerificationResult cached = aiVerificationCache.get(digest, challengeCode);
+            if (cached != null) {
+                log.info("AI 검증 결과 캐시 적중: 챌린지 {}, 결과 {}", challengeCode, cached.getVerificationResult());
+                return cached;
+            }
+
             // Multipart 요청 생성
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             
-            // 이미지 파일 추가
-            ByteArrayResource imageResource = new ByteArrayResource(imageBytes) {
-                @Override
-                public String getFilename() {
-                    return "challenge_image.jpg";
-                }
-            };
-            body.add("image", imageResource);
+            // 이미지 파일 추가 (분류에 필요한 크기로 줄인 JPEG, 줄일 수 없으면 원본)
+            body.add("image", aiImagePreparer.prepare(image));
             body.add("challengeTitle", challengeTitle);
             body.add("challengeCode", challengeCode);
 
@@ -71,6 +66,7 @@ public class AiVerificationService {
             String url = aiServerUrl + "/api/eco/verify-challenge-image/";
             log.info("AI 서버 호출: {}", url);
             
+            long requestStart = System.currentTimeMillis();
             ResponseEntity<String> response = restTemplate.exchange(
                     url,
                     HttpMethod.POST,
@@ -97,6 +93,10 @@ public class AiVerificationService {
                 double confidence = jsonNode.path("confidence").asDouble(0.0);
                 String explanation = jsonNode.path("explanation").asText("");
                 String detectedItems = jsonNode.path("detected_items").toString();
+                long latencyMillis = System.currentTimeMillis() - requestStart;
+
+                // 모델이 바뀌었으면 이전 모델의 캐시 결과는 버린다
+                aiVerificationCache.updateModelVersion(jsonNode.path("model_version").asText(null));
 
                 // 결과별 상세 로그
                 if ("APPROVED".equals(verificationResult)) {
@@ -107,13 +107,15 @@ public class AiVerificationService {
                     log.info("챌린지 인증 실패 - 신뢰도 {:.1f}%", confidence * 100);
                 }
 
-                return AiVerificationResult.builder()
+                AiVerificationResult result = AiVerificationResult.builder()
                         .success(true)
                         .verificationResult(verificationResult)
                         .confidence(confidence)
                         .explanation(explanation)
                         .detectedItems(detectedItems)
                         .build();
+                aiVerificationCache.put(digest, challengeCode, result, latencyMillis);
+                return result;
             } else {
                 log.error("AI 서버 응답 오류: {}", response.getStatusCode());
                 return AiVerificationResult.builder()
@@ -125,6 +127,16 @@ public class AiVerificationService {
             }
 
         } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 앞선 검증 단계가 거부해 요청이 취소된 경우
+                log.info("AI 검증 요청 취소: {}", image.getImageUrl());
+                return AiVerificationResult.builder()
+                        .success(false)
+                        .verificationResult("NEEDS_REVIEW")
+                        .confidence(0.0)
+                        .explanation("AI 검증 요청이 취소되었습니다.")
+                        .build();
+            }
             log.error("AI 검증 중 예외 발생: {}", e.getMessage(), e);
             return AiVerificationResult.builder()
                     .success(false)
@@ -135,45 +147,6 @@ public class AiVerificationService {
         }
     }
 
-    private byte[] downloadImage(String imageUrl) {
-        try {
-            // URL에서 로컬 파일 경로 추출
-            String localPath = extractLocalPath(imageUrl);
-            if (localPath != null) {
-                // 로컬 파일에서 직접 읽기
-                Path filePath = Paths.get(localPath);
-                if (Files.exists(filePath)) {
-                    log.info("로컬 파일에서 이미지 읽기: {}", localPath);
-                    return Files.readAllBytes(filePath);
-                }
-            }
-            
-            // 로컬 파일이 없으면 URL로 다운로드 시도
-            log.info("URL에서 이미지 다운로드 시도: {}", imageUrl);
-            URL url = new URL(imageUrl);
-            try (InputStream in = url.openStream()) {
-                return in.readAllBytes();
-            }
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: {}", imageUrl, e);
-            return null;
-        }
-    }
-    
-
-    private String extractLocalPath(String imageUrl) {
-        try {
-            if (imageUrl.contains("/challenge_images/")) {
-                String fileName = imageUrl.substring(imageUrl.lastIndexOf("/challenge_images/") + "/challenge_images/".length());
-                return "challenge_images/" + fileName;
-            }
-            return null;
-        } catch (Exception e) {
-            log.warn("로컬 경로 추출 실패: {}", imageUrl);
-            return null;
-        }
-    }
-
     @lombok.Data
     @lombok.Builder
     public static class AiVerificationResult {
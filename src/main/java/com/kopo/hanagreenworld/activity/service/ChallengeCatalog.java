@@ -0,0 +1,158 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 챌린지 메타데이터 메모리 카탈로그
+ *
+ * 챌린지 목록을 읽기 전용 뷰(ChallengeView)의 불변 스냅샷으로 들고 있다가 변경 시 통째로 교체한다(버전 증가).
+ * 조회 경로는 DB를 거치지 않으며, isActive 전환은 ChallengeActivationScheduler가 시작/종료 시각에 맞춰 수행한다.
+ * 상태 변경이나 연관관계 저장에는 ChallengeRepository로 조회한 엔티티를 사용해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeCatalog {
+
+    private final ChallengeRepository challengeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * DB에서 전체 챌린지를 다시 읽어 스냅샷 교체
+     * (지연 로딩 연관관계가 없어 조회 직후 뷰로 복사하므로 별도 트랜잭션이 필요 없다)
+     */
+    public synchronized void refresh() {
+        List<ChallengeView> challenges = challengeRepository.findAll().stream()
+                .map(ChallengeView::from)
+                .collect(Collectors.toList());
+        Snapshot next = Snapshot.of(snapshot.getVersion() + 1, challenges);
+        snapshot = next;
+        log.info("챌린지 카탈로그 갱신: version={}, 챌린지 수={}, 다음 전환 시각={}",
+                next.getVersion(), challenges.size(), next.getNextBoundary());
+    }
+
+    /**
+     * 기간에 맞춰 isActive 상태를 갱신 (스케줄러 전용 쓰기 경로)
+     *
+     * @return 상태가 바뀐 챌린지 수
+     */
+    @Transactional
+    public int syncActiveStatus() {
+        int changed = 0;
+        for (Challenge challenge : challengeRepository.findAll()) {
+            if (challenge.validateAndUpdateActiveStatus()) {
+                changed++;
+                log.info("챌린지 활성 상태 전환: id={}, title={}, isActive={}",
+                        challenge.getId(), challenge.getTitle(), challenge.getIsActive());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 현재 참여 가능한 챌린지 (isActive이면서 기간 내)
+     */
+    public List<ChallengeView> getActiveChallenges() {
+        return snapshot.getActive().stream()
+                .filter(ChallengeView::isCurrentlyActive)
+                .collect(Collectors.toList());
+    }
+
+    public ChallengeView getChallenge(Long challengeId) {
+        return snapshot.getById().get(challengeId);
+    }
+
+    /**
+     * 대표 진행 중 챌린지 (팀 화면 표시용, 없으면 null)
+     */
+    public ChallengeView getCurrentChallenge() {
+        return snapshot.getActive().stream()
+                .filter(ChallengeView::isCurrentlyActive)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * 이 시각이 지나면 어떤 챌린지의 활성 상태가 바뀌어야 한다 (없으면 null)
+     */
+    public LocalDateTime getNextBoundary() {
+        return snapshot.getNextBoundary();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Snapshot {
+        private final long version;
+        private final List<ChallengeView> active;
+        private final Map<Long, ChallengeView> byId;
+        private final LocalDateTime nextBoundary;
+
+        static Snapshot empty() {
+            return new Snapshot(0L, List.of(), Map.of(), null);
+        }
+
+        static Snapshot of(long version, List<ChallengeView> challenges) {
+            List<ChallengeView> active = challenges.stream()
+                    .filter(ChallengeView::getIsActive)
+                    .sorted(Comparator.comparing(ChallengeView::getId))
+                    .collect(Collectors.toUnmodifiableList());
+            Map<Long, ChallengeView> byId = challenges.stream()
+                    .collect(Collectors.toUnmodifiableMap(ChallengeView::getId, Function.identity()));
+
+            // 활성 상태가 기간과 어긋난 챌린지가 있으면 즉시, 아니면 가장 가까운 미래의 시작/종료 시각
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime nextBoundary = null;
+            for (ChallengeView challenge : challenges) {
+                LocalDateTime boundary;
+                if (challenge.getIsActive() != challenge.isCurrentlyActive()) {
+                    boundary = now;
+                } else {
+                    boundary = nearestFuture(now, challenge.getStartDate(), challenge.getEndDate());
+                }
+                if (boundary != null && (nextBoundary == null || boundary.isBefore(nextBoundary))) {
+                    nextBoundary = boundary;
+                }
+            }
+
+            return new Snapshot(version, active, byId, nextBoundary);
+        }
+
+        private static LocalDateTime nearestFuture(LocalDateTime now, LocalDateTime startDate, LocalDateTime endDate) {
+            LocalDateTime nearest = null;
+            if (startDate != null && startDate.isAfter(now)) {
+                nearest = startDate;
+            }
+            // 종료는 endDate를 지난 시점부터 비활성
+            if (endDate != null && !endDate.isBefore(now) && (nearest == null || endDate.isBefore(nearest))) {
+                nearest = endDate;
+            }
+            return nearest;
+        }
+    }
+}
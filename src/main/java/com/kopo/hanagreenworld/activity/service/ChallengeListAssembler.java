@@ -0,0 +1,88 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
+import com.kopo.hanagreenworld.activity.dto.ChallengeListResponse;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 챌린지 목록 응답 조립
+ *
+ * 챌린지 메타데이터는 메모리 카탈로그에서, 회원의 참여 여부/최근 상태/오늘 참여 횟수는 한 번의 쿼리로 가져온다.
+ * 진행 중인 챌린지 수와 관계없이 목록 조회는 쿼리 1회로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeListAssembler {
+
+    private static final String NOT_PARTICIPATED = "NOT_PARTICIPATED";
+
+    private final ChallengeCatalog challengeCatalog;
+    private final ChallengeRecordRepository challengeRecordRepository;
+
+    @Transactional(readOnly = true)
+    public List<ChallengeListResponse> assembleActive(Long memberId) {
+        // 활성 + 기간이 유효한 챌린지 (메모리 카탈로그)
+        List<ChallengeView> challenges = challengeCatalog.getActiveChallenges();
+        Map<Long, ParticipationSummary> summaries = getParticipationSummaries(memberId,
+                challenges.stream().map(ChallengeView::getId).collect(Collectors.toList()));
+
+        return challenges.stream()
+                .map(challenge -> {
+                    ParticipationSummary summary = summaries.getOrDefault(challenge.getId(), ParticipationSummary.NONE);
+                    return ChallengeListResponse.from(challenge, summary.isParticipated(),
+                            summary.getStatus(), summary.getTodayCount());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 챌린지ID별 참여 요약 (참여 기록이 없는 챌린지는 빠진다)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ParticipationSummary> getParticipationSummaries(Long memberId, Collection<Long> challengeIds) {
+        Map<Long, ParticipationSummary> summaries = new HashMap<>();
+        if (memberId == null || challengeIds.isEmpty()) {
+            return summaries;
+        }
+
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        for (Object[] row : challengeRecordRepository.findParticipationSummaries(memberId, challengeIds, startOfDay)) {
+            summaries.put((Long) row[0], new ParticipationSummary(
+                    (String) row[1], (LocalDateTime) row[2], ((Number) row[3]).intValue()));
+        }
+        return summaries;
+    }
+
+    public ParticipationSummary getParticipationSummary(Long memberId, Long challengeId) {
+        return getParticipationSummaries(memberId, List.of(challengeId))
+                .getOrDefault(challengeId, ParticipationSummary.NONE);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ParticipationSummary {
+        static final ParticipationSummary NONE = new ParticipationSummary(NOT_PARTICIPATED, null, 0);
+
+        private final String status; // 가장 최근 기록의 검증 상태
+        private final LocalDateTime verifiedAt;
+        private final int todayCount;
+
+        public boolean isParticipated() {
+            return this != NONE;
+        }
+    }
+}
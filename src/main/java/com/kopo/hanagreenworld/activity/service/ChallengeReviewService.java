@@ -0,0 +1,311 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewResponse;
+import com.kopo.hanagreenworld.activity.dto.ChallengeReviewQueueResponse;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.util.SecurityUtil;
+import com.kopo.hanagreenworld.member.event.TeamScoreChangedEvent;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileCounterService;
+import com.kopo.hanagreenworld.member.service.TeamCounterAccumulator;
+import com.kopo.hanagreenworld.member.service.TeamLeaderboardService;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 검토(NEEDS_REVIEW) 기록의 대기열 조회와 일괄 승인/거부
+ *
+ * 대기열은 엔티티 대신 필요한 컬럼만 id 기준 keyset으로 읽는다.
+ * 일괄 처리는 청크마다 별도 트랜잭션이며, 청크 안에서는 기록을 한 번에 잠그고
+ * 포인트 원장은 다중 행 INSERT, 회원 프로필은 회원당 1회, 팀 증분은 팀당 1회로 모아 반영한다.
+ * 한 청크가 실패하면 그 청크만 롤백되고 FAILED로 보고되며 나머지 청크는 계속 처리한다.
+ * 일괄 처리는 포인트를 대량으로 지급할 수 있으므로 관리자만 호출할 수 있고, 요청 건수를 제한하며 호출자를 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeReviewService {
+
+    private static final String NEEDS_REVIEW = "NEEDS_REVIEW";
+    private static final int MAX_QUEUE_PAGE_SIZE = 200;
+    private static final String DEFAULT_REJECT_REASON = "관리자에 의해 거부되었습니다.";
+
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final ChallengeRepository challengeRepository;
+    private final MemberTeamRepository memberTeamRepository;
+    private final PointLedgerService pointLedgerService;
+    private final MemberProfileCounterService memberProfileCounterService;
+    private final TeamCounterAccumulator teamCounterAccumulator;
+    private final TeamLeaderboardService teamLeaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${challenge.review.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${challenge.review.bulk.max-records:1000}")
+    private int maxRecords;
+
+    /**
+     * 검토 대기열 다음 페이지 (오래된 제출부터)
+     * 다른 회원의 이름/팀/이미지/AI 판정 내용이 담기므로 관리자만 조회할 수 있다.
+     *
+     * @throws BusinessException 관리자가 아닌 경우(ACCESS_DENIED)
+     */
+    @Transactional(readOnly = true)
+    public ChallengeReviewQueueResponse getReviewQueue(Long afterId, int size) {
+        SecurityUtil.requireAdmin();
+        int pageSize = Math.max(1, Math.min(size, MAX_QUEUE_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        List<Object[]> rows = challengeRecordRepository.findReviewQueue(
+                afterId == null ? 0L : afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ChallengeReviewQueueResponse.Item> items = rows.stream()
+                .limit(pageSize)
+                .map(row -> ChallengeReviewQueueResponse.Item.builder()
+                        .recordId((Long) row[0])
+                        .challengeId((Long) row[1])
+                        .challengeCode(row[2] != null ? row[2].toString() : null)
+                        .challengeTitle((String) row[3])
+                        .memberId((Long) row[4])
+                        .memberName((String) row[5])
+                        .teamId((Long) row[6])
+                        .imageUrl((String) row[7])
+                        .aiConfidence((Double) row[8])
+                        .aiExplanation((String) row[9])
+                        .activityDate((LocalDateTime) row[10])
+                        .submittedAt((LocalDateTime) row[11])
+                        .build())
+                .collect(Collectors.toList());
+
+        return ChallengeReviewQueueResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getRecordId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 일괄 승인/거부 - 요청한 순서대로 기록별 결과를 돌려준다
+     *
+     * @throws BusinessException 관리자가 아니거나(ACCESS_DENIED) 요청이 비었거나 건수 제한을 넘은 경우(INVALID_INPUT_VALUE)
+     */
+    public ChallengeBulkReviewResponse bulkReview(ChallengeBulkReviewRequest request) {
+        String caller = SecurityUtil.requireAdmin();
+        if (request == null || request.getAction() == null
+                || request.getRecordIds() == null || request.getRecordIds().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        List<Long> recordIds = new ArrayList<>(new LinkedHashSet<>(request.getRecordIds()));
+        recordIds.removeIf(id -> id == null);
+        if (recordIds.isEmpty() || recordIds.size() > maxRecords) {
+            log.warn("챌린지 일괄 검토 거부 - 요청 건수 {}건 (최대 {}건), caller={}", recordIds.size(), maxRecords, caller);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        log.info("챌린지 일괄 검토 시작: action={}, 요청={}건, caller={}", request.getAction(), recordIds.size(), caller);
+        long startTime = System.currentTimeMillis();
+        Map<Long, ChallengeBulkReviewResponse.RecordResult> results = new HashMap<>();
+        for (int from = 0; from < recordIds.size(); from += chunkSize) {
+            List<Long> chunk = recordIds.subList(from, Math.min(from + chunkSize, recordIds.size()));
+            try {
+                List<ChallengeBulkReviewResponse.RecordResult> chunkResults = transactionTemplate.execute(
+                        status -> reviewChunk(chunk, request.getAction(), request.getReason()));
+                chunkResults.forEach(result -> results.put(result.getRecordId(), result));
+            } catch (Exception e) {
+                log.error("챌린지 일괄 검토 청크 실패 - 롤백: {}~{} ({}건), error={}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), chunk.size(), e.getMessage(), e);
+                for (Long recordId : chunk) {
+                    results.put(recordId, result(recordId, "FAILED", null, "처리 중 오류가 발생해 반영되지 않았습니다."));
+                }
+            }
+        }
+
+        List<ChallengeBulkReviewResponse.RecordResult> ordered = recordIds.stream()
+                .map(results::get)
+                .collect(Collectors.toList());
+        Map<String, Long> counts = ordered.stream()
+                .collect(Collectors.groupingBy(ChallengeBulkReviewResponse.RecordResult::getResult, Collectors.counting()));
+
+        log.info("챌린지 일괄 검토 완료: action={}, 요청={}건, 결과={}, caller={}, {}ms",
+                request.getAction(), recordIds.size(), counts, caller, System.currentTimeMillis() - startTime);
+
+        return ChallengeBulkReviewResponse.builder()
+                .total(recordIds.size())
+                .approved(counts.getOrDefault("APPROVED", 0L).intValue())
+                .rejected(counts.getOrDefault("REJECTED", 0L).intValue())
+                .skipped(counts.getOrDefault("SKIPPED", 0L).intValue())
+                .notFound(counts.getOrDefault("NOT_FOUND", 0L).intValue())
+                .failed(counts.getOrDefault("FAILED", 0L).intValue())
+                .results(ordered)
+                .build();
+    }
+
+    /**
+     * 단건 검토 (호출 측 트랜잭션에 참여)
+     *
+     * @throws BusinessException 기록이 없거나(CHALLENGE_NOT_FOUND) 검토 대상이 아닌 경우(INVALID_STATUS)
+     */
+    @Transactional
+    public ChallengeBulkReviewResponse.RecordResult review(Long recordId, ChallengeBulkReviewRequest.Action action,
+                                                           String reason) {
+        ChallengeBulkReviewResponse.RecordResult result = reviewChunk(List.of(recordId), action, reason).get(0);
+        if ("NOT_FOUND".equals(result.getResult())) {
+            throw new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND);
+        }
+        if ("SKIPPED".equals(result.getResult())) {
+            throw new BusinessException(ErrorCode.INVALID_STATUS);
+        }
+        return result;
+    }
+
+    private List<ChallengeBulkReviewResponse.RecordResult> reviewChunk(List<Long> recordIds,
+                                                                       ChallengeBulkReviewRequest.Action action,
+                                                                       String reason) {
+        Map<Long, ChallengeRecord> records = challengeRecordRepository.findAllByIdInForUpdate(recordIds).stream()
+                .collect(Collectors.toMap(ChallengeRecord::getId, Function.identity()));
+
+        // 기록마다 챌린지를 지연 로딩하지 않도록 한 번에 영속성 컨텍스트에 올린다
+        Set<Long> challengeIds = new HashSet<>();
+        records.values().forEach(record -> challengeIds.add(record.getChallenge().getId()));
+        challengeRepository.findAllById(challengeIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        String rejectReason = reason != null && !reason.isBlank() ? reason : DEFAULT_REJECT_REASON;
+
+        List<ChallengeBulkReviewResponse.RecordResult> results = new ArrayList<>(recordIds.size());
+        Map<Long, List<PointTransaction>> earningsByMember = new LinkedHashMap<>();
+        Map<Long, Integer> activitiesByMember = new HashMap<>();
+        Map<Long, Double> carbonByMember = new HashMap<>();
+
+        for (Long recordId : recordIds) {
+            ChallengeRecord record = records.get(recordId);
+            if (record == null) {
+                results.add(result(recordId, "NOT_FOUND", null, "챌린지 기록을 찾을 수 없습니다."));
+                continue;
+            }
+            if (!NEEDS_REVIEW.equals(record.getVerificationStatus())) {
+                results.add(result(recordId, "SKIPPED", null, "검토 대상이 아닙니다. 현재 상태: " + record.getVerificationStatus()));
+                continue;
+            }
+
+            if (action == ChallengeBulkReviewRequest.Action.REJECT) {
+                record.reject(now);
+                record.updateAiVerification("REJECTED", record.getAiConfidence(), rejectReason, record.getAiDetectedItems());
+                results.add(result(recordId, "REJECTED", null, rejectReason));
+                continue;
+            }
+
+            Challenge challenge = record.getChallenge();
+            Integer points = challenge.getPoints();
+            Long memberId = record.getMember().getMemberId();
+            record.approve(points, null, now);
+
+            if (points != null && points > 0) {
+                earningsByMember.computeIfAbsent(memberId, id -> new ArrayList<>())
+                        .add(PointTransaction.builder()
+                                .member(record.getMember())
+                                .pointTransactionType(PointTransactionType.EARN)
+                                .category(PointCategory.ECO_CHALLENGE)
+                                .description(challenge.getTitle() + " 챌린지 성공 (관리자 승인)")
+                                .pointsAmount(points)
+                                .occurredAt(now)
+                                .build());
+            }
+            Double carbonSaved = challenge.getCarbonSaved();
+            if (carbonSaved != null && carbonSaved > 0) {
+                activitiesByMember.merge(memberId, 1, Integer::sum);
+                carbonByMember.merge(memberId, carbonSaved, Double::sum);
+            }
+            results.add(result(recordId, "APPROVED", points, null));
+        }
+
+        pointLedgerService.recordEarnings(earningsByMember);
+        activitiesByMember.forEach((memberId, count) ->
+                memberProfileCounterService.recordActivities(memberId, count, carbonByMember.get(memberId)));
+        applyTeamIncrements(earningsByMember, carbonByMember);
+
+        return results;
+    }
+
+    /**
+     * 회원별 적립 포인트/탄소절감량을 소속 팀별로 합산해 팀당 한 번씩 반영
+     */
+    private void applyTeamIncrements(Map<Long, List<PointTransaction>> earningsByMember,
+                                     Map<Long, Double> carbonByMember) {
+        Set<Long> memberIds = new HashSet<>(earningsByMember.keySet());
+        memberIds.addAll(carbonByMember.keySet());
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> teamPoints = new HashMap<>();
+        Map<Long, Double> teamCarbon = new HashMap<>();
+        for (Object[] row : memberTeamRepository.findActiveTeamIdsByMemberIds(memberIds)) {
+            Long memberId = (Long) row[0];
+            Long teamId = (Long) row[1];
+            long points = earningsByMember.getOrDefault(memberId, List.of()).stream()
+                    .mapToLong(PointTransaction::getPointsAmount)
+                    .sum();
+            teamPoints.merge(teamId, points, Long::sum);
+            teamCarbon.merge(teamId, carbonByMember.getOrDefault(memberId, 0.0), Double::sum);
+        }
+
+        for (Long teamId : teamPoints.keySet()) {
+            long points = teamPoints.get(teamId);
+            double carbonSaved = teamCarbon.get(teamId);
+            // 적립도 탄소절감도 없는 팀은 카운터/리더보드/이벤트를 건드리지 않는다
+            if (points == 0 && carbonSaved == 0) {
+                continue;
+            }
+            if (points != 0) {
+                teamCounterAccumulator.addPoints(teamId, points);
+                teamLeaderboardService.incrementPoints(teamId, points);
+            }
+            if (carbonSaved != 0) {
+                teamCounterAccumulator.addCarbonSaved(teamId, carbonSaved);
+            }
+            eventPublisher.publishEvent(new TeamScoreChangedEvent(teamId, points, carbonSaved));
+        }
+    }
+
+    private static ChallengeBulkReviewResponse.RecordResult result(Long recordId, String result,
+                                                                   Integer pointsAwarded, String message) {
+        return ChallengeBulkReviewResponse.RecordResult.builder()
+                .recordId(recordId)
+                .result(result)
+                .pointsAwarded(pointsAwarded)
+                .message(message)
+                .build();
+    }
+}
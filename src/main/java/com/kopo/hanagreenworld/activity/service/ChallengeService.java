@@ -1,11 +1,14 @@
 package com.kopo.hanagreenworld.activity.service;
 
 import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
 import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
 import com.kopo.hanagreenworld.activity.dto.ChallengeListResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeDetailResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationRequest;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationResponse;
+import com.kopo.hanagreenworld.activity.event.ChallengeVerificationRequestedEvent;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
@@ -17,59 +20,52 @@ import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import com.kopo.hanagreenworld.member.repository.TeamRepository;
 import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
 import com.kopo.hanagreenworld.member.service.MemberProfileService;
+import com.kopo.hanagreenworld.member.event.TeamScoreChangedEvent;
+import com.kopo.hanagreenworld.member.service.TeamCounterAccumulator;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChallengeService {
 
+    // 검증 결과 개인 메시지 경로 (클라이언트는 /user/queue/verification 구독)
+    public static final String VERIFICATION_QUEUE = "/queue/verification";
+
     private final ChallengeRepository challengeRepository;
+    private final ChallengeCatalog challengeCatalog;
     private final ChallengeRecordRepository challengeRecordRepository;
     private final MemberRepository memberRepository;
     private final TeamRepository teamRepository;
     private final MemberTeamRepository memberTeamRepository;
     private final EcoSeedService ecoSeedService;
-    private final AiVerificationService aiVerificationService;
-    private final ImageMetadataService imageMetadataService;
     private final ImageHashService imageHashService;
     private final MemberProfileService memberProfileService;
+    private final TeamCounterAccumulator teamCounterAccumulator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChallengeReviewService challengeReviewService;
+    private final ChallengeListAssembler challengeListAssembler;
 
     @Transactional(readOnly = true)
     public List<ChallengeListResponse> getActiveChallenges() {
-        Long memberId = getCurrentMemberId();
-        List<Challenge> challenges = challengeRepository.findByIsActiveTrue();
-        
-        // 챌린지 기간 유효성 검증 및 isActive 상태 업데이트
-        challenges.forEach(challenge -> {
-            challenge.validateAndUpdateActiveStatus();
-        });
-        
-        // 기간이 유효한 챌린지만 필터링
-        challenges = challenges.stream()
-                .filter(Challenge::isCurrentlyActive)
-                .collect(Collectors.toList());
-        
-        return challenges.stream()
-                .map(challenge -> {
-                    Boolean isParticipated = checkParticipation(memberId, challenge.getId());
-                    String participationStatus = getParticipationStatus(memberId, challenge.getId());
-                    return ChallengeListResponse.from(challenge, isParticipated, participationStatus);
-                })
-                .collect(Collectors.toList());
+        return challengeListAssembler.assembleActive(getCurrentMemberId());
     }
 
     @Transactional(readOnly = true)
@@ -80,27 +76,23 @@ public class ChallengeService {
 
     @Transactional(readOnly = true)
     public ChallengeDetailResponse getChallengeDetail(Long challengeId, Long memberId) {
-        Challenge challenge = getChallengeById(challengeId);
-        
-        // 챌린지 기간 유효성 검증 및 isActive 상태 업데이트
-        challenge.validateAndUpdateActiveStatus();
+        ChallengeView challenge = challengeCatalog.getChallenge(challengeId);
+        if (challenge == null) {
+            challenge = ChallengeView.from(getChallengeById(challengeId));
+        }
         
-        // 사용자 참여 상태 확인
-        Boolean isParticipated = checkParticipation(memberId, challengeId);
-        String participationStatus = getParticipationStatus(memberId, challengeId);
+        // 사용자 참여 상태 확인 (최근 기록 기준)
+        ChallengeListAssembler.ParticipationSummary participation =
+                challengeListAssembler.getParticipationSummary(memberId, challengeId);
+        String participationStatus = participation.getStatus();
         
-        // 실제 참여 완료 날짜 조회 (APPROVED/REJECTED일 때만)
+        // 실제 참여 완료 날짜 (APPROVED/REJECTED일 때만)
         LocalDateTime participationDate = null;
         if ("APPROVED".equals(participationStatus) || "REJECTED".equals(participationStatus)) {
-            ChallengeRecord record = challengeRecordRepository
-                    .findByMember_MemberIdAndChallenge_Id(memberId, challengeId)
-                    .orElse(null);
-            if (record != null) {
-                participationDate = record.getVerifiedAt();
-            }
+            participationDate = participation.getVerifiedAt();
         }
         
-        return ChallengeDetailResponse.from(challenge, isParticipated, participationStatus, participationDate);
+        return ChallengeDetailResponse.from(challenge, participation.isParticipated(), participationStatus, participationDate);
     }
 
     @Transactional
@@ -109,8 +101,7 @@ public class ChallengeService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        // 챌린지 기간 유효성 검증
-        challenge.validateAndUpdateActiveStatus();
+        // 챌린지 기간 유효성 검증 (isActive 전환은 ChallengeActivationScheduler가 담당)
         if (!challenge.isCurrentlyActive()) {
             throw new BusinessException(ErrorCode.CHALLENGE_NOT_ACTIVE);
         }
@@ -204,10 +195,14 @@ public class ChallengeService {
                 .build();
     }
 
+    /**
+     * AI 검증 요청 - 기록을 VERIFYING으로 바꾸고 검증 작업 큐에 등록한 뒤 바로 응답한다.
+     * 검증 결과는 /user/queue/verification 으로 전송된다. (이미지가 없으면 즉시 승인)
+     */
     @Transactional
     public ChallengeParticipationResponse startAiVerification(Long memberId, Long recordId) {
 
-        ChallengeRecord record = challengeRecordRepository.findById(recordId)
+        ChallengeRecord record = challengeRecordRepository.findByIdForUpdate(recordId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND));
 
         // 권한 확인
@@ -221,153 +216,193 @@ public class ChallengeService {
         }
 
         Challenge challenge = record.getChallenge();
-        String verificationStatus = "VERIFYING";
-        String message = "AI가 사진을 검증하고 있습니다...";
-        AiVerificationService.AiVerificationResult aiResult = null; // AI 검증 결과 초기화
 
-        // 다층 검증 시스템 시작 (이미지가 있는 모든 챌린지에 대해)
-        if (record.getImageUrl() != null) {
-            long startTime = System.currentTimeMillis();
+        if (record.getImageUrl() == null) {
+            // 이미지가 없는 경우 자동 승인
+            record.updateVerificationStatus("APPROVED");
+            challengeRecordRepository.save(record);
+            return buildVerificationResponse(record, challenge, "APPROVED", "챌린지가 완료되었습니다!", null);
+        }
+
+        // 다층 검증은 워커가 트랜잭션 밖에서 수행
+        record.updateVerificationStatus("VERIFYING");
+        challengeRecordRepository.save(record);
+        eventPublisher.publishEvent(new ChallengeVerificationRequestedEvent(record.getId()));
+
+        return buildVerificationResponse(record, challenge, "VERIFYING",
+                "AI가 사진을 검증하고 있습니다. 결과는 알림으로 알려드립니다.", null);
+    }
 
-            // 이미지 메타데이터 검증
-            ImageMetadataService.ImageMetadataResult metadataResult = 
-                    imageMetadataService.validateImageMetadata(record.getImageUrl(), record.getParticipationDate());
-            
-            if (!metadataResult.isValid()) {
-                record.needsReview(metadataResult.getConfidence(), 
+    /**
+     * 검증 워커용 - VERIFYING 상태인 기록의 검증 대상 정보
+     */
+    @Transactional(readOnly = true)
+    public Optional<ChallengeVerificationService.VerificationTarget> loadVerificationTarget(Long recordId) {
+        return challengeRecordRepository.findById(recordId)
+                .filter(record -> "VERIFYING".equals(record.getVerificationStatus()))
+                .map(record -> new ChallengeVerificationService.VerificationTarget(
+                        record.getId(),
+                        record.getMember().getMemberId(),
+                        record.getChallenge().getId(),
+                        record.getChallenge().getTitle(),
+                        record.getChallenge().getCode().name(),
+                        record.getImageUrl(),
+                        record.getParticipationDate()));
+    }
+
+    /**
+     * 검증 결과 반영 (승인 시 원큐씨앗/탄소절감량 적립) 후 커밋되면 사용자에게 결과 전송
+     *
+     * @return 이미 다른 작업이 반영한 기록이면 null
+     */
+    @Transactional
+    public ChallengeParticipationResponse completeAiVerification(ChallengeVerificationService.VerificationTarget target,
+                                                                 ChallengeVerificationService.VerificationOutcome outcome) {
+        ChallengeRecord record = challengeRecordRepository.findByIdForUpdate(target.getRecordId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND));
+        if (!"VERIFYING".equals(record.getVerificationStatus())) {
+            return null;
+        }
+
+        Long memberId = record.getMember().getMemberId();
+        Challenge challenge = record.getChallenge();
+        String verificationStatus;
+        String message;
+        AiVerificationService.AiVerificationResult aiResult = outcome.getAiResult();
+
+        switch (outcome.getStage()) {
+            case METADATA -> {
+                ImageMetadataService.ImageMetadataResult metadataResult = outcome.getMetadataResult();
+                record.needsReview(metadataResult.getConfidence(),
                         "메타데이터 검증 실패: " + metadataResult.getReason(), "[]");
-                challengeRecordRepository.save(record);
-                return ChallengeParticipationResponse.builder()
-                        .success(true)
-                        .data(ChallengeParticipationResponse.ChallengeParticipationData.builder()
-                                .challengeRecordId(record.getId())
-                                .challengeTitle(challenge.getTitle())
-                                .verificationStatus("NEEDS_REVIEW")
-                                .message(metadataResult.getReason() + " 관리자 검토가 필요합니다.")
-                                .build())
-                        .build();
+                verificationStatus = "NEEDS_REVIEW";
+                message = metadataResult.getReason() + " 관리자 검토가 필요합니다.";
             }
-            
-            // 이미지 해시 중복 검사
-            ImageHashService.ImageHashResult hashResult = imageHashService.checkImageDuplicate(
-                record.getImageUrl(), memberId, challenge.getId());
-            
-            if (hashResult.isDuplicate()) {
-                // 모든 중복 이미지를 거부 (사진 돌려쓰기 방지)
-                record.updateVerificationStatus("REJECTED");
-                record.updateAiVerification("REJECTED", 0.0, hashResult.getReason(), null);
-                challengeRecordRepository.save(record);
-                
-                return ChallengeParticipationResponse.builder()
-                        .success(true)
-                        .data(ChallengeParticipationResponse.ChallengeParticipationData.builder()
-                                .challengeRecordId(record.getId())
-                                .challengeTitle(challenge.getTitle())
-                                .verificationStatus("REJECTED")
-                                .message(hashResult.getReason())
-                                .pointsAwarded(null)
-                                .teamScoreAwarded(null)
-                                .build())
+            case DUPLICATE -> {
+                ImageHashService.ImageHashResult hashResult = outcome.getHashResult();
+                if (ImageHashService.OTHER_USER_SIMILAR.equals(hashResult.getDuplicateType())) {
+                    // 다른 사용자와 비슷한 사진은 같은 장소/구도일 수 있으므로 관리자가 판단
+                    record.needsReview(hashResult.getConfidence(), "유사 이미지: " + hashResult.getReason(), "[]");
+                    verificationStatus = "NEEDS_REVIEW";
+                    message = hashResult.getReason() + " 관리자 검토가 필요합니다.";
+                } else {
+                    // 그 외 중복 이미지는 거부 (사진 돌려쓰기 방지)
+                    record.updateVerificationStatus("REJECTED");
+                    record.updateAiVerification("REJECTED", 0.0, hashResult.getReason(), null);
+                    verificationStatus = "REJECTED";
+                    message = hashResult.getReason();
+                }
+            }
+            default -> {
+                if (aiResult.isSuccess()) {
+                    verificationStatus = aiResult.getVerificationResult();
+                    message = applyAiResult(record, challenge, memberId, outcome.getImage(), aiResult);
+                } else {
+                    // AI 검증 실패 시 검토 필요 상태로 설정
+                    record.needsReview(0.0, "AI 검증 실패", "[]");
+                    verificationStatus = "NEEDS_REVIEW";
+                    message = "⚠검증 중 문제가 발생했습니다. 관리자가 확인할 예정입니다.";
+                }
+            }
+        }
+        challengeRecordRepository.save(record);
+
+        // AI 검증이 수행된 경우에만 상세 정보 포함
+        ChallengeParticipationResponse response = buildVerificationResponse(record, challenge,
+                verificationStatus, message, aiResult != null && aiResult.isSuccess() ? aiResult : null);
+        sendVerificationResultAfterCommit(memberId, response);
+        return response;
+    }
+
+    /**
+     * 검증 중 예외가 난 기록은 관리자 검토로 넘긴다.
+     */
+    @Transactional
+    public void failAiVerification(Long recordId, String reason) {
+        ChallengeRecord record = challengeRecordRepository.findByIdForUpdate(recordId).orElse(null);
+        if (record == null || !"VERIFYING".equals(record.getVerificationStatus())) {
+            return;
+        }
+
+        record.needsReview(0.0, reason, "[]");
+        challengeRecordRepository.save(record);
+
+        sendVerificationResultAfterCommit(record.getMember().getMemberId(), buildVerificationResponse(
+                record, record.getChallenge(), "NEEDS_REVIEW",
+                "⚠검증 중 문제가 발생했습니다. 관리자가 확인할 예정입니다.", null));
+    }
+
+    private String applyAiResult(ChallengeRecord record, Challenge challenge, Long memberId,
+                                 ImageVerificationContext image, AiVerificationService.AiVerificationResult aiResult) {
+        String verificationStatus = aiResult.getVerificationResult();
+
+        // AI 검증 정보 업데이트
+        record.updateAiVerification(
+                verificationStatus,
+                aiResult.getConfidence(),
+                aiResult.getExplanation(),
+                aiResult.getDetectedItems()
+        );
+
+        // APPROVED: 자동 승인 및 포인트/팀점수 적립
+        if ("APPROVED".equals(verificationStatus)) {
+            Integer pointsAwarded = challenge.getPoints();
+            Integer teamScoreAwarded = challenge.getTeamScore();
+
+            record.approve(pointsAwarded, teamScoreAwarded, LocalDateTime.now());
+
+            // 개인 챌린지인 경우 원큐씨앗 적립 (워커 스레드에는 로그인 정보가 없으므로 회원 ID로 적립)
+            if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.POINTS && pointsAwarded != null) {
+                EcoSeedEarnRequest earnRequest = EcoSeedEarnRequest.builder()
+                        .category(PointCategory.ECO_CHALLENGE)
+                        .pointsAmount(pointsAwarded)
+                        .description(challenge.getTitle() + " 챌린지 성공")
                         .build();
+                ecoSeedService.earnEcoSeedsForWebhook(memberId, earnRequest);
+
+                // MemberProfile에 탄소절감량과 활동횟수 업데이트
+                memberProfileService.updateMemberActivityWithCarbon(memberId, challenge.getCarbonSaved());
             }
-            
 
-            //AI 이미지 검증
-            aiResult = aiVerificationService.verifyChallengeImage(
-                    record.getImageUrl(),
-                    challenge.getTitle(),
-                    challenge.getCode().name()
-            );
+            // 팀 챌린지인 경우 팀 점수 적립
+            if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE && teamScoreAwarded != null && record.getTeamId() != null) {
+                // 팀 점수 적립 로직 (추후 구현)
+                log.info("팀 점수 적립: 팀 ID {}, 점수 {}", record.getTeamId(), teamScoreAwarded);
+            }
 
-            long processingTime = System.currentTimeMillis() - startTime;
+            // AI 검증 성공 후 이미지 해시 저장
+            imageHashService.saveImageHashAfterVerification(image, memberId, challenge.getId());
 
-            if (aiResult.isSuccess()) {
-                verificationStatus = aiResult.getVerificationResult();
-                
-                // AI 검증 정보 업데이트
-                record.updateAiVerification(
-                        verificationStatus,
-                        aiResult.getConfidence(),
-                        aiResult.getExplanation(),
-                        aiResult.getDetectedItems()
-                );
-
-                // APPROVED: 자동 승인 및 포인트/팀점수 적립
-                if ("APPROVED".equals(verificationStatus)) {
-                    Integer pointsAwarded = challenge.getPoints();
-                    Integer teamScoreAwarded = challenge.getTeamScore();
-                    
-                    record.approve(pointsAwarded, teamScoreAwarded, LocalDateTime.now());
-                    
-                    // 개인 챌린지인 경우 원큐씨앗 적립
-                    if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.POINTS && pointsAwarded != null) {
-                        EcoSeedEarnRequest earnRequest = EcoSeedEarnRequest.builder()
-                                .category(PointCategory.ECO_CHALLENGE)
-                                .pointsAmount(pointsAwarded)
-                                .description(challenge.getTitle() + " 챌린지 성공")
-                                .build();
-                        ecoSeedService.earnEcoSeeds(earnRequest);
-                        
-                        // MemberProfile에 탄소절감량과 활동횟수 업데이트
-                        memberProfileService.updateMemberActivityWithCarbon(
-                            record.getMember().getMemberId(), 
-                            challenge.getCarbonSaved()
-                        );
-                    }
-                    
-                    // 팀 챌린지인 경우 팀 점수 적립
-                    if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE && teamScoreAwarded != null && record.getTeamId() != null) {
-                        // 팀 점수 적립 로직 (추후 구현)
-                        log.info("팀 점수 적립: 팀 ID {}, 점수 {}", record.getTeamId(), teamScoreAwarded);
-                    }
-                    
-                    // AI 검증 성공 후 이미지 해시 저장
-                    if (record.getImageUrl() != null) {
-                        imageHashService.saveImageHashAfterVerification(record.getImageUrl(), memberId, challenge.getId());
-                    }
-                    
-                    // 챌린지 탄소절약량을 member_profiles에 업데이트
-                    updateMemberCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
-                    
-                    // 팀 탄소절감량도 업데이트
-                    updateTeamCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
-                    
-                    if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE) {
-                        message = String.format("챌린지 인증 성공! (신뢰도: %.1f%%) 팀에 %d점을 획득했습니다.",
-                                aiResult.getConfidence() * 100, teamScoreAwarded);
-                    } else {
-                        message = String.format("챌린지 인증 성공! (신뢰도: %.1f%%) %d개의 원큐씨앗을 획득했습니다.",
-                                aiResult.getConfidence() * 100, pointsAwarded);
-                    }
-                    
-                } else if ("NEEDS_REVIEW".equals(verificationStatus)) {
-                    // NEEDS_REVIEW: 관리자 검토 필요
-                    message = String.format("관리자 검토 필요 (신뢰도: %.1f%%) - 검토 후 포인트가 적립됩니다.",
-                            aiResult.getConfidence() * 100);
-                    
-                } else if ("REJECTED".equals(verificationStatus)) {
-                    // REJECTED: 거부
-                    record.reject(LocalDateTime.now());
-                    message = String.format("챌린지 인증 실패 (신뢰도: %.1f%%) - 적절한 인증 사진을 다시 제출해주세요.",
-                            aiResult.getConfidence() * 100);
-                }
-                
-                challengeRecordRepository.save(record);
-            } else {
-                // AI 검증 실패 시 검토 필요 상태로 설정
-                record.needsReview(0.0, "AI 검증 실패", "[]");
-                challengeRecordRepository.save(record);
-                verificationStatus = "NEEDS_REVIEW";
-                message = "⚠검증 중 문제가 발생했습니다. 관리자가 확인할 예정입니다.";
+            // 챌린지 탄소절약량을 member_profiles에 업데이트
+            updateMemberCarbonSaved(memberId, challenge.getCarbonSaved());
+
+            // 팀 탄소절감량도 업데이트
+            updateTeamCarbonSaved(memberId, challenge.getCarbonSaved());
+
+            if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE) {
+                return String.format("챌린지 인증 성공! (신뢰도: %.1f%%) 팀에 %d점을 획득했습니다.",
+                        aiResult.getConfidence() * 100, teamScoreAwarded);
             }
-        } else {
-            // 이미지가 없는 경우 자동 승인
-            verificationStatus = "APPROVED";
-            record.updateVerificationStatus("APPROVED");
-            challengeRecordRepository.save(record);
-            message = "챌린지가 완료되었습니다!";
+            return String.format("챌린지 인증 성공! (신뢰도: %.1f%%) %d개의 원큐씨앗을 획득했습니다.",
+                    aiResult.getConfidence() * 100, pointsAwarded);
+
+        } else if ("NEEDS_REVIEW".equals(verificationStatus)) {
+            // NEEDS_REVIEW: 관리자 검토 필요
+            return String.format("관리자 검토 필요 (신뢰도: %.1f%%) - 검토 후 포인트가 적립됩니다.",
+                    aiResult.getConfidence() * 100);
+
+        } else if ("REJECTED".equals(verificationStatus)) {
+            // REJECTED: 거부
+            record.reject(LocalDateTime.now());
+            return String.format("챌린지 인증 실패 (신뢰도: %.1f%%) - 적절한 인증 사진을 다시 제출해주세요.",
+                    aiResult.getConfidence() * 100);
         }
+        return "AI가 사진을 검증하고 있습니다...";
+    }
 
+    private ChallengeParticipationResponse buildVerificationResponse(ChallengeRecord record, Challenge challenge,
+                                                                     String verificationStatus, String message,
+                                                                     AiVerificationService.AiVerificationResult aiResult) {
         // AI 검증 상세 정보 포함하여 응답 생성
         ChallengeParticipationResponse.ChallengeParticipationData data = 
                 ChallengeParticipationResponse.ChallengeParticipationData.builder()
@@ -399,6 +434,20 @@ public class ChallengeService {
         return responseBuilder.build();
     }
 
+    private void sendVerificationResultAfterCommit(Long memberId, ChallengeParticipationResponse response) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    messagingTemplate.convertAndSendToUser(memberId.toString(), VERIFICATION_QUEUE, response);
+                } catch (Exception e) {
+                    // 전송 실패해도 결과는 챌린지 기록 조회로 확인 가능
+                    log.warn("AI 검증 결과 전송 실패: memberId={}, error={}", memberId, e.getMessage());
+                }
+            }
+        });
+    }
+
     @Transactional(readOnly = true)
     public List<ChallengeRecord> getMemberChallengeParticipations(Long memberId) {
         return challengeRecordRepository.findByMember_MemberIdOrderByCreatedAtDesc(memberId);
@@ -410,10 +459,6 @@ public class ChallengeService {
                 .orElse(null);
     }
 
-    private Boolean checkParticipation(Long memberId, Long challengeId) {
-        return challengeRecordRepository.existsByMember_MemberIdAndChallenge_Id(memberId, challengeId);
-    }
-    
     private Boolean checkTodayParticipation(Long memberId, Long challengeId) {
         LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
@@ -421,14 +466,6 @@ public class ChallengeService {
             memberId, challengeId, startOfDay, endOfDay);
     }
 
-    private String getParticipationStatus(Long memberId, Long challengeId) {
-        Optional<ChallengeRecord> record = challengeRecordRepository.findByMember_MemberIdAndChallenge_Id(memberId, challengeId);
-        if (record.isPresent()) {
-            return record.get().getVerificationStatus();
-        }
-        return "NOT_PARTICIPATED";
-    }
-
     private Long getCurrentMemberId() {
         return SecurityUtil.getCurrentMemberId();
     }
@@ -444,67 +481,22 @@ public class ChallengeService {
         }
     }
 
+    /**
+     * 검토 필요 기록 수동 승인 - 포인트는 기록의 회원에게 적립된다 (일괄 검토와 같은 경로)
+     */
     @Transactional
     public void adminApproveChallenge(Long recordId) {
-        ChallengeRecord record = challengeRecordRepository.findById(recordId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND));
-
-        if (!"NEEDS_REVIEW".equals(record.getVerificationStatus())) {
-            throw new BusinessException(ErrorCode.INVALID_STATUS);
-        }
-
-        Challenge challenge = record.getChallenge();
-        Integer points = challenge.getPoints();
-        
-        // 승인 처리
-        record.approve(points, null, LocalDateTime.now());
-        challengeRecordRepository.save(record);
-
-        // 포인트 적립
-        if (points != null && points > 0) {
-            EcoSeedEarnRequest earnRequest = EcoSeedEarnRequest.builder()
-                    .category(PointCategory.ECO_CHALLENGE)
-                    .pointsAmount(points)
-                    .description(challenge.getTitle() + " 챌린지 성공 (관리자 승인)")
-                    .build();
-            ecoSeedService.earnEcoSeeds(earnRequest);
-        }
-        
-        // 챌린지 탄소절약량을 member_profiles에 업데이트
-        updateMemberCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
-        
-        // 팀 탄소절감량도 업데이트
-        updateTeamCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
+        challengeReviewService.review(recordId, ChallengeBulkReviewRequest.Action.APPROVE, null);
     }
 
     @Transactional
     public void adminRejectChallenge(Long recordId, String reason) {
-        ChallengeRecord record = challengeRecordRepository.findById(recordId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND));
-
-        if (!"NEEDS_REVIEW".equals(record.getVerificationStatus())) {
-            throw new BusinessException(ErrorCode.INVALID_STATUS);
-        }
-
-        // 거부 처리
-        record.reject(LocalDateTime.now());
-        
-        // 거부 사유 업데이트
-        if (reason != null && !reason.isEmpty()) {
-            record.updateAiVerification(
-                    "REJECTED",
-                    record.getAiConfidence(),
-                    reason,
-                    record.getAiDetectedItems()
-            );
-        }
-        
-        challengeRecordRepository.save(record);
+        challengeReviewService.review(recordId, ChallengeBulkReviewRequest.Action.REJECT, reason);
     }
 
     @Transactional(readOnly = true)
     public List<ChallengeRecord> getNeedsReviewChallenges() {
-        return challengeRecordRepository.findByVerificationStatus("NEEDS_REVIEW");
+        return challengeRecordRepository.findByVerificationStatusWithChallenge("NEEDS_REVIEW");
     }
 
     @Transactional(readOnly = true)
@@ -569,13 +561,13 @@ public class ChallengeService {
             // 회원이 속한 팀 조회
             var memberTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(memberId);
             if (memberTeam.isPresent()) {
-                Team team = memberTeam.get().getTeam();
+                Long teamId = memberTeam.get().getTeam().getId();
                 
-                // 팀 탄소절감량 업데이트
-                team.addCarbonSaved(carbonSaved);
-                teamRepository.save(team);
+                // 팀 탄소절감량 업데이트 (팀 행을 잠그지 않도록 증분만 기록)
+                teamCounterAccumulator.addCarbonSaved(teamId, carbonSaved);
+                eventPublisher.publishEvent(TeamScoreChangedEvent.carbonSaved(teamId, carbonSaved));
                 
-                log.info("팀 탄소절감량 업데이트 완료: 팀ID={}, 추가탄소절감량={}kg", team.getId(), carbonSaved);
+                log.info("팀 탄소절감량 업데이트 완료: 팀ID={}, 추가탄소절감량={}kg", teamId, carbonSaved);
             }
         } catch (Exception e) {
             log.error("팀 탄소절감량 업데이트 실패: memberId={}, carbonSaved={}, error={}", memberId, carbonSaved, e.getMessage());
@@ -0,0 +1,270 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 챌린지 인증 사진 다층 검증 (메타데이터, 해시 중복, AI를 전용 풀에서 동시 실행)
+ *
+ * 트랜잭션 없이 실행되므로 AI 서버 응답을 기다리는 동안 DB 커넥션을 잡지 않는다.
+ * 결과 반영은 ChallengeService.completeAiVerification()이 짧은 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeVerificationService {
+
+    private final ImageBlobLoader imageBlobLoader;
+    private final ImageMetadataService imageMetadataService;
+    private final ImageHashService imageHashService;
+    private final AiVerificationService aiVerificationService;
+
+    @Value("${challenge.verification.stage-pool-size:12}")
+    private int stagePoolSize;
+
+    @Value("${challenge.verification.ai-timeout-seconds:45}")
+    private long aiTimeoutSeconds;
+
+    private ExecutorService stageExecutor;
+
+    @PostConstruct
+    public void init() {
+        stageExecutor = createExecutor(stagePoolSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stageExecutor.shutdownNow();
+    }
+
+    /**
+     * 메타데이터, 해시 중복, AI 단계를 동시에 시작하고
+     * 메타데이터/해시 단계가 거부하면 진행 중인 AI 요청을 바로 취소한다.
+     * 결과 우선순위는 순차 실행과 같다. (메타데이터 → 해시 중복 → AI)
+     */
+    public VerificationOutcome verify(VerificationTarget target) {
+        long startTime = System.currentTimeMillis();
+        Map<VerificationOutcome.Stage, Long> timings = new ConcurrentHashMap<>();
+
+        // 이미지는 한 번만 읽어 모든 검증 단계가 공유
+        ImageVerificationContext image = imageBlobLoader.load(target.getImageUrl());
+        timings.put(VerificationOutcome.Stage.LOAD, System.currentTimeMillis() - startTime);
+
+        // AI 요청은 인터럽트로 취소할 수 있도록 Future로 실행
+        Future<AiVerificationService.AiVerificationResult> aiFuture = submitAi(target, image, timings);
+
+        CompletableFuture<ImageMetadataService.ImageMetadataResult> metadataFuture = supplyStage(
+                timed(VerificationOutcome.Stage.METADATA, timings, () -> imageMetadataService.validateImageMetadata(
+                        image, target.getParticipationDate())));
+        CompletableFuture<ImageHashService.ImageHashResult> hashFuture = supplyStage(
+                timed(VerificationOutcome.Stage.DUPLICATE, timings, () -> {
+                    // MD5/dHash 계산(디코딩)은 DB 커넥션을 잡기 전에 끝낸다
+                    image.getDigest();
+                    image.getPerceptualHash();
+                    return imageHashService.checkImageDuplicate(image, target.getMemberId(), target.getChallengeId());
+                }));
+
+        // 먼저 끝난 저렴한 단계가 거부하면 다른 단계를 기다리지 않고 AI 요청 취소
+        metadataFuture.thenAccept(result -> {
+            if (!result.isValid()) {
+                aiFuture.cancel(true);
+            }
+        });
+        hashFuture.thenAccept(result -> {
+            if (result.isDuplicate()) {
+                aiFuture.cancel(true);
+            }
+        });
+
+        VerificationOutcome outcome;
+        try {
+            ImageMetadataService.ImageMetadataResult metadataResult = metadataFuture.join();
+            if (!metadataResult.isValid()) {
+                outcome = VerificationOutcome.metadataRejected(image, metadataResult, timings);
+            } else {
+                ImageHashService.ImageHashResult hashResult = hashFuture.join();
+                if (hashResult.isDuplicate()) {
+                    outcome = VerificationOutcome.duplicate(image, hashResult, timings);
+                } else {
+                    outcome = VerificationOutcome.ai(image, awaitAiResult(aiFuture), timings);
+                }
+            }
+        } catch (RuntimeException e) {
+            aiFuture.cancel(true);
+            throw e;
+        }
+
+        log.info("챌린지 인증 사진 검증 완료: recordId={}, 결정 단계={}, 단계별 소요시간(ms)={}, 전체={}ms",
+                target.getRecordId(), outcome.getStage(), timings, System.currentTimeMillis() - startTime);
+        return outcome;
+    }
+
+    /**
+     * 풀이 가득 차면 AI 호출을 건너뛰고 관리자 검토로 넘긴다
+     * (요청 스레드에서 AI를 직접 기다리면 워커가 AI 응답 시간만큼 묶인다)
+     */
+    private Future<AiVerificationService.AiVerificationResult> submitAi(
+            VerificationTarget target, ImageVerificationContext image, Map<VerificationOutcome.Stage, Long> timings) {
+        try {
+            return stageExecutor.submit(
+                    timed(VerificationOutcome.Stage.AI, timings, () -> aiVerificationService.verifyChallengeImage(
+                            image, target.getChallengeTitle(), target.getChallengeCode())));
+        } catch (RejectedExecutionException e) {
+            log.warn("검증 풀 포화로 AI 검증 생략: recordId={}", target.getRecordId());
+            return CompletableFuture.completedFuture(aiFailure("AI 검증 대기열이 가득 차 관리자 검토로 넘깁니다."));
+        }
+    }
+
+    // 메타데이터/해시 단계는 저렴하므로 풀이 가득 차면 요청 스레드에서 순서대로 실행
+    private <T> CompletableFuture<T> supplyStage(Supplier<T> stage) {
+        try {
+            return CompletableFuture.supplyAsync(stage, stageExecutor);
+        } catch (RejectedExecutionException e) {
+            try {
+                return CompletableFuture.completedFuture(stage.get());
+            } catch (RuntimeException stageError) {
+                return CompletableFuture.failedFuture(stageError);
+            }
+        }
+    }
+
+    private AiVerificationService.AiVerificationResult awaitAiResult(
+            Future<AiVerificationService.AiVerificationResult> aiFuture) {
+        try {
+            return aiFuture.get(aiTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            aiFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            return aiFailure("AI 검증이 중단되었습니다.");
+        } catch (TimeoutException e) {
+            aiFuture.cancel(true);
+            log.warn("AI 검증 응답 시간 초과: {}초", aiTimeoutSeconds);
+            return aiFailure("AI 서버 응답 시간 초과");
+        } catch (ExecutionException e) {
+            log.error("AI 검증 단계 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return aiFailure("AI 검증 중 오류가 발생했습니다.");
+        }
+    }
+
+    private AiVerificationService.AiVerificationResult aiFailure(String explanation) {
+        return AiVerificationService.AiVerificationResult.builder()
+                .success(false)
+                .verificationResult("NEEDS_REVIEW")
+                .confidence(0.0)
+                .explanation(explanation)
+                .build();
+    }
+
+    private static <T> TimedStage<T> timed(VerificationOutcome.Stage stage,
+                                           Map<VerificationOutcome.Stage, Long> timings, Supplier<T> task) {
+        return new TimedStage<>(stage, timings, task);
+    }
+
+    private static ExecutorService createExecutor(int poolSize) {
+        AtomicInteger sequence = new AtomicInteger();
+        // 큐가 차면 거절하고 호출 측이 대체 경로를 고른다 (AI 호출은 생략, 저렴한 단계는 요청 스레드에서 실행)
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "challenge-verification-stage-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 단계 실행 시간을 기록하는 작업 (Future용 Callable, CompletableFuture용 Supplier 겸용)
+     */
+    @RequiredArgsConstructor
+    private static class TimedStage<T> implements Callable<T>, Supplier<T> {
+        private final VerificationOutcome.Stage stage;
+        private final Map<VerificationOutcome.Stage, Long> timings;
+        private final Supplier<T> task;
+
+        @Override
+        public T call() {
+            return get();
+        }
+
+        @Override
+        public T get() {
+            long start = System.currentTimeMillis();
+            try {
+                return task.get();
+            } finally {
+                timings.put(stage, System.currentTimeMillis() - start);
+            }
+        }
+    }
+
+    /**
+     * 검증 대상 (트랜잭션 밖에서 쓰도록 엔티티 대신 필요한 값만 담는다)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class VerificationTarget {
+        private final Long recordId;
+        private final Long memberId;
+        private final Long challengeId;
+        private final String challengeTitle;
+        private final String challengeCode;
+        private final String imageUrl;
+        private final LocalDateTime participationDate;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class VerificationOutcome {
+
+        public enum Stage { LOAD, METADATA, DUPLICATE, AI }
+
+        // 결과를 결정한 단계
+        private final Stage stage;
+        private final ImageVerificationContext image;
+        private final ImageMetadataService.ImageMetadataResult metadataResult;
+        private final ImageHashService.ImageHashResult hashResult;
+        private final AiVerificationService.AiVerificationResult aiResult;
+        // 단계별 소요시간(ms) - 취소된 단계는 취소 시점까지
+        private final Map<Stage, Long> stageTimings;
+
+        public static VerificationOutcome metadataRejected(ImageVerificationContext image,
+                                                           ImageMetadataService.ImageMetadataResult result,
+                                                           Map<Stage, Long> timings) {
+            return new VerificationOutcome(Stage.METADATA, image, result, null, null, timings);
+        }
+
+        public static VerificationOutcome duplicate(ImageVerificationContext image,
+                                                    ImageHashService.ImageHashResult result,
+                                                    Map<Stage, Long> timings) {
+            return new VerificationOutcome(Stage.DUPLICATE, image, null, result, null, timings);
+        }
+
+        public static VerificationOutcome ai(ImageVerificationContext image,
+                                             AiVerificationService.AiVerificationResult result,
+                                             Map<Stage, Long> timings) {
+            return new VerificationOutcome(Stage.AI, image, null, null, result, timings);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.event.ChallengeVerificationRequestedEvent;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 검증 작업 큐를 소비하는 워커
+ *
+ * 워커 스레드 수(challenge.verification.concurrency)가 곧 AI 서버로 보내는 최대 동시 요청 수다.
+ * 큐 포화, 서버 재시작, 처리 중 종료로 빠진 작업은 오래된 VERIFYING 기록을 주기적으로 다시 등록해 복구한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeVerificationWorker {
+
+    private static final long POLL_TIMEOUT_MILLIS = 1000;
+    private static final int RECOVERY_BATCH_SIZE = 50;
+    private static final long SHUTDOWN_WAIT_MILLIS = 10000;
+
+    private final VerificationJobQueue jobQueue;
+    private final ChallengeService challengeService;
+    private final ChallengeVerificationService verificationService;
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${challenge.verification.concurrency:4}")
+    private int concurrency;
+
+    @Value("${challenge.verification.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = false;
+
+    @TransactionalEventListener
+    public void onVerificationRequested(ChallengeVerificationRequestedEvent event) {
+        if (!jobQueue.offer(event.getRecordId())) {
+            // 복구 주기에서 다시 등록된다
+            log.warn("AI 검증 작업 큐 등록 실패: recordId={}", event.getRecordId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 1; i <= Math.max(1, concurrency); i++) {
+            Thread thread = new Thread(this::consume, "challenge-verification-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            workers.add(thread);
+        }
+        log.info("AI 검증 워커 시작: 동시 처리 {}건", workers.size());
+    }
+
+    /**
+     * 오래된 VERIFYING 기록 재등록
+     */
+    @Scheduled(fixedDelayString = "${challenge.verification.recovery-interval-ms:60000}")
+    public void recoverStaleJobs() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minusSeconds(staleAfterSeconds);
+            List<Long> staleIds = challengeRecordRepository.findStaleVerifyingIds(
+                    staleBefore, PageRequest.of(0, RECOVERY_BATCH_SIZE));
+
+            int requeued = 0;
+            for (Long recordId : staleIds) {
+                Integer claimed = transactionTemplate.execute(status ->
+                        challengeRecordRepository.claimStaleVerifying(recordId, now, staleBefore));
+                if (claimed != null && claimed > 0 && jobQueue.offer(recordId)) {
+                    requeued++;
+                }
+            }
+            if (requeued > 0) {
+                log.warn("AI 검증 작업 재등록: {}건", requeued);
+            }
+        } catch (Exception e) {
+            log.error("AI 검증 작업 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void consume() {
+        while (running) {
+            try {
+                Long recordId = jobQueue.poll(POLL_TIMEOUT_MILLIS);
+                if (recordId != null) {
+                    process(recordId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("AI 검증 작업 조회 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void process(Long recordId) {
+        try {
+            Optional<ChallengeVerificationService.VerificationTarget> target =
+                    challengeService.loadVerificationTarget(recordId);
+            if (target.isEmpty()) {
+                // 이미 처리됐거나 삭제된 기록
+                return;
+            }
+
+            ChallengeVerificationService.VerificationOutcome outcome = verificationService.verify(target.get());
+            challengeService.completeAiVerification(target.get(), outcome);
+        } catch (Exception e) {
+            log.error("AI 검증 작업 처리 실패: recordId={}, error={}", recordId, e.getMessage(), e);
+            try {
+                challengeService.failAiVerification(recordId, "AI 검증 실패");
+            } catch (Exception ex) {
+                log.error("AI 검증 실패 상태 반영 실패: recordId={}, error={}", recordId, ex.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        // 처리 중인 작업은 마저 끝내고 종료 (남은 작업은 재시작 후 복구 주기에서 재등록)
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(SHUTDOWN_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
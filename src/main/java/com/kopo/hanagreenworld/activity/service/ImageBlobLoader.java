@@ -0,0 +1,121 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.common.storage.BlobStore;
+import com.kopo.hanagreenworld.common.storage.ContentAddressedImageStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 챌린지 인증 이미지를 한 번 읽어 ImageVerificationContext로 만든다.
+ * /challenge_images/ URL은 BlobStore에서 읽고(로컬 디스크면 FileChannel 메모리 매핑), 그 외에는 URL에서 한 번 다운로드한다.
+ * 내용 주소로 저장된 이미지는 키의 MD5를 그대로 써서 다시 해시하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageBlobLoader {
+
+    private static final String IMAGE_PATH = "/challenge_images/";
+    private static final long MAX_IMAGE_SIZE = 10L * 1024 * 1024;
+
+    private final BlobStore blobStore;
+
+    public ImageVerificationContext load(String imageUrl) {
+        if (imageUrl == null) {
+            return ImageVerificationContext.empty(null);
+        }
+
+        try {
+            String key = extractKey(imageUrl);
+            if (key != null) {
+                ImageVerificationContext stored = loadStored(imageUrl, key);
+                if (stored != null) {
+                    return stored;
+                }
+            }
+
+            log.info("URL에서 이미지 다운로드: {}", imageUrl);
+            try (InputStream in = new URL(imageUrl).openStream()) {
+                byte[] bytes = in.readNBytes((int) MAX_IMAGE_SIZE + 1);
+                if (bytes.length > MAX_IMAGE_SIZE) {
+                    log.warn("이미지 크기 초과로 검증 불가: {}", imageUrl);
+                    return ImageVerificationContext.empty(imageUrl);
+                }
+                return new ImageVerificationContext(imageUrl, ByteBuffer.wrap(bytes), false);
+            }
+        } catch (Exception e) {
+            log.error("이미지 다운로드 실패: {}", imageUrl, e);
+            return ImageVerificationContext.empty(imageUrl);
+        }
+    }
+
+    /**
+     * @return 저장소에 키가 없으면 null (URL 다운로드로 대체)
+     */
+    private ImageVerificationContext loadStored(String imageUrl, String key) throws Exception {
+        String digest = ContentAddressedImageStore.digestFromKey(key);
+
+        Optional<Path> localPath = blobStore.localPath(key);
+        if (localPath.isPresent()) {
+            if (!Files.isRegularFile(localPath.get())) {
+                return null;
+            }
+            log.info("로컬 파일에서 이미지 읽기 (메모리 매핑): {}", localPath.get());
+            return new ImageVerificationContext(imageUrl, map(localPath.get()), true, digest);
+        }
+
+        Optional<BlobStore.BlobInfo> info = blobStore.stat(key);
+        if (info.isEmpty()) {
+            return null;
+        }
+        if (info.get().getSize() > MAX_IMAGE_SIZE) {
+            log.warn("이미지 크기 초과로 검증 불가: {}", imageUrl);
+            return ImageVerificationContext.empty(imageUrl);
+        }
+
+        log.info("저장소에서 이미지 읽기: {}", key);
+        try (InputStream in = blobStore.open(key)) {
+            byte[] bytes = in.readNBytes((int) MAX_IMAGE_SIZE + 1);
+            if (bytes.length > MAX_IMAGE_SIZE) {
+                log.warn("이미지 크기 초과로 검증 불가: {}", imageUrl);
+                return ImageVerificationContext.empty(imageUrl);
+            }
+            return new ImageVerificationContext(imageUrl, ByteBuffer.wrap(bytes), false, digest);
+        }
+    }
+
+    private ByteBuffer map(Path path) throws Exception {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_IMAGE_SIZE) {
+                throw new IllegalStateException("이미지 크기 초과: " + size + " bytes");
+            }
+            // 매핑은 채널을 닫은 뒤에도 유효하다
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private String extractKey(String imageUrl) {
+        int index = imageUrl.lastIndexOf(IMAGE_PATH);
+        if (index < 0) {
+            return null;
+        }
+
+        String key = imageUrl.substring(index + IMAGE_PATH.length());
+        if (!BlobStore.isValidKey(key)) {
+            log.warn("허용되지 않은 이미지 경로: {}", imageUrl);
+            return null;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,287 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.repository.ImageHashRepository;
+import com.kopo.hanagreenworld.common.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이미지 해시 중복 검사 앞단의 Bloom 필터
+ *
+ * 인증 사진은 대부분 새 이미지이므로 "확실히 없음"이면 DB 조회를 건너뛴다.
+ * 키는 이미지 해시(h:{hash})와 회원+해시(m:{memberId}:{hash}) 두 종류를 같은 필터에 넣는다.
+ * 적재가 끝나기 전이나 Redis 오류 시에는 항상 "있을 수 있음"을 반환해 DB로 확인하게 한다.
+ *
+ * 기본은 비트를 Redis 비트맵에 두어 여러 서버가 같은 필터를 공유한다. (image.hash.bloom.redis=true)
+ * - 비트맵은 준비 표시 키(값 = 비트 수/해시 함수 수)가 있을 때만 믿는다. 적재 중이거나 설정이 다르거나
+ *   표시가 지워졌으면 모든 서버가 DB로 확인하고, 주기 점검에서 한 서버가 잠금을 잡고 다시 적재한다.
+ * - 한 서버에서 추가가 실패하면 준비 표시를 지워 다른 서버도 이 비트맵을 믿지 않게 한다.
+ * - 비트맵 크기는 expected-insertions 설정(행 수, 키는 행마다 2개)으로만 정해지므로 모든 서버의 설정이 같아야 한다.
+ *
+ * Redis가 없거나 image.hash.bloom.redis=false 이면 서버 메모리에 필터를 둔다.
+ * 다른 서버가 저장한 해시는 들어오지 않으므로 로컬 모드는 서버 한 대로 운영할 때만 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageHashFilter {
+
+    private static final String REDIS_KEY = "bloom:image-hash";
+    private static final String READY_KEY = "bloom:image-hash:ready";
+    private static final String BUILD_LOCK_KEY = "bloom:image-hash:building";
+    private static final Duration BUILD_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final ImageHashRepository imageHashRepository;
+
+    @Autowired(required = false)
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Value("${image.hash.bloom.expected-insertions:2000000}")
+    private long expectedInsertions;
+
+    @Value("${image.hash.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${image.hash.bloom.redis:true}")
+    private boolean useRedis;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready = false;
+    // 추가 실패 후 준비 표시를 아직 지우지 못한 경우 (Redis 장애 중) 주기 점검에서 다시 지운다
+    private volatile boolean invalidationPending = false;
+
+    /**
+     * image_hashes를 id 순으로 훑으며 필터를 다시 만든다 (행 전체를 메모리에 올리지 않는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            if (!isShared()) {
+                // 로컬 필터는 현재 행 수의 두 배(키 2종)에 여유를 두고 크기를 정한다
+                BloomFilter rebuilt = new BloomFilter(
+                        Math.max(expectedInsertions, imageHashRepository.count() * 4), falsePositiveRate);
+                this.filter = rebuilt;
+                long loaded = loadAll(rebuilt, false);
+                ready = true;
+                logLoaded(rebuilt, loaded, false, startTime);
+                return;
+            }
+
+            // 행마다 키가 2개(h:, m:) 들어가므로 키 수 기준으로 크기를 정한다 (설정값만 써야 서버 간 version이 같다)
+            long sharedKeys = expectedInsertions * 2;
+            BloomFilter shared = new BloomFilter(sharedKeys, falsePositiveRate);
+            long expectedKeys = imageHashRepository.count() * 2;
+            if (expectedKeys > sharedKeys) {
+                log.warn("이미지 해시 Bloom 필터 용량 초과 - 오탐률이 설정값({})보다 높아집니다: 키 수={}, 설계 용량={}. "
+                        + "image.hash.bloom.expected-insertions를 늘려 주세요.", falsePositiveRate, expectedKeys, sharedKeys);
+            }
+            this.filter = shared;
+            ready = true;
+            if (version(shared).equals(stringRedisTemplate.opsForValue().get(READY_KEY))) {
+                log.info("이미지 해시 Bloom 필터: 공유 Redis 비트맵 사용");
+                return;
+            }
+            rebuildShared(shared, startTime);
+        } catch (Exception e) {
+            ready = false;
+            log.error("이미지 해시 Bloom 필터 적재 실패 - DB 조회로 대체: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공유 비트맵 점검 - 지우지 못한 준비 표시를 정리하고, 표시가 없으면 다시 적재한다
+     */
+    @Scheduled(fixedDelayString = "${image.hash.bloom.check-ms:60000}")
+    public void checkSharedFilter() {
+        if (!isShared() || filter == null) {
+            return;
+        }
+        try {
+            if (invalidationPending) {
+                stringRedisTemplate.delete(READY_KEY);
+                invalidationPending = false;
+            }
+            if (!version(filter).equals(stringRedisTemplate.opsForValue().get(READY_KEY))) {
+                rebuildShared(filter, System.currentTimeMillis());
+            }
+        } catch (Exception e) {
+            log.warn("공유 Bloom 필터 점검 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    public boolean mightContainHash(String imageHash) {
+        return mightContain(hashKey(imageHash));
+    }
+
+    public boolean mightContainMemberHash(Long memberId, String imageHash) {
+        return mightContain(memberHashKey(memberId, imageHash));
+    }
+
+    public void add(Long memberId, String imageHash) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        boolean shared = isShared();
+        try {
+            putAll(current, shared, List.of(hashKey(imageHash), memberHashKey(memberId, imageHash)));
+        } catch (Exception e) {
+            if (!shared) {
+                ready = false;
+            } else {
+                // 빠진 키를 다른 서버가 "확실히 없음"으로 판단하지 않도록 공유 비트맵을 무효화
+                invalidateShared();
+            }
+            log.error("이미지 해시 Bloom 필터 추가 실패 - DB 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비트맵을 제자리에서 다시 채운다 (적재 중에는 준비 표시가 없어 모든 서버가 DB로 확인한다)
+     * 적재 중 add()로 들어온 비트도 같은 키에 남으므로 빠지지 않는다.
+     */
+    private void rebuildShared(BloomFilter shared, long startTime) {
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(BUILD_LOCK_KEY, nodeId, BUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 서버가 공유 Bloom 필터를 적재 중 - 준비될 때까지 DB 조회");
+            return;
+        }
+        try {
+            String expected = version(shared);
+            if (expected.equals(stringRedisTemplate.opsForValue().get(READY_KEY))) {
+                return;
+            }
+            // 설정이 다르거나 무효화된 비트맵은 지우고 새로 만든다
+            stringRedisTemplate.delete(List.of(READY_KEY, REDIS_KEY));
+            long loaded = loadAll(shared, true);
+            stringRedisTemplate.opsForValue().set(READY_KEY, expected);
+            logLoaded(shared, loaded, true, startTime);
+        } finally {
+            if (nodeId.equals(stringRedisTemplate.opsForValue().get(BUILD_LOCK_KEY))) {
+                stringRedisTemplate.delete(BUILD_LOCK_KEY);
+            }
+        }
+    }
+
+    private void invalidateShared() {
+        try {
+            stringRedisTemplate.delete(READY_KEY);
+        } catch (Exception e) {
+            invalidationPending = true;
+        }
+    }
+
+    private long loadAll(BloomFilter target, boolean shared) {
+        long loaded = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = imageHashRepository.findHashKeysAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            List<String> keys = new ArrayList<>(rows.size() * 2);
+            for (Object[] row : rows) {
+                Long memberId = ((Number) row[1]).longValue();
+                String imageHash = (String) row[2];
+                keys.add(hashKey(imageHash));
+                keys.add(memberHashKey(memberId, imageHash));
+            }
+            putAll(target, shared, keys);
+            loaded += rows.size();
+
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                return loaded;
+            }
+            afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+    }
+
+    private void logLoaded(BloomFilter target, long loaded, boolean shared, long startTime) {
+        log.info("이미지 해시 Bloom 필터 적재 완료: {}건, 비트 수={}, 해시 함수 수={}, 공유={}, {}ms",
+                loaded, target.getBitSize(), target.getHashCount(), shared, System.currentTimeMillis() - startTime);
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        if (!ready || current == null) {
+            return true;
+        }
+        if (!isShared()) {
+            return current.mightContain(key);
+        }
+
+        try {
+            long[] indexes = current.bitIndexes(key);
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.get(READY_KEY);
+                for (long index : indexes) {
+                    redis.getBit(REDIS_KEY, index);
+                }
+                return null;
+            });
+            // 준비 표시가 없으면(적재 중/무효화/설정 불일치) 비트맵을 믿지 않는다
+            if (!version(current).equals(results.get(0))) {
+                return true;
+            }
+            for (Object bit : results.subList(1, results.size())) {
+                if (!Boolean.TRUE.equals(bit)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis Bloom 필터 조회 실패 - DB 조회로 대체: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void putAll(BloomFilter target, boolean shared, List<String> keys) {
+        if (!shared) {
+            keys.forEach(target::put);
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String key : keys) {
+                for (long index : target.bitIndexes(key)) {
+                    redis.setBit(REDIS_KEY, index, true);
+                }
+            }
+            return null;
+        });
+    }
+
+    private boolean isShared() {
+        return useRedis && stringRedisTemplate != null;
+    }
+
+    // 같은 비트 수/해시 함수 수로 만든 비트맵만 같은 필터로 본다
+    private static String version(BloomFilter target) {
+        return target.getBitSize() + ":" + target.getHashCount();
+    }
+
+    private static String hashKey(String imageHash) {
+        return "h:" + imageHash;
+    }
+
+    private static String memberHashKey(Long memberId, String imageHash) {
+        return "m:" + memberId + ":" + imageHash;
+    }
+}
@@ -5,20 +5,13 @@ import com.kopo.hanagreenworld.activity.repository.ImageHashRepository;
 import com.kopo.hanagreenworld.member.service.MemberProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,14 +21,26 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ImageHashService {
 
+    public static final String OTHER_USER_SIMILAR = "OTHER_USER_SIMILAR";
+
     private final ImageHashRepository imageHashRepository;
     private final MemberProfileService memberProfileService;
+    private final NearDuplicateImageIndex nearDuplicateImageIndex;
+    private final ImageHashFilter imageHashFilter;
 
-    @Transactional
-    public ImageHashResult checkImageDuplicate(String imageUrl, Long memberId, Long challengeId) {
+    // 이 거리 이하의 dHash는 같은 사진을 재인코딩/크기 변경한 것으로 본다
+    @Value("${image.hash.near-duplicate-distance:5}")
+    private int nearDuplicateDistance;
+
+    /**
+     * 정확한 중복(MD5)과 유사 이미지(dHash)를 검사한다
+     * 해시 계산은 이미지를 디코딩하므로 호출 측이 트랜잭션 밖에서 미리 해 둔다. (image.getDigest/getPerceptualHash)
+     * 다른 사용자와 유사한 이미지(OTHER_USER_SIMILAR)도 중복으로 반환하지만, 반영 시 거부 대신 관리자 검토로 보낸다.
+     */
+    @Transactional(readOnly = true)
+    public ImageHashResult checkImageDuplicate(ImageVerificationContext image, Long memberId, Long challengeId) {
         try {
-            byte[] imageBytes = downloadImage(imageUrl);
-            if (imageBytes == null || imageBytes.length == 0) {
+            if (!image.isLoaded()) {
                 return ImageHashResult.builder()
                         .isDuplicate(false)
                         .confidence(0.0)
@@ -43,7 +48,7 @@ public class ImageHashService {
                         .build();
             }
 
-            String imageHash = calculateImageHash(imageBytes);
+            String imageHash = image.getDigest();
             if (imageHash == null) {
                 return ImageHashResult.builder()
                         .isDuplicate(false)
@@ -53,6 +58,9 @@ public class ImageHashService {
             }
 
             DuplicateCheckResult duplicateResult = checkForDuplicates(imageHash, memberId, challengeId);
+            if (!duplicateResult.isDuplicate()) {
+                duplicateResult = checkForNearDuplicates(image.getPerceptualHash(), memberId);
+            }
 
             return ImageHashResult.builder()
                     .isDuplicate(duplicateResult.isDuplicate())
@@ -72,30 +80,24 @@ public class ImageHashService {
         }
     }
 
-    private String calculateImageHash(byte[] imageBytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] hashBytes = md.digest(imageBytes);
-            return Base64.getEncoder().encodeToString(hashBytes);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("MD5 알고리즘을 찾을 수 없습니다: {}", e.getMessage());
-            return null;
+    private DuplicateCheckResult checkForDuplicates(String imageHash, Long memberId, Long challengeId) {
+        // 0. 대부분 새 이미지이므로 Bloom 필터가 "확실히 없음"이라고 하면 DB 조회 생략
+        if (!imageHashFilter.mightContainHash(imageHash)) {
+            log.debug("중복 이미지 없음 (Bloom 필터): 사용자 {}, 해시: {}", memberId, imageHash);
+            return new DuplicateCheckResult(false, 0.9, "중복 이미지가 없습니다.", "NONE");
         }
-    }
 
-    private DuplicateCheckResult checkForDuplicates(String imageHash, Long memberId, Long challengeId) {
         // 1. 같은 사용자가 어떤 챌린지든 같은 해시값을 사용했는지 확인
-        boolean sameUserDuplicate = imageHashRepository.existsByMemberIdAndImageHash(memberId, imageHash);
+        boolean sameUserDuplicate = imageHashFilter.mightContainMemberHash(memberId, imageHash)
+                && imageHashRepository.existsByMemberIdAndImageHash(memberId, imageHash);
         if (sameUserDuplicate) {
             log.warn("같은 사용자의 중복 이미지 감지: 사용자 {}, 해시: {}", memberId, imageHash);
             return new DuplicateCheckResult(true, 0.0, "이전에 사용한 이미지입니다.", "SAME_USER");
         }
 
-        // 2. 다른 사용자가 같은 해시값을 사용했는지 확인
-        boolean otherUserDuplicate = imageHashRepository.existsByImageHash(imageHash);
-        if (otherUserDuplicate) {
-            // 몇 명의 사용자가 같은 이미지를 사용했는지 확인
-            long userCount = imageHashRepository.countDistinctMembersByImageHash(imageHash);
+        // 2. 다른 사용자가 같은 해시값을 사용했는지 확인 (사용자 수가 0이면 필터의 거짓 양성)
+        long userCount = imageHashRepository.countDistinctMembersByImageHash(imageHash);
+        if (userCount > 0) {
             log.warn("다른 사용자와 중복 이미지 감지: 사용자 {}, 해시: {}, 사용자 수: {}", memberId, imageHash, userCount);
             
             String reason = String.format("다른 %d명의 사용자가 사용한 이미지입니다.", userCount);
@@ -107,7 +109,37 @@ public class ImageHashService {
         return new DuplicateCheckResult(false, 0.9, "중복 이미지가 없습니다.", "NONE");
     }
 
-    private void saveImageHash(Long memberId, Long challengeId, String imageUrl, String imageHash, long fileSize) {
+    /**
+     * 재인코딩, 크기 변경, 스크린샷 등으로 바이트가 달라진 사진 탐지 (dHash 해밍 거리)
+     */
+    private DuplicateCheckResult checkForNearDuplicates(Long perceptualHash, Long memberId) {
+        if (perceptualHash == null) {
+            return new DuplicateCheckResult(false, 0.9, "중복 이미지가 없습니다.", "NONE");
+        }
+
+        List<Long> similarHashes = nearDuplicateImageIndex.findWithin(
+                perceptualHash, Math.min(nearDuplicateDistance, NearDuplicateImageIndex.MAX_DISTANCE));
+        if (similarHashes.isEmpty()) {
+            return new DuplicateCheckResult(false, 0.9, "중복 이미지가 없습니다.", "NONE");
+        }
+
+        // 색인에는 변경 전 해시가 남아 있을 수 있으므로 실제 사용한 회원을 DB로 확인
+        List<Long> memberIds = imageHashRepository.findMemberIdsByPerceptualHashIn(similarHashes);
+        if (memberIds.contains(memberId)) {
+            log.warn("같은 사용자의 유사 이미지 감지: 사용자 {}, dHash: {}", memberId, Long.toHexString(perceptualHash));
+            return new DuplicateCheckResult(true, 0.0, "이전에 사용한 이미지와 매우 유사합니다.", "SAME_USER_SIMILAR");
+        }
+        if (!memberIds.isEmpty()) {
+            log.warn("다른 사용자와 유사 이미지 감지: 사용자 {}, dHash: {}, 사용자 수: {}",
+                    memberId, Long.toHexString(perceptualHash), memberIds.size());
+            String reason = String.format("다른 %d명의 사용자가 사용한 이미지와 매우 유사합니다.", memberIds.size());
+            return new DuplicateCheckResult(true, 0.1, reason, OTHER_USER_SIMILAR);
+        }
+        return new DuplicateCheckResult(false, 0.9, "중복 이미지가 없습니다.", "NONE");
+    }
+
+    private void saveImageHash(Long memberId, Long challengeId, String imageUrl, String imageHash,
+                               Long perceptualHash, long fileSize) {
         try {
             // 기존에 같은 챌린지에 대한 해시가 있는지 확인
             Optional<ImageHash> existingHash = imageHashRepository.findByMemberIdAndChallengeId(memberId, challengeId);
@@ -115,7 +147,7 @@ public class ImageHashService {
             if (existingHash.isPresent()) {
                 // 기존 해시 정보 업데이트
                 ImageHash hash = existingHash.get();
-                hash.updateImageInfo(imageUrl, imageHash, fileSize, "image/jpeg");
+                hash.updateImageInfo(imageUrl, imageHash, perceptualHash, fileSize, "image/jpeg");
                 imageHashRepository.save(hash);
                 log.info("📝 기존 이미지 해시 정보 업데이트: {}", imageHash);
             } else {
@@ -125,6 +157,7 @@ public class ImageHashService {
                         .challengeId(challengeId)
                         .imageUrl(imageUrl)
                         .imageHash(imageHash)
+                        .perceptualHash(perceptualHash)
                         .fileSize(fileSize)
                         .contentType("image/jpeg")
                         .build();
@@ -137,69 +170,53 @@ public class ImageHashService {
         }
     }
 
-    private byte[] downloadImage(String imageUrl) {
-        try {
-            // URL에서 로컬 파일 경로 추출
-            String localPath = extractLocalPath(imageUrl);
-            if (localPath != null) {
-                Path filePath = Paths.get(localPath);
-                if (Files.exists(filePath)) {
-                    log.info("로컬 파일에서 이미지 읽기: {}", localPath);
-                    return Files.readAllBytes(filePath);
-                }
-            }
-            
-            // URL에서 다운로드
-            URL url = new URL(imageUrl);
-            try (InputStream in = url.openStream()) {
-                return in.readAllBytes();
-            }
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: {}", imageUrl, e);
-            return null;
-        }
-    }
-
-    private String extractLocalPath(String imageUrl) {
-        try {
-            if (imageUrl.contains("/challenge_images/")) {
-                String fileName = imageUrl.substring(imageUrl.lastIndexOf("/challenge_images/") + "/challenge_images/".length());
-                return "challenge_images/" + fileName;
-            }
-            return null;
-        } catch (Exception e) {
-            log.warn("로컬 경로 추출 실패: {}", imageUrl);
-            return null;
-        }
-    }
-
     @Transactional
-    public void saveImageHashAfterVerification(String imageUrl, Long memberId, Long challengeId) {
+    public void saveImageHashAfterVerification(ImageVerificationContext image, Long memberId, Long challengeId) {
         try {
             log.info("💾 AI 검증 성공 후 이미지 해시 저장: 사용자 {}, 챌린지 {}", memberId, challengeId);
             
-            // 이미지 다운로드
-            byte[] imageBytes = downloadImage(imageUrl);
-            if (imageBytes == null || imageBytes.length == 0) {
-                log.warn("이미지 다운로드 실패로 해시 저장 건너뜀: {}", imageUrl);
+            if (!image.isLoaded()) {
+                log.warn("이미지 다운로드 실패로 해시 저장 건너뜀: {}", image.getImageUrl());
                 return;
             }
 
-            // 이미지 해시 계산
-            String imageHash = calculateImageHash(imageBytes);
+            // 중복 검사 때 계산한 해시 재사용
+            String imageHash = image.getDigest();
             if (imageHash == null) {
-                log.warn("이미지 해시 계산 실패로 저장 건너뜀: {}", imageUrl);
+                log.warn("이미지 해시 계산 실패로 저장 건너뜀: {}", image.getImageUrl());
                 return;
             }
 
+            // 커밋 전에 필터에 먼저 추가 (롤백되면 거짓 양성만 남고, 커밋 직후 검사가 중복을 놓치지 않는다)
+            imageHashFilter.add(memberId, imageHash);
+
             // 이미지 해시 정보 저장
-            saveImageHash(memberId, challengeId, imageUrl, imageHash, imageBytes.length);
+            Long perceptualHash = image.getPerceptualHash();
+            saveImageHash(memberId, challengeId, image.getImageUrl(), imageHash, perceptualHash, image.getSize());
+
+            // 커밋된 해시만 유사 이미지 색인에 추가
+            if (perceptualHash != null) {
+                addToIndexAfterCommit(perceptualHash);
+            }
             
         } catch (Exception e) {
             log.error("AI 검증 후 이미지 해시 저장 실패: {}", e.getMessage(), e);
         }
     }
 
+    private void addToIndexAfterCommit(long perceptualHash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            nearDuplicateImageIndex.add(perceptualHash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                nearDuplicateImageIndex.add(perceptualHash);
+            }
+        });
+    }
+
     public ImageHashStats getUserImageHashStats(Long memberId) {
         try {
             long totalImages = imageHashRepository.countByMemberId(memberId);
@@ -238,7 +255,7 @@ public class ImageHashService {
         private double confidence;
         private String reason;
         private String imageHash;
-        private String duplicateType; // SAME_USER, OTHER_USER, NONE
+        private String duplicateType; // SAME_USER, OTHER_USER, SAME_USER_SIMILAR, OTHER_USER_SIMILAR, NONE
     }
 
     /**
@@ -2,25 +2,26 @@ package com.kopo.hanagreenworld.activity.service;
 
 import com.drew.imaging.ImageMetadataReader;
 import com.drew.imaging.ImageProcessingException;
+import com.drew.imaging.jpeg.JpegSegmentType;
 import com.drew.metadata.Directory;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifReader;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
 import com.drew.metadata.exif.GpsDirectory;
+import com.drew.metadata.xmp.XmpReader;
+import com.kopo.hanagreenworld.common.util.JpegHeaderReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -28,10 +29,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ImageMetadataService {
 
-    public ImageMetadataResult validateImageMetadata(String imageUrl, LocalDateTime challengeParticipationDate) {
+    // JPEG 헤더 빠른 경로에서 읽을 최대 바이트 (APP1 세그먼트는 최대 64KB)
+    @Value("${image.metadata.max-header-bytes:262144}")
+    private int maxHeaderBytes;
+
+    public ImageMetadataResult validateImageMetadata(ImageVerificationContext image, LocalDateTime challengeParticipationDate) {
         try {
-            byte[] imageBytes = downloadImage(imageUrl);
-            if (imageBytes == null || imageBytes.length == 0) {
+            if (!image.isLoaded()) {
                 return ImageMetadataResult.builder()
                         .isValid(false)
                         .confidence(0.0)
@@ -39,7 +43,7 @@ public class ImageMetadataService {
                         .build();
             }
 
-            Metadata metadata = extractMetadata(imageBytes);
+            Metadata metadata = extractMetadata(image);
             if (metadata == null) {
                 return ImageMetadataResult.builder()
                         .isValid(false)
@@ -49,7 +53,7 @@ public class ImageMetadataService {
             }
 
             // 메타데이터 분석
-            return analyzeMetadata(metadata, imageUrl, challengeParticipationDate);
+            return analyzeMetadata(metadata, image.getImageUrl(), challengeParticipationDate);
 
         } catch (Exception e) {
             log.error("이미지 메타데이터 검증 중 오류 발생: {}", e.getMessage(), e);
@@ -61,8 +65,14 @@ public class ImageMetadataService {
         }
     }
 
-    private Metadata extractMetadata(byte[] imageBytes) {
-        try (InputStream inputStream = new ByteArrayInputStream(imageBytes)) {
+    private Metadata extractMetadata(ImageVerificationContext image) {
+        Metadata headerMetadata = extractJpegHeaderMetadata(image);
+        if (headerMetadata != null) {
+            return headerMetadata;
+        }
+
+        // HEIC/PNG 등 JPEG가 아니거나 헤더 구조가 예상과 다르면 전체 파싱
+        try (InputStream inputStream = image.openStream()) {
             return ImageMetadataReader.readMetadata(inputStream);
         } catch (ImageProcessingException | IOException e) {
             log.warn("EXIF 데이터 추출 실패: {}", e.getMessage());
@@ -70,6 +80,29 @@ public class ImageMetadataService {
         }
     }
 
+    /**
+     * JPEG 빠른 경로 - 압축 데이터 앞의 APP1(EXIF/XMP) 세그먼트만 읽어 분석에 쓰는 디렉터리를 채운다
+     */
+    private Metadata extractJpegHeaderMetadata(ImageVerificationContext image) {
+        try (InputStream inputStream = image.openStream()) {
+            JpegHeaderReader.Result header = JpegHeaderReader.read(inputStream, maxHeaderBytes);
+            if (header == null) {
+                return null;
+            }
+
+            Metadata metadata = new Metadata();
+            List<byte[]> segments = header.getApp1Segments();
+            new ExifReader().readJpegSegments(segments, metadata, JpegSegmentType.APP1);
+            new XmpReader().readJpegSegments(segments, metadata, JpegSegmentType.APP1);
+
+            log.debug("JPEG 헤더 메타데이터 추출: {}바이트 / 전체 {}바이트", header.getBytesRead(), image.getSize());
+            return metadata;
+        } catch (Exception e) {
+            log.debug("JPEG 헤더 메타데이터 추출 실패 - 전체 파싱으로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private ImageMetadataResult analyzeMetadata(Metadata metadata, String imageUrl, LocalDateTime challengeParticipationDate) {
         Map<String, Object> metadataInfo = new HashMap<>();
         double confidence = 0.5; // 기본 신뢰도
@@ -274,42 +307,6 @@ public class ImageMetadataService {
         return false;
     }
 
-    private byte[] downloadImage(String imageUrl) {
-        try {
-            // URL에서 로컬 파일 경로 추출
-            String localPath = extractLocalPath(imageUrl);
-            if (localPath != null) {
-                Path filePath = Paths.get(localPath);
-                if (Files.exists(filePath)) {
-                    log.info("로컬 파일에서 이미지 읽기: {}", localPath);
-                    return Files.readAllBytes(filePath);
-                }
-            }
-            
-            // URL에서 다운로드
-            URL url = new URL(imageUrl);
-            try (InputStream in = url.openStream()) {
-                return in.readAllBytes();
-            }
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: {}", imageUrl, e);
-            return null;
-        }
-    }
-
-    private String extractLocalPath(String imageUrl) {
-        try {
-            if (imageUrl.contains("/challenge_images/")) {
-                String fileName = imageUrl.substring(imageUrl.lastIndexOf("/challenge_images/") + "/challenge_images/".length());
-                return "challenge_images/" + fileName;
-            }
-            return null;
-        } catch (Exception e) {
-            log.warn("로컬 경로 추출 실패: {}", imageUrl);
-            return null;
-        }
-    }
-
     /**
      * 이미지 메타데이터 검증 결과 DTO
      */
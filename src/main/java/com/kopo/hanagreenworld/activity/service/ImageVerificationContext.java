@@ -0,0 +1,168 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.common.util.PerceptualHash;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 챌린지 인증 이미지 한 장에 대한 검증 컨텍스트
+ *
+ * 이미지는 ImageBlobLoader가 한 번만 읽고(로컬 파일은 메모리 매핑), 메타데이터 검증 → 중복 검사 → AI 검증 → 해시 저장
+ * 각 단계는 같은 버퍼를 복사 없이 공유한다. 해시(MD5, dHash)도 처음 요청될 때 한 번만 계산한다.
+ */
+@Slf4j
+public class ImageVerificationContext {
+
+    @Getter
+    private final String imageUrl;
+
+    private final ByteBuffer data;
+
+    @Getter
+    private final boolean mapped;
+
+    private volatile String digest;
+
+    private volatile Long perceptualHash;
+    private volatile boolean perceptualHashComputed;
+
+    ImageVerificationContext(String imageUrl, ByteBuffer data, boolean mapped) {
+        this(imageUrl, data, mapped, null);
+    }
+
+    /**
+     * @param digest 저장 시 이미 계산한 MD5 (Base64), 없으면 처음 요청될 때 계산
+     */
+    ImageVerificationContext(String imageUrl, ByteBuffer data, boolean mapped, String digest) {
+        this.imageUrl = imageUrl;
+        this.data = data != null ? data.asReadOnlyBuffer() : null;
+        this.mapped = mapped;
+        this.digest = digest;
+    }
+
+    static ImageVerificationContext empty(String imageUrl) {
+        return new ImageVerificationContext(imageUrl, null, false);
+    }
+
+    public boolean isLoaded() {
+        return data != null && data.capacity() > 0;
+    }
+
+    public long getSize() {
+        return data != null ? data.capacity() : 0;
+    }
+
+    /**
+     * 공유 버퍼를 읽는 새 스트림 (단계마다 독립된 읽기 위치)
+     */
+    public InputStream openStream() {
+        return new ByteBufferInputStream(data.duplicate());
+    }
+
+    /**
+     * multipart 전송용 리소스 - 전송 시 버퍼에서 바로 스트리밍한다
+     */
+    public Resource asResource(String filename) {
+        return new AbstractResource() {
+            @Override
+            public String getDescription() {
+                return "challenge image [" + imageUrl + "]";
+            }
+
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+
+            @Override
+            public long contentLength() {
+                return getSize();
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return openStream();
+            }
+        };
+    }
+
+    /**
+     * 이미지 MD5 해시 (Base64) - image_hashes.image_hash 형식
+     */
+    public String getDigest() {
+        String result = digest;
+        if (result == null && isLoaded()) {
+            try {
+                MessageDigest md = MessageDigest.getInstance("MD5");
+                md.update(data.duplicate());
+                result = Base64.getEncoder().encodeToString(md.digest());
+                digest = result;
+            } catch (NoSuchAlgorithmException e) {
+                log.error("MD5 알고리즘을 찾을 수 없습니다: {}", e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 64비트 dHash - 재인코딩/크기 변경된 사진 탐지용 (디코딩할 수 없으면 null)
+     */
+    public Long getPerceptualHash() {
+        if (!perceptualHashComputed && isLoaded()) {
+            try (InputStream in = openStream()) {
+                perceptualHash = PerceptualHash.dHash(in);
+            } catch (Exception e) {
+                log.warn("이미지 dHash 계산 실패: {}", e.getMessage());
+            }
+            perceptualHashComputed = true;
+        }
+        return perceptualHash;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 메모리 기반 AI 검증 작업 큐 (단일 서버 운영용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "challenge.verification.queue.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationJobQueue implements VerificationJobQueue {
+
+    @Value("${challenge.verification.queue.capacity:1000}")
+    private int capacity;
+
+    private BlockingQueue<Long> queue;
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        log.info("AI 검증 작업 큐: 메모리 (최대 {}건)", capacity);
+    }
+
+    @Override
+    public boolean offer(Long recordId) {
+        return queue.offer(recordId);
+    }
+
+    @Override
+    public Long poll(long timeoutMillis) throws InterruptedException {
+        return queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
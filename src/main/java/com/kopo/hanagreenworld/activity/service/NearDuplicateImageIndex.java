@@ -0,0 +1,221 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.repository.ImageHashRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * dHash 유사 이미지 색인 (64비트 해시를 16비트 조각 4개로 나눈 multi-index hashing)
+ *
+ * 두 해시의 해밍 거리가 k 이하이면 4개 조각 중 하나는 거리가 k/4 이하다. (비둘기집 원리)
+ * 그래서 조각마다 k/4 이내의 값만 버킷으로 찾아보고 후보의 실제 거리를 확인하면 전체를 훑지 않아도 된다.
+ * 버킷은 조각 값(0~65535)으로 바로 찾는 배열이라 해시 테이블 없이 long 배열만 사용한다.
+ *
+ * 서버 시작 시 image_hashes에서 적재하고, 이 서버에서 저장한 해시는 커밋 후 바로 추가한다.
+ * 색인은 서버마다 메모리에 따로 있으므로, 다른 서버가 저장/수정한 해시는 refresh()가 주기적으로 DB에서 가져온다.
+ * (그 주기 동안은 다른 서버의 새 사진을 놓칠 수 있고, 같은 사진의 정확한 중복은 MD5 검사가 잡는다)
+ * 삭제/변경된 해시는 색인에 남을 수 있으므로 호출 측이 DB로 한 번 더 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateImageIndex {
+
+    private static final int CHUNKS = 4;
+    private static final int CHUNK_BITS = 16;
+    private static final int BUCKETS = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = BUCKETS - 1;
+    // 조각당 탐색 반경 2까지 지원 (4 * 3 - 1)
+    public static final int MAX_DISTANCE = CHUNKS * 3 - 1;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+    private static final int LOAD_BATCH_SIZE = 5000;
+    // 서버 간 시계 차이와 커밋 지연을 감안해 수정 시각을 겹쳐서 다시 읽는다 (중복 추가는 무시된다)
+    private static final Duration MODIFIED_OVERLAP = Duration.ofMinutes(1);
+
+    private final ImageHashRepository imageHashRepository;
+
+    private final long[][] buckets = new long[CHUNKS * BUCKETS][];
+    private final int[] bucketSizes = new int[CHUNKS * BUCKETS];
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size = 0;
+    private volatile boolean ready = false;
+
+    // 마지막으로 읽은 image_hashes id와 수정 시각 기준 (refresh()만 갱신)
+    private long lastLoadedId = 0L;
+    private LocalDateTime lastRefreshedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long startTime = System.currentTimeMillis();
+        try {
+            lastRefreshedAt = LocalDateTime.now();
+            loadNewRows();
+            ready = true;
+            log.info("유사 이미지 색인 적재 완료: {}건, {}ms", size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("유사 이미지 색인 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 서버가 저장/수정한 해시를 DB에서 가져온다 (새 행은 id 키셋, 수정된 행은 modified_at 기준)
+     */
+    @Scheduled(fixedDelayString = "${image.hash.index.refresh-ms:30000}")
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+        try {
+            LocalDateTime since = lastRefreshedAt.minus(MODIFIED_OVERLAP);
+            LocalDateTime now = LocalDateTime.now();
+            int before = size();
+            loadNewRows();
+            imageHashRepository.findPerceptualHashesModifiedSince(since).forEach(this::add);
+            lastRefreshedAt = now;
+            if (size() > before) {
+                log.debug("유사 이미지 색인 갱신: {}건 추가, 전체 {}건", size() - before, size());
+            }
+        } catch (Exception e) {
+            log.warn("유사 이미지 색인 갱신 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private void loadNewRows() {
+        while (true) {
+            List<Object[]> rows = imageHashRepository.findPerceptualHashesAfter(
+                    lastLoadedId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                add(((Number) row[1]).longValue());
+            }
+            if (!rows.isEmpty()) {
+                lastLoadedId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            }
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해시 추가 (이미 있는 해시는 무시)
+     */
+    public void add(long hash) {
+        lock.writeLock().lock();
+        try {
+            if (contains(hash)) {
+                return;
+            }
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                append(bucketIndex(chunk, chunkValue(hash, chunk)), hash);
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해밍 거리가 maxDistance 이하인 해시 목록
+     */
+    public List<Long> findWithin(long hash, int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance는 0~" + MAX_DISTANCE + " 사이여야 합니다: " + maxDistance);
+        }
+        int radius = maxDistance / CHUNKS;
+        Set<Long> matches = new LinkedHashSet<>();
+
+        lock.readLock().lock();
+        try {
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                int value = chunkValue(hash, chunk);
+                scan(chunk, value, hash, maxDistance, matches);
+                if (radius >= 1) {
+                    for (int i = 0; i < CHUNK_BITS; i++) {
+                        int flippedOnce = value ^ (1 << i);
+                        scan(chunk, flippedOnce, hash, maxDistance, matches);
+                        if (radius >= 2) {
+                            for (int j = i + 1; j < CHUNK_BITS; j++) {
+                                scan(chunk, flippedOnce ^ (1 << j), hash, maxDistance, matches);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private void scan(int chunk, int value, long hash, int maxDistance, Set<Long> matches) {
+        int index = bucketIndex(chunk, value);
+        long[] bucket = buckets[index];
+        int count = bucketSizes[index];
+        for (int i = 0; i < count; i++) {
+            if (Long.bitCount(bucket[i] ^ hash) <= maxDistance) {
+                matches.add(bucket[i]);
+            }
+        }
+    }
+
+    private boolean contains(long hash) {
+        int index = bucketIndex(0, chunkValue(hash, 0));
+        long[] bucket = buckets[index];
+        int count = bucketSizes[index];
+        for (int i = 0; i < count; i++) {
+            if (bucket[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void append(int index, long hash) {
+        long[] bucket = buckets[index];
+        int count = bucketSizes[index];
+        if (bucket == null) {
+            bucket = new long[INITIAL_BUCKET_CAPACITY];
+        } else if (count == bucket.length) {
+            bucket = Arrays.copyOf(bucket, count * 2);
+        }
+        bucket[count] = hash;
+        buckets[index] = bucket;
+        bucketSizes[index] = count + 1;
+    }
+
+    private static int chunkValue(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & CHUNK_MASK;
+    }
+
+    private static int bucketIndex(int chunk, int value) {
+        return chunk * BUCKETS + value;
+    }
+}
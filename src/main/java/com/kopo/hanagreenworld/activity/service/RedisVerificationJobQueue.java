@@ -0,0 +1,48 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 리스트 기반 AI 검증 작업 큐 (LPUSH로 넣고 BRPOP으로 꺼낸다)
+ * 작업을 꺼낸 서버가 처리 중 종료되면 복구 주기에서 기록 상태를 보고 다시 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "challenge.verification.queue.type", havingValue = "redis")
+public class RedisVerificationJobQueue implements VerificationJobQueue {
+
+    private static final String QUEUE_KEY = "challenge:verification:queue";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean offer(Long recordId) {
+        try {
+            stringRedisTemplate.opsForList().leftPush(QUEUE_KEY, recordId.toString());
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis AI 검증 작업 등록 실패: recordId={}, error={}", recordId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Long poll(long timeoutMillis) throws InterruptedException {
+        try {
+            String value = stringRedisTemplate.opsForList().rightPop(QUEUE_KEY, Duration.ofMillis(timeoutMillis));
+            return value != null ? Long.valueOf(value) : null;
+        } catch (Exception e) {
+            // Redis 장애 시 바쁜 루프를 피하기 위해 잠시 쉰다
+            log.warn("Redis AI 검증 작업 조회 실패: {}", e.getMessage());
+            Thread.sleep(timeoutMillis);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.kopo.hanagreenworld.activity.service;
+
+/**
+ * AI 검증 작업 큐 (작업 = 챌린지 기록 ID)
+ *
+ * challenge.verification.queue.type 으로 구현을 고른다.
+ * - memory (기본): 서버 메모리 큐. 재시작 시 대기 작업은 복구 주기에서 다시 등록된다.
+ * - redis: Redis 리스트. 여러 서버가 같은 큐를 나눠 처리한다.
+ */
+public interface VerificationJobQueue {
+
+    /**
+     * @return 등록했으면 true, 큐가 가득 찼거나 사용할 수 없으면 false
+     */
+    boolean offer(Long recordId);
+
+    /**
+     * 작업이 들어올 때까지 최대 timeoutMillis 동안 기다린다.
+     *
+     * @return 작업이 없으면 null
+     */
+    Long poll(long timeoutMillis) throws InterruptedException;
+}
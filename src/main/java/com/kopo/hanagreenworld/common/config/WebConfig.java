@@ -38,11 +38,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // challenge_images 폴더의 정적 파일 서빙 설정
-        String uploadPath = Paths.get("challenge_images").toAbsolutePath().toString();
-        registry.addResourceHandler("/challenge_images/**")
-                .addResourceLocations("file:" + uploadPath + "/");
-        
+        // challenge_images는 BlobStore를 거치는 ChallengeImageController가 서빙한다
+
         // uploads 폴더도 지원 (기존 호환성)
         String uploadsPath = Paths.get("uploads").toAbsolutePath().toString();
         registry.addResourceHandler("/uploads/**")
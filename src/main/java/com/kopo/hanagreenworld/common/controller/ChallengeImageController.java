@@ -0,0 +1,140 @@
+package com.kopo.hanagreenworld.common.controller;
+
+import com.kopo.hanagreenworld.common.storage.BlobStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 챌린지 이미지 조회 (/challenge_images/{키})
+ *
+ * 저장소가 서명된 URL을 지원하면(S3) 그 URL로 돌려보내 앱 서버가 바이트를 중계하지 않는다.
+ * 로컬 디스크는 파일을 그대로 보내며 Range 요청(여러 구간 포함)은 Spring이 처리한다.
+ * 그 외 저장소는 스트림으로 보내고 단일 구간만 206으로 응답한다. 여러 구간 요청은 416으로 거절한다.
+ * 내용 주소 키는 내용이 바뀌지 않으므로 오래 캐시해도 된다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Challenge Image Controller", description = "챌린지 이미지 조회 API")
+public class ChallengeImageController {
+
+    private static final String IMAGE_PATH = "/challenge_images/";
+    private static final CacheControl IMAGE_CACHE = CacheControl.maxAge(Duration.ofDays(30)).cachePublic();
+
+    private final BlobStore blobStore;
+
+    @Value("${storage.direct-url.ttl-seconds:600}")
+    private long directUrlTtlSeconds;
+
+    @GetMapping(IMAGE_PATH + "**")
+    @Operation(summary = "챌린지 이미지 조회", description = "업로드된 챌린지 인증 이미지를 조회합니다.")
+    public ResponseEntity<Resource> getImage(HttpServletRequest request) throws IOException {
+        String key = request.getRequestURI().substring(request.getContextPath().length() + IMAGE_PATH.length());
+        if (!BlobStore.isValidKey(key)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Optional<String> directUrl = blobStore.directUrl(key, Duration.ofSeconds(directUrlTtlSeconds));
+        if (directUrl.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(directUrl.get()))
+                    .build();
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        Optional<Path> localPath = blobStore.localPath(key);
+        if (localPath.isPresent()) {
+            if (!Files.isRegularFile(localPath.get())) {
+                return ResponseEntity.notFound().build();
+            }
+            // 파일 리소스는 Spring이 Range 요청을 처리한다
+            return ResponseEntity.ok()
+                    .cacheControl(IMAGE_CACHE)
+                    .contentType(mediaType)
+                    .body(new FileSystemResource(localPath.get()));
+        }
+
+        Optional<BlobStore.BlobInfo> info = blobStore.stat(key);
+        if (info.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        long size = info.get().getSize();
+
+        List<HttpRange> ranges = parseRanges(request.getHeader(HttpHeaders.RANGE));
+        if (ranges.size() > 1) {
+            // 스트림은 구간마다 다시 열어야 하므로 multipart/byteranges는 지원하지 않는다
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            long length = end - start + 1;
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .cacheControl(IMAGE_CACHE)
+                    .contentType(mediaType)
+                    .contentLength(length)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                    .body(new InputStreamResource(blobStore.openRange(key, start, length)));
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(IMAGE_CACHE)
+                .contentType(mediaType)
+                .contentLength(size)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(new InputStreamResource(blobStore.open(key)));
+    }
+
+    /**
+     * 문법이 잘못된 Range 헤더는 무시하고 전체를 보낸다
+     */
+    private List<HttpRange> parseRanges(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            log.debug("Range 헤더 무시: {}", header);
+            return List.of();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.common.controller;
 
+import com.kopo.hanagreenworld.common.storage.ContentAddressedImageStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -10,13 +11,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -25,7 +21,7 @@ import java.util.UUID;
 @Tag(name = "File Upload Controller", description = "파일 업로드 관련 API")
 public class FileUploadController {
 
-    private static final String UPLOAD_DIR = "challenge_images/";
+    private final ContentAddressedImageStore contentAddressedImageStore;
     
     @Value("${server.url}")
     private String serverUrl;
@@ -37,28 +33,9 @@ public class FileUploadController {
     @Operation(summary = "이미지 업로드", description = "챌린지 인증용 이미지를 업로드합니다.")
     public ResponseEntity<Map<String, Object>> uploadImage(@RequestParam("file") MultipartFile file) {
         try {
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            
-            // 파일명 생성 (UUID + 원본 확장자)
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename != null ? 
-                originalFilename.substring(originalFilename.lastIndexOf(".")) : ".jpg";
-            String filename = UUID.randomUUID().toString() + extension;
-            
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            log.info("파일 저장 경로: {}", filePath.toAbsolutePath());
-            
-            long bytesCopied = Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            log.info("파일 저장 완료: {} bytes 복사됨", bytesCopied);
-            
-            // 저장된 파일 크기 확인
-            long actualFileSize = Files.size(filePath);
-            log.info("실제 저장된 파일 크기: {} bytes", actualFileSize);
+            // 임시 파일에 쓰면서 MD5를 계산하고 내용 주소 경로로 이동 (같은 이미지는 한 번만 저장)
+            ContentAddressedImageStore.StoredImage stored = contentAddressedImageStore.store(file.getInputStream());
+            String filename = stored.getKey();
             
             // 응답 데이터 생성
             log.info("서버 URL 설정: serverUrl={}, serverPort={}", serverUrl, serverPort);
@@ -78,12 +55,20 @@ public class FileUploadController {
             response.put("filename", filename);
             response.put("url", baseUrl + "challenge_images/" + filename);
             response.put("localPath", "challenge_images/" + filename);
-            response.put("size", file.getSize());
+            response.put("size", stored.getSize());
             response.put("contentType", file.getContentType());
+            response.put("digest", stored.getDigest());
+            response.put("deduplicated", stored.isDeduplicated());
             
             log.info("이미지 업로드 성공: {}", filename);
             return ResponseEntity.ok(response);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("이미지 업로드 거부: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (IOException e) {
             log.error("이미지 업로드 실패: {}", e.getMessage(), e);
             Map<String, Object> errorResponse = new HashMap<>();
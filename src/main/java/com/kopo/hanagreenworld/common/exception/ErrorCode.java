@@ -26,6 +26,7 @@ public enum ErrorCode {
     INSUFFICIENT_ECO_SEEDS(400, "ES_001", "보유한 원큐씨앗이 부족합니다."),
     INVALID_CONVERSION_AMOUNT(400, "ES_002", "전환 가능한 원큐씨앗 범위를 벗어났습니다."),
     DAILY_CONVERSION_LIMIT_EXCEEDED(400, "ES_003", "일일 전환 한도를 초과했습니다."),
+    CONVERSION_NOT_FOUND(400, "ES_004", "하나머니 전환 요청을 찾을 수 없습니다."),
 
     // 퀴즈 에러
     QUIZ_GENERATION_FAILED(400, "QZ_001", "퀴즈를 생성하는 것에 실패하였습니다."),
@@ -73,7 +73,13 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
                                 member,
                                 null,
                                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))
-                            );
+                            ) {
+                                // /user/** 개인 메시지를 회원 ID로 보낼 수 있도록 사용자 이름을 회원 ID로 사용
+                                @Override
+                                public String getName() {
+                                    return String.valueOf(memberId);
+                                }
+                            };
                         
                         // 세션에 인증 정보 저장
                         accessor.getSessionAttributes().put("SPRING_SECURITY_CONTEXT", SecurityContextHolder.createEmptyContext());
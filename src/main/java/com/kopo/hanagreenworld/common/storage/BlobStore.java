@@ -0,0 +1,92 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 챌린지 이미지 저장소 (키 = challenge_images/ 아래 상대 경로, 예: ab/ab12....jpg)
+ *
+ * storage.type 으로 구현을 고른다.
+ * - local (기본): 서버 디스크. 단일 서버 운영용.
+ * - s3: S3 호환 오브젝트 스토리지 (AWS S3, MinIO 등). 여러 서버가 같은 이미지를 읽고 쓴다.
+ * - memory: 서버 메모리. 로컬 개발/테스트용.
+ */
+public interface BlobStore {
+
+    Pattern KEY_PATTERN = Pattern.compile("^[0-9A-Za-z_-]+(/[0-9A-Za-z_-]+)*(\\.[0-9A-Za-z]+)?$");
+
+    /**
+     * 스트림을 키에 저장 (같은 키가 있으면 덮어쓴다)
+     */
+    void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 파일을 키에 저장. 로컬 저장소는 파일을 옮기므로 호출 후 file은 없을 수 있으며, 남아 있으면 호출 측이 지운다.
+     */
+    void putFile(String key, Path file, String contentType) throws IOException;
+
+    /**
+     * @throws java.io.FileNotFoundException 키가 없는 경우
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * offset부터 최대 length 바이트만 읽는 스트림
+     *
+     * @throws java.io.FileNotFoundException 키가 없는 경우
+     */
+    InputStream openRange(String key, long offset, long length) throws IOException;
+
+    Optional<BlobInfo> stat(String key) throws IOException;
+
+    default boolean exists(String key) throws IOException {
+        return stat(key).isPresent();
+    }
+
+    /**
+     * 앱 서버를 거치지 않고 받을 수 있는 기간 한정 URL (지원하지 않는 저장소는 empty)
+     */
+    default Optional<String> directUrl(String key, Duration ttl) {
+        return Optional.empty();
+    }
+
+    /**
+     * 서버 디스크에 있는 저장소면 파일 경로 (메모리 매핑/파일 전송용), 아니면 empty
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * putFile 전에 내용을 받아 둘 임시 파일
+     */
+    default Path newTempFile() throws IOException {
+        return Files.createTempFile("blob-", ".part");
+    }
+
+    static boolean isValidKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+
+    static String requireValidKey(String key) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("허용되지 않은 저장소 키: " + key);
+        }
+        return key;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    class BlobInfo {
+        private final long size;
+        private final String contentType; // 알 수 없으면 null
+    }
+}
@@ -0,0 +1,176 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 챌린지 이미지 내용 주소 저장소 (키: {md5 앞 2자리}/{md5}.{확장자})
+ *
+ * 업로드 스트림을 임시 파일에 쓰면서 같은 패스로 MD5를 계산하고, 끝나면 내용 주소 키로 BlobStore에 저장한다.
+ * 같은 내용이 이미 있으면 임시 파일만 지우고 기존 키를 돌려주므로 재업로드는 저장 공간을 더 쓰지 않는다.
+ * 확장자는 클라이언트가 보낸 파일명이 아니라 내용 앞부분의 매직 바이트로 정하므로 키는 내용만으로 결정된다.
+ * 키의 MD5는 image_hashes와 같은 값이라 검증 단계에서 다시 계산하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentAddressedImageStore {
+
+    private static final String DEFAULT_EXTENSION = ".jpg";
+    // 형식 판별에 필요한 앞부분 바이트 수 (ISO BMFF의 ftyp 브랜드까지)
+    private static final int SNIFF_BYTES = 12;
+    private static final Set<String> HEIC_BRANDS = Set.of("heic", "heix", "hevc", "hevx", "heim", "heis");
+    private static final Set<String> HEIF_BRANDS = Set.of("mif1", "msf1");
+    private static final Pattern KEY_PATTERN = Pattern.compile("^([0-9a-f]{2})/(\\1[0-9a-f]{30})\\.[a-z]+$");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BlobStore blobStore;
+
+    @Value("${upload.image.max-bytes:10485760}")
+    private long maxBytes;
+
+    /**
+     * 업로드 저장 (임시 파일 쓰기 + MD5 계산을 한 번에 처리)
+     *
+     * @throws IllegalArgumentException 최대 크기를 넘는 경우
+     */
+    public StoredImage store(InputStream inputStream) throws IOException {
+        Path temp = blobStore.newTempFile();
+
+        try {
+            MessageDigest md5 = newMd5();
+            byte[] header = new byte[SNIFF_BYTES];
+            long size;
+            try (InputStream in = new DigestInputStream(inputStream, md5);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = copy(in, out, header);
+            }
+
+            byte[] hash = md5.digest();
+            String hex = HexFormat.of().formatHex(hash);
+            String key = hex.substring(0, 2) + "/" + hex + sniffExtension(header, (int) Math.min(size, SNIFF_BYTES));
+
+            // 같은 키는 같은 내용이므로 이미 있으면 다시 올리지 않는다 (동시에 올려 덮어써도 결과는 같다)
+            boolean deduplicated = blobStore.exists(key);
+            if (!deduplicated) {
+                String contentType = MediaTypeFactory.getMediaType(key).map(MediaType::toString).orElse(null);
+                blobStore.putFile(key, temp, contentType);
+            }
+            log.info("이미지 저장 완료: key={}, size={} bytes, 중복={}", key, size, deduplicated);
+            return new StoredImage(key, Base64.getEncoder().encodeToString(hash), size, deduplicated);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 내용 주소 키(ab/ab....jpg)에서 image_hashes 형식의 MD5(Base64)를 꺼낸다 (형식이 다르면 null)
+     */
+    public static String digestFromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        Matcher matcher = KEY_PATTERN.matcher(key.replace('\\', '/'));
+        if (!matcher.matches()) {
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(matcher.group(2)));
+    }
+
+    /**
+     * 복사하면서 앞부분 header.length 바이트를 header에 담는다 (첫 read가 짧게 끝나도 이어서 채운다)
+     */
+    private long copy(InputStream in, OutputStream out, byte[] header) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (total < header.length) {
+                System.arraycopy(buffer, 0, header, (int) total, (int) Math.min(read, header.length - total));
+            }
+            total += read;
+            if (total > maxBytes) {
+                throw new IllegalArgumentException("이미지 크기가 최대 " + maxBytes + " bytes를 초과합니다.");
+            }
+            out.write(buffer, 0, read);
+        }
+        return total;
+    }
+
+    /**
+     * 매직 바이트로 확장자 판별 (JPEG, PNG, GIF, WebP, HEIC/HEIF), 알 수 없으면 기본 확장자
+     */
+    static String sniffExtension(byte[] header, int length) {
+        if (startsWith(header, length, 0, 0xFF, 0xD8, 0xFF)) {
+            return ".jpg";
+        }
+        if (startsWith(header, length, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return ".png";
+        }
+        if (startsWith(header, length, 0, 'G', 'I', 'F', '8')) {
+            return ".gif";
+        }
+        if (startsWith(header, length, 0, 'R', 'I', 'F', 'F') && startsWith(header, length, 8, 'W', 'E', 'B', 'P')) {
+            return ".webp";
+        }
+        if (startsWith(header, length, 4, 'f', 't', 'y', 'p')) {
+            String brand = new String(header, 8, 4, StandardCharsets.US_ASCII);
+            if (HEIC_BRANDS.contains(brand)) {
+                return ".heic";
+            }
+            if (HEIF_BRANDS.contains(brand)) {
+                return ".heif";
+            }
+        }
+        return DEFAULT_EXTENSION;
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, int... expected) {
+        if (length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((header[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredImage {
+        private final String key; // BlobStore 키 (challenge_images/ 아래 상대 경로)
+        private final String digest; // MD5 (Base64)
+        private final long size;
+        private final boolean deduplicated;
+    }
+}
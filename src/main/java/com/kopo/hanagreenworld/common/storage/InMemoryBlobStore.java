@@ -0,0 +1,73 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 메모리 저장소 (로컬 개발/테스트용 - 재시작하면 비워진다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "memory")
+public class InMemoryBlobStore implements BlobStore {
+
+    private final Map<String, Blob> blobs = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        log.info("이미지 저장소: 메모리 (재시작 시 비워짐)");
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        blobs.put(BlobStore.requireValidKey(key), new Blob(inputStream.readAllBytes(), contentType));
+    }
+
+    @Override
+    public void putFile(String key, Path file, String contentType) throws IOException {
+        blobs.put(BlobStore.requireValidKey(key), new Blob(Files.readAllBytes(file), contentType));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Blob blob = get(key);
+        return new ByteArrayInputStream(blob.data);
+    }
+
+    @Override
+    public InputStream openRange(String key, long offset, long length) throws IOException {
+        Blob blob = get(key);
+        int start = (int) Math.min(offset, blob.data.length);
+        int end = (int) Math.min(blob.data.length, start + length);
+        return new ByteArrayInputStream(blob.data, start, end - start);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) {
+        Blob blob = blobs.get(key);
+        return blob == null ? Optional.empty() : Optional.of(new BlobInfo(blob.data.length, blob.contentType));
+    }
+
+    private Blob get(String key) throws FileNotFoundException {
+        Blob blob = blobs.get(key);
+        if (blob == null) {
+            throw new FileNotFoundException(key);
+        }
+        return blob;
+    }
+
+    private record Blob(byte[] data, String contentType) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 서버 디스크 저장소 (challenge_images/ 아래)
+ *
+ * 쓰기는 같은 파일시스템의 임시 파일에 받은 뒤 원자적으로 이동하므로 읽는 쪽이 쓰다 만 파일을 보지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    // 원자적 이동을 위해 같은 파일시스템(저장 디렉터리 아래)에 임시 파일을 둔다
+    private static final String TEMP_DIR = ".incoming";
+
+    @Value("${storage.local.base-dir:challenge_images}")
+    private String baseDirName;
+
+    private Path baseDir;
+
+    @PostConstruct
+    public void init() throws IOException {
+        baseDir = Paths.get(baseDirName).toAbsolutePath().normalize();
+        Files.createDirectories(baseDir.resolve(TEMP_DIR));
+        log.info("이미지 저장소: 로컬 디스크 ({})", baseDir);
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        Path temp = newTempFile();
+        try {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            putFile(key, temp, contentType);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void putFile(String key, Path file, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(key);
+        }
+    }
+
+    @Override
+    public InputStream openRange(String key, long offset, long length) throws IOException {
+        SeekableByteChannel channel;
+        try {
+            channel = Files.newByteChannel(resolve(key), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(key);
+        }
+        channel.position(offset);
+        return new LimitedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        String contentType = MediaTypeFactory.getMediaType(key).map(MediaType::toString).orElse(null);
+        return Optional.of(new BlobInfo(Files.size(path), contentType));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public Path newTempFile() throws IOException {
+        return baseDir.resolve(TEMP_DIR).resolve(UUID.randomUUID() + ".part");
+    }
+
+    private Path resolve(String key) {
+        Path resolved = baseDir.resolve(BlobStore.requireValidKey(key)).normalize();
+        if (!resolved.startsWith(baseDir)) {
+            throw new IllegalArgumentException("허용되지 않은 저장소 키: " + key);
+        }
+        return resolved;
+    }
+
+    /**
+     * 남은 바이트 수만큼만 읽는 스트림 (범위 읽기용)
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등)
+ *
+ * 모든 서버가 같은 버킷을 보므로 업로드/검증/조회를 어느 서버가 처리해도 된다.
+ * storage.s3.endpoint 를 지정하면 MinIO 같은 S3 호환 서버를 쓰며, 이때는 경로 방식 주소(path-style)를 쓴다.
+ * 조회는 앱 서버가 바이트를 중계하지 않도록 서명된 URL(presigned URL)로 돌려보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    @Value("${storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.region:ap-northeast-2}")
+    private String region;
+
+    @Value("${storage.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${storage.s3.path-style:true}")
+    private boolean pathStyle;
+
+    @Value("${storage.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${storage.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${storage.s3.key-prefix:challenge_images/}")
+    private String keyPrefix;
+
+    private S3Client s3Client;
+    private S3Presigner presigner;
+
+    @PostConstruct
+    public void init() {
+        // 키를 지정하지 않으면 환경 변수/인스턴스 역할 등 기본 자격 증명 체인을 쓴다
+        AwsCredentialsProvider credentials = accessKey.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        boolean customEndpoint = !endpoint.isBlank();
+        S3Configuration configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(customEndpoint && pathStyle)
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration);
+        if (customEndpoint) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        s3Client = clientBuilder.build();
+        presigner = presignerBuilder.build();
+        log.info("이미지 저장소: S3 (bucket={}, endpoint={})", bucket, customEndpoint ? endpoint : "AWS");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s3Client.close();
+        presigner.close();
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        try {
+            s3Client.putObject(putRequest(key, contentType), RequestBody.fromInputStream(inputStream, contentLength));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void putFile(String key, Path file, String contentType) throws IOException {
+        try {
+            s3Client.putObject(putRequest(key, contentType), RequestBody.fromFile(file));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return get(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .build(), key);
+    }
+
+    @Override
+    public InputStream openRange(String key, long offset, long length) throws IOException {
+        return get(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build(), key);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(builder -> builder.bucket(bucket).key(objectKey(key)));
+            return Optional.of(new BlobInfo(head.contentLength(), head.contentType()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (SdkException e) {
+            throw new IOException("S3 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<String> directUrl(String key, Duration ttl) {
+        GetObjectPresignRequest request = GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(builder -> builder.bucket(bucket).key(objectKey(key)))
+                .build();
+        return Optional.of(presigner.presignGetObject(request).url().toString());
+    }
+
+    private InputStream get(GetObjectRequest request, String key) throws IOException {
+        try {
+            return s3Client.getObject(request);
+        } catch (NoSuchKeyException e) {
+            throw new FileNotFoundException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 다운로드 실패: " + key, e);
+        }
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType) {
+        return PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .contentType(contentType)
+                .build();
+    }
+
+    private String objectKey(String key) {
+        return keyPrefix + BlobStore.requireValidKey(key);
+    }
+}
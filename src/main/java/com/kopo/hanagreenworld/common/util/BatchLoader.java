@@ -0,0 +1,93 @@
+package com.kopo.hanagreenworld.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 요청 단위 일괄 조회 로더 (DataLoader 방식)
+ *
+ * 응답에 필요한 ID를 register()로 모아 두었다가 첫 get() 시점에 IN 쿼리 한 번으로 조회하고,
+ * 같은 요청 안에서는 조회 결과를 재사용한다. 한 요청(서비스 메서드 호출) 동안만 사용하고 공유하지 않는다.
+ *
+ * <pre>
+ * BatchLoader&lt;Long, Team&gt; teams = BatchLoader.of(teamRepository::findAllById, Team::getId);
+ * requests.forEach(req -&gt; teams.register(req.getTeamId()));
+ * Team team = teams.get(request.getTeamId());
+ * </pre>
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, ? extends Iterable<V>> fetcher;
+    private final Function<V, K> keyExtractor;
+    private final Map<K, V> loaded = new HashMap<>();
+    private final Set<K> fetched = new LinkedHashSet<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    private BatchLoader(Function<Collection<K>, ? extends Iterable<V>> fetcher, Function<V, K> keyExtractor) {
+        this.fetcher = fetcher;
+        this.keyExtractor = keyExtractor;
+    }
+
+    public static <K, V> BatchLoader<K, V> of(Function<Collection<K>, ? extends Iterable<V>> fetcher,
+                                              Function<V, K> keyExtractor) {
+        return new BatchLoader<>(fetcher, keyExtractor);
+    }
+
+    /**
+     * 다음 조회 때 함께 가져올 ID 등록 (null과 이미 조회한 ID는 무시)
+     */
+    public BatchLoader<K, V> register(K key) {
+        if (key != null && !fetched.contains(key)) {
+            pending.add(key);
+        }
+        return this;
+    }
+
+    public <T> BatchLoader<K, V> registerAll(Collection<T> sources, Function<T, K> keyMapper) {
+        for (T source : sources) {
+            register(keyMapper.apply(source));
+        }
+        return this;
+    }
+
+    /**
+     * 등록된 ID를 한 번에 조회한 뒤 해당 엔티티 반환 (없으면 null)
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        register(key);
+        dispatch();
+        return loaded.get(key);
+    }
+
+    /**
+     * 등록된 모든 ID 조회 결과 (ID → 엔티티)
+     */
+    public Map<K, V> getAll() {
+        dispatch();
+        return loaded;
+    }
+
+    private void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Collection<K> keys = new ArrayList<>(pending);
+        pending.clear();
+        fetched.addAll(keys);
+
+        for (V value : fetcher.apply(keys)) {
+            K key = keyExtractor.apply(value);
+            if (key != null) {
+                loaded.put(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.kopo.hanagreenworld.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom 필터 (거짓 양성만 있고 거짓 음성은 없다)
+ *
+ * 비트 위치는 64비트 해시 두 개를 섞는 double hashing(g_i = h1 + i * h2)으로 구한다.
+ * bitIndexes()를 공개해 같은 위치를 Redis 비트맵(SETBIT/GETBIT)에도 쓸 수 있게 한다.
+ * 비트 배열은 AtomicLongArray라 잠금 없이 동시에 추가/조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLongArray words;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveRate);
+        this.hashCount = optimalHashCount(expectedInsertions, bitSize);
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    public void put(String key) {
+        for (long index : bitIndexes(key)) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        for (long index : bitIndexes(key)) {
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long[] bitIndexes(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h1 = fnv1a64(bytes);
+        long h2 = mix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        long[] indexes = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            indexes[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+        return indexes;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public static long optimalBitSize(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        // 비트 배열 최대 크기는 int 범위의 long 워드 수로 제한
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        return Math.max(64, Math.min(bits, (long) Integer.MAX_VALUE * 64));
+    }
+
+    public static int optimalHashCount(long expectedInsertions, long bitSize) {
+        long n = Math.max(1, expectedInsertions);
+        return Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    private static long fnv1a64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return mix64(hash);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,190 @@
+package com.kopo.hanagreenworld.common.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 이미지 축소/재인코딩 유틸
+ *
+ * 디코딩 단계에서 목표 크기의 2배 근처까지 서브샘플링해 메모리와 시간을 줄이고,
+ * 남은 축소는 영역 평균(box filter)으로 처리해 계단 현상 없이 줄인다.
+ * 재인코딩한 JPEG에는 EXIF/XMP 등 메타데이터가 포함되지 않는다.
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 긴 변이 maxEdge의 2배 이상으로 남도록 서브샘플링해서 디코딩
+     *
+     * @return 디코딩한 이미지, ImageIO가 읽을 수 없는 형식(HEIC 등)이면 null
+     */
+    public static BufferedImage readSubsampled(InputStream inputStream, int maxEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(inputStream)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longEdge / (maxEdge * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 영역 평균으로 축소 (이미 작으면 RGB로만 변환)
+     */
+    public static BufferedImage fitWithin(BufferedImage image, int maxEdge) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longEdge = Math.max(width, height);
+        if (longEdge <= maxEdge) {
+            return toRgb(image);
+        }
+        int targetWidth = Math.max(1, (int) Math.round((double) width * maxEdge / longEdge));
+        int targetHeight = Math.max(1, (int) Math.round((double) height * maxEdge / longEdge));
+        return areaAverage(image, targetWidth, targetHeight);
+    }
+
+    /**
+     * 원본의 각 픽셀을 대상 격자에 나눠 넣고 칸별 평균을 낸다
+     */
+    public static BufferedImage areaAverage(BufferedImage source, int targetWidth, int targetHeight) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        int[] columnOf = new int[width];
+        for (int x = 0; x < width; x++) {
+            columnOf[x] = Math.min(targetWidth - 1, (int) ((long) x * targetWidth / width));
+        }
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        int[] row = new int[width];
+        int[] out = new int[targetWidth];
+        long[] red = new long[targetWidth];
+        long[] green = new long[targetWidth];
+        long[] blue = new long[targetWidth];
+        int[] count = new int[targetWidth];
+
+        int y = 0;
+        for (int targetY = 0; targetY < targetHeight; targetY++) {
+            int rowEnd = Math.max(y + 1, (int) ((long) (targetY + 1) * height / targetHeight));
+            for (; y < rowEnd && y < height; y++) {
+                source.getRGB(0, y, width, 1, row, 0, width);
+                for (int x = 0; x < width; x++) {
+                    int rgb = row[x];
+                    int column = columnOf[x];
+                    red[column] += (rgb >> 16) & 0xFF;
+                    green[column] += (rgb >> 8) & 0xFF;
+                    blue[column] += rgb & 0xFF;
+                    count[column]++;
+                }
+            }
+
+            for (int x = 0; x < targetWidth; x++) {
+                int n = Math.max(1, count[x]);
+                out[x] = (int) (red[x] / n) << 16 | (int) (green[x] / n) << 8 | (int) (blue[x] / n);
+                red[x] = 0;
+                green[x] = 0;
+                blue[x] = 0;
+                count[x] = 0;
+            }
+            target.setRGB(0, targetY, targetWidth, 1, out, 0, targetWidth);
+        }
+        return target;
+    }
+
+    /**
+     * EXIF Orientation(1~8)에 맞게 회전/반전 - 메타데이터를 지운 뒤에도 똑바로 보이도록 픽셀에 반영한다
+     */
+    public static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                switch (orientation) {
+                    case 2 -> target.setRGB(width - 1 - x, y, rgb);
+                    case 3 -> target.setRGB(width - 1 - x, height - 1 - y, rgb);
+                    case 4 -> target.setRGB(x, height - 1 - y, rgb);
+                    case 5 -> target.setRGB(y, x, rgb);
+                    case 6 -> target.setRGB(height - 1 - y, x, rgb);
+                    case 7 -> target.setRGB(height - 1 - y, width - 1 - x, rgb);
+                    default -> target.setRGB(y, width - 1 - x, rgb);
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 메타데이터 없이 JPEG로 인코딩
+     *
+     * @param quality 0.0 ~ 1.0
+     */
+    public static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+}
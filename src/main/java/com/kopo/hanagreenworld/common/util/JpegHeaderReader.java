@@ -0,0 +1,142 @@
+package com.kopo.hanagreenworld.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JPEG 앞부분의 APPn 세그먼트만 읽는 리더
+ *
+ * EXIF와 XMP는 SOI 바로 뒤 APP1 세그먼트에 있으므로 마커를 따라가며 APP1만 모으고,
+ * APPn/COM이 아닌 첫 마커(DQT, SOF, SOS 등)를 만나면 멈춘다. 압축된 이미지 데이터는 읽지 않는다.
+ * JPEG가 아니거나 구조가 예상과 다르거나 maxBytes를 넘으면 null을 반환하며, 호출 측은 전체 파싱으로 대체한다.
+ */
+public final class JpegHeaderReader {
+
+    private static final int MARKER_PREFIX = 0xFF;
+    private static final int SOI = 0xD8;
+    private static final int APP0 = 0xE0;
+    private static final int APP1 = 0xE1;
+    private static final int APP15 = 0xEF;
+    private static final int COM = 0xFE;
+
+    private JpegHeaderReader() {
+    }
+
+    /**
+     * @return APP1 세그먼트 목록과 읽은 바이트 수, 헤더만으로 처리할 수 없으면 null
+     */
+    public static Result read(InputStream inputStream, int maxBytes) throws IOException {
+        CountingReader reader = new CountingReader(inputStream);
+        if (reader.read() != MARKER_PREFIX || reader.read() != SOI) {
+            return null;
+        }
+
+        List<byte[]> app1Segments = new ArrayList<>();
+        while (true) {
+            if (reader.read() != MARKER_PREFIX) {
+                return null;
+            }
+            int marker = reader.read();
+            // 마커 앞의 채움 바이트(0xFF)는 건너뛴다
+            while (marker == MARKER_PREFIX) {
+                marker = reader.read();
+            }
+            if (marker < 0) {
+                return null;
+            }
+            if ((marker < APP0 || marker > APP15) && marker != COM) {
+                return new Result(app1Segments, reader.count);
+            }
+
+            int high = reader.read();
+            int low = reader.read();
+            if (low < 0) {
+                return null;
+            }
+            // 길이는 길이 필드 2바이트를 포함한다
+            int payloadLength = ((high << 8) | low) - 2;
+            if (payloadLength < 0 || reader.count + payloadLength > maxBytes) {
+                return null;
+            }
+
+            if (marker == APP1) {
+                byte[] payload = reader.readFully(payloadLength);
+                if (payload == null) {
+                    return null;
+                }
+                app1Segments.add(payload);
+            } else if (!reader.skipFully(payloadLength)) {
+                return null;
+            }
+        }
+    }
+
+    public static class Result {
+        private final List<byte[]> app1Segments;
+        private final long bytesRead;
+
+        Result(List<byte[]> app1Segments, long bytesRead) {
+            this.app1Segments = Collections.unmodifiableList(app1Segments);
+            this.bytesRead = bytesRead;
+        }
+
+        public List<byte[]> getApp1Segments() {
+            return app1Segments;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+    }
+
+    private static class CountingReader {
+        private final InputStream in;
+        private long count;
+
+        CountingReader(InputStream in) {
+            this.in = in;
+        }
+
+        int read() throws IOException {
+            int value = in.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        byte[] readFully(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = in.read(bytes, offset, length - offset);
+                if (read < 0) {
+                    return null;
+                }
+                offset += read;
+            }
+            count += length;
+            return bytes;
+        }
+
+        boolean skipFully(int length) throws IOException {
+            long remaining = length;
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    // skip을 지원하지 않는 스트림이면 한 바이트씩 읽어 넘긴다
+                    if (in.read() < 0) {
+                        return false;
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+            count += length;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.kopo.hanagreenworld.common.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 64비트 dHash (difference hash)
+ *
+ * 이미지를 9x8 회색조로 줄인 뒤 각 행에서 왼쪽 픽셀이 오른쪽보다 밝으면 1로 둔다.
+ * 재인코딩, 크기 변경, 약한 보정에도 값이 거의 변하지 않으므로 해밍 거리로 유사 이미지를 찾을 수 있다.
+ */
+public final class PerceptualHash {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    // 디코딩 비용을 줄이기 위해 이 크기 근처까지 서브샘플링해서 읽는다
+    private static final int DECODE_TARGET = 128;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * @return dHash, 디코딩할 수 없는 이미지면 null
+     */
+    public static Long dHash(InputStream inputStream) throws IOException {
+        BufferedImage image = readSubsampled(inputStream);
+        if (image == null) {
+            return null;
+        }
+
+        double[][] gray = downscale(image);
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (gray[y][x] > gray[y][x + 1]) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static BufferedImage readSubsampled(InputStream inputStream) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(inputStream)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.min(width, height) / DECODE_TARGET);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 영역 평균으로 9x8 회색조 축소
+    private static double[][] downscale(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[][] sum = new double[HASH_HEIGHT][HASH_WIDTH];
+        int[][] count = new int[HASH_HEIGHT][HASH_WIDTH];
+
+        for (int y = 0; y < height; y++) {
+            int cellY = Math.min(HASH_HEIGHT - 1, y * HASH_HEIGHT / height);
+            for (int x = 0; x < width; x++) {
+                int cellX = Math.min(HASH_WIDTH - 1, x * HASH_WIDTH / width);
+                int rgb = image.getRGB(x, y);
+                int r = (rgb >> 16) & 0xFF;
+                int g = (rgb >> 8) & 0xFF;
+                int b = rgb & 0xFF;
+                sum[cellY][cellX] += 0.299 * r + 0.587 * g + 0.114 * b;
+                count[cellY][cellX]++;
+            }
+        }
+
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH; x++) {
+                if (count[y][x] > 0) {
+                    sum[y][x] /= count[y][x];
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -1,5 +1,7 @@
 package com.kopo.hanagreenworld.common.util;
 
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
 import com.kopo.hanagreenworld.member.domain.Member;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -10,6 +12,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class SecurityUtil {
 
+    private static final String ADMIN_AUTHORITY = "ROLE_" + Member.MemberRole.ADMIN.name();
+
     public static Member getCurrentMember() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
@@ -94,4 +98,25 @@ public class SecurityUtil {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return authentication != null && authentication.isAuthenticated();
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 요청자가 관리자인지 확인하고 로그용 식별자를 돌려준다
+     */
+    public static String requireAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        Object principal = authentication.getPrincipal();
+        String caller = principal instanceof Member member
+                ? "memberId=" + member.getMemberId()
+                : authentication.getName();
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+        if (!admin) {
+            log.warn("관리자 권한 없음: caller={}", caller);
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return caller;
+    }
+}
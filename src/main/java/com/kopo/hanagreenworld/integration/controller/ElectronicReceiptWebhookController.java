@@ -6,8 +6,7 @@ import com.kopo.hanagreenworld.member.service.MemberProfileService;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
-import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
-import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.ProcessedEvent;
 import com.kopo.hanagreenworld.activity.service.ElectronicReceiptRecordService;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +33,6 @@ public class ElectronicReceiptWebhookController {
     private final MemberRepository memberRepository;
     private final MemberProfileService memberProfileService;
     private final EcoSeedService ecoSeedService;
-    private final PointTransactionRepository pointTransactionRepository;
     private final ElectronicReceiptRecordService electronicReceiptRecordService;
 
     @PostMapping("/electronic-receipt")
@@ -90,17 +88,7 @@ public class ElectronicReceiptWebhookController {
             Member member = memberOpt.get();
             Long memberId = member.getMemberId();
 
-            Optional<PointTransaction> existingTransaction = pointTransactionRepository
-                .findByMember_MemberIdAndDescriptionContaining(memberId, "거래ID: " + transactionId);
-            
-            if (existingTransaction.isPresent()) {
-                return ResponseEntity.ok(ApiResponse.success(
-                    "이미 처리된 전자영수증입니다.",
-                    "transactionId: " + transactionId
-                ));
-            }
-
-            // 포인트 적립
+            // 포인트 적립 (같은 거래ID는 한 번만 적립)
             EcoSeedEarnRequest earnRequest = EcoSeedEarnRequest.builder()
                 .category(PointCategory.ELECTRONIC_RECEIPT)
                 .pointsAmount(3)
@@ -108,7 +96,16 @@ public class ElectronicReceiptWebhookController {
                     transactionId, transactionType, transactionAmount))
                 .build();
 
-            ecoSeedService.earnEcoSeedsForWebhook(memberId, earnRequest);
+            // 동시에 들어온 재시도도 예외 없이 false로 돌아온다
+            boolean earned = ecoSeedService.earnEcoSeedsForWebhook(
+                memberId, earnRequest, ProcessedEvent.Source.ELECTRONIC_RECEIPT, transactionId);
+
+            if (!earned) {
+                return ResponseEntity.ok(ApiResponse.success(
+                    "이미 처리된 전자영수증입니다.",
+                    "transactionId: " + transactionId
+                ));
+            }
 
             memberProfileService.updateMemberActivityWithCarbon(memberId, 0.0005);
 
@@ -6,9 +6,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -23,6 +25,16 @@ public class HanamoneyCardService {
     private String cardServiceUrl;
 
     public boolean earnHanamoney(Member member, Long amount, String description) {
+        return earnHanamoney(member, amount, description, null) == EarnResult.SUCCESS;
+    }
+
+    /**
+     * 하나머니 적립 요청
+     *
+     * @param requestId 멱등키 (같은 값으로 재요청하면 하나카드 서버는 한 번만 적립한다)
+     * @return SUCCESS: 적립 완료, REJECTED: 하나카드 서버가 거절(재시도 무의미), RETRYABLE: 연결 실패/서버 오류 등 결과 불명
+     */
+    public EarnResult earnHanamoney(Member member, Long amount, String description, String requestId) {
         try {
             String url = cardServiceUrl + "/api/integration/hanamoney-earn";
 
@@ -39,12 +51,15 @@ public class HanamoneyCardService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.set("X-Internal-Service", internalServiceToken);
 
-            Map<String, Object> requestBody = Map.of(
-                    "customerInfoToken", customerInfoToken,
-                    "requestingService", "GREEN_WORLD",
-                    "amount", amount,
-                    "description", description
-            );
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("customerInfoToken", customerInfoToken);
+            requestBody.put("requestingService", "GREEN_WORLD");
+            requestBody.put("amount", amount);
+            requestBody.put("description", description);
+            if (requestId != null) {
+                headers.set("Idempotency-Key", requestId);
+                requestBody.put("requestId", requestId);
+            }
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
@@ -56,22 +71,40 @@ public class HanamoneyCardService {
                 
                 if (Boolean.TRUE.equals(success)) {
                     log.info("하나머니 적립 성공 - 회원ID: {}, 금액: {}", member.getMemberId(), amount);
-                    return true;
+                    return EarnResult.SUCCESS;
                 } else {
                     log.error("하나머니 적립 실패 - 회원ID: {}, 응답: {}", member.getMemberId(), responseBody);
-                    return false;
+                    return EarnResult.REJECTED;
                 }
             } else {
                 log.error("하나머니 적립 API 호출 실패 - Status: {}", response.getStatusCode());
-                return false;
+                return EarnResult.RETRYABLE;
             }
 
+        } catch (HttpClientErrorException e) {
+            if (isRetryableClientError(e.getStatusCode())) {
+                // 타임아웃/처리 중 충돌/요청 제한은 같은 멱등키로 다시 보내면 된다
+                log.warn("하나머니 적립 일시 실패 - 회원ID: {}, Status: {}", member.getMemberId(), e.getStatusCode());
+                return EarnResult.RETRYABLE;
+            }
+            log.error("하나머니 적립 요청 거절 - 회원ID: {}, Status: {}", member.getMemberId(), e.getStatusCode());
+            return EarnResult.REJECTED;
         } catch (Exception e) {
             log.error("하나카드 서비스 연결 실패", e);
-            return false;
+            return EarnResult.RETRYABLE;
         }
     }
 
+    private boolean isRetryableClientError(HttpStatusCode status) {
+        return status.value() == HttpStatus.REQUEST_TIMEOUT.value()
+                || status.value() == HttpStatus.CONFLICT.value()
+                || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    public enum EarnResult {
+        SUCCESS, REJECTED, RETRYABLE
+    }
+
 }
 
 
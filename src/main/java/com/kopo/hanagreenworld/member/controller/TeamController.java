@@ -10,6 +10,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,6 +25,8 @@ import java.util.Map;
 @Tag(name = "팀 API", description = "팀 관련 API (팀 정보, 랭킹, 가입/탈퇴)")
 public class TeamController {
 
+    private static final int MAX_TEAM_PAGE_SIZE = 100;
+
     private final TeamService teamService;
 
     @GetMapping("/my-team")
@@ -124,10 +128,31 @@ public class TeamController {
     }
 
     @GetMapping("/list")
-    @Operation(summary = "팀 목록 조회", description = "가입 가능한 팀 목록을 조회합니다.")
-    public ResponseEntity<?> getTeamList() {
+    @Operation(summary = "팀 목록 조회", description = "가입 가능한 팀 목록을 조회합니다. page를 지정하면 페이지 단위로 조회합니다.")
+    public ResponseEntity<?> getTeamList(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") Integer size) {
         try {
-            var response = teamService.getTeamList();
+            if (page == null) {
+                var response = teamService.getTeamList();
+                return ResponseEntity.ok(response);
+            }
+
+            if (page < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            int pageSize = Math.max(1, Math.min(size, MAX_TEAM_PAGE_SIZE));
+            Page<TeamResponse> teamPage = teamService.getTeamList(PageRequest.of(page, pageSize));
+
+            // Page 객체를 안전한 DTO로 변환
+            Map<String, Object> response = new HashMap<>();
+            response.put("content", teamPage.getContent());
+            response.put("totalElements", teamPage.getTotalElements());
+            response.put("totalPages", teamPage.getTotalPages());
+            response.put("currentPage", teamPage.getNumber());
+            response.put("size", teamPage.getSize());
+            response.put("first", teamPage.isFirst());
+            response.put("last", teamPage.isLast());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             throw e;
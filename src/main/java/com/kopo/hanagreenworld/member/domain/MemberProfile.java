@@ -6,10 +6,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
+// 카운터 컬럼은 MemberProfileCounterService가 UPDATE 문으로 증감하므로, 엔티티 변경 시에는 바뀐 컬럼만 갱신한다
 @Entity
 @Table(name = "member_profiles")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 public class MemberProfile extends DateTimeEntity {
@@ -49,6 +52,17 @@ public class MemberProfile extends DateTimeEntity {
     @Column(name = "current_month_points")
     private Long currentMonthPoints = 0L;
 
+    // 포인트 원장 합계 (point_transactions 저장과 같은 트랜잭션에서 갱신, null이면 아직 집계 전)
+    // 사용/전환은 원장과 같이 음수로 누적
+    @Column(name = "total_earned_points")
+    private Long totalEarnedPoints;
+
+    @Column(name = "total_used_points")
+    private Long totalUsedPoints;
+
+    @Column(name = "total_converted_points")
+    private Long totalConvertedPoints;
+
     @Column(name = "walking_consent")
     private Boolean walkingConsent = false;
 
@@ -102,6 +116,9 @@ public class MemberProfile extends DateTimeEntity {
         this.member = member;
         this.nickname = nickname;
         this.ecoLevel = ecoLevel != null ? ecoLevel : EcoLevel.BEGINNER;
+        this.totalEarnedPoints = 0L;
+        this.totalUsedPoints = 0L;
+        this.totalConvertedPoints = 0L;
     }
 
     public EcoLevel getNextLevel() {
@@ -143,25 +160,19 @@ public class MemberProfile extends DateTimeEntity {
         this.currentPoints += points;
     }
 
-    public void updateCurrentMonthPoints(Long points) {
-        this.currentMonthPoints += points;
+    public boolean hasLedgerSummary() {
+        return totalEarnedPoints != null && totalUsedPoints != null && totalConvertedPoints != null;
     }
 
-    public void updateCarbonSaved(Double carbonSaved) {
-        this.totalCarbonSaved += carbonSaved;
-        this.currentMonthCarbonSaved += carbonSaved;
+    public void initializeLedgerSummary(Long earned, Long used, Long converted) {
+        this.totalEarnedPoints = earned != null ? earned : 0L;
+        this.totalUsedPoints = used != null ? used : 0L;
+        this.totalConvertedPoints = converted != null ? converted : 0L;
     }
 
-    public void incrementActivityCount() {
-        this.totalActivitiesCount++;
-        this.currentMonthActivitiesCount++;
-    }
-
-
-    public void resetCurrentMonthData() {
-        this.currentMonthCarbonSaved = 0.0;
-        this.currentMonthActivitiesCount = 0;
-        this.currentMonthPoints = 0L;
+    // 원장 대조 결과로 이번 달 적립 포인트 보정
+    public void correctCurrentMonthPoints(Long points) {
+        this.currentMonthPoints = points != null ? points : 0L;
     }
 
     // 걷기 관련 메서드들
@@ -0,0 +1,51 @@
+package com.kopo.hanagreenworld.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 teams 테이블에 반영되지 않은 팀 포인트/탄소절감량 증분.
+ * 적립 트랜잭션에서는 이 테이블에 INSERT만 하고, 주기적인 flush가 팀별로 합산해 반영한 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "team_counter_deltas",
+       indexes = {
+           @Index(name = "idx_team_counter_delta_team", columnList = "team_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class TeamCounterDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delta_id")
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "points", nullable = false)
+    private Long points = 0L;
+
+    @Column(name = "carbon_saved", nullable = false)
+    private Double carbonSaved = 0.0;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TeamCounterDelta(Long teamId, Long points, Double carbonSaved) {
+        this.teamId = teamId;
+        this.points = points != null ? points : 0L;
+        this.carbonSaved = carbonSaved != null ? carbonSaved : 0.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.kopo.hanagreenworld.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점의 팀 순위 스냅샷
+ * MONTHLY: 해당 월(snapshotDate = 그 달 1일)의 최종 순위, DAILY: 해당 일자 마감 시점의 순위
+ */
+@Entity
+@Table(name = "team_rank_snapshots",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_team_rank_snapshot",
+                             columnNames = {"team_id", "snapshot_type", "snapshot_date"})
+       },
+       indexes = {
+           @Index(name = "idx_team_rank_snapshot_period", columnList = "snapshot_type, snapshot_date")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class TeamRankSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "snapshot_type", nullable = false, length = 20)
+    private SnapshotType snapshotType;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "monthly_rank", nullable = false)
+    private Integer monthlyRank;
+
+    @Column(name = "total_rank", nullable = false)
+    private Integer totalRank;
+
+    @Column(name = "monthly_points", nullable = false)
+    private Long monthlyPoints;
+
+    @Column(name = "total_points", nullable = false)
+    private Long totalPoints;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TeamRankSnapshot(Long teamId, SnapshotType snapshotType, LocalDate snapshotDate,
+                            Integer monthlyRank, Integer totalRank, Long monthlyPoints, Long totalPoints) {
+        this.teamId = teamId;
+        this.snapshotType = snapshotType;
+        this.snapshotDate = snapshotDate;
+        this.monthlyRank = monthlyRank;
+        this.totalRank = totalRank;
+        this.monthlyPoints = monthlyPoints;
+        this.totalPoints = totalPoints;
+    }
+
+    public enum SnapshotType {
+        MONTHLY, DAILY
+    }
+}
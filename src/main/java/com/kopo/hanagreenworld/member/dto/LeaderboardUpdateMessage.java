@@ -0,0 +1,30 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * /topic/leaderboard 로 전송하는 상위 팀 순위 변경분
+ * 직전 전송 이후 순위/포인트가 바뀐 팀(changed)과 상위권에서 빠진 팀(removedTeamIds)만 담는다.
+ */
+@Getter
+@Builder
+public class LeaderboardUpdateMessage {
+    private Long version;
+    private Integer totalTeams;
+    private List<RankEntry> changed;
+    private List<Long> removedTeamIds;
+
+    @Getter
+    @Builder
+    public static class RankEntry {
+        private Long teamId;
+        private String teamName;
+        private Integer rank;
+        private Integer previousRank;
+        private Long monthlyPoints;
+        private Long totalPoints;
+    }
+}
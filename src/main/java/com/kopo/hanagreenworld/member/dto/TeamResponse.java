@@ -3,7 +3,7 @@ package com.kopo.hanagreenworld.member.dto;
 import com.kopo.hanagreenworld.member.domain.Team;
 import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
-import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
 import lombok.Builder;
 import lombok.Getter;
@@ -55,7 +55,7 @@ public class TeamResponse {
     }
 
     public static TeamResponse from(Team team, TeamStatsResponse stats,
-                                   Member leader, Challenge currentChallenge, Integer completedChallenges) {
+                                   Member leader, ChallengeView currentChallenge, Integer completedChallenges) {
         TeamResponse result = TeamResponse.builder()
                 .id(team.getId())
                 .name(team.getTeamName())
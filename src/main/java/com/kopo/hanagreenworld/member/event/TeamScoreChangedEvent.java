@@ -0,0 +1,24 @@
+package com.kopo.hanagreenworld.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팀 포인트 또는 탄소절감량이 변경됨 (리더보드 실시간 전송용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeamScoreChangedEvent {
+
+    private final Long teamId;
+    private final Long points;
+    private final Double carbonSaved;
+
+    public static TeamScoreChangedEvent points(Long teamId, Long points) {
+        return new TeamScoreChangedEvent(teamId, points, 0.0);
+    }
+
+    public static TeamScoreChangedEvent carbonSaved(Long teamId, Double carbonSaved) {
+        return new TeamScoreChangedEvent(teamId, 0L, carbonSaved);
+    }
+}
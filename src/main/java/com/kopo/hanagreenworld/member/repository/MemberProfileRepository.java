@@ -1,13 +1,74 @@
 package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberProfileRepository extends JpaRepository<MemberProfile, Long> {
     
     Optional<MemberProfile> findByMember_MemberId(Long memberId);
-}
\ No newline at end of file
+
+    List<MemberProfile> findByMember_MemberIdIn(Collection<Long> memberIds);
+
+    // 원장 대조용 keyset 페이지 조회 (대조 중 동시 갱신 방지를 위해 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM MemberProfile p JOIN FETCH p.member WHERE p.id > :afterId ORDER BY p.id")
+    List<MemberProfile> findPageForUpdate(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 원장 합계가 아직 없는(null) 프로필 keyset 페이지 (최초 1회 백필용, 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM MemberProfile p JOIN FETCH p.member WHERE p.id > :afterId " +
+           "AND (p.totalEarnedPoints IS NULL OR p.totalUsedPoints IS NULL OR p.totalConvertedPoints IS NULL) " +
+           "ORDER BY p.id")
+    List<MemberProfile> findPageWithoutLedgerSummaryForUpdate(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 카운터 증감을 한 문장으로 반영
+    // 차감은 잔액이 충분할 때만 적용되고(0행이면 잔액 부족), 원장 합계는 아직 집계 전(null)이면 null로 남는다
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE member_profiles SET
+            current_points = COALESCE(current_points, 0) + :points,
+            current_month_points = COALESCE(current_month_points, 0) + :monthPoints,
+            total_earned_points = total_earned_points + :earned,
+            total_used_points = total_used_points + :used,
+            total_converted_points = total_converted_points + :converted,
+            total_carbon_saved = COALESCE(total_carbon_saved, 0) + :carbon,
+            current_month_carbon_saved = COALESCE(current_month_carbon_saved, 0) + :carbon,
+            total_activities_count = COALESCE(total_activities_count, 0) + :activities,
+            current_month_activities_count = COALESCE(current_month_activities_count, 0) + :activities,
+            modified_at = NOW()
+        WHERE member_id = :memberId
+          AND (:points >= 0 OR COALESCE(current_points, 0) + :points >= 0)
+    """, nativeQuery = true)
+    int applyCounterDeltas(@Param("memberId") Long memberId,
+                           @Param("points") long points,
+                           @Param("monthPoints") long monthPoints,
+                           @Param("earned") long earned,
+                           @Param("used") long used,
+                           @Param("converted") long converted,
+                           @Param("carbon") double carbon,
+                           @Param("activities") int activities);
+
+    // 이번 달 카운터 초기화
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE member_profiles SET
+            current_month_points = 0,
+            current_month_carbon_saved = 0,
+            current_month_activities_count = 0,
+            modified_at = NOW()
+        WHERE member_id = :memberId
+    """, nativeQuery = true)
+    int resetCurrentMonthCounters(@Param("memberId") Long memberId);
+}
@@ -4,8 +4,10 @@ import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.domain.MemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +29,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("SELECT m.memberId FROM Member m WHERE m.status = 'ACTIVE'")
     List<Long> findActiveMemberIds();
-}
\ No newline at end of file
+
+    // 회원 + 프로필 일괄 조회 (프로필 개별 조회 방지)
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.memberProfile WHERE m.memberId IN :memberIds")
+    List<Member> findAllWithProfileByIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
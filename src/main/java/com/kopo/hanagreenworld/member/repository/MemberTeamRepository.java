@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,16 @@ public interface MemberTeamRepository extends JpaRepository<MemberTeam, Long> {
     @Query("SELECT COUNT(mt) FROM MemberTeam mt WHERE mt.team.id = :teamId AND mt.isActive = true")
     Integer countActiveMembersByTeamId(@Param("teamId") Long teamId);
 
+    // 여러 팀의 활성 멤버 수 (팀ID, 멤버 수)
+    @Query("SELECT mt.team.id, COUNT(mt) FROM MemberTeam mt " +
+           "WHERE mt.team.id IN :teamIds AND mt.isActive = true GROUP BY mt.team.id")
+    List<Object[]> countActiveMembersByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    // 여러 회원의 현재 소속 팀 (회원ID, 팀ID)
+    @Query("SELECT mt.member.memberId, mt.team.id FROM MemberTeam mt " +
+           "WHERE mt.member.memberId IN :memberIds AND mt.isActive = true")
+    List<Object[]> findActiveTeamIdsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
     boolean existsByMember_MemberIdAndTeam_IdAndIsActiveTrue(Long memberId, Long teamId);
 
     long countByTeam_IdAndIsActiveTrue(Long teamId);
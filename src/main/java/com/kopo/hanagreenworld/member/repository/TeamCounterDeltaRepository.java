@@ -0,0 +1,29 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.TeamCounterDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TeamCounterDeltaRepository extends JpaRepository<TeamCounterDelta, Long> {
+
+    @Query("SELECT MAX(d.id) FROM TeamCounterDelta d")
+    Long findMaxId();
+
+    // 팀별 미반영 증분 합계 (팀ID, 포인트 합계, 탄소절감량 합계)
+    @Query("SELECT d.teamId, COALESCE(SUM(d.points), 0), COALESCE(SUM(d.carbonSaved), 0) " +
+           "FROM TeamCounterDelta d WHERE d.id <= :maxId GROUP BY d.teamId")
+    List<Object[]> sumPendingByTeam(@Param("maxId") Long maxId);
+
+    @Query("SELECT COUNT(d) FROM TeamCounterDelta d WHERE d.id <= :maxId")
+    long countUpTo(@Param("maxId") Long maxId);
+
+    @Modifying
+    @Query("DELETE FROM TeamCounterDelta d WHERE d.id <= :maxId")
+    int deleteUpTo(@Param("maxId") Long maxId);
+}
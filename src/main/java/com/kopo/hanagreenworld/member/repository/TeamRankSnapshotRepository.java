@@ -0,0 +1,27 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.TeamRankSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface TeamRankSnapshotRepository extends JpaRepository<TeamRankSnapshot, Long> {
+
+    // (team_id, snapshot_type, snapshot_date) 유니크 인덱스를 타는 단건 조회
+    Optional<TeamRankSnapshot> findByTeamIdAndSnapshotTypeAndSnapshotDate(
+            Long teamId, TeamRankSnapshot.SnapshotType snapshotType, LocalDate snapshotDate);
+
+    // 스냅샷 중복 기록 방지용 (snapshot_type, snapshot_date) 인덱스 조회
+    boolean existsBySnapshotTypeAndSnapshotDate(TeamRankSnapshot.SnapshotType snapshotType, LocalDate snapshotDate);
+
+    @Modifying
+    @Query("DELETE FROM TeamRankSnapshot s WHERE s.snapshotType = :snapshotType AND s.snapshotDate < :before")
+    int deleteOlderThan(@Param("snapshotType") TeamRankSnapshot.SnapshotType snapshotType,
+                        @Param("before") LocalDate before);
+}
@@ -1,11 +1,15 @@
 package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.Team;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +27,19 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
         """)
     List<Team> findTeamsByMonthlyRanking();
 
+    @Query("""
+        SELECT t FROM Team t 
+        WHERE t.isActive = true 
+        ORDER BY t.currentTeamPoints DESC
+        """)
+    List<Team> findTeamsByMonthlyRanking(Pageable pageable);
+
+    long countByIsActiveTrue();
+
+    // 리더보드 재구성용: 활성 팀의 (팀ID, 월간 포인트, 누적 포인트)
+    @Query("SELECT t.id, t.currentTeamPoints, t.totalTeamPoints FROM Team t WHERE t.isActive = true")
+    List<Object[]> findActiveTeamPoints();
+
     @Query("""
         SELECT COUNT(t) + 1 FROM Team t 
         WHERE t.isActive = true 
@@ -46,5 +63,35 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
         )
         """)
     Integer findTeamRankByTotalPoints(@Param("teamId") Long teamId);
-}
 
+    Page<Team> findByIsActiveTrueOrderByTotalTeamPointsDesc(Pageable pageable);
+
+    // 여러 팀의 (팀ID, 월간 순위, 누적 순위)를 한 번에 조회
+    // 점수가 비어 있으면 0점으로 보고 순위를 매긴다 (리더보드/순위 스냅샷과 같은 기준)
+    @Query("""
+        SELECT t.id,
+               (SELECT COUNT(t2) FROM Team t2
+                WHERE t2.isActive = true
+                AND COALESCE(t2.currentTeamPoints, 0) > COALESCE(t.currentTeamPoints, 0)) + 1,
+               (SELECT COUNT(t3) FROM Team t3
+                WHERE t3.isActive = true
+                AND COALESCE(t3.totalTeamPoints, 0) > COALESCE(t.totalTeamPoints, 0)) + 1
+        FROM Team t
+        WHERE t.id IN :teamIds
+        """)
+    List<Object[]> findTeamRanksByIds(@Param("teamIds") Collection<Long> teamIds);
+
+    // 팀 포인트/탄소절감량 원자적 증가 (엔티티 조회 없이 단일 UPDATE)
+    @Modifying
+    @Query("""
+        UPDATE Team t 
+        SET t.totalTeamPoints = COALESCE(t.totalTeamPoints, 0) + :points,
+            t.currentTeamPoints = COALESCE(t.currentTeamPoints, 0) + :points,
+            t.totalCarbonSaved = COALESCE(t.totalCarbonSaved, 0) + :carbonSaved,
+            t.currentCarbonSaved = COALESCE(t.currentCarbonSaved, 0) + :carbonSaved
+        WHERE t.id = :teamId
+        """)
+    int addTeamCounters(@Param("teamId") Long teamId,
+                        @Param("points") Long points,
+                        @Param("carbonSaved") Double carbonSaved);
+}
@@ -0,0 +1,324 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MemberProfile 카운터(포인트, 탄소절감량, 활동 횟수, 원장 합계) 증감 API
+ *
+ * 엔티티를 읽어 필드를 바꾸고 저장하는 대신 UPDATE ... SET x = x + ? 한 문장으로 반영하므로
+ * 같은 회원에 대한 동시 요청(퀴즈, 웹훅, 걷기 동기화 등)이 서로의 증가분을 덮어쓰지 않는다.
+ *
+ * - apply(): 즉시 반영하고 엔티티를 최신 값으로 다시 읽는다. (잔액이 필요한 포인트 거래용)
+ * - add(): 트랜잭션 안에서 모아 두었다가 커밋 직전에 회원당 한 문장으로 반영한다.
+ *   커밋 직전에 실행되므로 반영이 실패하면 호출 측 트랜잭션도 롤백된다.
+ * - recordActivityIsolated(): 호출 측이 커밋된 뒤 별도 트랜잭션으로 반영하고 실패는 로그만 남긴다.
+ *   (활동 횟수/탄소절감량처럼 본 작업을 막지 않아야 하는 부가 카운터용)
+ * - member.profile.counter.write-behind=true 이면 활동 횟수는 커밋된 것만 메모리에 모아 주기적으로 반영한다.
+ *   (서버가 비정상 종료되면 마지막 주기의 활동 횟수가 유실될 수 있다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberProfileCounterService {
+
+    private final MemberProfileRepository memberProfileRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private TransactionTemplate isolatedTransactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${member.profile.counter.write-behind:false}")
+    private boolean writeBehind;
+
+    // write-behind 모드에서 아직 반영하지 않은 회원별 활동 횟수
+    private final ConcurrentHashMap<Long, Integer> bufferedActivities = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        isolatedTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        isolatedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 증감을 즉시 반영하고 프로필 엔티티를 최신 값으로 갱신
+     * 같은 트랜잭션에서 add()로 모아 둔 해당 회원의 증감도 함께 반영한다.
+     *
+     * @throws BusinessException 차감 후 잔액이 음수가 되는 경우 (INSUFFICIENT_ECO_SEEDS)
+     */
+    @Transactional
+    public MemberProfile apply(MemberProfile profile, Delta delta) {
+        Long memberId = profile.getMember().getMemberId();
+        Delta merged = new Delta().merge(takePending(memberId)).merge(delta);
+
+        if (execute(memberId, merged) == 0) {
+            throw new BusinessException(merged.getPoints() < 0
+                    ? ErrorCode.INSUFFICIENT_ECO_SEEDS : ErrorCode.MEMBER_NOT_FOUND);
+        }
+        entityManager.refresh(profile);
+        return profile;
+    }
+
+    /**
+     * 증감을 트랜잭션 커밋 직전까지 모아 회원당 한 문장으로 반영
+     */
+    @Transactional
+    public void add(Long memberId, Delta delta) {
+        if (memberId == null || delta == null || delta.isEmpty()) {
+            return;
+        }
+        pendingDeltas().computeIfAbsent(memberId, id -> new Delta()).merge(delta);
+    }
+
+    /**
+     * 활동 여러 회를 호출 측 트랜잭션과 함께 기록 (탄소절감량은 합계로 전달)
+     */
+    @Transactional
+    public void recordActivities(Long memberId, int count, Double carbonSaved) {
+        if (count <= 0) {
+            return;
+        }
+        Delta delta = new Delta();
+        if (carbonSaved != null && carbonSaved > 0) {
+            delta.carbonSaved = carbonSaved;
+        }
+
+        if (writeBehind) {
+            afterCommit(() -> bufferedActivities.merge(memberId, count, Integer::sum));
+        } else {
+            delta.activities = count;
+        }
+        add(memberId, delta);
+    }
+
+    /**
+     * 활동 1회를 호출 측 트랜잭션 커밋 뒤 별도 트랜잭션으로 기록
+     * 반영이 실패해도 호출 측에는 영향이 없고, 호출 측이 롤백되면 기록하지 않는다.
+     */
+    public void recordActivityIsolated(Long memberId, Double carbonSaved) {
+        if (memberId == null) {
+            return;
+        }
+        Delta delta = new Delta();
+        if (carbonSaved != null && carbonSaved > 0) {
+            delta.carbonSaved = carbonSaved;
+        }
+        if (!writeBehind) {
+            delta.activities = 1;
+        }
+
+        afterCommit(() -> {
+            if (writeBehind) {
+                bufferedActivities.merge(memberId, 1, Integer::sum);
+            }
+            if (delta.isEmpty()) {
+                return;
+            }
+            try {
+                isolatedTransactionTemplate.executeWithoutResult(status -> executeOrCreate(memberId, delta));
+            } catch (Exception e) {
+                log.error("활동 기록 반영 실패: memberId={}, carbonSaved={}, error={}",
+                        memberId, carbonSaved, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * write-behind 모드에서 모아 둔 활동 횟수 반영 (실패하면 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${member.profile.counter.write-behind-flush-ms:5000}")
+    public void flushBufferedActivities() {
+        if (bufferedActivities.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> drained = new HashMap<>();
+        for (Long memberId : bufferedActivities.keySet()) {
+            Integer count = bufferedActivities.remove(memberId);
+            if (count != null) {
+                drained.put(memberId, count);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    drained.forEach((memberId, count) -> executeOrCreate(memberId, Delta.activities(count))));
+            log.debug("활동 횟수 일괄 반영: 회원 수={}", drained.size());
+        } catch (Exception e) {
+            drained.forEach((memberId, count) -> bufferedActivities.merge(memberId, count, Integer::sum));
+            log.error("활동 횟수 일괄 반영 실패 - 다음 주기에 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushBufferedActivities();
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Map<Long, Delta> pendingDeltas() {
+        @SuppressWarnings("unchecked")
+        Map<Long, Delta> pending = (Map<Long, Delta>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<Long, Delta> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                Map<Long, Delta> toFlush = new LinkedHashMap<>(created);
+                created.clear();
+                toFlush.forEach(MemberProfileCounterService.this::executeOrCreate);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MemberProfileCounterService.this);
+            }
+        });
+        return created;
+    }
+
+    private Delta takePending(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, Delta> pending = (Map<Long, Delta>) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending.remove(memberId) : null;
+    }
+
+    // 프로필이 아직 없는 회원은 생성 후 한 번 더 반영
+    private void executeOrCreate(Long memberId, Delta delta) {
+        if (delta.isEmpty() || execute(memberId, delta) > 0) {
+            return;
+        }
+
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null) {
+            log.warn("MemberProfile 카운터 반영 대상 회원이 없습니다: memberId={}", memberId);
+            return;
+        }
+        memberProfileRepository.saveAndFlush(MemberProfile.builder()
+                .member(member)
+                .nickname(member.getName())
+                .build());
+        execute(memberId, delta);
+    }
+
+    private int execute(Long memberId, Delta delta) {
+        return memberProfileRepository.applyCounterDeltas(memberId,
+                delta.points, delta.monthPoints,
+                delta.earnedPoints, delta.usedPoints, delta.convertedPoints,
+                delta.carbonSaved, delta.activities);
+    }
+
+    /**
+     * 프로필 카운터 증감분 (사용/전환은 원장과 같이 음수)
+     */
+    @Getter
+    public static class Delta {
+        private long points;
+        private long monthPoints;
+        private long earnedPoints;
+        private long usedPoints;
+        private long convertedPoints;
+        private double carbonSaved;
+        private int activities;
+
+        // 적립: 보유/이번 달/누적 적립 포인트 증가
+        public static Delta earned(long amount) {
+            Delta delta = new Delta();
+            delta.points = amount;
+            delta.monthPoints = amount;
+            delta.earnedPoints = amount;
+            return delta;
+        }
+
+        public static Delta used(long amount) {
+            Delta delta = new Delta();
+            delta.points = amount;
+            delta.usedPoints = amount;
+            return delta;
+        }
+
+        public static Delta converted(long amount) {
+            Delta delta = new Delta();
+            delta.points = amount;
+            delta.convertedPoints = amount;
+            return delta;
+        }
+
+        public static Delta points(long amount) {
+            Delta delta = new Delta();
+            delta.points = amount;
+            return delta;
+        }
+
+        public static Delta activities(int count) {
+            Delta delta = new Delta();
+            delta.activities = count;
+            return delta;
+        }
+
+        public Delta merge(Delta other) {
+            if (other != null) {
+                this.points += other.points;
+                this.monthPoints += other.monthPoints;
+                this.earnedPoints += other.earnedPoints;
+                this.usedPoints += other.usedPoints;
+                this.convertedPoints += other.convertedPoints;
+                this.carbonSaved += other.carbonSaved;
+                this.activities += other.activities;
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return points == 0 && monthPoints == 0 && earnedPoints == 0 && usedPoints == 0
+                    && convertedPoints == 0 && carbonSaved == 0 && activities == 0;
+        }
+    }
+}
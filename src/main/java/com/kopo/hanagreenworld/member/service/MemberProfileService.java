@@ -19,30 +19,16 @@ public class MemberProfileService {
 
     private final MemberProfileRepository memberProfileRepository;
     private final MemberRepository memberRepository;
+    private final MemberProfileCounterService memberProfileCounterService;
 
     @Transactional
     public void updateMemberCarbonSaved(Long memberId, Double carbonSaved) {
         if (carbonSaved != null && carbonSaved > 0) {
             try {
-                // MemberProfile 조회 및 업데이트
-                Optional<MemberProfile> profileOpt = memberProfileRepository.findByMember_MemberId(memberId);
-                if (profileOpt.isPresent()) {
-                    MemberProfile profile = profileOpt.get();
-                    
-                    // 탄소절약량 업데이트 (총 탄소절약량과 이번달 탄소절약량 모두 증가)
-                    profile.updateCarbonSaved(carbonSaved);
-                    
-                    // 활동 횟수 증가
-                    profile.incrementActivityCount();
-                    
-                    // 프로필 저장
-                    memberProfileRepository.save(profile);
-                    
-                    log.info("탄소절약량 업데이트 완료: memberId={}, totalCarbonSaved={}, currentMonthCarbonSaved={}", 
-                        memberId, profile.getTotalCarbonSaved(), profile.getCurrentMonthCarbonSaved());
-                } else {
-                    log.warn("MemberProfile을 찾을 수 없습니다: memberId={}", memberId);
-                }
+                // 탄소절약량(총/이번달)과 활동 횟수를 커밋 뒤 별도 트랜잭션에서 한 문장으로 증가 (실패해도 호출 측은 커밋)
+                memberProfileCounterService.recordActivityIsolated(memberId, carbonSaved);
+                
+                log.info("탄소절약량 업데이트 예약: memberId={}, carbonSaved={}", memberId, carbonSaved);
             } catch (Exception e) {
                 log.error("탄소절약량 업데이트 실패: memberId={}, carbonSaved={}, error={}", 
                     memberId, carbonSaved, e.getMessage(), e);
@@ -82,16 +68,17 @@ public class MemberProfileService {
         return memberProfileRepository.findByMember_MemberId(memberId);
     }
 
+    /**
+     * 보유 포인트 증가 - 호출 측 트랜잭션 커밋 직전에 반영되므로, 반영이 실패하면 호출 측도 롤백된다
+     * (여기서의 예외 처리는 즉시 발생하는 오류만 막는다)
+     */
     @Transactional
     public void updateMemberPoints(Long memberId, Long points) {
         if (points != null && points > 0) {
             try {
-                MemberProfile profile = getOrCreateMemberProfile(memberId);
-                profile.updateCurrentPoints(points);
-                memberProfileRepository.save(profile);
+                memberProfileCounterService.add(memberId, MemberProfileCounterService.Delta.points(points));
                 
-                log.info("포인트 업데이트 완료: memberId={}, addedPoints={}, totalPoints={}", 
-                    memberId, points, profile.getCurrentPoints());
+                log.info("포인트 업데이트 완료: memberId={}, addedPoints={}", memberId, points);
             } catch (Exception e) {
                 log.error("포인트 업데이트 실패: memberId={}, points={}, error={}", 
                     memberId, points, e.getMessage(), e);
@@ -103,12 +90,7 @@ public class MemberProfileService {
     @Transactional
     public void resetCurrentMonthData(Long memberId) {
         try {
-            Optional<MemberProfile> profileOpt = memberProfileRepository.findByMember_MemberId(memberId);
-            if (profileOpt.isPresent()) {
-                MemberProfile profile = profileOpt.get();
-                profile.resetCurrentMonthData();
-                memberProfileRepository.save(profile);
-                
+            if (memberProfileRepository.resetCurrentMonthCounters(memberId) > 0) {
                 log.info("이번달 데이터 초기화 완료: memberId={}", memberId);
             }
         } catch (Exception e) {
@@ -119,21 +101,10 @@ public class MemberProfileService {
     @Transactional
     public void updateMemberActivityWithCarbon(Long memberId, Double carbonSaved) {
         try {
-            MemberProfile profile = getOrCreateMemberProfile(memberId);
+            // 탄소절감량과 활동 횟수를 커밋 뒤 별도 트랜잭션에서 한 문장으로 반영 (실패해도 호출 측은 커밋)
+            memberProfileCounterService.recordActivityIsolated(memberId, carbonSaved);
             
-            // 탄소절감량 업데이트
-            if (carbonSaved != null && carbonSaved > 0) {
-                profile.updateCarbonSaved(carbonSaved);
-            }
-            
-            // 활동 횟수 증가
-            profile.incrementActivityCount();
-            
-            memberProfileRepository.save(profile);
-            
-            log.info("활동 업데이트 완료 (탄소절감량 포함): memberId={}, carbonSaved={}, totalCarbonSaved={}, monthlyCarbonSaved={}, totalActivities={}, monthlyActivities={}", 
-                memberId, carbonSaved, profile.getTotalCarbonSaved(), profile.getCurrentMonthCarbonSaved(), 
-                profile.getTotalActivitiesCount(), profile.getCurrentMonthActivitiesCount());
+            log.info("활동 업데이트 예약 (탄소절감량 포함): memberId={}, carbonSaved={}", memberId, carbonSaved);
         } catch (Exception e) {
             log.error("활동 업데이트 실패 (탄소절감량 포함): memberId={}, carbonSaved={}, error={}", 
                 memberId, carbonSaved, e.getMessage(), e);
@@ -143,15 +114,9 @@ public class MemberProfileService {
     @Transactional
     public void updateMemberActivityWithoutCarbon(Long memberId) {
         try {
-            MemberProfile profile = getOrCreateMemberProfile(memberId);
-            
-            // 활동 횟수 증가
-            profile.incrementActivityCount();
-            
-            memberProfileRepository.save(profile);
+            memberProfileCounterService.recordActivityIsolated(memberId, null);
             
-            log.info("활동 업데이트 완료 (탄소절감량 제외): memberId={}, totalActivities={}, monthlyActivities={}", 
-                memberId, profile.getTotalActivitiesCount(), profile.getCurrentMonthActivitiesCount());
+            log.info("활동 업데이트 예약 (탄소절감량 제외): memberId={}", memberId);
         } catch (Exception e) {
             log.error("활동 업데이트 실패 (탄소절감량 제외): memberId={}, error={}", 
                 memberId, e.getMessage(), e);
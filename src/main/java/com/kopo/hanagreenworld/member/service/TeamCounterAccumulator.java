@@ -0,0 +1,87 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.TeamCounterDelta;
+import com.kopo.hanagreenworld.member.repository.TeamCounterDeltaRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 팀 포인트/탄소절감량 누적기
+ *
+ * 적립 시점에는 팀 행을 잠그지 않고 증분 행만 INSERT하므로, 같은 팀 멤버들의 동시 적립이 서로 대기하지 않는다.
+ * 증분은 적립 트랜잭션과 함께 커밋되어 서버가 중단되어도 유실되지 않으며,
+ * flush()가 팀별 합계를 한 번의 UPDATE로 teams 테이블에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamCounterAccumulator {
+
+    private final TeamCounterDeltaRepository teamCounterDeltaRepository;
+    private final TeamRepository teamRepository;
+
+    /**
+     * 팀 포인트 증분 기록 (호출 측 트랜잭션에 참여)
+     */
+    public void addPoints(Long teamId, Long points) {
+        if (teamId == null || points == null || points == 0) {
+            return;
+        }
+        teamCounterDeltaRepository.save(TeamCounterDelta.builder()
+                .teamId(teamId)
+                .points(points)
+                .build());
+    }
+
+    /**
+     * 팀 탄소절감량 증분 기록 (호출 측 트랜잭션에 참여)
+     */
+    public void addCarbonSaved(Long teamId, Double carbonSaved) {
+        if (teamId == null || carbonSaved == null || carbonSaved == 0) {
+            return;
+        }
+        teamCounterDeltaRepository.save(TeamCounterDelta.builder()
+                .teamId(teamId)
+                .carbonSaved(carbonSaved)
+                .build());
+    }
+
+    /**
+     * 쌓인 증분을 팀별로 합산해 teams 테이블에 반영한다.
+     * 반영과 증분 삭제가 한 트랜잭션이므로 중간에 실패하면 다음 flush에서 그대로 다시 반영된다.
+     *
+     * @return 갱신된 팀 수
+     */
+    @Transactional
+    public int flush() {
+        Long maxId = teamCounterDeltaRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        List<Object[]> pending = teamCounterDeltaRepository.sumPendingByTeam(maxId);
+        long pendingCount = teamCounterDeltaRepository.countUpTo(maxId);
+
+        // 먼저 삭제해 행 잠금을 잡는다. 다른 서버가 이미 가져간 증분이 있으면 합계가 어긋나므로 롤백 후 다음 주기에 재시도
+        int deleted = teamCounterDeltaRepository.deleteUpTo(maxId);
+        if (deleted != pendingCount) {
+            throw new IllegalStateException(
+                    String.format("팀 카운터 증분이 동시에 처리되었습니다: 예상=%d, 삭제=%d", pendingCount, deleted));
+        }
+
+        for (Object[] row : pending) {
+            Long teamId = ((Number) row[0]).longValue();
+            long points = ((Number) row[1]).longValue();
+            double carbonSaved = ((Number) row[2]).doubleValue();
+            teamRepository.addTeamCounters(teamId, points, carbonSaved);
+        }
+
+        log.debug("팀 카운터 반영 완료: 팀 수={}, 증분 수={}", pending.size(), deleted);
+        return pending.size();
+    }
+}
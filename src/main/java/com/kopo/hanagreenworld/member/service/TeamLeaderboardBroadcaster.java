@@ -0,0 +1,144 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.dto.LeaderboardUpdateMessage;
+import com.kopo.hanagreenworld.member.dto.TeamResponse;
+import com.kopo.hanagreenworld.member.event.TeamScoreChangedEvent;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팀 점수 변경을 모았다가 주기마다 한 번만 계산해 STOMP로 전송
+ * - /topic/leaderboard: 상위 팀 순위 변경분
+ * - /topic/team/{teamId}/stats: 점수가 바뀐 팀의 최신 통계
+ * 클라이언트가 /teams/ranking 을 반복 호출하지 않아도 되도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamLeaderboardBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TeamLeaderboardService teamLeaderboardService;
+    private final TeamStatsLoader teamStatsLoader;
+    private final TeamRepository teamRepository;
+    private final TeamCounterAccumulator teamCounterAccumulator;
+
+    // 이번 주기에 점수가 바뀐 팀
+    private final Set<Long> dirtyTeamIds = ConcurrentHashMap.newKeySet();
+
+    // 직전에 전송한 상위 팀 순위 (스케줄러 스레드에서만 접근)
+    private Map<Long, LeaderboardUpdateMessage.RankEntry> lastPublished = new HashMap<>();
+    private long version = 0L;
+
+    /**
+     * 적립 트랜잭션 커밋 후 팀 ID만 기록 (계산은 broadcast()에서 일괄 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamScoreChanged(TeamScoreChangedEvent event) {
+        if (event.getTeamId() != null) {
+            dirtyTeamIds.add(event.getTeamId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${team.leaderboard.broadcast-interval-ms:3000}")
+    public void broadcast() {
+        if (dirtyTeamIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> changedTeamIds = new ArrayList<>(dirtyTeamIds);
+        dirtyTeamIds.removeAll(changedTeamIds);
+
+        // 아직 teams 테이블에 반영되지 않은 증분까지 포함해 계산
+        try {
+            teamCounterAccumulator.flush();
+        } catch (Exception e) {
+            log.warn("전송 전 팀 카운터 반영 실패: {}", e.getMessage());
+        }
+
+        try {
+            List<Team> topTeams = teamLeaderboardService.findTopTeams();
+
+            // 상위 팀과 변경된 팀의 통계를 한 번에 계산
+            Map<Long, Team> teams = new LinkedHashMap<>();
+            topTeams.forEach(team -> teams.put(team.getId(), team));
+            teamRepository.findAllById(changedTeamIds).forEach(team -> teams.putIfAbsent(team.getId(), team));
+            Map<Long, TeamResponse.TeamStatsResponse> stats = teamStatsLoader.loadStats(teams.values());
+
+            for (Long teamId : changedTeamIds) {
+                TeamResponse.TeamStatsResponse teamStats = stats.get(teamId);
+                if (teamStats != null) {
+                    messagingTemplate.convertAndSend("/topic/team/" + teamId + "/stats", teamStats);
+                }
+            }
+
+            publishLeaderboard(topTeams, stats);
+        } catch (Exception e) {
+            // 다음 주기에 다시 계산
+            dirtyTeamIds.addAll(changedTeamIds);
+            log.error("리더보드 실시간 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    private void publishLeaderboard(List<Team> topTeams, Map<Long, TeamResponse.TeamStatsResponse> stats) {
+        Map<Long, LeaderboardUpdateMessage.RankEntry> current = new LinkedHashMap<>();
+        List<LeaderboardUpdateMessage.RankEntry> changed = new ArrayList<>();
+
+        for (Team team : topTeams) {
+            TeamResponse.TeamStatsResponse teamStats = stats.get(team.getId());
+            if (teamStats == null) {
+                continue;
+            }
+            LeaderboardUpdateMessage.RankEntry previous = lastPublished.get(team.getId());
+            LeaderboardUpdateMessage.RankEntry entry = LeaderboardUpdateMessage.RankEntry.builder()
+                    .teamId(team.getId())
+                    .teamName(team.getTeamName())
+                    .rank(teamStats.getMonthlyRank())
+                    .previousRank(previous != null ? previous.getRank() : null)
+                    .monthlyPoints(teamStats.getMonthlyPoints())
+                    .totalPoints(teamStats.getTotalPoints())
+                    .build();
+            current.put(team.getId(), entry);
+
+            if (previous == null
+                    || !previous.getRank().equals(entry.getRank())
+                    || !previous.getMonthlyPoints().equals(entry.getMonthlyPoints())
+                    || !previous.getTotalPoints().equals(entry.getTotalPoints())) {
+                changed.add(entry);
+            }
+        }
+
+        List<Long> removedTeamIds = new ArrayList<>();
+        for (Long teamId : lastPublished.keySet()) {
+            if (!current.containsKey(teamId)) {
+                removedTeamIds.add(teamId);
+            }
+        }
+
+        lastPublished = current;
+        if (changed.isEmpty() && removedTeamIds.isEmpty()) {
+            return;
+        }
+
+        messagingTemplate.convertAndSend("/topic/leaderboard", LeaderboardUpdateMessage.builder()
+                .version(++version)
+                .totalTeams(teamLeaderboardService.countActiveTeams())
+                .changed(changed)
+                .removedTeamIds(removedTeamIds)
+                .build());
+    }
+}
@@ -0,0 +1,312 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis ZSET 기반 팀 리더보드 (월간: currentTeamPoints, 누적: totalTeamPoints)
+ * Redis를 사용할 수 없으면 isAvailable()이 false를 반환하고, 호출 측은 DB 쿼리로 대체한다.
+ * rebuild()는 DB를 읽은 뒤 RENAME까지 사이에 들어온 ZINCRBY를 잃는다. (다음 재구성 때 DB 값으로 맞춰진다)
+ * 지금은 기동 시에만 재구성하므로 적립이 거의 없는 구간이지만, 운영 중 재구성을 추가하면 이 구간의 증분을 다시 반영해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamLeaderboardService {
+
+    private static final String MONTHLY_KEY = "leaderboard:team:monthly";
+    private static final String TOTAL_KEY = "leaderboard:team:total";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final int TOP_TEAM_LIMIT = 10;
+
+    private final TeamRepository teamRepository;
+
+    @Autowired(required = false)
+    private StringRedisTemplate stringRedisTemplate;
+
+    private volatile boolean available = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public boolean isAvailable() {
+        return available && stringRedisTemplate != null;
+    }
+
+    /**
+     * DB의 활성 팀 점수로 리더보드를 다시 만든다.
+     * 임시 키에 채운 뒤 RENAME으로 교체하므로 재구성 중에도 읽기는 이전 리더보드를 본다.
+     */
+    public void rebuild() {
+        if (stringRedisTemplate == null) {
+            log.info("Redis가 설정되지 않아 팀 리더보드를 DB 랭킹으로 대체합니다.");
+            available = false;
+            return;
+        }
+
+        try {
+            List<Object[]> rows = teamRepository.findActiveTeamPoints();
+
+            String monthlyTmp = MONTHLY_KEY + REBUILD_SUFFIX;
+            String totalTmp = TOTAL_KEY + REBUILD_SUFFIX;
+            stringRedisTemplate.delete(List.of(monthlyTmp, totalTmp));
+
+            for (int from = 0; from < rows.size(); from += REBUILD_CHUNK_SIZE) {
+                List<Object[]> chunk = rows.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, rows.size()));
+                Set<ZSetOperations.TypedTuple<String>> monthly = new HashSet<>();
+                Set<ZSetOperations.TypedTuple<String>> total = new HashSet<>();
+                for (Object[] row : chunk) {
+                    String teamId = row[0].toString();
+                    monthly.add(new DefaultTypedTuple<>(teamId, toScore(row[1])));
+                    total.add(new DefaultTypedTuple<>(teamId, toScore(row[2])));
+                }
+                stringRedisTemplate.opsForZSet().add(monthlyTmp, monthly);
+                stringRedisTemplate.opsForZSet().add(totalTmp, total);
+            }
+
+            if (rows.isEmpty()) {
+                stringRedisTemplate.delete(List.of(MONTHLY_KEY, TOTAL_KEY));
+            } else {
+                stringRedisTemplate.rename(monthlyTmp, MONTHLY_KEY);
+                stringRedisTemplate.rename(totalTmp, TOTAL_KEY);
+            }
+
+            available = true;
+            log.info("팀 리더보드 재구성 완료: 팀 수={}", rows.size());
+        } catch (Exception e) {
+            available = false;
+            log.error("팀 리더보드 재구성 실패 - DB 랭킹으로 대체합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 팀 포인트 적립을 리더보드에 반영 (트랜잭션 커밋 후 ZINCRBY)
+     */
+    public void incrementPoints(Long teamId, Long points) {
+        if (teamId == null || points == null || points == 0) {
+            return;
+        }
+        runAfterCommit(() -> {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.zIncrBy(MONTHLY_KEY, points, teamId.toString());
+                conn.zIncrBy(TOTAL_KEY, points, teamId.toString());
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 새로 생성된 팀을 0점으로 등록 (이미 있으면 유지)
+     */
+    public void addTeam(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            stringRedisTemplate.opsForZSet().addIfAbsent(MONTHLY_KEY, teamId.toString(), 0);
+            stringRedisTemplate.opsForZSet().addIfAbsent(TOTAL_KEY, teamId.toString(), 0);
+        });
+    }
+
+    /**
+     * 비활성화된 팀을 리더보드에서 제거
+     */
+    public void removeTeam(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            stringRedisTemplate.opsForZSet().remove(MONTHLY_KEY, teamId.toString());
+            stringRedisTemplate.opsForZSet().remove(TOTAL_KEY, teamId.toString());
+        });
+    }
+
+    /**
+     * 월간 포인트 상위 팀 (리더보드 순위 순, Redis를 쓸 수 없으면 DB 랭킹)
+     */
+    public List<Team> findTopTeams() {
+        if (isAvailable()) {
+            try {
+                List<Long> topTeamIds = getTopTeamIds(TOP_TEAM_LIMIT);
+                Map<Long, Team> teamsById = teamRepository.findAllById(topTeamIds).stream()
+                        .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+                // 리더보드 순위 순서 유지
+                return topTeamIds.stream()
+                        .map(teamsById::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+            } catch (Exception e) {
+                log.warn("리더보드 상위 팀 조회 실패 - DB 랭킹으로 대체: {}", e.getMessage());
+            }
+        }
+        return teamRepository.findTeamsByMonthlyRanking(PageRequest.of(0, TOP_TEAM_LIMIT));
+    }
+
+    /**
+     * 활성 팀 수 (Redis를 쓸 수 없으면 DB)
+     */
+    public int countActiveTeams() {
+        if (isAvailable()) {
+            try {
+                return getTeamCount();
+            } catch (Exception e) {
+                log.warn("리더보드 팀 수 조회 실패 - DB로 대체: {}", e.getMessage());
+            }
+        }
+        return (int) teamRepository.countByIsActiveTrue();
+    }
+
+    /**
+     * 월간 포인트 상위 팀 ID (ZREVRANGE, 순위 순)
+     */
+    public List<Long> getTopTeamIds(int limit) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(MONTHLY_KEY, 0, limit - 1);
+        List<Long> teamIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                teamIds.add(Long.valueOf(member));
+            }
+        }
+        return teamIds;
+    }
+
+    /**
+     * 여러 팀의 월간/누적 순위를 파이프라인 두 번(ZSCORE → ZCOUNT)으로 조회
+     * 순위는 DB 순위 쿼리와 같이 "점수가 더 높은 팀 수 + 1"이라 동점 팀은 같은 순위가 된다.
+     * (ZREVRANK는 동점을 멤버 문자열 순으로 줄 세우므로 DB 대체 경로와 순위가 달라진다)
+     * ZCOUNT의 하한을 Math.nextUp(점수)로 두어 자기 점수보다 높은 팀만 센다.
+     * 리더보드에 없는 팀이나 Redis 오류 시에는 결과에서 빠지므로 호출 측에서 DB로 대체한다.
+     */
+    public Map<Long, TeamRank> getRanks(Collection<Long> teamIds) {
+        Map<Long, TeamRank> ranks = new HashMap<>();
+        if (teamIds == null || teamIds.isEmpty()) {
+            return ranks;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<Double> monthlyScores = new ArrayList<>();
+        List<Double> totalScores = new ArrayList<>();
+        try {
+            List<Long> requested = new ArrayList<>(teamIds);
+            List<Object> scores = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long teamId : requested) {
+                    conn.zScore(MONTHLY_KEY, teamId.toString());
+                    conn.zScore(TOTAL_KEY, teamId.toString());
+                }
+                return null;
+            });
+            for (int i = 0; i < requested.size(); i++) {
+                Object monthly = scores.get(i * 2);
+                Object total = scores.get(i * 2 + 1);
+                if (monthly == null || total == null) {
+                    continue;
+                }
+                ids.add(requested.get(i));
+                monthlyScores.add(((Number) monthly).doubleValue());
+                totalScores.add(((Number) total).doubleValue());
+            }
+            if (ids.isEmpty()) {
+                return ranks;
+            }
+
+            List<Object> counts = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (int i = 0; i < ids.size(); i++) {
+                    conn.zCount(MONTHLY_KEY, Math.nextUp(monthlyScores.get(i)), Double.POSITIVE_INFINITY);
+                    conn.zCount(TOTAL_KEY, Math.nextUp(totalScores.get(i)), Double.POSITIVE_INFINITY);
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                ranks.put(ids.get(i), new TeamRank(
+                        ((Number) counts.get(i * 2)).intValue() + 1,
+                        ((Number) counts.get(i * 2 + 1)).intValue() + 1));
+            }
+        } catch (Exception e) {
+            log.warn("팀 리더보드 순위 조회 실패: {}", e.getMessage());
+            ranks.clear();
+        }
+        return ranks;
+    }
+
+    public TeamRank getRank(Long teamId) {
+        return getRanks(List.of(teamId)).get(teamId);
+    }
+
+    /**
+     * 리더보드에 등록된 활성 팀 수 (ZCARD)
+     */
+    public int getTeamCount() {
+        Long count = stringRedisTemplate.opsForZSet().zCard(MONTHLY_KEY);
+        return count != null ? count.intValue() : 0;
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!isAvailable()) {
+            return;
+        }
+
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // 리더보드 반영 실패는 다음 재구성 때 DB 기준으로 복구된다
+                log.error("팀 리더보드 반영 실패: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+
+    private double toScore(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TeamRank {
+        private final Integer monthlyRank;
+        private final Integer totalRank;
+    }
+}
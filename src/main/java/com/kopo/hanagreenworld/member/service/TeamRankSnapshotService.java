@@ -0,0 +1,138 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.TeamRankSnapshot;
+import com.kopo.hanagreenworld.member.repository.TeamRankSnapshotRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 팀 순위 스냅샷 저장/조회
+ * 월 마감 시 모든 팀의 순위를 한 번에 기록해 두고, 이전 순위는 인덱스 단건 조회로 가져온다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamRankSnapshotService {
+
+    private final TeamRankSnapshotRepository teamRankSnapshotRepository;
+    private final TeamRepository teamRepository;
+
+    /**
+     * 현재 활성 팀의 월간/누적 순위를 스냅샷으로 저장
+     * 이미 기록된 기간이면 건너뛴다. 스케줄러 재시도나 다른 노드가 늦게 실행하면서
+     * 마감 이후의 점수로 순위를 덮어쓰지 않도록 하기 위함이다.
+     *
+     * @return 저장된 팀 수 (이미 기록된 기간이면 0)
+     */
+    @Transactional
+    public int takeSnapshot(TeamRankSnapshot.SnapshotType snapshotType, LocalDate snapshotDate) {
+        if (teamRankSnapshotRepository.existsBySnapshotTypeAndSnapshotDate(snapshotType, snapshotDate)) {
+            log.info("이미 기록된 팀 순위 스냅샷 - 건너뜀: type={}, date={}", snapshotType, snapshotDate);
+            return 0;
+        }
+
+        List<TeamPoints> teams = new ArrayList<>();
+        for (Object[] row : teamRepository.findActiveTeamPoints()) {
+            teams.add(new TeamPoints(((Number) row[0]).longValue(), toLong(row[1]), toLong(row[2])));
+        }
+
+        // 동점이면 같은 순위 (DB 순위 쿼리의 COUNT(점수가 더 높은 팀) + 1과 동일)
+        teams.sort(Comparator.comparingLong(TeamPoints::getMonthlyPoints).reversed());
+        int[] monthlyRanks = rank(teams, TeamPoints::getMonthlyPoints);
+        List<TeamPoints> byMonthly = new ArrayList<>(teams);
+
+        teams.sort(Comparator.comparingLong(TeamPoints::getTotalPoints).reversed());
+        int[] totalRanks = rank(teams, TeamPoints::getTotalPoints);
+
+        Map<Long, Integer> totalRankByTeam = new HashMap<>();
+        for (int i = 0; i < teams.size(); i++) {
+            totalRankByTeam.put(teams.get(i).getTeamId(), totalRanks[i]);
+        }
+
+        List<TeamRankSnapshot> snapshots = new ArrayList<>(byMonthly.size());
+        for (int i = 0; i < byMonthly.size(); i++) {
+            TeamPoints team = byMonthly.get(i);
+            snapshots.add(TeamRankSnapshot.builder()
+                    .teamId(team.getTeamId())
+                    .snapshotType(snapshotType)
+                    .snapshotDate(snapshotDate)
+                    .monthlyRank(monthlyRanks[i])
+                    .totalRank(totalRankByTeam.get(team.getTeamId()))
+                    .monthlyPoints(team.getMonthlyPoints())
+                    .totalPoints(team.getTotalPoints())
+                    .build());
+        }
+
+        teamRankSnapshotRepository.saveAll(snapshots);
+
+        log.info("팀 순위 스냅샷 저장 완료: type={}, date={}, 팀 수={}", snapshotType, snapshotDate, snapshots.size());
+        return snapshots.size();
+    }
+
+    /**
+     * 지난달 최종 월간 순위 (스냅샷이 없으면 null)
+     */
+    public Integer getPreviousMonthRank(Long teamId) {
+        LocalDate previousMonth = LocalDate.now().minusMonths(1).withDayOfMonth(1);
+        return teamRankSnapshotRepository
+                .findByTeamIdAndSnapshotTypeAndSnapshotDate(teamId, TeamRankSnapshot.SnapshotType.MONTHLY, previousMonth)
+                .map(TeamRankSnapshot::getMonthlyRank)
+                .orElse(null);
+    }
+
+    /**
+     * 어제 마감 기준 월간 순위 (스냅샷이 없으면 null)
+     */
+    public Integer getYesterdayRank(Long teamId) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        return teamRankSnapshotRepository
+                .findByTeamIdAndSnapshotTypeAndSnapshotDate(teamId, TeamRankSnapshot.SnapshotType.DAILY, yesterday)
+                .map(TeamRankSnapshot::getMonthlyRank)
+                .orElse(null);
+    }
+
+    /**
+     * 보관 기간이 지난 일별 스냅샷 삭제
+     */
+    @Transactional
+    public int deleteDailySnapshotsBefore(LocalDate before) {
+        return teamRankSnapshotRepository.deleteOlderThan(TeamRankSnapshot.SnapshotType.DAILY, before);
+    }
+
+    private int[] rank(List<TeamPoints> sorted, ToLongFunction<TeamPoints> score) {
+        int[] ranks = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i > 0 && score.applyAsLong(sorted.get(i)) == score.applyAsLong(sorted.get(i - 1))) {
+                ranks[i] = ranks[i - 1];
+            } else {
+                ranks[i] = i + 1;
+            }
+        }
+        return ranks;
+    }
+
+    private long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class TeamPoints {
+        private final Long teamId;
+        private final long monthlyPoints;
+        private final long totalPoints;
+    }
+}
@@ -2,6 +2,7 @@ package com.kopo.hanagreenworld.member.service;
 
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.util.BatchLoader;
 import com.kopo.hanagreenworld.common.util.SecurityUtil;
 import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.domain.MemberTeam;
@@ -15,18 +16,24 @@ import com.kopo.hanagreenworld.chat.service.TeamChatService;
 import com.kopo.hanagreenworld.chat.domain.TeamChatMessage;
 import com.kopo.hanagreenworld.point.domain.TeamPointTransaction;
 import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
-import com.kopo.hanagreenworld.activity.domain.Challenge;
-import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
+import com.kopo.hanagreenworld.activity.service.ChallengeCatalog;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,10 +47,13 @@ public class TeamService {
     private final MemberTeamRepository memberTeamRepository;
     private final MemberRepository memberRepository;
     private final PointTransactionRepository pointTransactionRepository;
-    private final ChallengeRepository challengeRepository;
+    private final ChallengeCatalog challengeCatalog;
     private final ChallengeRecordRepository challengeRecordRepository;
     private final TeamJoinRequestRepository teamJoinRequestRepository;
     private final TeamChatService teamChatService;
+    private final TeamLeaderboardService teamLeaderboardService;
+    private final TeamStatsLoader teamStatsLoader;
+    private final TeamRankSnapshotService teamRankSnapshotService;
 
     public TeamResponse getMyTeam() {
         Member currentMember = SecurityUtil.getCurrentMember();
@@ -55,15 +65,13 @@ public class TeamService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
         Team team = memberTeam.getTeam();
-        TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
+        TeamResponse.TeamStatsResponse stats = teamStatsLoader.loadStats(team);
 
         Member leader = memberRepository.findById(team.getLeaderId())
                 .orElse(null);
         
         // 현재 진행 중인 챌린지 조회
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        ChallengeView currentChallenge = findCurrentChallenge();
         
         // 완료된 챌린지 수 계산
         Integer completedChallenges = challengeRecordRepository.countByMember_MemberIdAndVerificationStatus(
@@ -103,13 +111,14 @@ public class TeamService {
         String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
         
         // 상위 10개 팀 조회
-        List<Team> topTeams = teamRepository.findTeamsByMonthlyRanking()
-                .stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Team> topTeams = teamLeaderboardService.findTopTeams();
+
+        Map<Long, TeamResponse.TeamStatsResponse> topTeamStats = teamStatsLoader.loadStats(topTeams);
+        Map<Long, Member> topTeamLeaders = findLeaders(topTeams);
 
         List<TeamRankingResponse.TopTeamResponse> topTeamResponses = topTeams.stream()
-                .map(this::convertToTopTeamResponse)
+                .map(team -> convertToTopTeamResponse(team, topTeamStats.get(team.getId()),
+                        topTeamLeaders.get(team.getLeaderId())))
                 .collect(Collectors.toList());
 
         Optional<MemberTeam> myMemberTeamOpt = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId());
@@ -132,7 +141,7 @@ public class TeamService {
         }
 
         // 전체 팀 수 조회
-        Integer totalTeams = teamRepository.findByIsActiveTrue().size();
+        Integer totalTeams = teamLeaderboardService.countActiveTeams();
 
         return TeamRankingResponse.create(topTeamResponses, myTeamInfo, totalTeams);
     }
@@ -167,56 +176,11 @@ public class TeamService {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-
-        Long monthlyPoints = team.getCurrentTeamPoints();
-        Long totalPoints = team.getTotalTeamPoints();
-        Double carbonSavedKg = team.getTotalCarbonSaved();
-
-        if (monthlyPoints == null || monthlyPoints == 0) {
-            monthlyPoints = pointTransactionRepository.findMonthlyTeamPoints(teamId, currentMonth);
-        }
-        if (totalPoints == null || totalPoints == 0) {
-            totalPoints = pointTransactionRepository.findTotalTeamPoints(teamId);
-        }
-        if (carbonSavedKg == null || carbonSavedKg == 0.0) {
-            carbonSavedKg = challengeRecordRepository.calculateTeamCarbonSaved(teamId);
-        }
-        
-        // 월간 탄소절감량 계산
-        Double monthlyCarbonSaved = team.getCurrentCarbonSaved();
-        if (monthlyCarbonSaved == null || monthlyCarbonSaved == 0.0) {
-            monthlyCarbonSaved = calculateMonthlyCarbonSaved(teamId, currentMonth);
-        }
-
-        // 랭킹
-        Integer monthlyRank = teamRepository.findTeamRankByCurrentPoints(teamId);
-        Integer totalRank = teamRepository.findTeamRankByTotalPoints(teamId);
-        
-        // 활성 멤버 수
-        Integer activeMembers = memberTeamRepository.countActiveMembersByTeamId(teamId);
-        
-        // 이번 달 완료된 챌린지 수
-        Integer completedChallengesThisMonth = challengeRecordRepository.countTeamCompletedChallengesThisMonth(teamId, currentMonth);
-
-        TeamResponse.TeamStatsResponse result = TeamResponse.TeamStatsResponse.builder()
-                .monthlyPoints(monthlyPoints != null ? monthlyPoints : 0L)
-                .totalPoints(totalPoints != null ? totalPoints : 0L)
-                .monthlyRank(monthlyRank != null ? monthlyRank : 999)
-                .totalRank(totalRank != null ? totalRank : 999)
-                .carbonSavedKg(carbonSavedKg != null ? carbonSavedKg : 0.0)
-                .monthlyCarbonSaved(monthlyCarbonSaved != null ? monthlyCarbonSaved : 0.0)
-                .activeMembers(activeMembers)
-                .completedChallengesThisMonth(completedChallengesThisMonth)
-                .build();
-
-        return result;
+        return teamStatsLoader.loadStats(team);
     }
 
-    private TeamRankingResponse.TopTeamResponse convertToTopTeamResponse(Team team) {
-        TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
-
-        Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
+    private TeamRankingResponse.TopTeamResponse convertToTopTeamResponse(Team team, TeamResponse.TeamStatsResponse stats,
+                                                                         Member leader) {
         String leaderName = leader != null ? leader.getName() : "알 수 없음";
 
         return TeamRankingResponse.TopTeamResponse.builder()
@@ -232,17 +196,22 @@ public class TeamService {
     }
 
     private TeamRankingResponse.TeamRankingInfo getMyTeamRankingInfo(Team team, String currentMonth) {
-        TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
+        TeamResponse.TeamStatsResponse stats = teamStatsLoader.loadStats(team);
         
-        // 이전 달 랭킹 조회
-        Integer previousRank = stats.getMonthlyRank() + 1;
+        // 이전 달 최종 순위 조회 (스냅샷이 없는 첫 달에는 어제 마감 순위로 대체)
+        Integer previousRank = teamRankSnapshotService.getPreviousMonthRank(team.getId());
+        if (previousRank == null) {
+            previousRank = teamRankSnapshotService.getYesterdayRank(team.getId());
+        }
         String trend = "same";
         Integer rankChange = 0;
         
-        if (previousRank < stats.getMonthlyRank()) {
+        // 스냅샷 순위와 현재 순위(리더보드/DB)는 모두 "점수가 더 높은 팀 수 + 1"이라 동점 팀은 변동 없음으로 나온다
+        // 순위 숫자가 작아지면 상승 (rankChange > 0: 상승한 계단 수)
+        if (previousRank != null && previousRank > stats.getMonthlyRank()) {
             trend = "up";
             rankChange = previousRank - stats.getMonthlyRank();
-        } else if (previousRank > stats.getMonthlyRank()) {
+        } else if (previousRank != null && previousRank < stats.getMonthlyRank()) {
             trend = "down";
             rankChange = previousRank - stats.getMonthlyRank();
         }
@@ -271,35 +240,49 @@ public class TeamService {
         }
 
         // 팀 정보 반환 (가입 전 미리보기)
-        TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
+        TeamResponse.TeamStatsResponse stats = teamStatsLoader.loadStats(team);
 
         // 팀장 정보 조회
         Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
         
         // 현재 진행 중인 챌린지 조회
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        ChallengeView currentChallenge = findCurrentChallenge();
         
         return TeamResponse.from(team, stats, leader, currentChallenge, 0);
     }
 
     public List<TeamResponse> getTeamList() {
         List<Team> teams = teamRepository.findByIsActiveTrueOrderByTotalTeamPointsDesc();
-        
-        return teams.stream().map(team -> {
-            TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
+        return toTeamResponses(teams);
+    }
 
-            // 팀장 정보 조회
-            Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
-            
-            // 현재 진행 중인 챌린지 조회
-            Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                    .findFirst()
-                    .orElse(null);
-            
-            return TeamResponse.from(team, stats, leader, currentChallenge, 0);
-        }).collect(Collectors.toList());
+    public Page<TeamResponse> getTeamList(Pageable pageable) {
+        Page<Team> teams = teamRepository.findByIsActiveTrueOrderByTotalTeamPointsDesc(pageable);
+        return new PageImpl<>(toTeamResponses(teams.getContent()), pageable, teams.getTotalElements());
+    }
+
+    /**
+     * 팀 목록 응답 생성 (통계/팀장/진행 중 챌린지를 팀 수와 무관하게 일괄 조회)
+     */
+    private List<TeamResponse> toTeamResponses(List<Team> teams) {
+        Map<Long, TeamResponse.TeamStatsResponse> statsByTeam = teamStatsLoader.loadStats(teams);
+        Map<Long, Member> leaders = findLeaders(teams);
+        ChallengeView currentChallenge = findCurrentChallenge();
+
+        return teams.stream()
+                .map(team -> TeamResponse.from(team, statsByTeam.get(team.getId()),
+                        leaders.get(team.getLeaderId()), currentChallenge, 0))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Member> findLeaders(List<Team> teams) {
+        return BatchLoader.of(memberRepository::findAllById, Member::getMemberId)
+                .registerAll(teams, Team::getLeaderId)
+                .getAll();
+    }
+
+    private ChallengeView findCurrentChallenge() {
+        return challengeCatalog.getCurrentChallenge();
     }
 
     @Transactional
@@ -337,13 +320,12 @@ public class TeamService {
                 .build();
 
         memberTeamRepository.save(memberTeam);
+        teamLeaderboardService.addTeam(savedTeam.getId());
 
-        TeamResponse.TeamStatsResponse stats = getTeamStats(savedTeam.getId());
+        TeamResponse.TeamStatsResponse stats = teamStatsLoader.loadStats(savedTeam);
 
         // 현재 진행 중인 챌린지 조회
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        ChallengeView currentChallenge = findCurrentChallenge();
         
         return TeamResponse.from(savedTeam, stats, currentMember, currentChallenge, 0);
     }
@@ -358,12 +340,18 @@ public class TeamService {
         List<com.kopo.hanagreenworld.member.domain.TeamJoinRequest> requests = teamJoinRequestRepository
                 .findByUserIdOrderByCreatedAtDesc(currentMember.getMemberId());
 
+        // 팀/처리자를 요청 수와 무관하게 IN 쿼리 한 번씩으로 조회
+        BatchLoader<Long, Team> teams = BatchLoader.of(teamRepository::findAllById, Team::getId)
+                .registerAll(requests, com.kopo.hanagreenworld.member.domain.TeamJoinRequest::getTeamId);
+        BatchLoader<Long, Member> processors = BatchLoader.of(memberRepository::findAllById, Member::getMemberId)
+                .registerAll(requests, com.kopo.hanagreenworld.member.domain.TeamJoinRequest::getProcessedBy);
+
         return requests.stream()
                 .map(req -> {
-                    Team team = teamRepository.findById(req.getTeamId()).orElse(null);
+                    Team team = teams.get(req.getTeamId());
                     String processedByName = null;
                     if (req.getProcessedBy() != null) {
-                        Member processor = memberRepository.findById(req.getProcessedBy()).orElse(null);
+                        Member processor = processors.get(req.getProcessedBy());
                         processedByName = processor != null ? processor.getName() : "알 수 없음";
                     }
                     
@@ -445,14 +433,19 @@ public class TeamService {
         List<com.kopo.hanagreenworld.member.domain.TeamJoinRequest> requests = teamJoinRequestRepository
                 .findByTeamIdAndStatusOrderByCreatedAtDesc(teamId, com.kopo.hanagreenworld.member.domain.TeamJoinRequest.RequestStatus.PENDING);
 
+        // 신청자와 프로필을 한 번에 조회
+        BatchLoader<Long, Member> applicants = BatchLoader.of(memberRepository::findAllWithProfileByIdIn, Member::getMemberId)
+                .registerAll(requests, com.kopo.hanagreenworld.member.domain.TeamJoinRequest::getUserId);
+
         return requests.stream()
                 .map(req -> {
-                    Member applicant = memberRepository.findById(req.getUserId()).orElse(null);
+                    Member applicant = applicants.get(req.getUserId());
                     return JoinRequestResponse.builder()
                             .requestId(req.getId())
                             .userId(req.getUserId())
                             .userName(applicant != null ? applicant.getName() : "알 수 없음")
-                            .userLevel(applicant.getMemberProfile().getEcoLevel().getLevelNumber())
+                            .userLevel(applicant != null && applicant.getMemberProfile() != null
+                                    ? applicant.getMemberProfile().getEcoLevel().getLevelNumber() : null)
                             .requestDate(req.getCreatedAt())
                             .status(req.getStatus().name())
                             .build();
@@ -581,6 +574,7 @@ public class TeamService {
             // 혼자인 경우 팀 비활성화
             team.deactivate();
             teamRepository.save(team);
+            teamLeaderboardService.removeTeam(team.getId());
         }
         
         // 팀 탈퇴 시스템 메시지 생성
@@ -630,13 +624,23 @@ public class TeamService {
 
         String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
+        // 멤버별 포인트를 멤버 수와 무관하게 그룹 쿼리 두 번으로 계산
+        List<Long> memberIds = memberTeams.stream()
+                .map(mt -> mt.getMember().getMemberId())
+                .collect(Collectors.toList());
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        Map<Long, Long> totalPointsByMember = toLongMap(memberIds.isEmpty() ? List.of()
+                : pointTransactionRepository.sumEarnedPointsByMemberIds(memberIds));
+        Map<Long, Long> monthlyPointsByMember = toLongMap(memberIds.isEmpty() ? List.of()
+                : pointTransactionRepository.sumEarnedPointsByMemberIdsBetween(memberIds, monthStart, monthStart.plusMonths(1)));
+
         List<TeamMembersResponse.TeamMemberResponse> members = memberTeams.stream()
                 .map(mt -> {
                     Long memberId = mt.getMember().getMemberId();
                     
                     // 실제 포인트 계산
-                    Long totalPoints = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-                    Long monthlyPoints = pointTransactionRepository.sumCurrentMonthEarnedPointsByMemberId(memberId);
+                    Long totalPoints = totalPointsByMember.get(memberId);
+                    Long monthlyPoints = monthlyPointsByMember.get(memberId);
                     
                     return TeamMembersResponse.TeamMemberResponse.builder()
                             .id(memberId)
@@ -657,6 +661,14 @@ public class TeamService {
                 .build();
     }
 
+    private Map<Long, Long> toLongMap(List<Object[]> rows) {
+        Map<Long, Long> map = new HashMap<>();
+        for (Object[] row : rows) {
+            map.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return map;
+    }
+
     private void createTeamJoinSystemMessage(Team team, Member newMember) {
         try {
             // 시스템 메시지 생성
@@ -711,14 +723,4 @@ public class TeamService {
                     team.getId(), kickedMember.getName(), e.getMessage());
         }
     }
-
-    private Double calculateMonthlyCarbonSaved(Long teamId, String reportDate) {
-        try {
-            return challengeRecordRepository.calculateTeamMonthlyCarbonSaved(teamId, reportDate);
-        } catch (Exception e) {
-            log.error("월간 탄소절감량 계산 실패: teamId={}, reportDate={}, error={}", 
-                    teamId, reportDate, e.getMessage());
-            return 0.0;
-        }
-    }
 }
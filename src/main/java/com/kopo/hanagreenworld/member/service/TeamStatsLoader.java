@@ -0,0 +1,163 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.dto.TeamResponse;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 팀의 통계를 팀 수와 무관한 고정 개수의 그룹 쿼리로 계산한다.
+ * (순위, 활성 멤버 수, 이번 달 완료 챌린지 수, 포인트/탄소절감량 보정값)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamStatsLoader {
+
+    private final TeamRepository teamRepository;
+    private final MemberTeamRepository memberTeamRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final TeamLeaderboardService teamLeaderboardService;
+
+    /**
+     * @return 팀ID → 통계 (입력 순서 유지)
+     */
+    public Map<Long, TeamResponse.TeamStatsResponse> loadStats(Collection<Team> teams) {
+        Map<Long, TeamResponse.TeamStatsResponse> result = new LinkedHashMap<>();
+        if (teams == null || teams.isEmpty()) {
+            return result;
+        }
+
+        List<Long> teamIds = teams.stream().map(Team::getId).collect(Collectors.toList());
+
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime nextMonthStart = monthStart.plusMonths(1);
+
+        Map<Long, int[]> ranks = loadRanks(teamIds);
+        Map<Long, Number> activeMembers = toMap(memberTeamRepository.countActiveMembersByTeamIds(teamIds));
+        Map<Long, Number> completedChallenges = toMap(
+                challengeRecordRepository.countTeamCompletedChallengesBetween(teamIds, monthStart, nextMonthStart));
+
+        // 팀 엔티티에 누적값이 없는 팀만 원장에서 보정 (해당 팀이 없으면 쿼리 생략)
+        List<Long> needMonthlyPoints = filterIds(teams, t -> isEmpty(t.getCurrentTeamPoints()));
+        List<Long> needTotalPoints = filterIds(teams, t -> isEmpty(t.getTotalTeamPoints()));
+        List<Long> needCarbon = filterIds(teams, t -> isEmpty(t.getTotalCarbonSaved()));
+        List<Long> needMonthlyCarbon = filterIds(teams, t -> isEmpty(t.getCurrentCarbonSaved()));
+
+        Map<Long, Number> monthlyPoints = needMonthlyPoints.isEmpty() ? Map.of()
+                : toMap(pointTransactionRepository.sumTeamEarnedPointsBetween(needMonthlyPoints, monthStart, nextMonthStart));
+        Map<Long, Number> totalPoints = needTotalPoints.isEmpty() ? Map.of()
+                : toMap(pointTransactionRepository.sumTeamEarnedPoints(needTotalPoints));
+        Map<Long, Number> carbonSaved = needCarbon.isEmpty() ? Map.of()
+                : toMap(challengeRecordRepository.sumTeamCarbonSaved(needCarbon));
+        Map<Long, Number> monthlyCarbon = needMonthlyCarbon.isEmpty() ? Map.of()
+                : loadMonthlyCarbon(needMonthlyCarbon, monthStart, nextMonthStart);
+
+        for (Team team : teams) {
+            Long teamId = team.getId();
+            int[] rank = ranks.get(teamId);
+
+            result.put(teamId, TeamResponse.TeamStatsResponse.builder()
+                    .monthlyPoints(isEmpty(team.getCurrentTeamPoints())
+                            ? longValue(monthlyPoints.get(teamId)) : team.getCurrentTeamPoints())
+                    .totalPoints(isEmpty(team.getTotalTeamPoints())
+                            ? longValue(totalPoints.get(teamId)) : team.getTotalTeamPoints())
+                    .monthlyRank(rank != null ? rank[0] : 999)
+                    .totalRank(rank != null ? rank[1] : 999)
+                    .carbonSavedKg(isEmpty(team.getTotalCarbonSaved())
+                            ? doubleValue(carbonSaved.get(teamId)) : team.getTotalCarbonSaved())
+                    .monthlyCarbonSaved(isEmpty(team.getCurrentCarbonSaved())
+                            ? doubleValue(monthlyCarbon.get(teamId)) : team.getCurrentCarbonSaved())
+                    .activeMembers((int) longValue(activeMembers.get(teamId)))
+                    .completedChallengesThisMonth((int) longValue(completedChallenges.get(teamId)))
+                    .build());
+        }
+
+        return result;
+    }
+
+    public TeamResponse.TeamStatsResponse loadStats(Team team) {
+        return loadStats(List.of(team)).get(team.getId());
+    }
+
+    /**
+     * 리더보드에서 한 번에 조회하고, 리더보드에 없는 팀만 DB 서브쿼리 한 번으로 계산
+     */
+    private Map<Long, int[]> loadRanks(List<Long> teamIds) {
+        Map<Long, int[]> ranks = new HashMap<>();
+
+        if (teamLeaderboardService.isAvailable()) {
+            teamLeaderboardService.getRanks(teamIds).forEach((teamId, rank) ->
+                    ranks.put(teamId, new int[]{rank.getMonthlyRank(), rank.getTotalRank()}));
+        }
+
+        List<Long> missing = teamIds.stream()
+                .filter(teamId -> !ranks.containsKey(teamId))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            for (Object[] row : teamRepository.findTeamRanksByIds(missing)) {
+                ranks.put(((Number) row[0]).longValue(),
+                        new int[]{((Number) row[1]).intValue(), ((Number) row[2]).intValue()});
+            }
+        }
+        return ranks;
+    }
+
+    private Map<Long, Number> loadMonthlyCarbon(List<Long> teamIds, LocalDateTime start, LocalDateTime end) {
+        try {
+            return toMap(challengeRecordRepository.sumTeamCarbonSavedBetween(teamIds, start, end));
+        } catch (Exception e) {
+            log.error("월간 탄소절감량 일괄 계산 실패: teamIds={}, error={}", teamIds, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private List<Long> filterIds(Collection<Team> teams, Predicate<Team> condition) {
+        List<Long> ids = new ArrayList<>();
+        for (Team team : teams) {
+            if (condition.test(team)) {
+                ids.add(team.getId());
+            }
+        }
+        return ids;
+    }
+
+    private Map<Long, Number> toMap(List<Object[]> rows) {
+        Map<Long, Number> map = new HashMap<>();
+        for (Object[] row : rows) {
+            map.put(((Number) row[0]).longValue(), (Number) row[1]);
+        }
+        return map;
+    }
+
+    private boolean isEmpty(Number value) {
+        return value == null || value.doubleValue() == 0;
+    }
+
+    private long longValue(Number value) {
+        return value != null ? value.longValue() : 0L;
+    }
+
+    private double doubleValue(Number value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
+}
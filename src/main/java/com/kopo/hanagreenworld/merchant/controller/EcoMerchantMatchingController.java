@@ -31,9 +31,17 @@ public class EcoMerchantMatchingController {
             String merchantName = (String) request.get("merchantName");
             Long amount = ((Number) request.get("amount")).longValue();
             String transactionDate = (String) request.get("transactionDate");
+            if (!(request.get("transactionId") instanceof Number)) {
+                // 거래ID가 없으면 재전송을 구분할 수 없어 중복 지급될 수 있다
+                return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", "transactionId는 필수입니다."
+                ));
+            }
+            Long transactionId = ((Number) request.get("transactionId")).longValue();
 
             Map<String, Object> result = ecoMerchantMatchingService.processEcoMerchantTransaction(
-                userId, businessNumber, merchantName, amount, transactionDate);
+                userId, transactionId, businessNumber, merchantName, amount, transactionDate);
 
             return ResponseEntity.ok(result);
 
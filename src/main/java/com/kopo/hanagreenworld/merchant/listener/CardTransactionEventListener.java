@@ -7,7 +7,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
@@ -20,11 +19,11 @@ public class CardTransactionEventListener {
 
     @EventListener
     @Async
-    @Transactional
     public void handleCardTransactionCreated(CardTransactionCreatedEvent event) {
         try {
             Map<String, Object> result = ecoMerchantMatchingService.processEcoMerchantTransaction(
                 event.getUserId(),
+                event.getTransactionId(),
                 event.getBusinessNumber(),
                 event.getMerchantName(),
                 event.getAmount(),
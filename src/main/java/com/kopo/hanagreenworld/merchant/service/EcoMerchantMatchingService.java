@@ -8,7 +8,9 @@ import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.ProcessedEvent;
 import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.point.service.IdempotencyService;
 import com.kopo.hanagreenworld.member.service.EcoReportService;
 import com.kopo.hanagreenworld.member.service.MemberProfileService;
 import com.kopo.hanagreenworld.member.domain.Member;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +37,7 @@ public class EcoMerchantMatchingService {
     private final EcoMerchantRepository ecoMerchantRepository;
     private final EcoMerchantTransactionRepository ecoMerchantTransactionRepository;
     private final EcoSeedService ecoSeedService;
+    private final IdempotencyService idempotencyService;
     private final EcoReportService ecoReportService;
     private final MemberProfileService memberProfileService;
     private final PointTransactionRepository pointTransactionRepository;
@@ -47,23 +51,21 @@ public class EcoMerchantMatchingService {
         return ecoMerchantRepository.findByBusinessNumberAndIsActiveTrue(businessNumber);
     }
 
+    /**
+     * 카드 거래ID 기준으로 한 번만 혜택을 지급한다. (이벤트 재전송/재시도 시 중복 지급 방지)
+     *
+     * 가맹점 조회 다음, 다른 쓰기보다 먼저 거래ID를 선점한다. 이미 처리된 거래면 아무것도 쓰지 않고 돌아간다.
+     */
     @Transactional
-    public Map<String, Object> processEcoMerchantTransaction(Long userId, String businessNumber, 
-                                                           String merchantName, Long amount, 
-                                                           String transactionDate) {
+    public Map<String, Object> processEcoMerchantTransaction(Long userId, Long cardTransactionId,
+                                                           String businessNumber, String merchantName,
+                                                           Long amount, String transactionDate) {
         Map<String, Object> result = new HashMap<>();
+        if (cardTransactionId == null) {
+            throw new IllegalArgumentException("카드 거래ID가 없습니다.");
+        }
         
         try {
-            Long cardTransactionId = System.currentTimeMillis();
-            var existingTransaction = ecoMerchantTransactionRepository.findByCardTransactionId(cardTransactionId);
-            
-            if (existingTransaction.isPresent()) {
-                log.info("이미 처리된 친환경 가맹점 거래입니다 - 사용자ID: {}, 카드거래ID: {}", userId, cardTransactionId);
-                result.put("isEcoMerchant", false);
-                result.put("message", "이미 처리된 거래");
-                return result;
-            }
-            
             // 1. 사업자 번호로 친환경 가맹점 찾기
             Optional<EcoMerchant> ecoMerchantOpt = findEcoMerchantByBusinessNumber(businessNumber);
             
@@ -75,6 +77,14 @@ public class EcoMerchantMatchingService {
             
             EcoMerchant ecoMerchant = ecoMerchantOpt.get();
 
+            if (!idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION,
+                    String.valueOf(cardTransactionId), userId)) {
+                log.info("이미 처리된 친환경 가맹점 거래입니다 - 사용자ID: {}, 카드거래ID: {}", userId, cardTransactionId);
+                result.put("isEcoMerchant", false);
+                result.put("message", "이미 처리된 거래");
+                return result;
+            }
+
             // 2. 사용자의 현재 레벨 조회
             String currentLevel = ecoReportService.getUserCurrentLevel(userId);
 
@@ -89,7 +99,7 @@ public class EcoMerchantMatchingService {
                     .build();
             
             ecoSeedService.earnEcoSeedsForWebhook(userId, earnRequest);
-            
+
             memberProfileService.updateMemberActivityWithoutCarbon(userId);
             
             // 5. 친환경 가맹점 거래 내역 저장
@@ -130,6 +140,8 @@ public class EcoMerchantMatchingService {
         } catch (Exception e) {
             log.error("친환경 가맹점 매칭 처리 실패 - 사용자ID: {}, 사업자번호: {}, 에러: {}", 
                     userId, businessNumber, e.getMessage(), e);
+            // 선점한 거래ID와 일부 쓰기가 남지 않도록 롤백하고, 오류 결과는 그대로 돌려준다
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             result.put("isEcoMerchant", false);
             result.put("error", e.getMessage());
             return result;
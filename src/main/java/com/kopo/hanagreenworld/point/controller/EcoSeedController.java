@@ -5,7 +5,9 @@ import com.kopo.hanagreenworld.point.dto.EcoSeedConvertRequest;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.dto.EcoSeedResponse;
 import com.kopo.hanagreenworld.point.dto.EcoSeedTransactionResponse;
+import com.kopo.hanagreenworld.point.dto.HanaMoneyConversionResponse;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
+import com.kopo.hanagreenworld.point.service.HanaMoneyConversionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,10 +15,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -29,6 +34,7 @@ import java.util.HashMap;
 public class EcoSeedController {
 
     private final EcoSeedService ecoSeedService;
+    private final HanaMoneyConversionService hanaMoneyConversionService;
 
     @GetMapping
     @Operation(summary = "원큐씨앗 정보 조회", description = "현재 사용자의 원큐씨앗 잔액 및 정보를 조회합니다.")
@@ -102,11 +108,19 @@ public class EcoSeedController {
     }
 
     @PostMapping("/convert")
-    @Operation(summary = "하나머니 전환", description = "원큐씨앗을 하나머니로 전환합니다.")
-    public ResponseEntity<EcoSeedResponse> convertToHanaMoney(@Valid @RequestBody EcoSeedConvertRequest request) {
+    @Operation(summary = "하나머니 전환", description = "원큐씨앗을 차감하고 하나머니 전환을 요청합니다. 결과는 상태 조회 API 또는 /user/queue/hana-money/conversions 구독으로 확인합니다.")
+    public ResponseEntity<HanaMoneyConversionResponse> convertToHanaMoney(
+            @Valid @RequestBody EcoSeedConvertRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("하나머니 전환 요청: {}개", request.getPointsAmount());
-        EcoSeedResponse response = ecoSeedService.convertToHanaMoney(request);
-        return ResponseEntity.ok(response);
+        HanaMoneyConversionResponse response = hanaMoneyConversionService.requestConversion(request, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/convert/{conversionId}")
+    @Operation(summary = "하나머니 전환 상태 조회", description = "하나머니 전환 요청의 처리 상태(PENDING/SUCCEEDED/FAILED)를 조회합니다.")
+    public ResponseEntity<HanaMoneyConversionResponse> getConversion(@PathVariable Long conversionId) {
+        return ResponseEntity.ok(hanaMoneyConversionService.getConversion(conversionId));
     }
 
     @GetMapping("/transactions")
@@ -198,4 +212,14 @@ public class EcoSeedController {
         Map<String, Object> response = ecoSeedService.getCalendarData(year, month);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/calendar/range")
+    @Operation(summary = "기간 달력 데이터 조회", description = "여러 달(최대 24개월)의 일자별 씨앗 획득 현황을 조회합니다. (예: from=2025-01, to=2025-12)")
+    public ResponseEntity<Map<String, Object>> getCalendarRangeData(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        log.info("기간 달력 데이터 조회 요청: {} ~ {}", from, to);
+        Map<String, Object> response = ecoSeedService.getCalendarRangeData(from, to);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,29 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일회성 백필 실행 표시 (이름당 한 행)
+ * 시작할 때 행을 선점하고 끝나면 completed_at을 채운다. 여러 서버가 동시에 떠도 한 서버만 백필을 돈다.
+ */
+@Entity
+@Table(name = "backfill_markers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillMarker {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
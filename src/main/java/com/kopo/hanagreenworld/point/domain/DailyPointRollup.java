@@ -0,0 +1,36 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 일자별 적립 합계 (달력/히트맵 조회용)
+ * 적립 시 같은 트랜잭션에서 upsert로 누적하고, 기존 원장은 DailyPointRollupService.backfill()로 채운다.
+ */
+@Entity
+@Table(name = "daily_point_rollup",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_daily_point_rollup_member_day", columnNames = {"member_id", "day"})
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyPointRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "earned", nullable = false)
+    private Long earned;
+}
@@ -0,0 +1,107 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하나머니 전환 요청 (전환 사가의 outbox 레코드)
+ *
+ * 원큐씨앗 차감과 같은 트랜잭션에서 PENDING으로 저장되고, HanaMoneyConversionWorker가 하나카드 서버로 전달한다.
+ * request_id는 회원별 멱등키이고, 하나카드 서버에는 회원ID와 합친 키를 보내므로 재시도해도 한 번만 적립된다.
+ */
+@Entity
+@Table(name = "hana_money_conversions",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_hana_money_conversion_request", columnNames = {"member_id", "request_id"})
+       },
+       indexes = {
+           // 전달 대기 건 조회
+           @Index(name = "idx_hana_money_conversion_status_next", columnList = "status, next_attempt_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HanaMoneyConversion extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversion_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "request_id", nullable = false, length = 64)
+    private String requestId;
+
+    @Column(name = "points_amount", nullable = false)
+    private Long pointsAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Builder
+    public HanaMoneyConversion(Long memberId, String requestId, Long pointsAmount) {
+        this.memberId = memberId;
+        this.requestId = requestId;
+        this.pointsAmount = pointsAmount;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 하나카드 서버 멱등키 - request_id는 회원별로만 유일하므로 회원ID를 붙여 전역 유일하게 만든다
+    public String getDeliveryKey() {
+        return memberId + ":" + requestId;
+    }
+
+    public boolean isPending() {
+        return status == Status.PENDING;
+    }
+
+    public void markSucceeded() {
+        this.status = Status.SUCCEEDED;
+        this.lastError = null;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    // 최종 실패 - 차감한 원큐씨앗은 호출 측에서 환불한다
+    public void markFailed(String error) {
+        this.status = Status.FAILED;
+        this.lastError = truncate(error);
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void scheduleRetry(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public enum Status {
+        PENDING,     // 차감 완료, 하나카드 서버 전달 대기/재시도 중
+        SUCCEEDED,   // 하나머니 적립 완료
+        FAILED       // 적립 거절 또는 재시도 초과 (원큐씨앗 환불됨)
+    }
+}
@@ -12,7 +12,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "point_transactions")
+@Table(name = "point_transactions",
+       indexes = {
+           // 회원별 유형/기간 합계 (occurred_at 범위 조건은 반열린 구간으로 전달)
+           @Index(name = "idx_point_tx_member_type_occurred", columnList = "member_id, transaction_type, occurred_at"),
+           // 회원별 거래 내역 최신순 조회
+           @Index(name = "idx_point_tx_member_occurred", columnList = "member_id, occurred_at")
+       })
 @Getter
 @NoArgsConstructor
 public class PointTransaction extends DateTimeEntity {
@@ -22,8 +28,9 @@ public class PointTransaction extends DateTimeEntity {
     @Column(name = "transaction_id")
     private Long id;
 
+    // 월 단위 RANGE 파티셔닝을 위해 외래키 제약은 두지 않는다 (MySQL 파티션 테이블은 외래키 미지원)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id", nullable = false)
+    @JoinColumn(name = "member_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Member member;
 
     @Enumerated(EnumType.STRING)
@@ -54,7 +61,7 @@ public class PointTransaction extends DateTimeEntity {
         this.pointTransactionType = pointTransactionType;
         this.category = category;
         this.description = description;
-        // USE와 CONVERT 타입일 때는 음수로 저장 (부호 통일)
+        // USE와 CONVERT 타입일 때는 음수로 저장 (부호 통일, CONVERT_REFUND는 양수)
         this.pointsAmount = (pointTransactionType == PointTransactionType.USE || 
                            pointTransactionType == PointTransactionType.CONVERT) ? 
                            -Math.abs(pointsAmount) : Math.abs(pointsAmount);
@@ -62,6 +69,19 @@ public class PointTransaction extends DateTimeEntity {
         this.occurredAt = occurredAt == null ? LocalDateTime.now() : occurredAt;
     }
 
+    /**
+     * 하나머니 전환 실패 환불 - CONVERT_REFUND 양수 거래로 차감분을 상쇄한다
+     */
+    public static PointTransaction conversionRefund(Member member, Integer pointsAmount) {
+        return PointTransaction.builder()
+                .member(member)
+                .pointTransactionType(PointTransactionType.CONVERT_REFUND)
+                .category(PointCategory.HANA_MONEY_CONVERSION)
+                .description("하나머니 전환 실패 환불")
+                .pointsAmount(pointsAmount)
+                .build();
+    }
+
     public void setBalanceAfter(Long balanceAfter) {
         this.balanceAfter = balanceAfter;
     }
@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.point.domain;
 
 public enum PointTransactionType {
-    EARN, USE, CONVERT
+    EARN, USE, CONVERT,
+    CONVERT_REFUND  // 하나머니 전환 실패 환불 (양수, 전환 합계에 포함해 CONVERT 차감분을 상쇄)
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 이벤트(웹훅) 처리 이력 - (source, external_id) 유니크 키로 같은 이벤트의 중복 적립을 막는다.
+ */
+@Entity
+@Table(name = "processed_events",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_processed_event_source_external", columnNames = {"source", "external_id"})
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ProcessedEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "processed_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 30)
+    private Source source;
+
+    @Column(name = "external_id", nullable = false, length = 100)
+    private String externalId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @CreatedDate
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private LocalDateTime processedAt;
+
+    @Builder
+    public ProcessedEvent(Source source, String externalId, Long memberId) {
+        this.source = source;
+        this.externalId = externalId;
+        this.memberId = memberId;
+    }
+
+    public enum Source {
+        ELECTRONIC_RECEIPT,   // 하나은행 전자영수증 웹훅 (transactionId)
+        CARD_TRANSACTION      // 하나카드 거래 웹훅 (transactionId)
+    }
+}
@@ -0,0 +1,37 @@
+package com.kopo.hanagreenworld.point.dto;
+
+import com.kopo.hanagreenworld.point.domain.HanaMoneyConversion;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class HanaMoneyConversionResponse {
+    private Long conversionId;
+    private String requestId;          // 멱등키
+    private String status;             // PENDING, SUCCEEDED, FAILED
+    private Long pointsAmount;
+    private Long currentSeeds;         // 차감(또는 환불) 후 원큐씨앗 잔액
+    private String message;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public static HanaMoneyConversionResponse of(HanaMoneyConversion conversion, Long currentSeeds) {
+        return HanaMoneyConversionResponse.builder()
+                .conversionId(conversion.getId())
+                .requestId(conversion.getRequestId())
+                .status(conversion.getStatus().name())
+                .pointsAmount(conversion.getPointsAmount())
+                .currentSeeds(currentSeeds)
+                .message(switch (conversion.getStatus()) {
+                    case PENDING -> "하나머니 전환을 처리 중입니다.";
+                    case SUCCEEDED -> "하나머니 전환이 완료되었습니다.";
+                    case FAILED -> "하나머니 전환에 실패하여 원큐씨앗이 환불되었습니다.";
+                })
+                .requestedAt(conversion.getCreatedAt())
+                .completedAt(conversion.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.kopo.hanagreenworld.point.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 하나머니 전환 요청이 저장됨 (커밋 후 워커가 바로 전달을 시작한다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class HanaMoneyConversionRequestedEvent {
+
+    private final Long conversionId;
+}
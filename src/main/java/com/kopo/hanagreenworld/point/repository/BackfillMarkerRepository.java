@@ -0,0 +1,36 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.BackfillMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface BackfillMarkerRepository extends JpaRepository<BackfillMarker, String> {
+
+    // 처음 시작하는 백필이면 1 (이미 행이 있으면 0)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO backfill_markers (name, started_at)
+        VALUES (:name, :now)
+    """, nativeQuery = true)
+    int claim(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    // 끝나지 않은 채 오래된 실행(서버 중단 등)을 넘겨받으면 1
+    @Modifying
+    @Query(value = """
+        UPDATE backfill_markers SET started_at = :now
+        WHERE name = :name AND completed_at IS NULL AND started_at < :staleBefore
+    """, nativeQuery = true)
+    int reclaimStale(@Param("name") String name,
+                     @Param("now") LocalDateTime now,
+                     @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query(value = "UPDATE backfill_markers SET completed_at = :now WHERE name = :name", nativeQuery = true)
+    int markCompleted(@Param("name") String name, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,55 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.DailyPointRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyPointRollupRepository extends JpaRepository<DailyPointRollup, Long> {
+
+    // 적립 반영 (해당 일자 행이 없으면 생성, 있으면 누적)
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_point_rollup (member_id, day, earned)
+        VALUES (:memberId, :day, :earned)
+        ON DUPLICATE KEY UPDATE earned = earned + VALUES(earned)
+    """, nativeQuery = true)
+    int addEarned(@Param("memberId") Long memberId, @Param("day") LocalDate day, @Param("earned") Long earned);
+
+    // 기간 내 일자별 적립 합계 [from, to) - [day, earned]
+    @Query("SELECT r.day, r.earned FROM DailyPointRollup r " +
+           "WHERE r.memberId = :memberId AND r.day >= :from AND r.day < :to " +
+           "ORDER BY r.day")
+    List<Object[]> findDailyEarned(@Param("memberId") Long memberId,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    // 백필 대상 회원 id (원장 기준 keyset)
+    @Query(value = """
+        SELECT DISTINCT pt.member_id
+        FROM point_transactions pt
+        WHERE pt.member_id > :afterMemberId
+        ORDER BY pt.member_id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findLedgerMemberIdsAfter(@Param("afterMemberId") Long afterMemberId, @Param("limit") int limit);
+
+    // 회원 구간의 원장을 일자별로 집계해 덮어쓴다 (재실행해도 결과가 같음)
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_point_rollup (member_id, day, earned)
+        SELECT pt.member_id, DATE(pt.occurred_at), SUM(pt.points_amount)
+        FROM point_transactions pt
+        WHERE pt.member_id BETWEEN :fromMemberId AND :toMemberId
+          AND pt.transaction_type = 'EARN'
+        GROUP BY pt.member_id, DATE(pt.occurred_at)
+        ON DUPLICATE KEY UPDATE earned = VALUES(earned)
+    """, nativeQuery = true)
+    int rebuildForMembers(@Param("fromMemberId") Long fromMemberId, @Param("toMemberId") Long toMemberId);
+}
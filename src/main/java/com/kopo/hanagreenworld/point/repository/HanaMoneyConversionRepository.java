@@ -0,0 +1,41 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.HanaMoneyConversion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HanaMoneyConversionRepository extends JpaRepository<HanaMoneyConversion, Long> {
+
+    Optional<HanaMoneyConversion> findByMemberIdAndRequestId(Long memberId, String requestId);
+
+    Optional<HanaMoneyConversion> findByIdAndMemberId(Long id, Long memberId);
+
+    // 결과 반영 시 중복 완료(이중 환불) 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM HanaMoneyConversion c WHERE c.id = :id")
+    Optional<HanaMoneyConversion> findByIdForUpdate(@Param("id") Long id);
+
+    // 전달 시점이 된 대기 건
+    @Query("SELECT c.id FROM HanaMoneyConversion c " +
+           "WHERE c.status = 'PENDING' AND c.nextAttemptAt <= :now " +
+           "ORDER BY c.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전달 권한 선점 - 임대 시각까지 다른 워커/인스턴스가 같은 건을 집지 않는다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE HanaMoneyConversion c " +
+           "SET c.nextAttemptAt = :leaseUntil, c.attempts = c.attempts + 1 " +
+           "WHERE c.id = :id AND c.status = 'PENDING' AND c.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
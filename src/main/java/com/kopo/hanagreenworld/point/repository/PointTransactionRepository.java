@@ -1,7 +1,6 @@
 package com.kopo.hanagreenworld.point.repository;
 
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
-import com.kopo.hanagreenworld.point.domain.PointTransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,8 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 @Repository
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
     
@@ -31,24 +30,10 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
         "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'USE'")
     Long sumUsedPointsByMemberId(@Param("memberId") Long memberId);
     
-    // 회원별 하나머니 전환 내역 합계 (CONVERT 타입)
-    @Query("SELECT COALESCE(SUM(ABS(pt.pointsAmount)), 0) FROM PointTransaction pt " +
-           "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'CONVERT'")
-    Long sumConvertedPointsByMemberId(@Param("memberId") Long memberId);
-    
-    // 회원별 이번 달 적립 포인트 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-           "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'EARN' " +
-           "AND YEAR(pt.occurredAt) = YEAR(CURRENT_DATE) AND MONTH(pt.occurredAt) = MONTH(CURRENT_DATE)")
-    Long sumCurrentMonthEarnedPointsByMemberId(@Param("memberId") Long memberId);
-    
-    // 팀별 월간 포인트 합계
+    // 회원별 하나머니 순 전환 합계 (전환 - 환불, 원장 부호 그대로 - 전환은 음수)
     @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-           "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND pt.pointTransactionType = 'EARN' " +
-           "AND DATE_FORMAT(pt.occurredAt, '%Y-%m') = :reportDate")
-    Long findMonthlyTeamPoints(@Param("teamId") Long teamId, @Param("reportDate") String reportDate);
+           "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType IN ('CONVERT', 'CONVERT_REFUND')")
+    Long sumConvertedPointsByMemberId(@Param("memberId") Long memberId);
     
     // 팀별 총 포인트 합계
     @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
@@ -57,14 +42,45 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
            "AND pt.pointTransactionType = 'EARN'")
     Long findTotalTeamPoints(@Param("teamId") Long teamId);
     
-    // 달력용: 특정 기간의 거래 내역 조회
-    List<PointTransaction> findByMember_MemberIdAndPointTransactionTypeAndOccurredAtBetween(
-            Long memberId, 
-            PointTransactionType pointTransactionType, 
-            LocalDateTime startDate, 
-            LocalDateTime endDate);
-    // 중복 확인을 위한 메서드
-    Optional<PointTransaction> findByMember_MemberIdAndDescriptionContaining(Long memberId, String description);
+    // 여러 팀의 기간별 포인트 합계 (팀ID, 합계)
+    @Query("SELECT mt.team.id, COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
+           "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
+           "WHERE mt.team.id IN :teamIds AND mt.isActive = true " +
+           "AND pt.pointTransactionType = 'EARN' " +
+           "AND pt.occurredAt >= :start AND pt.occurredAt < :end " +
+           "GROUP BY mt.team.id")
+    List<Object[]> sumTeamEarnedPointsBetween(@Param("teamIds") Collection<Long> teamIds,
+                                              @Param("start") LocalDateTime start,
+                                              @Param("end") LocalDateTime end);
+    
+    // 여러 팀의 총 포인트 합계 (팀ID, 합계)
+    @Query("SELECT mt.team.id, COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
+           "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
+           "WHERE mt.team.id IN :teamIds AND mt.isActive = true " +
+           "AND pt.pointTransactionType = 'EARN' " +
+           "GROUP BY mt.team.id")
+    List<Object[]> sumTeamEarnedPoints(@Param("teamIds") Collection<Long> teamIds);
+    
+    // 여러 회원의 총 적립 포인트 합계 (회원ID, 합계)
+    @Query("SELECT pt.member.memberId, COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
+           "WHERE pt.member.memberId IN :memberIds AND pt.pointTransactionType = 'EARN' " +
+           "GROUP BY pt.member.memberId")
+    List<Object[]> sumEarnedPointsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+    
+    // 여러 회원의 거래 유형별 합계 (회원ID, 유형, 합계) - 원장 합계 대조용
+    @Query("SELECT pt.member.memberId, pt.pointTransactionType, COALESCE(SUM(pt.pointsAmount), 0) " +
+           "FROM PointTransaction pt WHERE pt.member.memberId IN :memberIds " +
+           "GROUP BY pt.member.memberId, pt.pointTransactionType")
+    List<Object[]> sumPointsByMemberIdsGroupByType(@Param("memberIds") Collection<Long> memberIds);
+    
+    // 여러 회원의 기간별 적립 포인트 합계 (회원ID, 합계)
+    @Query("SELECT pt.member.memberId, COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
+           "WHERE pt.member.memberId IN :memberIds AND pt.pointTransactionType = 'EARN' " +
+           "AND pt.occurredAt >= :start AND pt.occurredAt < :end " +
+           "GROUP BY pt.member.memberId")
+    List<Object[]> sumEarnedPointsByMemberIdsBetween(@Param("memberIds") Collection<Long> memberIds,
+                                                     @Param("start") LocalDateTime start,
+                                                     @Param("end") LocalDateTime end);
     
     // 사용자별 총 원큐씨앗 조회 (친환경 가맹점 매칭용)
     @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
@@ -0,0 +1,28 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, Long> {
+
+    boolean existsBySourceAndExternalId(ProcessedEvent.Source source, String externalId);
+
+    // 처리 이력 선점 (이미 있으면 무시) - 새로 넣었으면 1, 중복이면 0
+    // 중복이 예외로 올라오지 않으므로 호출 측 트랜잭션이 rollback-only가 되지 않는다
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO processed_events (source, external_id, member_id, processed_at)
+        VALUES (:source, :externalId, :memberId, :processedAt)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("source") String source,
+                       @Param("externalId") String externalId,
+                       @Param("memberId") Long memberId,
+                       @Param("processedAt") LocalDateTime processedAt);
+}
@@ -0,0 +1,94 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.point.repository.BackfillMarkerRepository;
+import com.kopo.hanagreenworld.point.repository.DailyPointRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 일자별 적립 합계(daily_point_rollup) 관리
+ *
+ * 달력은 원장 대신 이 테이블을 읽으므로 한 달 조회가 최대 31행, 1년 히트맵도 한 번의 범위 쿼리로 끝난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyPointRollupService {
+
+    private static final String BACKFILL_MARKER = "daily_point_rollup";
+
+    private final DailyPointRollupRepository dailyPointRollupRepository;
+    private final BackfillMarkerRepository backfillMarkerRepository;
+
+    /**
+     * 적립 거래 저장과 같은 트랜잭션에서 호출
+     */
+    @Transactional
+    public void addEarned(Long memberId, LocalDate day, long earned) {
+        if (memberId == null || day == null || earned == 0) {
+            return;
+        }
+        dailyPointRollupRepository.addEarned(memberId, day, earned);
+    }
+
+    /**
+     * 기간 [from, to)의 일자별 적립 합계 (적립이 없는 날은 빠진다)
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Long> getDailyEarnings(Long memberId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> dailyEarnings = new LinkedHashMap<>();
+        for (Object[] row : dailyPointRollupRepository.findDailyEarned(memberId, from, to)) {
+            dailyEarnings.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+        return dailyEarnings;
+    }
+
+    /**
+     * 백필 실행권 선점 - 아직 시작한 적 없거나, 끝나지 않은 채 staleAfter가 지난 실행이면 true
+     * 완료 표시가 있으면 항상 false라 재시작해도 원장 전체를 다시 훑지 않는다.
+     */
+    @Transactional
+    public boolean claimBackfill(Duration staleAfter) {
+        LocalDateTime now = LocalDateTime.now();
+        if (backfillMarkerRepository.claim(BACKFILL_MARKER, now) == 1) {
+            return true;
+        }
+        return backfillMarkerRepository.reclaimStale(BACKFILL_MARKER, now, now.minus(staleAfter)) == 1;
+    }
+
+    @Transactional
+    public void completeBackfill() {
+        backfillMarkerRepository.markCompleted(BACKFILL_MARKER, LocalDateTime.now());
+    }
+
+    /**
+     * 원장에서 다음 회원 구간의 일자별 합계를 다시 계산해 덮어쓴다 (구간마다 별도 트랜잭션)
+     *
+     * 누적이 아니라 대체이므로 같은 구간을 두 번 돌려도 합계가 두 배가 되지 않는다.
+     * INSERT ... SELECT는 원장 행을 잠그고 읽으므로, 도중에 들어온 적립은 백필 커밋 뒤에 그 위로 더해진다.
+     *
+     * @return 이번 구간의 마지막 회원 id (더 없으면 null)
+     */
+    @Transactional
+    public Long backfill(Long afterMemberId, int chunkSize) {
+        List<Long> memberIds = dailyPointRollupRepository.findLedgerMemberIdsAfter(afterMemberId, chunkSize);
+        if (memberIds.isEmpty()) {
+            return null;
+        }
+
+        Long fromMemberId = memberIds.get(0);
+        Long toMemberId = memberIds.get(memberIds.size() - 1);
+        int rows = dailyPointRollupRepository.rebuildForMembers(fromMemberId, toMemberId);
+        log.debug("일자별 적립 합계 백필: memberId {}~{}, rows={}", fromMemberId, toMemberId, rows);
+        return toMemberId;
+    }
+}
@@ -5,23 +5,24 @@ import com.kopo.hanagreenworld.integration.service.GroupIntegrationService;
 import lombok.extern.slf4j.Slf4j;
 import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.domain.MemberProfile;
-import com.kopo.hanagreenworld.member.domain.Team;
 import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
-import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.event.TeamScoreChangedEvent;
+import com.kopo.hanagreenworld.member.service.TeamCounterAccumulator;
+import com.kopo.hanagreenworld.member.service.TeamLeaderboardService;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
 import com.kopo.hanagreenworld.point.domain.PointTransactionType;
-import com.kopo.hanagreenworld.point.dto.EcoSeedConvertRequest;
+import com.kopo.hanagreenworld.point.domain.ProcessedEvent;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.dto.EcoSeedResponse;
 import com.kopo.hanagreenworld.point.dto.EcoSeedTransactionResponse;
 import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
-import com.kopo.hanagreenworld.integration.service.HanamoneyCardService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -40,8 +41,10 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Base64;
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Service
 @RequiredArgsConstructor
@@ -49,14 +52,20 @@ import java.time.LocalDate;
 @Slf4j
 public class EcoSeedService {
 
+    private static final int MAX_CALENDAR_RANGE_MONTHS = 24;
+
     private final PointTransactionRepository pointTransactionRepository;
     private final MemberProfileRepository memberProfileRepository;
     private final MemberRepository memberRepository;
     private final MemberTeamRepository memberTeamRepository;
-    private final TeamRepository teamRepository;
-    private final HanamoneyCardService hanamoneyCardService;
     private final RestTemplate restTemplate;
     private final GroupIntegrationService groupIntegrationService;
+    private final TeamLeaderboardService teamLeaderboardService;
+    private final TeamCounterAccumulator teamCounterAccumulator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PointLedgerService pointLedgerService;
+    private final IdempotencyService idempotencyService;
+    private final DailyPointRollupService dailyPointRollupService;
 
     @Value("${integration.card.url}")
     private String hanacardApiBaseUrl;
@@ -69,12 +78,12 @@ public class EcoSeedService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
         
-        MemberProfile profile = getOrCreateMemberProfile(memberId);
+        MemberProfile profile = pointLedgerService.ensureSummary(getOrCreateMemberProfile(memberId));
         
-        // 거래 내역에서 합계 계산
-        Long totalEarned = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-        Long totalUsed = pointTransactionRepository.sumUsedPointsByMemberId(memberId);
-        Long totalConverted = pointTransactionRepository.sumConvertedPointsByMemberId(memberId);
+        // 프로필에 누적된 원장 합계 사용
+        Long totalEarned = profile.getTotalEarnedPoints();
+        Long totalUsed = profile.getTotalUsedPoints();
+        Long totalConverted = profile.getTotalConvertedPoints();
         
         // totalUsed와 totalConverted는 음수로 저장되어 있으므로 절댓값을 사용
         Long actualTotalUsed = Math.abs(totalUsed) + Math.abs(totalConverted);
@@ -101,10 +110,6 @@ public class EcoSeedService {
         MemberProfile profile = getOrCreateMemberProfile(memberId);
         
         try {
-            // 원큐씨앗 적립 (현재 보유량과 월간 보유량 업데이트)
-            profile.updateCurrentPoints(request.getPointsAmount().longValue());
-            profile.updateCurrentMonthPoints(request.getPointsAmount().longValue());
-            
             // 거래 내역 생성
             PointTransaction transaction = PointTransaction.builder()
                     .member(member)
@@ -113,12 +118,10 @@ public class EcoSeedService {
                     .description(request.getDescription() != null ? request.getDescription() : 
                                request.getCategory().getDisplayName() + "로 원큐씨앗 적립")
                     .pointsAmount(request.getPointsAmount())
-                    .balanceAfter(profile.getCurrentPoints())
                     .build();
             
-            // 한 트랜잭션으로 처리
-            memberProfileRepository.save(profile);
-            pointTransactionRepository.save(transaction);
+            // 보유량/월간 보유량 증가와 거래 내역 저장을 한 트랜잭션으로 처리
+            pointLedgerService.record(profile, transaction);
             
             // 팀 포인트도 동기화 (EARN 타입일 때만)
             if (PointTransactionType.EARN.equals(transaction.getPointTransactionType())) {
@@ -144,10 +147,6 @@ public class EcoSeedService {
         MemberProfile profile = getOrCreateMemberProfile(memberId);
         
         try {
-            // 원큐씨앗 적립 (현재 보유량과 월간 보유량 업데이트)
-            profile.updateCurrentPoints(request.getPointsAmount().longValue());
-            profile.updateCurrentMonthPoints(request.getPointsAmount().longValue());
-            
             // 거래 내역 생성
             PointTransaction transaction = PointTransaction.builder()
                     .member(member)
@@ -156,12 +155,10 @@ public class EcoSeedService {
                     .description(request.getDescription() != null ? request.getDescription() : 
                                request.getCategory().getDisplayName() + "로 원큐씨앗 적립")
                     .pointsAmount(request.getPointsAmount())
-                    .balanceAfter(profile.getCurrentPoints())
                     .build();
             
-            // 한 트랜잭션으로 처리
-            memberProfileRepository.save(profile);
-            pointTransactionRepository.save(transaction);
+            // 보유량/월간 보유량 증가와 거래 내역 저장을 한 트랜잭션으로 처리
+            pointLedgerService.record(profile, transaction);
             
             // 팀 포인트도 동기화 (EARN 타입일 때만)
             if (PointTransactionType.EARN.equals(transaction.getPointTransactionType())) {
@@ -177,78 +174,18 @@ public class EcoSeedService {
     }
 
     /**
-     * 원큐씨앗을 하나머니로 전환 (트랜잭션으로 데이터 정합성 보장)
+     * 외부 이벤트(웹훅) 기반 적립 - 같은 source/externalId는 한 번만 적립
+     *
+     * @return 적립했으면 true, 이미 처리된 이벤트면 false
      */
     @Transactional
-    public EcoSeedResponse convertToHanaMoney(EcoSeedConvertRequest request) {
-        Long memberId = SecurityUtil.getCurrentMemberId();
-        if (memberId == null) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        MemberProfile profile = getOrCreateMemberProfile(memberId);
-        
-        // 잔액 확인
-        if (profile.getCurrentPoints() < request.getPointsAmount()) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_ECO_SEEDS);
-        }
-        
-        try {
-            // 전환 전 잔액 로깅
-            Long beforeEcoSeeds = profile.getCurrentPoints();
-            
-            log.info("하나머니 전환 시작: 회원ID={}, 전환금액={}, 전환전 원큐씨앗={}", 
-                    memberId, request.getPointsAmount(), beforeEcoSeeds);
-            
-            // 1. 먼저 하나카드 서버에서 하나머니 적립 시도
-            boolean hanamoneyEarnSuccess = hanamoneyCardService.earnHanamoney(
-                    member, 
-                    request.getPointsAmount().longValue(), 
-                    "원큐씨앗 전환: " + request.getPointsAmount() + "개"
-            );
-            
-            if (!hanamoneyEarnSuccess) {
-                log.error("하나카드 서버에서 하나머니 적립 실패 - 회원ID: {}, 금액: {}", 
-                        memberId, request.getPointsAmount());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-            
-            // 2. 하나머니 적립이 성공했으면 원큐씨앗 차감
-            profile.updateCurrentPoints(-request.getPointsAmount().longValue());
-            
-            // 3. 거래 내역 생성 (CONVERT 타입 사용, 음수로 저장)
-            PointTransaction transaction = PointTransaction.builder()
-                    .member(member)
-                    .pointTransactionType(PointTransactionType.CONVERT)
-                    .category(PointCategory.HANA_MONEY_CONVERSION)
-                    .description("하나머니로 전환")
-                    .pointsAmount(-request.getPointsAmount()) // 음수로 저장
-                    .balanceAfter(profile.getCurrentPoints())
-                    .build();
-            
-            // 4. 원큐씨앗 차감과 거래 내역 저장
-            memberProfileRepository.save(profile);
-            pointTransactionRepository.save(transaction);
-            
-            // 전환 후 잔액 로깅
-            Long afterEcoSeeds = profile.getCurrentPoints();
-            
-            log.info("하나머니 전환 완료: 회원ID={}, 전환금액={}, 전환후 원큐씨앗={}", 
-                    memberId, request.getPointsAmount(), afterEcoSeeds);
-            
-            // 검증: 원큐씨앗 차감이 정확히 이루어졌는지 확인
-            if ((beforeEcoSeeds - afterEcoSeeds) != request.getPointsAmount().longValue()) {
-                log.error("원큐씨앗 차감 오류: 예상={}, 실제={}", request.getPointsAmount(), (beforeEcoSeeds - afterEcoSeeds));
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-            
-            return getEcoSeedInfo();
-        } catch (Exception e) {
-            log.error("하나머니 전환 실패: {} - {}", memberId, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    public boolean earnEcoSeedsForWebhook(Long memberId, EcoSeedEarnRequest request,
+                                          ProcessedEvent.Source source, String externalId) {
+        if (!idempotencyService.register(source, externalId, memberId)) {
+            return false;
         }
+        earnEcoSeedsForWebhook(memberId, request);
+        return true;
     }
 
     @Transactional(readOnly = true)
@@ -307,16 +244,16 @@ public class EcoSeedService {
         if (memberId == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
-        MemberProfile profile = getOrCreateMemberProfile(memberId);
+        MemberProfile profile = pointLedgerService.ensureSummary(getOrCreateMemberProfile(memberId));
         
-        // point_transactions에서 실시간 계산
-        Long totalEarned = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-        Long currentMonthPoints = pointTransactionRepository.sumCurrentMonthEarnedPointsByMemberId(memberId);
+        // 프로필에 누적된 원장 합계 사용
+        Long totalEarned = profile.getTotalEarnedPoints();
+        Long currentMonthPoints = profile.getCurrentMonthPoints();
         
         Map<String, Object> response = new HashMap<>();
         response.put("currentPoints", profile.getCurrentPoints());
-        response.put("totalPoints", totalEarned); // 실시간 계산된 총 적립
-        response.put("currentMonthPoints", currentMonthPoints); // 실시간 계산된 이번 달 적립
+        response.put("totalPoints", totalEarned); // 누적 총 적립
+        response.put("currentMonthPoints", currentMonthPoints); // 이번 달 적립
         
         // 하나머니 정보는 하나카드 서버에서 조회
         try {
@@ -399,11 +336,11 @@ public class EcoSeedService {
         if (memberId == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
-        MemberProfile profile = getOrCreateMemberProfile(memberId);
+        MemberProfile profile = pointLedgerService.ensureSummary(getOrCreateMemberProfile(memberId));
         
-        // point_transactions에서 실시간 계산
-        Long totalEarned = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-        Long currentMonthPoints = pointTransactionRepository.sumCurrentMonthEarnedPointsByMemberId(memberId);
+        // 프로필에 누적된 원장 합계 사용
+        Long totalEarned = profile.getTotalEarnedPoints();
+        Long currentMonthPoints = profile.getCurrentMonthPoints();
         
         // 현재 레벨 계산 (포인트에 따라 동적으로 계산)
         long currentPoints = totalEarned != null ? totalEarned : 0L;
@@ -537,25 +474,13 @@ public class EcoSeedService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        // 해당 월의 시작일과 종료일 계산
+        // 해당 월의 시작일과 다음 달 시작일 계산 (반열린 구간)
         LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        
-        // 해당 월의 모든 거래 내역 조회 (EARN 타입만)
-        List<PointTransaction> transactions = pointTransactionRepository
-                .findByMember_MemberIdAndPointTransactionTypeAndOccurredAtBetween(
-                        memberId, 
-                        PointTransactionType.EARN, 
-                        startDate.atStartOfDay(), 
-                        endDate.atTime(23, 59, 59)
-                );
         
-        // 일자별 씨앗 획득량 계산
+        // 일자별 씨앗 획득량 (일자별 합계 테이블에서 최대 31행)
         Map<Integer, Long> dailyEarnings = new HashMap<>();
-        for (PointTransaction transaction : transactions) {
-            int day = transaction.getOccurredAt().getDayOfMonth();
-            dailyEarnings.merge(day, transaction.getPointsAmount().longValue(), Long::sum);
-        }
+        dailyPointRollupService.getDailyEarnings(memberId, startDate, startDate.plusMonths(1))
+                .forEach((day, earned) -> dailyEarnings.put(day.getDayOfMonth(), earned));
         
         // 해당 월의 총 획득 씨앗 계산
         Long totalMonthlyEarnings = dailyEarnings.values().stream()
@@ -574,10 +499,44 @@ public class EcoSeedService {
         return response;
     }
 
+    /**
+     * 여러 달에 걸친 일자별 씨앗 획득 현황 (연간 히트맵 등) - 한 번의 범위 쿼리로 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCalendarRangeData(YearMonth from, YearMonth to) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (from.isAfter(to) || from.plusMonths(MAX_CALENDAR_RANGE_MONTHS).isBefore(to.plusMonths(1))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Map<LocalDate, Long> rollup = dailyPointRollupService.getDailyEarnings(
+                memberId, from.atDay(1), to.plusMonths(1).atDay(1));
+
+        Map<String, Long> dailyEarnings = new LinkedHashMap<>();
+        long totalEarnings = 0L;
+        for (Map.Entry<LocalDate, Long> entry : rollup.entrySet()) {
+            dailyEarnings.put(entry.getKey().toString(), entry.getValue());
+            totalEarnings += entry.getValue();
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("from", from.toString());
+        response.put("to", to.toString());
+        response.put("totalEarnings", totalEarnings);
+        response.put("dailyEarnings", dailyEarnings);
+        return response;
+    }
+
     @Transactional(readOnly = true)
     public Long getUserTotalSeeds(Long userId) {
         try {
-            Long totalEarned = pointTransactionRepository.sumEarnedPointsByMemberId(userId);
+            Long totalEarned = memberProfileRepository.findByMember_MemberId(userId)
+                    .filter(MemberProfile::hasLedgerSummary)
+                    .map(MemberProfile::getTotalEarnedPoints)
+                    .orElseGet(() -> pointTransactionRepository.sumEarnedPointsByMemberId(userId));
             return totalEarned != null ? totalEarned : 0L;
         } catch (Exception e) {
             log.error("사용자 총 원큐씨앗 조회 실패: userId={}, error={}", userId, e.getMessage(), e);
@@ -590,13 +549,14 @@ public class EcoSeedService {
             // 회원이 속한 팀 조회
             var memberTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(memberId);
             if (memberTeam.isPresent()) {
-                Team team = memberTeam.get().getTeam();
+                Long teamId = memberTeam.get().getTeam().getId();
                 
-                // 팀 포인트 업데이트
-                team.addPoints(points);
-                teamRepository.save(team);
+                // 팀 포인트 업데이트 (팀 행을 잠그지 않도록 증분만 기록)
+                teamCounterAccumulator.addPoints(teamId, points);
+                teamLeaderboardService.incrementPoints(teamId, points);
+                eventPublisher.publishEvent(TeamScoreChangedEvent.points(teamId, points));
                 
-                log.info("팀 포인트 동기화 완료: 팀ID={}, 추가포인트={}", team.getId(), points);
+                log.info("팀 포인트 동기화 완료: 팀ID={}, 추가포인트={}", teamId, points);
             }
         } catch (Exception e) {
             log.error("팀 포인트 동기화 실패: memberId={}, points={}, error={}", memberId, points, e.getMessage());
@@ -0,0 +1,230 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.util.SecurityUtil;
+import com.kopo.hanagreenworld.integration.service.HanamoneyCardService.EarnResult;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.point.domain.HanaMoneyConversion;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.dto.EcoSeedConvertRequest;
+import com.kopo.hanagreenworld.point.dto.HanaMoneyConversionResponse;
+import com.kopo.hanagreenworld.point.event.HanaMoneyConversionRequestedEvent;
+import com.kopo.hanagreenworld.point.repository.HanaMoneyConversionRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 하나머니 전환 사가
+ *
+ * 1. 요청: 원큐씨앗 차감 + 전환 요청(outbox) 저장을 짧은 로컬 트랜잭션 하나로 처리하고 바로 응답한다.
+ * 2. 전달: HanaMoneyConversionWorker가 트랜잭션 밖에서 하나카드 서버를 호출한다. (회원ID:request_id를 멱등키로 전달)
+ * 3. 완료: 성공이면 SUCCEEDED, 거절/재시도 초과면 FAILED로 바꾸고 차감분을 환불한다.
+ * 클라이언트는 conversionId로 상태를 조회하거나 /user/queue/hana-money/conversions를 구독한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HanaMoneyConversionService {
+
+    public static final String CONVERSION_QUEUE = "/queue/hana-money/conversions";
+
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long LEASE_SECONDS = 60;
+    private static final long MAX_BACKOFF_SECONDS = 600;
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final HanaMoneyConversionRepository conversionRepository;
+    private final MemberRepository memberRepository;
+    private final MemberProfileRepository memberProfileRepository;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 전환 요청 - 원큐씨앗을 먼저 차감하고 전달은 워커에 맡긴다
+     *
+     * @param idempotencyKey 클라이언트 재시도 키 (같은 키로 다시 요청하면 기존 전환을 반환)
+     */
+    @Transactional
+    public HanaMoneyConversionResponse requestConversion(EcoSeedConvertRequest request, String idempotencyKey) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_REQUEST_ID_LENGTH)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+
+        if (idempotencyKey != null) {
+            Optional<HanaMoneyConversion> existing =
+                    conversionRepository.findByMemberIdAndRequestId(memberId, idempotencyKey);
+            if (existing.isPresent()) {
+                return toResponse(existing.get(), profile.getCurrentPoints());
+            }
+        }
+
+        long amount = request.getPointsAmount().longValue();
+        if (profile.getCurrentPoints() < amount) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_ECO_SEEDS);
+        }
+
+        // 잔액 차감은 잔액이 충분할 때만 적용된다 (동시 전환 요청 대비)
+        PointTransaction transaction = PointTransaction.builder()
+                .member(profile.getMember())
+                .pointTransactionType(PointTransactionType.CONVERT)
+                .category(PointCategory.HANA_MONEY_CONVERSION)
+                .description("하나머니로 전환")
+                .pointsAmount(-request.getPointsAmount()) // 음수로 저장
+                .build();
+        pointLedgerService.record(profile, transaction);
+
+        HanaMoneyConversion conversion = conversionRepository.save(HanaMoneyConversion.builder()
+                .memberId(memberId)
+                .requestId(idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString())
+                .pointsAmount(amount)
+                .build());
+
+        eventPublisher.publishEvent(new HanaMoneyConversionRequestedEvent(conversion.getId()));
+
+        log.info("하나머니 전환 요청 접수: 회원ID={}, 전환ID={}, 전환금액={}, 전환후 원큐씨앗={}",
+                memberId, conversion.getId(), amount, profile.getCurrentPoints());
+
+        return toResponse(conversion, profile.getCurrentPoints());
+    }
+
+    @Transactional(readOnly = true)
+    public HanaMoneyConversionResponse getConversion(Long conversionId) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        HanaMoneyConversion conversion = conversionRepository.findByIdAndMemberId(conversionId, memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSION_NOT_FOUND));
+        Long currentSeeds = memberProfileRepository.findByMember_MemberId(memberId)
+                .map(MemberProfile::getCurrentPoints)
+                .orElse(null);
+        return toResponse(conversion, currentSeeds);
+    }
+
+    /**
+     * 전달 권한 선점 - 이미 다른 워커가 처리 중이거나 완료된 건이면 empty
+     */
+    @Transactional
+    public Optional<Delivery> claim(Long conversionId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (conversionRepository.claim(conversionId, now, now.plusSeconds(LEASE_SECONDS)) == 0) {
+            return Optional.empty();
+        }
+
+        HanaMoneyConversion conversion = conversionRepository.findById(conversionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSION_NOT_FOUND));
+        Member member = memberRepository.findById(conversion.getMemberId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        return Optional.of(new Delivery(conversion.getId(), conversion.getDeliveryKey(),
+                conversion.getPointsAmount(), conversion.getAttempts(), member));
+    }
+
+    /**
+     * 하나카드 서버 응답 반영 (성공/최종 실패/재시도 예약)
+     */
+    @Transactional
+    public void complete(Long conversionId, int attempt, EarnResult result) {
+        HanaMoneyConversion conversion = conversionRepository.findByIdForUpdate(conversionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSION_NOT_FOUND));
+        if (!conversion.isPending()) {
+            return;
+        }
+
+        switch (result) {
+            case SUCCESS -> conversion.markSucceeded();
+            case REJECTED -> fail(conversion, "하나카드 서버가 적립을 거절했습니다.");
+            case RETRYABLE -> {
+                if (attempt >= MAX_ATTEMPTS) {
+                    fail(conversion, "하나카드 서버 재시도 횟수를 초과했습니다.");
+                } else {
+                    conversion.scheduleRetry("하나카드 서버 응답 실패",
+                            LocalDateTime.now().plusSeconds(backoffSeconds(attempt)));
+                    log.warn("하나머니 전환 재시도 예약: 전환ID={}, 시도={}/{}", conversionId, attempt, MAX_ATTEMPTS);
+                    return;
+                }
+            }
+        }
+
+        log.info("하나머니 전환 완료: 전환ID={}, 회원ID={}, 상태={}",
+                conversionId, conversion.getMemberId(), conversion.getStatus());
+        notifyAfterCommit(conversion);
+    }
+
+    private void fail(HanaMoneyConversion conversion, String reason) {
+        conversion.markFailed(reason);
+
+        // 보상: 차감한 원큐씨앗을 CONVERT_REFUND 양수 거래로 환불
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(conversion.getMemberId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        pointLedgerService.record(profile, PointTransaction.conversionRefund(
+                profile.getMember(), conversion.getPointsAmount().intValue()));
+
+        log.error("하나머니 전환 실패 - 원큐씨앗 환불: 전환ID={}, 회원ID={}, 금액={}, 사유={}",
+                conversion.getId(), conversion.getMemberId(), conversion.getPointsAmount(), reason);
+    }
+
+    private void notifyAfterCommit(HanaMoneyConversion conversion) {
+        String memberId = conversion.getMemberId().toString();
+        Long currentSeeds = memberProfileRepository.findByMember_MemberId(conversion.getMemberId())
+                .map(MemberProfile::getCurrentPoints)
+                .orElse(null);
+        HanaMoneyConversionResponse message = toResponse(conversion, currentSeeds);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    messagingTemplate.convertAndSendToUser(memberId, CONVERSION_QUEUE, message);
+                } catch (Exception e) {
+                    // 알림 실패는 상태 조회 API로 확인 가능
+                    log.warn("하나머니 전환 결과 전송 실패: 전환ID={}, error={}", message.getConversionId(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private HanaMoneyConversionResponse toResponse(HanaMoneyConversion conversion, Long currentSeeds) {
+        return HanaMoneyConversionResponse.of(conversion, currentSeeds);
+    }
+
+    // 10초부터 두 배씩, 최대 10분
+    private long backoffSeconds(int attempt) {
+        return Math.min(MAX_BACKOFF_SECONDS, 5L << Math.min(attempt, 10));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Delivery {
+        private final Long conversionId;
+        private final String idempotencyKey;   // 하나카드 서버로 보내는 멱등키
+        private final Long pointsAmount;
+        private final int attempt;
+        private final Member member;
+    }
+}
@@ -0,0 +1,129 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.integration.service.HanamoneyCardService;
+import com.kopo.hanagreenworld.point.event.HanaMoneyConversionRequestedEvent;
+import com.kopo.hanagreenworld.point.repository.HanaMoneyConversionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하나머니 전환 요청을 하나카드 서버로 전달하는 워커
+ *
+ * 요청 커밋 직후 바로 전달을 시도하고, 실패/유실된 건은 주기적으로 대기 건을 다시 조회해 재전달한다.
+ * 원격 호출은 별도 풀에서 트랜잭션 없이 수행하므로 요청 스레드와 DB 커넥션이 하나카드 서버 응답을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HanaMoneyConversionWorker {
+
+    private static final int POOL_SIZE = 4;
+    private static final int QUEUE_CAPACITY = 200;
+    private static final int POLL_BATCH_SIZE = 50;
+
+    private final HanaMoneyConversionService conversionService;
+    private final HanaMoneyConversionRepository conversionRepository;
+    private final HanamoneyCardService hanamoneyCardService;
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = createExecutor();
+
+    @TransactionalEventListener
+    public void onConversionRequested(HanaMoneyConversionRequestedEvent event) {
+        dispatch(event.getConversionId());
+    }
+
+    /**
+     * 재시도 시각이 된 대기 건 재전달 (서버 재시작, 큐 포화, 임대 만료 건 포함)
+     */
+    @Scheduled(fixedDelayString = "${hana-money.conversion.poll-interval-ms:5000}")
+    public void pollDueConversions() {
+        try {
+            List<Long> dueIds = conversionRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, POLL_BATCH_SIZE));
+            dueIds.forEach(this::dispatch);
+        } catch (Exception e) {
+            log.error("하나머니 전환 대기 건 조회 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(Long conversionId) {
+        if (!queued.add(conversionId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(conversionId);
+                } finally {
+                    queued.remove(conversionId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 차면 다음 주기 조회에서 다시 시도
+            queued.remove(conversionId);
+            log.warn("하나머니 전환 전달 대기열 포화: 전환ID={}", conversionId);
+        }
+    }
+
+    private void deliver(Long conversionId) {
+        try {
+            Optional<HanaMoneyConversionService.Delivery> claimed = conversionService.claim(conversionId);
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            HanaMoneyConversionService.Delivery delivery = claimed.get();
+            HanamoneyCardService.EarnResult result = hanamoneyCardService.earnHanamoney(
+                    delivery.getMember(),
+                    delivery.getPointsAmount(),
+                    "원큐씨앗 전환: " + delivery.getPointsAmount() + "개",
+                    delivery.getIdempotencyKey());
+
+            conversionService.complete(conversionId, delivery.getAttempt(), result);
+        } catch (Exception e) {
+            // 임대 시간이 지나면 주기 조회에서 다시 전달된다 (멱등키로 중복 적립 방지)
+            log.error("하나머니 전환 전달 실패: 전환ID={}, error={}", conversionId, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hana-money-conversion-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,116 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.point.domain.ProcessedEvent;
+import com.kopo.hanagreenworld.point.repository.ProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 웹훅 이벤트 멱등성 처리
+ *
+ * 1) 최근 처리한 키 캐시(LRU)에 있으면 DB 조회 없이 중복으로 판단
+ * 2) 없으면 호출 측 트랜잭션 안에서 INSERT IGNORE로 (source, external_id)를 선점
+ *    - 먼저 선점한 트랜잭션이 커밋될 때까지 유니크 인덱스에서 기다렸다가 0건으로 끝나므로
+ *      동시에 들어온 재시도도 예외 없이 "이미 처리됨"으로 판단된다 (선점 전에는 어떤 쓰기도 하지 않는다)
+ * INSERT IGNORE는 길이 초과도 경고로 바꿔 잘라 넣으므로, 컬럼보다 긴 external_id는 SHA-256 해시로 바꿔 저장한다.
+ * (앞부분이 같은 긴 ID 두 개가 같은 키로 합쳐져 두 번째 적립이 중복으로 버려지는 것을 막는다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int RECENT_CACHE_SIZE = 10_000;
+    private static final int MAX_EXTERNAL_ID_LENGTH = 100;   // processed_events.external_id 길이
+    private static final String HASHED_ID_PREFIX = "sha256:";
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    // 커밋된 키만 넣으므로 캐시에 있으면 확실히 처리된 이벤트
+    private final Set<String> recentKeys = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<String, Boolean>(RECENT_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > RECENT_CACHE_SIZE;
+                }
+            }));
+
+    public boolean isProcessed(ProcessedEvent.Source source, String rawExternalId) {
+        String externalId = toStoredId(rawExternalId);
+        String key = toKey(source, externalId);
+        if (recentKeys.contains(key)) {
+            return true;
+        }
+        if (processedEventRepository.existsBySourceAndExternalId(source, externalId)) {
+            recentKeys.add(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 이벤트 처리 이력 등록 (호출 측 트랜잭션에 참여) - 혜택 지급 등 다른 쓰기보다 먼저 호출한다
+     *
+     * @return 처음 처리하는 이벤트면 true, 이미 처리된 이벤트면 false
+     */
+    @Transactional
+    public boolean register(ProcessedEvent.Source source, String rawExternalId, Long memberId) {
+        String externalId = toStoredId(rawExternalId);
+        String key = toKey(source, externalId);
+        if (recentKeys.contains(key)) {
+            log.info("이미 처리된 이벤트: source={}, externalId={}", source, externalId);
+            return false;
+        }
+
+        int inserted = processedEventRepository.insertIfAbsent(
+                source.name(), externalId, memberId, LocalDateTime.now());
+        if (inserted == 0) {
+            // 같은 트랜잭션이 먼저 등록했을 수도 있으므로 커밋 전에는 캐시에 넣지 않는다
+            log.info("이미 처리된 이벤트: source={}, externalId={}", source, externalId);
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentKeys.add(key);
+                }
+            });
+        } else {
+            recentKeys.add(key);
+        }
+        return true;
+    }
+
+    // 컬럼에 들어가는 ID는 그대로, 긴 ID는 "sha256:" + 64자 16진수(71자)로 저장
+    static String toStoredId(String externalId) {
+        if (externalId == null || externalId.length() <= MAX_EXTERNAL_ID_LENGTH) {
+            return externalId;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(externalId.getBytes(StandardCharsets.UTF_8));
+            return HASHED_ID_PREFIX + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String toKey(ProcessedEvent.Source source, String externalId) {
+        return source.name() + ":" + externalId;
+    }
+}
@@ -0,0 +1,304 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileCounterService;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 원장(point_transactions)과 회원별 합계(MemberProfile)를 함께 관리
+ *
+ * 거래 저장 시 같은 트랜잭션에서 잔액/합계 컬럼을 갱신하므로 잔액/누적 조회는 프로필 단건 조회로 끝난다.
+ * 적립 거래는 일자별 합계(daily_point_rollup)에도 함께 누적한다.
+ * 합계가 아직 없는 기존 회원은 시작 시 backfillSummaries()로 한 번 집계하고, reconcile()이 주기적으로 원장과 대조한다.
+ * 사용/전환 합계는 원장과 같은 부호(음수)로 누적하고, 전환 실패 환불(CONVERT_REFUND)은 전환 합계에서 상쇄한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    // 다중 행 INSERT 한 문장에 담는 최대 거래 수
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_COLUMNS = "INSERT INTO point_transactions " +
+            "(member_id, transaction_type, category, description, points_amount, balance_after, " +
+            "occurred_at, created_at, modified_at) VALUES ";
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final MemberProfileRepository memberProfileRepository;
+    private final DailyPointRollupService dailyPointRollupService;
+    private final MemberProfileCounterService memberProfileCounterService;
+    private final JdbcTemplate jdbcTemplate;
+    // JDBC로 저장하는 거래도 엔티티와 같은 감사 설정(DateTimeProvider)으로 생성/수정 시각을 매긴다
+    private final AuditingHandler auditingHandler;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 합계 컬럼이 비어 있으면 원장에서 집계해 채운다 (기존 회원 최초 1회, 쓰기 트랜잭션 필요)
+     * 대부분은 시작 시 backfillSummaries()가 미리 채우며, 여기서는 백필 전에 들어온 요청만 처리한다.
+     * 같은 회원의 첫 거래가 동시에 들어와도 한 번만 집계되도록 프로필 행을 잠그고 다시 확인한다.
+     */
+    @Transactional
+    public MemberProfile ensureSummary(MemberProfile profile) {
+        if (profile.hasLedgerSummary()) {
+            return profile;
+        }
+
+        entityManager.refresh(profile, LockModeType.PESSIMISTIC_WRITE);
+        if (!profile.hasLedgerSummary()) {
+            Long memberId = profile.getMember().getMemberId();
+            Map<PointTransactionType, Long> ledger = sumLedgerByType(List.of(memberId)).getOrDefault(memberId, Map.of());
+            profile.initializeLedgerSummary(
+                    ledger.getOrDefault(PointTransactionType.EARN, 0L),
+                    ledger.getOrDefault(PointTransactionType.USE, 0L),
+                    convertedTotal(ledger));
+            memberProfileRepository.saveAndFlush(profile);
+            log.info("포인트 원장 합계 초기화: memberId={}, earned={}, used={}, converted={}", memberId,
+                    profile.getTotalEarnedPoints(), profile.getTotalUsedPoints(), profile.getTotalConvertedPoints());
+        }
+        return profile;
+    }
+
+    /**
+     * 합계가 없는 프로필 다음 페이지를 원장에서 채운다 (페이지마다 별도 트랜잭션, 재실행해도 결과가 같다)
+     * 행 잠금 후 null인 프로필만 고르므로 여러 서버가 동시에 실행해도 같은 회원을 두 번 집계하지 않는다.
+     *
+     * @return 이번 페이지의 마지막 프로필 id (더 없으면 null)
+     */
+    @Transactional
+    public Long backfillSummaries(Long afterId, int pageSize) {
+        List<MemberProfile> profiles = memberProfileRepository.findPageWithoutLedgerSummaryForUpdate(
+                afterId, PageRequest.of(0, pageSize));
+        if (profiles.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Map<PointTransactionType, Long>> sums = sumLedgerByType(profiles.stream()
+                .map(profile -> profile.getMember().getMemberId())
+                .collect(Collectors.toList()));
+        for (MemberProfile profile : profiles) {
+            Map<PointTransactionType, Long> ledger = sums.getOrDefault(profile.getMember().getMemberId(), Map.of());
+            profile.initializeLedgerSummary(
+                    ledger.getOrDefault(PointTransactionType.EARN, 0L),
+                    ledger.getOrDefault(PointTransactionType.USE, 0L),
+                    convertedTotal(ledger));
+        }
+        return profiles.get(profiles.size() - 1).getId();
+    }
+
+    /**
+     * 거래 내역 저장과 잔액/합계 갱신을 한 트랜잭션에서 처리
+     * 잔액과 합계는 UPDATE 한 문장으로 증감하고, 반영된 잔액을 거래의 balanceAfter로 기록한다.
+     *
+     * @throws com.kopo.hanagreenworld.common.exception.BusinessException 차감할 잔액이 부족한 경우
+     */
+    @Transactional
+    public PointTransaction record(MemberProfile profile, PointTransaction transaction) {
+        // 새 거래가 이중 집계되지 않도록 반영 전에 초기화
+        ensureSummary(profile);
+
+        long amount = transaction.getPointsAmount().longValue();
+        MemberProfileCounterService.Delta delta = switch (transaction.getPointTransactionType()) {
+            case EARN -> MemberProfileCounterService.Delta.earned(amount);
+            case USE -> MemberProfileCounterService.Delta.used(amount);
+            case CONVERT, CONVERT_REFUND -> MemberProfileCounterService.Delta.converted(amount);
+        };
+        memberProfileCounterService.apply(profile, delta);
+        transaction.setBalanceAfter(profile.getCurrentPoints());
+
+        PointTransaction saved = pointTransactionRepository.save(transaction);
+        if (transaction.getPointTransactionType() == PointTransactionType.EARN) {
+            dailyPointRollupService.addEarned(profile.getMember().getMemberId(),
+                    transaction.getOccurredAt().toLocalDate(), amount);
+        }
+        return saved;
+    }
+
+    /**
+     * 여러 회원의 적립 거래를 한 번에 기록 (관리자 일괄 승인 등)
+     * 회원당 잔액/합계 UPDATE 1회, 거래 내역은 다중 행 INSERT, 일자별 합계는 (회원, 일자)당 1회로 반영한다.
+     * point_transactions는 IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로 JDBC로 직접 저장한다.
+     * 생성/수정 시각은 JPA 감사와 같은 AuditingHandler로 매긴 뒤 그대로 저장한다.
+     * (저장된 거래는 영속성 컨텍스트에 올라가지 않으며 id도 채워지지 않는다)
+     *
+     * @param earningsByMember 회원ID별 적립 거래 (거래 순서대로 balanceAfter를 매긴다)
+     */
+    @Transactional
+    public void recordEarnings(Map<Long, List<PointTransaction>> earningsByMember) {
+        if (earningsByMember.isEmpty()) {
+            return;
+        }
+
+        Map<Long, MemberProfile> profiles = memberProfileRepository.findByMember_MemberIdIn(earningsByMember.keySet())
+                .stream()
+                .collect(Collectors.toMap(profile -> profile.getMember().getMemberId(), Function.identity()));
+
+        List<PointTransaction> inserts = new ArrayList<>();
+        for (Map.Entry<Long, List<PointTransaction>> entry : earningsByMember.entrySet()) {
+            Long memberId = entry.getKey();
+            List<PointTransaction> transactions = entry.getValue();
+            if (transactions.isEmpty()) {
+                continue;
+            }
+
+            MemberProfile profile = profiles.get(memberId);
+            if (profile == null) {
+                Member member = transactions.get(0).getMember();
+                profile = memberProfileRepository.save(MemberProfile.builder()
+                        .member(member)
+                        .nickname(member.getName())
+                        .build());
+            }
+            ensureSummary(profile);
+
+            long total = 0;
+            Map<LocalDate, Long> dailyEarned = new HashMap<>();
+            for (PointTransaction transaction : transactions) {
+                if (transaction.getPointTransactionType() != PointTransactionType.EARN) {
+                    throw new IllegalArgumentException("적립 거래만 일괄 기록할 수 있습니다: " + transaction.getPointTransactionType());
+                }
+                long amount = transaction.getPointsAmount().longValue();
+                total += amount;
+                dailyEarned.merge(transaction.getOccurredAt().toLocalDate(), amount, Long::sum);
+            }
+            memberProfileCounterService.apply(profile, MemberProfileCounterService.Delta.earned(total));
+
+            // 반영 후 잔액에서 거꾸로 계산해 거래별 잔액을 매긴다
+            long balance = profile.getCurrentPoints() - total;
+            for (PointTransaction transaction : transactions) {
+                balance += transaction.getPointsAmount();
+                transaction.setBalanceAfter(balance);
+                inserts.add(transaction);
+            }
+            dailyEarned.forEach((day, earned) -> dailyPointRollupService.addEarned(memberId, day, earned));
+        }
+
+        for (int from = 0; from < inserts.size(); from += INSERT_BATCH_SIZE) {
+            insertAll(inserts.subList(from, Math.min(from + INSERT_BATCH_SIZE, inserts.size())));
+        }
+        log.info("포인트 적립 일괄 기록: 회원 {}명, 거래 {}건", earningsByMember.size(), inserts.size());
+    }
+
+    private void insertAll(List<PointTransaction> transactions) {
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS);
+        List<Object> args = new ArrayList<>(transactions.size() * 9);
+        for (int i = 0; i < transactions.size(); i++) {
+            PointTransaction transaction = auditingHandler.markCreated(transactions.get(i));
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            args.add(transaction.getMember().getMemberId());
+            args.add(transaction.getPointTransactionType().name());
+            args.add(transaction.getCategory().name());
+            args.add(transaction.getDescription());
+            args.add(transaction.getPointsAmount());
+            args.add(transaction.getBalanceAfter());
+            args.add(transaction.getOccurredAt());
+            args.add(transaction.getCreatedAt());
+            args.add(transaction.getModifiedAt());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 프로필 id 기준 다음 페이지를 원장과 대조해 어긋난 합계를 보정
+     *
+     * @return 이번 페이지의 마지막 프로필 id (더 없으면 null)
+     */
+    @Transactional
+    public Long reconcile(Long afterId, int pageSize, ReconcileResult result) {
+        List<MemberProfile> profiles = memberProfileRepository.findPageForUpdate(afterId, PageRequest.of(0, pageSize));
+        if (profiles.isEmpty()) {
+            return null;
+        }
+
+        List<Long> memberIds = profiles.stream()
+                .map(profile -> profile.getMember().getMemberId())
+                .collect(Collectors.toList());
+
+        Map<Long, Map<PointTransactionType, Long>> sums = sumLedgerByType(memberIds);
+
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        Map<Long, Long> monthlyEarned = new HashMap<>();
+        for (Object[] row : pointTransactionRepository.sumEarnedPointsByMemberIdsBetween(
+                memberIds, monthStart, monthStart.plusMonths(1))) {
+            monthlyEarned.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        for (MemberProfile profile : profiles) {
+            Long memberId = profile.getMember().getMemberId();
+            Map<PointTransactionType, Long> ledger = sums.getOrDefault(memberId, Map.of());
+            long earned = ledger.getOrDefault(PointTransactionType.EARN, 0L);
+            long used = ledger.getOrDefault(PointTransactionType.USE, 0L);
+            long converted = convertedTotal(ledger);
+            long monthly = monthlyEarned.getOrDefault(memberId, 0L);
+
+            result.checked++;
+            if (!profile.hasLedgerSummary()
+                    || profile.getTotalEarnedPoints() != earned
+                    || profile.getTotalUsedPoints() != used
+                    || profile.getTotalConvertedPoints() != converted) {
+                if (profile.hasLedgerSummary()) {
+                    log.warn("포인트 원장 합계 불일치 보정: memberId={}, earned {}→{}, used {}→{}, converted {}→{}",
+                            memberId, profile.getTotalEarnedPoints(), earned, profile.getTotalUsedPoints(), used,
+                            profile.getTotalConvertedPoints(), converted);
+                }
+                profile.initializeLedgerSummary(earned, used, converted);
+                result.corrected++;
+            }
+            if (!Objects.equals(profile.getCurrentMonthPoints(), monthly)) {
+                log.warn("이번 달 적립 포인트 불일치 보정: memberId={}, {}→{}", memberId, profile.getCurrentMonthPoints(), monthly);
+                profile.correctCurrentMonthPoints(monthly);
+                result.corrected++;
+            }
+        }
+
+        return profiles.get(profiles.size() - 1).getId();
+    }
+
+    // 회원ID → 유형별 원장 합계 (부호 그대로: 사용/전환은 음수)
+    private Map<Long, Map<PointTransactionType, Long>> sumLedgerByType(List<Long> memberIds) {
+        Map<Long, Map<PointTransactionType, Long>> sums = new HashMap<>();
+        for (Object[] row : pointTransactionRepository.sumPointsByMemberIdsGroupByType(memberIds)) {
+            sums.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashMap<>())
+                    .put((PointTransactionType) row[1], ((Number) row[2]).longValue());
+        }
+        return sums;
+    }
+
+    // 순 전환 합계 = 전환(음수) + 전환 실패 환불(양수)
+    private long convertedTotal(Map<PointTransactionType, Long> ledger) {
+        return ledger.getOrDefault(PointTransactionType.CONVERT, 0L)
+                + ledger.getOrDefault(PointTransactionType.CONVERT_REFUND, 0L);
+    }
+
+    @Getter
+    public static class ReconcileResult {
+        private int checked;
+        private int corrected;
+    }
+}
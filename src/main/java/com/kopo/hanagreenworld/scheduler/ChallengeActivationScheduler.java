@@ -0,0 +1,49 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.activity.service.ChallengeCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeActivationScheduler {
+
+    private final ChallengeCatalog challengeCatalog;
+
+    /**
+     * 매분: 카탈로그의 다음 전환 시각이 지났을 때만 DB의 isActive를 갱신하고 카탈로그를 교체
+     */
+    @Scheduled(cron = "0 * * * * ?")
+    public void flipActiveStatus() {
+        LocalDateTime nextBoundary = challengeCatalog.getNextBoundary();
+        if (nextBoundary == null || LocalDateTime.now().isBefore(nextBoundary)) {
+            return;
+        }
+
+        try {
+            int changed = challengeCatalog.syncActiveStatus();
+            challengeCatalog.refresh();
+            log.info("챌린지 활성 상태 동기화 완료: 변경={}건", changed);
+        } catch (Exception e) {
+            log.error("챌린지 활성 상태 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 서버나 DB에서 직접 변경된 챌린지를 주기적으로 반영
+     */
+    @Scheduled(fixedDelayString = "${challenge.catalog.refresh-interval-ms:300000}",
+               initialDelayString = "${challenge.catalog.refresh-interval-ms:300000}")
+    public void refreshCatalog() {
+        try {
+            challengeCatalog.refresh();
+        } catch (Exception e) {
+            log.warn("챌린지 카탈로그 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.point.service.DailyPointRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyPointRollupBackfillJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final DailyPointRollupService dailyPointRollupService;
+
+    // 이 시간이 지나도 완료 표시가 없으면 중단된 실행으로 보고 넘겨받는다
+    @Value("${point.rollup.backfill.stale-minutes:60}")
+    private long staleMinutes;
+
+    /**
+     * 시작 시 한 번 기존 원장으로 일자별 합계를 채운다
+     * 테이블이 비었는지가 아니라 완료 표시로 판단하므로, 중간에 멈춘 백필도 다음 기동 때 이어서 끝난다.
+     * 여러 서버 중 실행권을 선점한 한 서버만 돌고, 나머지는 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        try {
+            if (!dailyPointRollupService.claimBackfill(Duration.ofMinutes(staleMinutes))) {
+                return;
+            }
+            backfill();
+            dailyPointRollupService.completeBackfill();
+        } catch (Exception e) {
+            log.error("일자별 적립 합계 백필 확인 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 원장 전체를 회원 구간 단위로 다시 집계 (재실행해도 결과가 같다)
+     */
+    public int backfill() {
+        Long afterMemberId = 0L;
+        int chunks = 0;
+
+        try {
+            while (true) {
+                Long lastMemberId = dailyPointRollupService.backfill(afterMemberId, CHUNK_SIZE);
+                if (lastMemberId == null) {
+                    break;
+                }
+                afterMemberId = lastMemberId;
+                chunks++;
+            }
+            log.info("일자별 적립 합계 백필 완료: 구간 수={}, 마지막 memberId={}", chunks, afterMemberId);
+        } catch (Exception e) {
+            log.error("일자별 적립 합계 백필 실패: lastMemberId={}, error={}", afterMemberId, e.getMessage(), e);
+            throw e;
+        }
+        return chunks;
+    }
+}
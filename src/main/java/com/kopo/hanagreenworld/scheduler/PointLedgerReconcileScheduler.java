@@ -0,0 +1,35 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.point.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerReconcileScheduler {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final PointLedgerService pointLedgerService;
+
+    /**
+     * 매일 새벽 4시: 회원별 포인트 합계를 원장과 대조 (페이지마다 별도 트랜잭션)
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void reconcilePointLedger() {
+        PointLedgerService.ReconcileResult result = new PointLedgerService.ReconcileResult();
+        Long afterId = 0L;
+
+        try {
+            while (afterId != null) {
+                afterId = pointLedgerService.reconcile(afterId, PAGE_SIZE, result);
+            }
+            log.info("포인트 원장 대조 완료: 대상={}명, 보정={}건", result.getChecked(), result.getCorrected());
+        } catch (Exception e) {
+            log.error("포인트 원장 대조 실패: lastProfileId={}, error={}", afterId, e.getMessage(), e);
+        }
+    }
+}
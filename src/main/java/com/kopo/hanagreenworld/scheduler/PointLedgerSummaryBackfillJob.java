@@ -0,0 +1,44 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.point.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerSummaryBackfillJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final PointLedgerService pointLedgerService;
+
+    /**
+     * 시작 시 원장 합계가 없는 프로필을 원장에서 채운다 (채울 프로필이 없으면 쿼리 한 번으로 끝난다)
+     * 조회 API가 회원마다 원장 전체를 합산하지 않도록 미리 채워 둔다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLedgerSummaries() {
+        Long afterId = 0L;
+        int pages = 0;
+
+        try {
+            while (true) {
+                Long lastId = pointLedgerService.backfillSummaries(afterId, PAGE_SIZE);
+                if (lastId == null) {
+                    break;
+                }
+                afterId = lastId;
+                pages++;
+            }
+            if (pages > 0) {
+                log.info("포인트 원장 합계 백필 완료: 페이지 수={}, 마지막 profileId={}", pages, afterId);
+            }
+        } catch (Exception e) {
+            log.error("포인트 원장 합계 백필 실패: lastProfileId={}, error={}", afterId, e.getMessage(), e);
+        }
+    }
+}
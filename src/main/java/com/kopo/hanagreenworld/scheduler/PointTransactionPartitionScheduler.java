@@ -0,0 +1,62 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * point_transactions 월 파티션 사전 생성
+ * 파티셔닝은 resources/db/point_transactions_partitioning.sql로 적용하며, 적용 전이면 아무 작업도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointTransactionPartitionScheduler {
+
+    private static final String TABLE_NAME = "point_transactions";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final int MONTHS_AHEAD = 2;
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매월 20일 새벽 3시: 앞으로 두 달치 파티션이 없으면 비어 있는 p_future를 분할해 추가
+     */
+    @Scheduled(cron = "0 0 3 20 * ?")
+    public void ensureUpcomingPartitions() {
+        try {
+            List<String> partitions = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                    String.class, TABLE_NAME);
+
+            if (!partitions.contains(FUTURE_PARTITION)) {
+                log.debug("{} 테이블이 파티셔닝되어 있지 않아 파티션 생성을 건너뜁니다.", TABLE_NAME);
+                return;
+            }
+
+            YearMonth month = YearMonth.now();
+            for (int i = 0; i <= MONTHS_AHEAD; i++, month = month.plusMonths(1)) {
+                String partitionName = month.format(PARTITION_FORMAT);
+                if (partitions.contains(partitionName)) {
+                    continue;
+                }
+                jdbcTemplate.execute(String.format(
+                        "ALTER TABLE %s REORGANIZE PARTITION %s INTO (" +
+                        "PARTITION %s VALUES LESS THAN ('%s 00:00:00'), " +
+                        "PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                        TABLE_NAME, FUTURE_PARTITION, partitionName, month.plusMonths(1).atDay(1), FUTURE_PARTITION));
+                log.info("포인트 거래 파티션 추가: {}", partitionName);
+            }
+        } catch (Exception e) {
+            log.error("포인트 거래 파티션 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.member.service.TeamCounterAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamCounterFlushScheduler {
+
+    private final TeamCounterAccumulator teamCounterAccumulator;
+
+    /**
+     * 서버 시작 시 이전 실행에서 반영되지 못한 증분을 먼저 반영 (리더보드 재구성보다 앞서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void replayPendingDeltas() {
+        try {
+            int teams = teamCounterAccumulator.flush();
+            if (teams > 0) {
+                log.info("미반영 팀 카운터 복구 완료: 팀 수={}", teams);
+            }
+        } catch (Exception e) {
+            log.error("미반영 팀 카운터 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${team.counter.flush-interval-ms:2000}")
+    public void flushTeamCounters() {
+        try {
+            teamCounterAccumulator.flush();
+        } catch (Exception e) {
+            log.warn("팀 카운터 반영 실패 - 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+}
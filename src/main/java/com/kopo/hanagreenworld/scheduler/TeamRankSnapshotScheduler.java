@@ -0,0 +1,60 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.member.domain.TeamRankSnapshot;
+import com.kopo.hanagreenworld.member.service.TeamCounterAccumulator;
+import com.kopo.hanagreenworld.member.service.TeamRankSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamRankSnapshotScheduler {
+
+    private static final int DAILY_RETENTION_DAYS = 90;
+
+    private final TeamRankSnapshotService teamRankSnapshotService;
+    private final TeamCounterAccumulator teamCounterAccumulator;
+
+    /**
+     * 매월 1일 0시: 지난달 최종 순위 기록
+     */
+    @Scheduled(cron = "0 0 0 1 * ?")
+    public void snapshotMonthlyRanks() {
+        LocalDate previousMonth = LocalDate.now().minusMonths(1).withDayOfMonth(1);
+        try {
+            flushPendingCounters();
+            teamRankSnapshotService.takeSnapshot(TeamRankSnapshot.SnapshotType.MONTHLY, previousMonth);
+        } catch (Exception e) {
+            log.error("월간 팀 순위 스냅샷 실패: month={}, error={}", previousMonth, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 매일 0시 5분: 전날 마감 순위 기록 (월중 순위 변동 추이용)
+     */
+    @Scheduled(cron = "0 5 0 * * ?")
+    public void snapshotDailyRanks() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            flushPendingCounters();
+            teamRankSnapshotService.takeSnapshot(TeamRankSnapshot.SnapshotType.DAILY, yesterday);
+            teamRankSnapshotService.deleteDailySnapshotsBefore(yesterday.minusDays(DAILY_RETENTION_DAYS));
+        } catch (Exception e) {
+            log.error("일별 팀 순위 스냅샷 실패: date={}, error={}", yesterday, e.getMessage(), e);
+        }
+    }
+
+    // 아직 teams 테이블에 반영되지 않은 증분까지 포함해 순위를 기록
+    private void flushPendingCounters() {
+        try {
+            teamCounterAccumulator.flush();
+        } catch (Exception e) {
+            log.warn("스냅샷 전 팀 카운터 반영 실패: {}", e.getMessage());
+        }
+    }
+}
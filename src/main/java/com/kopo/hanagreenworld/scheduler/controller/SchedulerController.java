@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.scheduler.controller;
 
+import com.kopo.hanagreenworld.scheduler.DailyPointRollupBackfillJob;
 import com.kopo.hanagreenworld.scheduler.MonthlyDataResetScheduler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +20,7 @@ import java.util.Map;
 public class SchedulerController {
 
     private final MonthlyDataResetScheduler monthlyDataResetScheduler;
+    private final DailyPointRollupBackfillJob dailyPointRollupBackfillJob;
 
     @PostMapping("/reset-monthly-data")
     @Operation(summary = "월간 데이터 초기화 수동 실행", description = "모든 사용자의 이번달 데이터를 수동으로 초기화합니다.")
@@ -47,6 +49,32 @@ public class SchedulerController {
         }
     }
 
+    @PostMapping("/backfill-daily-point-rollup")
+    @Operation(summary = "일자별 적립 합계 백필", description = "포인트 원장으로 일자별 적립 합계(달력 데이터)를 다시 계산합니다.")
+    public ResponseEntity<Map<String, Object>> backfillDailyPointRollup() {
+        try {
+            log.info("🔧 관리자가 일자별 적립 합계 백필을 수동 실행했습니다.");
+
+            int chunks = dailyPointRollupBackfillJob.backfill();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "일자별 적립 합계 백필이 완료되었습니다.");
+            response.put("chunks", chunks);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "일자별 적립 합계 백필 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     @GetMapping("/status")
     @Operation(summary = "스케줄러 상태 확인", description = "스케줄러의 현재 상태를 확인합니다.")
     public ResponseEntity<Map<String, Object>> getSchedulerStatus() {
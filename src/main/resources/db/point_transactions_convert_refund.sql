@@ -0,0 +1,10 @@
+-- =====================================================================
+-- point_transactions.transaction_type 에 CONVERT_REFUND 추가 (MySQL 8.0)
+--
+-- Hibernate는 @Enumerated(STRING) 컬럼을 MySQL ENUM으로 만들고, ddl-auto(update)는
+-- 기존 ENUM 값 목록을 바꾸지 않으므로 배포 전 한 번 수동으로 실행한다.
+-- 값을 뒤에 추가하는 변경이라 테이블을 다시 쓰지 않는다.
+-- =====================================================================
+
+ALTER TABLE point_transactions
+    MODIFY transaction_type ENUM('EARN', 'USE', 'CONVERT', 'CONVERT_REFUND') NOT NULL;
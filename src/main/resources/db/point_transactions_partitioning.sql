@@ -0,0 +1,73 @@
+-- =====================================================================
+-- point_transactions 월 단위 RANGE 파티셔닝 (MySQL 8.0)
+--
+-- ddl-auto(update)는 PK 변경/파티셔닝을 하지 않으므로 배포 전 한 번 수동으로 실행한다.
+-- 이후 다음 달 파티션은 PointTransactionPartitionScheduler가 미리 만들어 둔다.
+--
+-- MySQL 파티션 테이블 제약
+--  - 외래키를 가질 수 없다 → PointTransaction.member는 ConstraintMode.NO_CONSTRAINT
+--  - PK/유니크키에 파티션 키(occurred_at)가 포함되어야 한다 → PK (transaction_id, occurred_at)
+-- =====================================================================
+
+-- 1) member_id 외래키 제거 (있을 때만)
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+            WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'point_transactions' LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE point_transactions DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) PK에 파티션 키 포함 (AUTO_INCREMENT 컬럼이 PK 첫 컬럼으로 남으므로 한 문장으로 변경)
+ALTER TABLE point_transactions
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (transaction_id, occurred_at);
+
+-- 3) 조회 패턴별 복합 인덱스 (ddl-auto가 이미 만들었다면 생략)
+--    회원별 유형/기간 합계: WHERE member_id = ? AND transaction_type = ? AND occurred_at >= ? AND occurred_at < ?
+CREATE INDEX idx_point_tx_member_type_occurred ON point_transactions (member_id, transaction_type, occurred_at);
+--    회원별 거래 내역 최신순: WHERE member_id = ? ORDER BY occurred_at DESC
+CREATE INDEX idx_point_tx_member_occurred ON point_transactions (member_id, occurred_at);
+
+-- 4) 월 단위 파티셔닝 (p_future는 항상 비어 있도록 스케줄러가 미리 분할)
+ALTER TABLE point_transactions
+PARTITION BY RANGE COLUMNS (occurred_at) (
+    PARTITION p_old    VALUES LESS THAN ('2025-01-01 00:00:00'),
+    PARTITION p202501  VALUES LESS THAN ('2025-02-01 00:00:00'),
+    PARTITION p202502  VALUES LESS THAN ('2025-03-01 00:00:00'),
+    PARTITION p202503  VALUES LESS THAN ('2025-04-01 00:00:00'),
+    PARTITION p202504  VALUES LESS THAN ('2025-05-01 00:00:00'),
+    PARTITION p202505  VALUES LESS THAN ('2025-06-01 00:00:00'),
+    PARTITION p202506  VALUES LESS THAN ('2025-07-01 00:00:00'),
+    PARTITION p202507  VALUES LESS THAN ('2025-08-01 00:00:00'),
+    PARTITION p202508  VALUES LESS THAN ('2025-09-01 00:00:00'),
+    PARTITION p202509  VALUES LESS THAN ('2025-10-01 00:00:00'),
+    PARTITION p202510  VALUES LESS THAN ('2025-11-01 00:00:00'),
+    PARTITION p202511  VALUES LESS THAN ('2025-12-01 00:00:00'),
+    PARTITION p202512  VALUES LESS THAN ('2026-01-01 00:00:00'),
+    PARTITION p202601  VALUES LESS THAN ('2026-02-01 00:00:00'),
+    PARTITION p202602  VALUES LESS THAN ('2026-03-01 00:00:00'),
+    PARTITION p202603  VALUES LESS THAN ('2026-04-01 00:00:00'),
+    PARTITION p202604  VALUES LESS THAN ('2026-05-01 00:00:00'),
+    PARTITION p202605  VALUES LESS THAN ('2026-06-01 00:00:00'),
+    PARTITION p202606  VALUES LESS THAN ('2026-07-01 00:00:00'),
+    PARTITION p202607  VALUES LESS THAN ('2026-08-01 00:00:00'),
+    PARTITION p202608  VALUES LESS THAN ('2026-09-01 00:00:00'),
+    PARTITION p202609  VALUES LESS THAN ('2026-10-01 00:00:00'),
+    PARTITION p202610  VALUES LESS THAN ('2026-11-01 00:00:00'),
+    PARTITION p202611  VALUES LESS THAN ('2026-12-01 00:00:00'),
+    PARTITION p202612  VALUES LESS THAN ('2027-01-01 00:00:00'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 5) 실행 계획 확인: partitions 컬럼에 해당 월만, key에 idx_point_tx_member_type_occurred가 나와야 한다
+--    PointTransactionQueryPlanTest가 H2에서 인덱스 선택을 확인하고, POINT_PLAN_MYSQL_URL을 지정하면 MySQL에서도 확인한다.
+-- EXPLAIN SELECT COALESCE(SUM(points_amount), 0) FROM point_transactions
+--  WHERE member_id = 1 AND transaction_type = 'EARN'
+--    AND occurred_at >= '2026-10-01 00:00:00' AND occurred_at < '2026-11-01 00:00:00';
+
+-- 6) 오래된 월 보관 (빈 구조의 보관 테이블과 교환 후 원본 파티션은 빈 상태로 남는다)
+--    회원별 합계(member_profiles.total_*)는 유지되지만, 원장 대조(PointLedgerReconcileScheduler)는
+--    남아 있는 원장 기준이므로 보관을 시작하기 전에 대조 대상에서 보관분을 합산하도록 조정해야 한다.
+-- CREATE TABLE point_transactions_archive_202501 LIKE point_transactions;
+-- ALTER TABLE point_transactions_archive_202501 REMOVE PARTITIONING;
+-- ALTER TABLE point_transactions EXCHANGE PARTITION p202501 WITH TABLE point_transactions_archive_202501;
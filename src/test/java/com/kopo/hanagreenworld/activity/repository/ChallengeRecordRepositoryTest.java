@@ -0,0 +1,200 @@
+package com.kopo.hanagreenworld.activity.repository;
+
+import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.domain.ChallengeView;
+import com.kopo.hanagreenworld.activity.dto.ChallengeListResponse;
+import com.kopo.hanagreenworld.activity.service.ChallengeCatalog;
+import com.kopo.hanagreenworld.activity.service.ChallengeListAssembler;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 챌린지별 참여 요약 쿼리 확인
+ * - 같은 챌린지에 기록이 여러 건이면 가장 최근(id가 가장 큰) 기록의 상태를 쓴다
+ * - 오늘 참여 횟수에는 오늘 0시 이후 기록만 들어간다
+ * - 다른 회원의 기록은 섞이지 않고, 참여하지 않은 챌린지는 결과에서 빠진다
+ * - 목록 조립은 진행 중인 챌린지 수와 관계없이 같은 횟수의 쿼리로 끝난다
+ */
+@JpaSliceTest
+@Import(ChallengeListAssembler.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepositoryTest$CountingStatementInspector")
+class ChallengeRecordRepositoryTest {
+
+    @Autowired
+    private ChallengeRecordRepository challengeRecordRepository;
+
+    @Autowired
+    private ChallengeListAssembler challengeListAssembler;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ChallengeCatalog challengeCatalog;
+
+    private LocalDateTime startOfDay;
+    private Member member;
+    private Member otherMember;
+
+    @BeforeEach
+    void setUp() {
+        startOfDay = LocalDate.now().atStartOfDay();
+        member = entityManager.persist(member("summary-member"));
+        otherMember = entityManager.persist(member("summary-other"));
+    }
+
+    @Test
+    void latestRecordStatusWinsAndTodayCountSkipsYesterday() {
+        Challenge bag = challenge(Challenge.ChallengeCode.REUSABLE_BAG);
+        Challenge tumbler = challenge(Challenge.ChallengeCode.TUMBLER_CHALLENGE);
+        Challenge untouched = challenge(Challenge.ChallengeCode.RECYCLE);
+
+        Long yesterdayRecord = record(bag, member, "REJECTED", 1);
+        record(bag, member, "NEEDS_REVIEW", 2);
+        record(bag, member, "APPROVED", 3);
+        record(tumbler, member, "PENDING", 4);
+        // 다른 회원의 최근 기록은 상태/횟수 어디에도 들어가면 안 된다
+        record(bag, otherMember, "REJECTED", 5);
+        record(untouched, otherMember, "APPROVED", 6);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE challenge_records SET created_at = ? WHERE challenge_record_id = ?",
+                startOfDay.minusHours(1), yesterdayRecord);
+        entityManager.clear();
+
+        Map<Long, Object[]> rows = challengeRecordRepository.findParticipationSummaries(member.getMemberId(),
+                        List.of(bag.getId(), tumbler.getId(), untouched.getId()), startOfDay).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+
+        assertThat(rows).containsOnlyKeys(bag.getId(), tumbler.getId());
+        assertThat(rows.get(bag.getId())[1]).isEqualTo("APPROVED");
+        assertThat(((Number) rows.get(bag.getId())[3]).intValue()).isEqualTo(2);
+        assertThat(rows.get(tumbler.getId())[1]).isEqualTo("PENDING");
+        assertThat(((Number) rows.get(tumbler.getId())[3]).intValue()).isEqualTo(1);
+    }
+
+    @Test
+    void assemblerFallsBackToNotParticipatedForChallengesWithoutRecords() {
+        Challenge bag = challenge(Challenge.ChallengeCode.REUSABLE_BAG);
+        Challenge untouched = challenge(Challenge.ChallengeCode.RECYCLE);
+        record(bag, member, "APPROVED", 1);
+        record(untouched, otherMember, "APPROVED", 2);
+        entityManager.flush();
+        entityManager.clear();
+        given(challengeCatalog.getActiveChallenges())
+                .willReturn(List.of(ChallengeView.from(bag), ChallengeView.from(untouched)));
+
+        Map<Long, ChallengeListResponse> responses = challengeListAssembler.assembleActive(member.getMemberId())
+                .stream()
+                .collect(Collectors.toMap(ChallengeListResponse::getId, Function.identity()));
+
+        assertThat(responses.get(bag.getId()).getParticipationStatus()).isEqualTo("APPROVED");
+        assertThat(responses.get(untouched.getId()).getParticipationStatus()).isEqualTo("NOT_PARTICIPATED");
+        assertThat(responses.get(untouched.getId()).getTodayParticipationCount()).isZero();
+    }
+
+    @Test
+    void assembleActiveQueryCountDoesNotGrowWithChallengeCount() {
+        List<ChallengeView> all = new ArrayList<>();
+        int day = 0;
+        for (Challenge.ChallengeCode code : Challenge.ChallengeCode.values()) {
+            Challenge challenge = challenge(code);
+            record(challenge, member, "APPROVED", ++day);
+            all.add(ChallengeView.from(challenge));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        int fewQueries = countQueries(all.subList(0, 2));
+        int manyQueries = countQueries(all);
+
+        assertThat(fewQueries).isEqualTo(1);
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    private int countQueries(List<ChallengeView> live) {
+        given(challengeCatalog.getActiveChallenges()).willReturn(live);
+        CountingStatementInspector.clear();
+        assertThat(challengeListAssembler.assembleActive(member.getMemberId())).hasSize(live.size());
+        return CountingStatementInspector.selectCount();
+    }
+
+    private Challenge challenge(Challenge.ChallengeCode code) {
+        return entityManager.persist(Challenge.builder()
+                .code(code)
+                .title(code.name())
+                .rewardPolicy(Challenge.ChallengeRewardPolicy.POINTS)
+                .points(10)
+                .build());
+    }
+
+    // activity_date는 (챌린지, 회원, 활동일) 유니크 키라 기록마다 다르게 둔다
+    private Long record(Challenge challenge, Member owner, String status, int daysAgo) {
+        return entityManager.persist(ChallengeRecord.builder()
+                .challenge(challenge)
+                .member(owner)
+                .activityDate(startOfDay.minusDays(daysAgo))
+                .verificationStatus(status)
+                .build()).getId();
+    }
+
+    private static Member member(String loginId) {
+        return Member.builder()
+                .loginId(loginId)
+                .email(loginId + "@test.com")
+                .password("password")
+                .name(loginId)
+                .phoneNumber("010-0000-0000")
+                .build();
+    }
+
+    /**
+     * Hibernate가 실행한 SELECT 수 집계
+     */
+    public static class CountingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        static synchronized void clear() {
+            STATEMENTS.clear();
+        }
+
+        static synchronized int selectCount() {
+            return (int) STATEMENTS.stream()
+                    .filter(sql -> sql.toLowerCase().startsWith("select"))
+                    .count();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (CountingStatementInspector.class) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
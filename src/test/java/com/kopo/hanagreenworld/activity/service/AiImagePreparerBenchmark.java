@@ -0,0 +1,77 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 전송 이미지 준비의 처리량과 전송 크기 측정
+ *
+ * 일반 빌드에서는 건너뛰며 AI_IMAGE_BENCHMARK=true 환경 변수로 실행한다.
+ *   AI_IMAGE_BENCHMARK=true ./gradlew test --tests '*AiImagePreparerBenchmark'
+ * 해상도별로 원본/축소본 크기, 장당 처리 시간, 동시 요청 처리량을 출력한다.
+ */
+@EnabledIfEnvironmentVariable(named = "AI_IMAGE_BENCHMARK", matches = "true")
+class AiImagePreparerBenchmark {
+
+    private static final int[][] RESOLUTIONS = {{1920, 1080}, {3024, 4032}, {4000, 3000}};
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Test
+    void measureThroughputAndSize() throws Exception {
+        for (int[] resolution : RESOLUTIONS) {
+            byte[] original = AiImagePreparerTest.noisyJpeg(resolution[0], resolution[1], 0.9f);
+            AiImagePreparer preparer = AiImagePreparerTest.preparer(768, 0);
+            try {
+                for (int i = 0; i < WARMUP; i++) {
+                    preparer.prepare(AiImagePreparerTest.context(original));
+                }
+
+                long sentBytes = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    sentBytes = preparer.prepare(AiImagePreparerTest.context(original)).contentLength();
+                }
+                double serialMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+                double concurrentPerSecond = concurrentThroughput(preparer, original);
+                Map<String, Object> stats = preparer.getStats();
+
+                System.out.printf("%dx%d: 원본 %,d바이트 → %,d바이트 (%.1f%%), 장당 %.1fms, 동시 %d건 %.1f장/초, 통계 평균 %.1fms%n",
+                        resolution[0], resolution[1], original.length, sentBytes,
+                        100.0 * sentBytes / original.length, serialMillis,
+                        CONCURRENT_REQUESTS, concurrentPerSecond, (double) stats.get("avgPrepareMillis"));
+                assertThat(sentBytes).isLessThan(original.length);
+            } finally {
+                preparer.shutdown();
+            }
+        }
+    }
+
+    private static double concurrentThroughput(AiImagePreparer preparer, byte[] original) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS * ITERATIONS; i++) {
+                futures.add(callers.submit(() -> preparer.prepare(AiImagePreparerTest.context(original))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return futures.size() / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
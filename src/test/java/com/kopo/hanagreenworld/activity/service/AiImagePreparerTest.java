@@ -0,0 +1,113 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.common.util.ImageResizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 축소본을 보낸 건만 처리 시간 평균에 들어가고, 원본 전송으로 끝난 시도는 빠지는지 확인
+ */
+class AiImagePreparerTest {
+
+    private AiImagePreparer aiImagePreparer;
+
+    @BeforeEach
+    void setUp() {
+        aiImagePreparer = preparer(768, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiImagePreparer.shutdown();
+    }
+
+    @Test
+    void largePhotoIsDownscaledAndCounted() throws Exception {
+        byte[] original = noisyJpeg(2000, 1500, 0.9f);
+
+        Resource resource = aiImagePreparer.prepare(context(original));
+
+        BufferedImage sent = ImageIO.read(new ByteArrayInputStream(resource.getContentAsByteArray()));
+        assertThat(sent.getWidth()).isEqualTo(768);
+        assertThat(sent.getHeight()).isEqualTo(576);
+        Map<String, Object> stats = aiImagePreparer.getStats();
+        assertThat(stats.get("prepared")).isEqualTo(1L);
+        assertThat(stats.get("passedThrough")).isEqualTo(0L);
+        assertThat((double) stats.get("sizeRatio")).isLessThan(1.0);
+    }
+
+    @Test
+    void reencodeLargerThanOriginalPassesThroughWithoutCountingTime() throws Exception {
+        // 단색 PNG는 수백 바이트라 JPEG로 재인코딩하면(테이블만 수백 바이트) 오히려 커진다
+        BufferedImage flat = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(flat, "png", png);
+        byte[] original = png.toByteArray();
+
+        Resource resource = aiImagePreparer.prepare(context(original));
+
+        assertThat(resource.getContentAsByteArray()).isEqualTo(original);
+        Map<String, Object> stats = aiImagePreparer.getStats();
+        assertThat(stats.get("prepared")).isEqualTo(0L);
+        assertThat(stats.get("passedThrough")).isEqualTo(1L);
+        assertThat(((AtomicLong) ReflectionTestUtils.getField(aiImagePreparer, "prepareMillis")).get()).isZero();
+        assertThat(stats.get("avgPrepareMillis")).isEqualTo(0.0);
+    }
+
+    @Test
+    void undecodableImagePassesThrough() throws Exception {
+        byte[] original = "not an image ".repeat(300).getBytes(StandardCharsets.US_ASCII);
+
+        Resource resource = aiImagePreparer.prepare(context(original));
+
+        assertThat(resource.getContentAsByteArray()).isEqualTo(original);
+        assertThat(aiImagePreparer.getStats().get("passedThrough")).isEqualTo(1L);
+    }
+
+    static AiImagePreparer preparer(int maxEdge, int poolSize) {
+        AiImagePreparer preparer = new AiImagePreparer();
+        ReflectionTestUtils.setField(preparer, "enabled", true);
+        ReflectionTestUtils.setField(preparer, "maxEdge", maxEdge);
+        ReflectionTestUtils.setField(preparer, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(preparer, "poolSize", poolSize);
+        ReflectionTestUtils.setField(preparer, "queueCapacity", 32);
+        preparer.init();
+        return preparer;
+    }
+
+    static ImageVerificationContext context(byte[] bytes) {
+        return new ImageVerificationContext("/challenge_images/test.jpg", ByteBuffer.wrap(bytes), false);
+    }
+
+    /**
+     * 부드러운 그라데이션에 잡음을 섞은 사진 대용 이미지
+     */
+    static byte[] noisyJpeg(int width, int height, float quality) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(width * 31L + height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int red = (x * 255 / width + random.nextInt(32)) & 0xFF;
+                int green = (y * 255 / height + random.nextInt(32)) & 0xFF;
+                int blue = random.nextInt(256);
+                image.setRGB(x, y, red << 16 | green << 8 | blue);
+            }
+        }
+        return ImageResizer.encodeJpeg(image, quality);
+    }
+}
@@ -0,0 +1,50 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 호출 측이 캐시에서 꺼낸 결과나 저장한 원본을 고쳐도 캐시 항목은 그대로인지 확인
+ */
+class AiVerificationCacheTest {
+
+    private AiVerificationCache aiVerificationCache;
+
+    @BeforeEach
+    void setUp() {
+        aiVerificationCache = new AiVerificationCache();
+        ReflectionTestUtils.setField(aiVerificationCache, "maxSize", 100);
+        ReflectionTestUtils.setField(aiVerificationCache, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(aiVerificationCache, "modelVersion", "v1");
+    }
+
+    @Test
+    void callerMutationsDoNotLeakIntoCachedEntry() {
+        AiVerificationService.AiVerificationResult original = approved();
+        aiVerificationCache.put("digest", "TUMBLER", original, 1200L);
+        original.setVerificationResult("REJECTED");
+
+        AiVerificationService.AiVerificationResult first = aiVerificationCache.get("digest", "TUMBLER");
+        first.setExplanation("수정됨");
+        first.setVerificationResult("NEEDS_REVIEW");
+
+        AiVerificationService.AiVerificationResult second = aiVerificationCache.get("digest", "TUMBLER");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getVerificationResult()).isEqualTo("APPROVED");
+        assertThat(second.getExplanation()).isEqualTo("텀블러가 확인되었습니다.");
+        assertThat(second.getConfidence()).isEqualTo(0.93);
+    }
+
+    private static AiVerificationService.AiVerificationResult approved() {
+        return AiVerificationService.AiVerificationResult.builder()
+                .success(true)
+                .verificationResult("APPROVED")
+                .confidence(0.93)
+                .explanation("텀블러가 확인되었습니다.")
+                .detectedItems("tumbler")
+                .build();
+    }
+}
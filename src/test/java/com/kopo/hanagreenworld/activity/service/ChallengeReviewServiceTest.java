@@ -0,0 +1,341 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewResponse;
+import com.kopo.hanagreenworld.activity.dto.ChallengeReviewQueueResponse;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileCounterService;
+import com.kopo.hanagreenworld.member.service.TeamCounterAccumulator;
+import com.kopo.hanagreenworld.member.service.TeamLeaderboardService;
+import com.kopo.hanagreenworld.point.service.DailyPointRollupService;
+import com.kopo.hanagreenworld.point.service.PointLedgerService;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일괄 검토가 청크로 나뉘어도 기록별 결과/원장이 맞고, 잠금 후 상태 확인으로 중복 승인을 건너뛰는지 확인
+ * (청크마다 실제로 커밋해야 하므로 테스트 트랜잭션은 쓰지 않는다)
+ */
+@JpaSliceTest
+@Import({ChallengeReviewService.class, PointLedgerService.class, MemberProfileCounterService.class,
+        DailyPointRollupService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChallengeReviewServiceTest {
+
+    private static final int POINTS = 10;
+
+    @Autowired
+    private ChallengeReviewService challengeReviewService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private ChallengeRecordRepository challengeRecordRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MemberTeamRepository memberTeamRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private TeamCounterAccumulator teamCounterAccumulator;
+
+    @MockitoBean
+    private TeamLeaderboardService teamLeaderboardService;
+
+    private Member admin;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(challengeReviewService, "chunkSize", 2);
+        admin = transactionTemplate.execute(status -> memberRepository.save(member("review-admin-" + System.nanoTime(),
+                Member.MemberRole.ADMIN)));
+        authenticate(admin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bulkApproveAcrossChunksReportsEveryRecordInRequestOrder() {
+        Member member = createMemberWithProfile("review-chunks");
+        Challenge challenge = createChallenge(Challenge.ChallengeCode.REUSABLE_BAG, POINTS, null);
+        List<Long> pending = createRecords(challenge, member, "NEEDS_REVIEW", 5);
+        Long alreadyApproved = createRecords(challenge, member, "APPROVED", 1).get(0);
+        Long missing = Long.MAX_VALUE;
+
+        List<Long> requested = new ArrayList<>(pending);
+        requested.add(2, alreadyApproved);
+        requested.add(missing);
+        ChallengeBulkReviewResponse response = challengeReviewService.bulkReview(approve(requested));
+
+        assertThat(response.getTotal()).isEqualTo(7);
+        assertThat(response.getApproved()).isEqualTo(5);
+        assertThat(response.getSkipped()).isEqualTo(1);
+        assertThat(response.getNotFound()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(ChallengeBulkReviewResponse.RecordResult::getRecordId)
+                .containsExactlyElementsOf(requested);
+
+        assertThat(ledgerRows(member)).isEqualTo(5);
+        // 다중 행 INSERT로 저장한 거래도 감사 시각이 채워진다
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_transactions WHERE member_id = ? AND (created_at IS NULL OR modified_at IS NULL)",
+                Long.class, member.getMemberId())).isZero();
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(member.getMemberId()).orElseThrow();
+        assertThat(profile.getCurrentPoints()).isEqualTo(5L * POINTS);
+    }
+
+    @Test
+    void secondReviewOfSameRecordsIsSkippedWithoutNewLedgerRows() {
+        Member member = createMemberWithProfile("review-repeat");
+        Challenge challenge = createChallenge(Challenge.ChallengeCode.TUMBLER_CHALLENGE, POINTS, null);
+        List<Long> pending = createRecords(challenge, member, "NEEDS_REVIEW", 3);
+
+        challengeReviewService.bulkReview(approve(pending));
+        ChallengeBulkReviewResponse second = challengeReviewService.bulkReview(approve(pending));
+
+        assertThat(second.getSkipped()).isEqualTo(3);
+        assertThat(second.getApproved()).isZero();
+        assertThat(ledgerRows(member)).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentBulkApproveCreditsEachRecordOnce() throws Exception {
+        Member member = createMemberWithProfile("review-concurrent");
+        Challenge challenge = createChallenge(Challenge.ChallengeCode.RECYCLE, POINTS, null);
+        List<Long> pending = createRecords(challenge, member, "NEEDS_REVIEW", 6);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ChallengeBulkReviewResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> {
+                    authenticate(admin);
+                    start.await();
+                    return challengeReviewService.bulkReview(approve(pending));
+                }));
+            }
+            start.countDown();
+
+            int approved = 0;
+            int skipped = 0;
+            for (Future<ChallengeBulkReviewResponse> future : futures) {
+                ChallengeBulkReviewResponse response = future.get();
+                assertThat(response.getFailed()).isZero();
+                approved += response.getApproved();
+                skipped += response.getSkipped();
+            }
+            // 행 잠금 뒤 상태를 다시 보므로 한 기록은 한쪽에서만 승인된다
+            assertThat(approved).isEqualTo(6);
+            assertThat(skipped).isEqualTo(6);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ledgerRows(member)).isEqualTo(6);
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(member.getMemberId()).orElseThrow();
+        assertThat(profile.getCurrentPoints()).isEqualTo(6L * POINTS);
+    }
+
+    @Test
+    void teamWithoutEarnedPointsGetsNoPointIncrement() {
+        Member member = createMemberWithProfile("review-team");
+        Long teamId = transactionTemplate.execute(status -> {
+            Team team = teamRepository.save(Team.builder()
+                    .teamName("review-team-" + System.nanoTime())
+                    .leaderId(member.getMemberId())
+                    .maxMembers(10)
+                    .build());
+            memberTeamRepository.save(MemberTeam.builder().member(member).team(team).build());
+            return team.getId();
+        });
+        // 포인트 없이 탄소절감량만 있는 챌린지 (TEAM_SCORE)
+        Challenge challenge = createChallenge(Challenge.ChallengeCode.PLUGGING, null, 1.5);
+        List<Long> pending = createRecords(challenge, member, "NEEDS_REVIEW", 1);
+
+        challengeReviewService.bulkReview(approve(pending));
+
+        verify(teamCounterAccumulator).addCarbonSaved(teamId, 1.5);
+        verify(teamCounterAccumulator, never()).addPoints(eq(teamId), anyLong());
+        verify(teamLeaderboardService, never()).incrementPoints(eq(teamId), anyLong());
+    }
+
+    @Test
+    void nonAdminCannotBulkReview() {
+        Member user = transactionTemplate.execute(status ->
+                memberRepository.save(member("review-user-" + System.nanoTime(), Member.MemberRole.USER)));
+        authenticate(user);
+
+        assertThatThrownBy(() -> challengeReviewService.bulkReview(approve(List.of(1L))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    void nonAdminCannotReadReviewQueue() {
+        Member user = transactionTemplate.execute(status ->
+                memberRepository.save(member("review-queue-user-" + System.nanoTime(), Member.MemberRole.USER)));
+        authenticate(user);
+
+        assertThatThrownBy(() -> challengeReviewService.getReviewQueue(null, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    void unauthenticatedCallerCannotReadReviewQueue() {
+        SecurityContextHolder.clearContext();
+
+        assertThatThrownBy(() -> challengeReviewService.getReviewQueue(null, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UNAUTHORIZED);
+    }
+
+    @Test
+    void adminReadsReviewQueue() {
+        Member member = createMemberWithProfile("review-queue");
+        Challenge challenge = createChallenge(Challenge.ChallengeCode.REUSABLE_BAG, POINTS, null);
+        List<Long> pending = createRecords(challenge, member, "NEEDS_REVIEW", 1);
+
+        ChallengeReviewQueueResponse queue = challengeReviewService.getReviewQueue(pending.get(0) - 1, 1);
+
+        assertThat(queue.getItems())
+                .extracting(ChallengeReviewQueueResponse.Item::getRecordId)
+                .containsExactly(pending.get(0));
+        assertThat(queue.getItems().get(0).getMemberId()).isEqualTo(member.getMemberId());
+    }
+
+    @Test
+    void requestOverRecordLimitIsRejected() {
+        ReflectionTestUtils.setField(challengeReviewService, "maxRecords", 3);
+        try {
+            assertThatThrownBy(() -> challengeReviewService.bulkReview(approve(List.of(1L, 2L, 3L, 4L))))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        } finally {
+            ReflectionTestUtils.setField(challengeReviewService, "maxRecords", 1000);
+        }
+    }
+
+    private static ChallengeBulkReviewRequest approve(List<Long> recordIds) {
+        return ChallengeBulkReviewRequest.builder()
+                .recordIds(recordIds)
+                .action(ChallengeBulkReviewRequest.Action.APPROVE)
+                .build();
+    }
+
+    private static void authenticate(Member member) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                member, null, List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))));
+    }
+
+    private long ledgerRows(Member member) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_transactions WHERE member_id = ?", Long.class, member.getMemberId());
+    }
+
+    private Member createMemberWithProfile(String loginId) {
+        return transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(member(loginId, Member.MemberRole.USER));
+            memberProfileRepository.save(MemberProfile.builder()
+                    .member(member)
+                    .nickname(loginId)
+                    .build());
+            return member;
+        });
+    }
+
+    private Challenge createChallenge(Challenge.ChallengeCode code, Integer points, Double carbonSaved) {
+        return transactionTemplate.execute(status -> challengeRepository.save(Challenge.builder()
+                .code(code)
+                .title(code.name())
+                .rewardPolicy(points != null ? Challenge.ChallengeRewardPolicy.POINTS
+                        : Challenge.ChallengeRewardPolicy.TEAM_SCORE)
+                .points(points)
+                .carbonSaved(carbonSaved)
+                .build()));
+    }
+
+    private List<Long> createRecords(Challenge challenge, Member member, String status, int count) {
+        return transactionTemplate.execute(tx -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                ids.add(challengeRecordRepository.save(ChallengeRecord.builder()
+                        .challenge(challenge)
+                        .member(member)
+                        .verificationStatus(status)
+                        .build()).getId());
+            }
+            return ids;
+        });
+    }
+
+    private static Member member(String loginId, Member.MemberRole role) {
+        return Member.builder()
+                .loginId(loginId)
+                .email(loginId + "@test.com")
+                .password("password")
+                .name(loginId)
+                .phoneNumber("010-0000-0000")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저렴한 단계가 거부하면 진행 중인 AI 요청이 취소되고, 풀이 가득 차면 AI 호출을 건너뛰는지 확인
+ */
+class ChallengeVerificationServiceTest {
+
+    private static final String IMAGE_URL = "/challenge_images/ab/ab12.jpg";
+
+    private final ImageBlobLoader imageBlobLoader = mock(ImageBlobLoader.class);
+    private final ImageMetadataService imageMetadataService = mock(ImageMetadataService.class);
+    private final ImageHashService imageHashService = mock(ImageHashService.class);
+    private final AiVerificationService aiVerificationService = mock(AiVerificationService.class);
+
+    private final CountDownLatch aiStarted = new CountDownLatch(1);
+    private final CountDownLatch aiInterrupted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ChallengeVerificationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChallengeVerificationService(
+                imageBlobLoader, imageMetadataService, imageHashService, aiVerificationService);
+        ReflectionTestUtils.setField(service, "stagePoolSize", 4);
+        ReflectionTestUtils.setField(service, "aiTimeoutSeconds", 5L);
+        service.init();
+
+        when(imageBlobLoader.load(IMAGE_URL))
+                .thenReturn(new ImageVerificationContext(IMAGE_URL, ByteBuffer.wrap(new byte[]{1, 2, 3}), false));
+        when(imageMetadataService.validateImageMetadata(any(), any())).thenReturn(metadata(true));
+        when(imageHashService.checkImageDuplicate(any(), anyLong(), anyLong())).thenReturn(hash(false));
+        // AI 서버가 응답하지 않는 상황: 인터럽트될 때까지 대기
+        when(aiVerificationService.verifyChallengeImage(any(), anyString(), anyString())).thenAnswer(invocation -> {
+            aiStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                aiInterrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return AiVerificationService.AiVerificationResult.builder()
+                    .success(true).verificationResult("APPROVED").confidence(1.0).build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void duplicateCancelsInFlightAiRequest() throws Exception {
+        when(imageHashService.checkImageDuplicate(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            aiStarted.await(5, TimeUnit.SECONDS);
+            return hash(true);
+        });
+
+        ChallengeVerificationService.VerificationOutcome outcome = service.verify(target());
+
+        assertThat(outcome.getStage()).isEqualTo(ChallengeVerificationService.VerificationOutcome.Stage.DUPLICATE);
+        assertThat(aiInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void metadataRejectionCancelsInFlightAiRequest() throws Exception {
+        when(imageMetadataService.validateImageMetadata(any(), any())).thenAnswer(invocation -> {
+            aiStarted.await(5, TimeUnit.SECONDS);
+            return metadata(false);
+        });
+
+        ChallengeVerificationService.VerificationOutcome outcome = service.verify(target());
+
+        assertThat(outcome.getStage()).isEqualTo(ChallengeVerificationService.VerificationOutcome.Stage.METADATA);
+        assertThat(aiInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void aiTimeoutCancelsRequestAndNeedsReview() throws Exception {
+        ReflectionTestUtils.setField(service, "aiTimeoutSeconds", 1L);
+
+        ChallengeVerificationService.VerificationOutcome outcome = service.verify(target());
+
+        assertThat(outcome.getStage()).isEqualTo(ChallengeVerificationService.VerificationOutcome.Stage.AI);
+        assertThat(outcome.getAiResult().getVerificationResult()).isEqualTo("NEEDS_REVIEW");
+        assertThat(aiInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void saturatedPoolSkipsAiCallAndRunsCheapStagesInline() {
+        saturateStagePool();
+
+        ChallengeVerificationService.VerificationOutcome outcome = service.verify(target());
+
+        assertThat(outcome.getStage()).isEqualTo(ChallengeVerificationService.VerificationOutcome.Stage.AI);
+        assertThat(outcome.getAiResult().getVerificationResult()).isEqualTo("NEEDS_REVIEW");
+        verify(aiVerificationService, never()).verifyChallengeImage(any(), anyString(), anyString());
+        verify(imageMetadataService).validateImageMetadata(any(), any());
+        verify(imageHashService).checkImageDuplicate(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void saturatedPoolStillRejectsDuplicateWithoutAiCall() {
+        when(imageHashService.checkImageDuplicate(any(), anyLong(), anyLong())).thenReturn(hash(true));
+        saturateStagePool();
+
+        ChallengeVerificationService.VerificationOutcome outcome = service.verify(target());
+
+        assertThat(outcome.getStage()).isEqualTo(ChallengeVerificationService.VerificationOutcome.Stage.DUPLICATE);
+        verify(aiVerificationService, never()).verifyChallengeImage(any(), anyString(), anyString());
+    }
+
+    // 워커 4개 + 큐 16개를 모두 막아 둔다
+    private void saturateStagePool() {
+        ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(service, "stageExecutor");
+        for (int i = 0; i < 4 + 4 * 4; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    private ChallengeVerificationService.VerificationTarget target() {
+        return new ChallengeVerificationService.VerificationTarget(
+                1L, 10L, 100L, "텀블러 사용", "TUMBLER", IMAGE_URL, LocalDateTime.now());
+    }
+
+    private ImageMetadataService.ImageMetadataResult metadata(boolean valid) {
+        return ImageMetadataService.ImageMetadataResult.builder()
+                .isValid(valid)
+                .confidence(valid ? 1.0 : 0.0)
+                .reason(valid ? "정상" : "촬영일 불일치")
+                .build();
+    }
+
+    private ImageHashService.ImageHashResult hash(boolean duplicate) {
+        return ImageHashService.ImageHashResult.builder()
+                .isDuplicate(duplicate)
+                .confidence(duplicate ? 1.0 : 0.0)
+                .reason(duplicate ? "중복 이미지" : "중복 없음")
+                .duplicateType(duplicate ? "OTHER_USER" : "NONE")
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import com.kopo.hanagreenworld.common.util.JpegHeaderReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXIF 추출의 읽은 바이트 수와 지연 시간 비교 (JPEG 헤더만 읽기 vs ImageMetadataReader 전체 파싱)
+ *
+ * 일반 빌드에서는 건너뛰며 IMAGE_METADATA_BENCHMARK=true 환경 변수로 실행한다.
+ *   IMAGE_METADATA_BENCHMARK=true ./gradlew test --tests '*ImageMetadataBenchmark'
+ * 휴대폰 사진 해상도의 잡음 JPEG(5~10MB)에 EXIF/GPS를 넣어, 힙 버퍼와 파일 매핑 버퍼 각각에서
+ * 헤더 리더가 읽은 바이트(JpegHeaderReader.Result.getBytesRead())와 전체 파싱이 읽은 바이트, 호출당 시간을 출력한다.
+ */
+@EnabledIfEnvironmentVariable(named = "IMAGE_METADATA_BENCHMARK", matches = "true")
+class ImageMetadataBenchmark {
+
+    private static final int[][] RESOLUTIONS = {{3024, 4032}, {4000, 3000}, {4080, 3060}};
+    private static final int MAX_HEADER_BYTES = 262144;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 50;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareHeaderOnlyWithFullParse() throws Exception {
+        ImageMetadataService imageMetadataService = new ImageMetadataService();
+        ReflectionTestUtils.setField(imageMetadataService, "maxHeaderBytes", MAX_HEADER_BYTES);
+
+        for (int[] resolution : RESOLUTIONS) {
+            byte[] jpeg = ImageMetadataServiceTest.withApp1(
+                    ImageMetadataServiceTest.encodeJpeg(resolution[0], resolution[1]),
+                    ImageMetadataServiceTest.exifSegment());
+            Path file = Files.write(tempDir.resolve(resolution[0] + "x" + resolution[1] + ".jpg"), jpeg);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ImageVerificationContext heap = new ImageVerificationContext("heap.jpg", ByteBuffer.wrap(jpeg), false);
+                ImageVerificationContext mapped = new ImageVerificationContext("mapped.jpg",
+                        channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), true);
+
+                System.out.printf("%dx%d: 파일 %,d바이트%n", resolution[0], resolution[1], jpeg.length);
+                report("힙", imageMetadataService, heap, jpeg.length);
+                report("매핑", imageMetadataService, mapped, jpeg.length);
+            }
+        }
+    }
+
+    private void report(String source, ImageMetadataService imageMetadataService, ImageVerificationContext context,
+                        long fileSize) throws Exception {
+        JpegHeaderReader.Result header;
+        try (InputStream in = context.openStream()) {
+            header = JpegHeaderReader.read(in, MAX_HEADER_BYTES);
+        }
+        long fullBytesRead = fullParseBytesRead(context);
+
+        double readerMicros = measure(() -> {
+            try (InputStream in = context.openStream()) {
+                JpegHeaderReader.read(in, MAX_HEADER_BYTES);
+            }
+        });
+        double headerMicros = measure(() -> {
+            Metadata metadata = ReflectionTestUtils.invokeMethod(imageMetadataService, "extractJpegHeaderMetadata", context);
+            assertThat(metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class)).isNotNull();
+        });
+        double fullMicros = measure(() -> {
+            try (InputStream in = context.openStream()) {
+                ImageMetadataReader.readMetadata(in);
+            }
+        });
+
+        System.out.printf("  [%s] 헤더 읽기 %,d바이트 (%.3f%%) / 전체 파싱 %,d바이트, "
+                        + "JpegHeaderReader %.1fus, 헤더 EXIF 추출 %.1fus, ImageMetadataReader %.1fus (%.1f배)%n",
+                source, header.getBytesRead(), 100.0 * header.getBytesRead() / fileSize, fullBytesRead,
+                readerMicros, headerMicros, fullMicros, fullMicros / headerMicros);
+        assertThat(header.getBytesRead()).isLessThan(fullBytesRead);
+    }
+
+    private static long fullParseBytesRead(ImageVerificationContext context) throws Exception {
+        try (CountingInputStream in = new CountingInputStream(context.openStream())) {
+            ImageMetadataReader.readMetadata(in);
+            return in.count;
+        }
+    }
+
+    private static double measure(Call call) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    /**
+     * 실제로 읽거나 건너뛴 바이트 수를 센다
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
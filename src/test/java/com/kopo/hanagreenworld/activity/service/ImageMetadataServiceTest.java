@@ -0,0 +1,275 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.metadata.Directory;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.Tag;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import com.drew.metadata.exif.GpsDirectory;
+import com.kopo.hanagreenworld.common.util.JpegHeaderReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPEG 헤더만 읽은 결과가 전체 파싱(ImageMetadataReader)과 같은지 확인
+ * 샘플 JPEG는 ImageIO로 만든 이미지의 SOI 뒤에 직접 만든 EXIF APP1 세그먼트를 끼워 넣는다.
+ */
+class ImageMetadataServiceTest {
+
+    private static final List<Class<? extends Directory>> EXIF_DIRECTORIES =
+            List.of(ExifIFD0Directory.class, ExifSubIFDDirectory.class, GpsDirectory.class);
+
+    private static final int ASCII = 2;
+    private static final int SHORT = 3;
+    private static final int LONG = 4;
+    private static final int RATIONAL = 5;
+
+    private ImageMetadataService imageMetadataService;
+
+    @BeforeEach
+    void setUp() {
+        imageMetadataService = new ImageMetadataService();
+        ReflectionTestUtils.setField(imageMetadataService, "maxHeaderBytes", 262144);
+    }
+
+    @Test
+    void headerOnlyMatchesFullParseForExifGpsDirectories() throws Exception {
+        byte[] jpeg = withApp1(encodeJpeg(640, 480), exifSegment());
+
+        Metadata header = headerMetadata(jpeg);
+        Metadata full = ImageMetadataReader.readMetadata(new ByteArrayInputStream(jpeg));
+
+        assertThat(header).isNotNull();
+        for (Class<? extends Directory> type : EXIF_DIRECTORIES) {
+            assertThat(header.getFirstDirectoryOfType(type)).as(type.getSimpleName()).isNotNull();
+            assertThat(tags(header, type)).as(type.getSimpleName()).isEqualTo(tags(full, type));
+        }
+        assertThat(header.getFirstDirectoryOfType(ExifSubIFDDirectory.class)
+                .getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL)).isEqualTo("2026:03:14 09:26:53");
+        assertThat(header.getFirstDirectoryOfType(GpsDirectory.class).getGeoLocation()).isNotNull();
+    }
+
+    @Test
+    void headerOnlyAndFullParseGiveSameValidationResult() throws Exception {
+        byte[] jpeg = withApp1(encodeJpeg(320, 240), exifSegment());
+        LocalDateTime participation = LocalDateTime.of(2026, 3, 14, 8, 0);
+
+        ImageMetadataService.ImageMetadataResult fromHeader = analyze(headerMetadata(jpeg), participation);
+        ImageMetadataService.ImageMetadataResult fromFull =
+                analyze(ImageMetadataReader.readMetadata(new ByteArrayInputStream(jpeg)), participation);
+
+        assertThat(fromHeader.isValid()).isEqualTo(fromFull.isValid());
+        assertThat(fromHeader.getConfidence()).isEqualTo(fromFull.getConfidence());
+        assertThat(fromHeader.getReason()).isEqualTo(fromFull.getReason());
+    }
+
+    @Test
+    void headerReadStopsBeforeCompressedData() throws Exception {
+        byte[] app1 = exifSegment();
+        byte[] jpeg = withApp1(encodeJpeg(1024, 768), app1);
+
+        JpegHeaderReader.Result result = JpegHeaderReader.read(new ByteArrayInputStream(jpeg), 262144);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getApp1Segments()).hasSize(1);
+        assertThat(result.getApp1Segments().get(0)).isEqualTo(app1);
+        // SOI + APP1 + JFIF APP0 + 첫 비-APPn 마커까지만 읽는다
+        assertThat(result.getBytesRead()).isLessThan(app1.length + 64L).isLessThan(jpeg.length / 4);
+    }
+
+    @Test
+    void jpegWithoutExifHasNoExifDirectoriesOnEitherPath() throws Exception {
+        byte[] jpeg = encodeJpeg(64, 48);
+
+        Metadata header = headerMetadata(jpeg);
+        Metadata full = ImageMetadataReader.readMetadata(new ByteArrayInputStream(jpeg));
+
+        assertThat(header).isNotNull();
+        for (Class<? extends Directory> type : EXIF_DIRECTORIES) {
+            assertThat(header.getFirstDirectoryOfType(type)).isNull();
+            assertThat(full.getFirstDirectoryOfType(type)).isNull();
+        }
+    }
+
+    @Test
+    void nonJpegOrOversizedHeaderFallsBackToFullParse() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "png", png);
+        assertThat(headerMetadata(png.toByteArray())).isNull();
+
+        ReflectionTestUtils.setField(imageMetadataService, "maxHeaderBytes", 64);
+        assertThat(headerMetadata(withApp1(encodeJpeg(64, 48), exifSegment()))).isNull();
+    }
+
+    private Metadata headerMetadata(byte[] bytes) {
+        ImageVerificationContext context = new ImageVerificationContext("test.jpg", ByteBuffer.wrap(bytes), false);
+        return ReflectionTestUtils.invokeMethod(imageMetadataService, "extractJpegHeaderMetadata", context);
+    }
+
+    private ImageMetadataService.ImageMetadataResult analyze(Metadata metadata, LocalDateTime participation) {
+        return ReflectionTestUtils.invokeMethod(imageMetadataService, "analyzeMetadata",
+                metadata, "test.jpg", participation);
+    }
+
+    private static Map<Integer, String> tags(Metadata metadata, Class<? extends Directory> type) {
+        Map<Integer, String> tags = new TreeMap<>();
+        for (Directory directory : metadata.getDirectoriesOfType(type)) {
+            for (Tag tag : directory.getTags()) {
+                tags.put(tag.getTagType(), tag.getDescription());
+            }
+        }
+        return tags;
+    }
+
+    // 압축 데이터가 충분히 크도록 잡음 이미지를 인코딩한다
+    static byte[] encodeJpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(width * 31L + height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    // SOI 바로 뒤에 APP1 세그먼트를 끼워 넣는다
+    static byte[] withApp1(byte[] jpeg, byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + payload.length + 4);
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((payload.length + 2) >> 8);
+        out.write((payload.length + 2) & 0xFF);
+        out.write(payload, 0, payload.length);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    /**
+     * "Exif\0\0" + 빅엔디언 TIFF (IFD0 → Exif SubIFD, GPS IFD)
+     */
+    static byte[] exifSegment() {
+        List<Entry> subIfd = List.of(
+                ascii(0x9003, "2026:03:14 09:26:53"),
+                ascii(0x9004, "2026:03:14 09:26:53"),
+                new Entry(0x8827, SHORT, 1, shortValue(200)),
+                new Entry(0xA002, LONG, 1, intValue(4032)),
+                new Entry(0xA003, LONG, 1, intValue(3024)));
+        List<Entry> gps = List.of(
+                ascii(0x0001, "N"),
+                new Entry(0x0002, RATIONAL, 3, rationals(37, 1, 33, 1, 2580, 100)),
+                ascii(0x0003, "E"),
+                new Entry(0x0004, RATIONAL, 3, rationals(126, 1, 58, 1, 4210, 100)));
+
+        // IFD0 크기는 포인터 값과 무관하므로 먼저 재서 하위 IFD 위치를 정한다
+        int ifd0Offset = 8;
+        int ifd0Size = ifd(ifd0(0, 0), 0).length;
+        int subIfdOffset = ifd0Offset + ifd0Size;
+        int gpsOffset = subIfdOffset + ifd(subIfd, 0).length;
+
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes(new byte[]{'M', 'M', 0, 0x2A, 0, 0, 0, 8});
+        tiff.writeBytes(ifd(ifd0(subIfdOffset, gpsOffset), ifd0Offset));
+        tiff.writeBytes(ifd(subIfd, subIfdOffset));
+        tiff.writeBytes(ifd(gps, gpsOffset));
+
+        ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        segment.writeBytes("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        segment.writeBytes(tiff.toByteArray());
+        return segment.toByteArray();
+    }
+
+    private static List<Entry> ifd0(int subIfdOffset, int gpsOffset) {
+        return List.of(
+                ascii(0x010F, "samsung"),
+                ascii(0x0110, "SM-S918N"),
+                new Entry(0x0112, SHORT, 1, shortValue(6)),
+                ascii(0x0132, "2026:03:14 09:26:53"),
+                new Entry(0x8769, LONG, 1, intValue(subIfdOffset)),
+                new Entry(0x8825, LONG, 1, intValue(gpsOffset)));
+    }
+
+    /**
+     * offset 위치에 놓일 IFD와 그 뒤의 값 영역 (4바이트를 넘는 값은 값 영역을 가리킨다)
+     */
+    private static byte[] ifd(List<Entry> entries, int offset) {
+        int dataOffset = offset + 2 + entries.size() * 12 + 4;
+        ByteBuffer table = ByteBuffer.allocate(2 + entries.size() * 12 + 4).order(ByteOrder.BIG_ENDIAN);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        table.putShort((short) entries.size());
+        for (Entry entry : entries) {
+            table.putShort((short) entry.tag).putShort((short) entry.type).putInt(entry.count);
+            if (entry.value.length <= 4) {
+                table.put(entry.value).put(new byte[4 - entry.value.length]);
+            } else {
+                table.putInt(dataOffset + data.size());
+                data.writeBytes(entry.value);
+                // 값 영역은 워드 경계로 맞춘다
+                if (data.size() % 2 == 1) {
+                    data.write(0);
+                }
+            }
+        }
+        table.putInt(0);
+
+        byte[] result = new byte[table.capacity() + data.size()];
+        System.arraycopy(table.array(), 0, result, 0, table.capacity());
+        System.arraycopy(data.toByteArray(), 0, result, table.capacity(), data.size());
+        return result;
+    }
+
+    private static Entry ascii(int tag, String value) {
+        byte[] bytes = (value + "\0").getBytes(StandardCharsets.US_ASCII);
+        return new Entry(tag, ASCII, bytes.length, bytes);
+    }
+
+    private static byte[] shortValue(int value) {
+        return ByteBuffer.allocate(2).putShort((short) value).array();
+    }
+
+    private static byte[] intValue(int value) {
+        return ByteBuffer.allocate(4).putInt(value).array();
+    }
+
+    private static byte[] rationals(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 4);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    private static final class Entry {
+        private final int tag;
+        private final int type;
+        private final int count;
+        private final byte[] value;
+
+        private Entry(int tag, int type, int count, byte[] value) {
+            this.tag = tag;
+            this.type = type;
+            this.count = count;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.repository.ImageHashRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 유사 이미지 색인의 findWithin 지연 시간 측정 (k = 0 ~ MAX_DISTANCE)
+ *
+ * 일반 빌드에서는 건너뛰며 NEAR_DUPLICATE_BENCHMARK=true 환경 변수로 실행한다.
+ *   NEAR_DUPLICATE_BENCHMARK=true ./gradlew test --tests '*NearDuplicateImageIndexBenchmark'
+ * 색인 크기는 NEAR_DUPLICATE_BENCHMARK_SIZE(기본 1,000,000)로 바꿀 수 있다. (-Xmx1g 이상 권장)
+ * 무작위 해시와, 비슷한 사진이 몰린 경우를 흉내 낸 군집 해시 두 분포에서
+ * k별 평균/p50/p99 지연과 후보 수를 출력하고, 전체 비교(brute force) 한 번의 시간과 나란히 보여 준다.
+ */
+@EnabledIfEnvironmentVariable(named = "NEAR_DUPLICATE_BENCHMARK", matches = "true")
+class NearDuplicateImageIndexBenchmark {
+
+    private static final int DEFAULT_SIZE = 1_000_000;
+    private static final int WARMUP_QUERIES = 2_000;
+    private static final int QUERIES = 5_000;
+    private static final int BRUTE_FORCE_QUERIES = 20;
+    // 군집 분포: 기준 해시 하나당 몇 비트만 다른 해시를 여러 개 만든다
+    private static final int CLUSTER_SIZE = 50;
+    private static final int CLUSTER_SPREAD_BITS = 6;
+
+    @Test
+    void measureLookupLatencyUniform() {
+        long[] hashes = uniformHashes(size(), new Random(1L));
+        measure("무작위", hashes, new Random(2L));
+    }
+
+    @Test
+    void measureLookupLatencyClustered() {
+        long[] hashes = clusteredHashes(size(), new Random(3L));
+        measure("군집", hashes, new Random(4L));
+    }
+
+    private void measure(String distribution, long[] hashes, Random random) {
+        NearDuplicateImageIndex index = new NearDuplicateImageIndex(mock(ImageHashRepository.class));
+        long loadStart = System.nanoTime();
+        for (long hash : hashes) {
+            index.add(hash);
+        }
+        System.out.printf("[%s] 색인 %,d건 적재 %.0fms%n",
+                distribution, index.size(), (System.nanoTime() - loadStart) / 1_000_000.0);
+
+        // 질의는 저장된 해시를 몇 비트 바꾼 값 (재인코딩된 사진을 다시 올린 경우)
+        long[] queries = new long[WARMUP_QUERIES + QUERIES];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = flipRandomBits(hashes[random.nextInt(hashes.length)], random.nextInt(4), random);
+        }
+
+        double bruteForceMicros = bruteForceMicros(hashes, queries);
+        System.out.printf("[%s] 전체 비교 1회 %.1fus%n", distribution, bruteForceMicros);
+
+        for (int k = 0; k <= NearDuplicateImageIndex.MAX_DISTANCE; k++) {
+            for (int i = 0; i < WARMUP_QUERIES; i++) {
+                index.findWithin(queries[i], k);
+            }
+
+            long[] nanos = new long[QUERIES];
+            long matches = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                long start = System.nanoTime();
+                matches += index.findWithin(queries[WARMUP_QUERIES + i], k).size();
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            double meanMicros = Arrays.stream(nanos).average().orElse(0) / 1_000.0;
+
+            System.out.printf("[%s] k=%2d: 평균 %8.1fus, p50 %8.1fus, p99 %8.1fus, 평균 결과 %.2f건 (전체 비교 대비 %.1f배)%n",
+                    distribution, k, meanMicros, nanos[QUERIES / 2] / 1_000.0, nanos[QUERIES * 99 / 100] / 1_000.0,
+                    (double) matches / QUERIES, bruteForceMicros / meanMicros);
+            assertThat(matches).isPositive();
+        }
+    }
+
+    private static double bruteForceMicros(long[] hashes, long[] queries) {
+        long found = 0;
+        long start = System.nanoTime();
+        for (int q = 0; q < BRUTE_FORCE_QUERIES; q++) {
+            long query = queries[q];
+            for (long hash : hashes) {
+                if (Long.bitCount(hash ^ query) <= NearDuplicateImageIndex.MAX_DISTANCE) {
+                    found++;
+                }
+            }
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / BRUTE_FORCE_QUERIES;
+        assertThat(found).isPositive();
+        return micros;
+    }
+
+    private static long[] uniformHashes(int size, Random random) {
+        long[] hashes = new long[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = random.nextLong();
+        }
+        return hashes;
+    }
+
+    private static long[] clusteredHashes(int size, Random random) {
+        long[] hashes = new long[size];
+        long base = random.nextLong();
+        for (int i = 0; i < size; i++) {
+            if (i % CLUSTER_SIZE == 0) {
+                base = random.nextLong();
+            }
+            hashes[i] = flipRandomBits(base, random.nextInt(CLUSTER_SPREAD_BITS + 1), random);
+        }
+        return hashes;
+    }
+
+    private static long flipRandomBits(long hash, int bits, Random random) {
+        long result = hash;
+        for (int i = 0; i < bits; i++) {
+            result ^= 1L << random.nextInt(64);
+        }
+        return result;
+    }
+
+    private static int size() {
+        String size = System.getenv("NEAR_DUPLICATE_BENCHMARK_SIZE");
+        return size != null && !size.isBlank() ? Integer.parseInt(size.trim()) : DEFAULT_SIZE;
+    }
+}
@@ -0,0 +1,130 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.repository.ImageHashRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * multi-index 색인 결과가 전체 해밍 거리 비교(brute force)와 같은지 확인
+ */
+class NearDuplicateImageIndexTest {
+
+    private static final int STORED_HASHES = 20_000;
+    private static final int QUERIES = 200;
+
+    private final ImageHashRepository imageHashRepository = mock(ImageHashRepository.class);
+    private final Random random = new Random(20260101L);
+
+    private NearDuplicateImageIndex index;
+    private List<Long> stored;
+
+    @BeforeEach
+    void setUp() {
+        index = new NearDuplicateImageIndex(imageHashRepository);
+        stored = new ArrayList<>();
+        for (int i = 0; i < STORED_HASHES; i++) {
+            stored.add(random.nextLong());
+        }
+    }
+
+    @Test
+    void findWithinMatchesBruteForceForEveryDistance() {
+        List<Long> queries = new ArrayList<>();
+        for (int q = 0; q < QUERIES; q++) {
+            long query = random.nextLong();
+            queries.add(query);
+            // 질의 주변 0~MAX_DISTANCE 비트 차이의 해시를 심어 둔다 (무작위 해시끼리는 거의 가깝지 않다)
+            for (int distance = 0; distance <= NearDuplicateImageIndex.MAX_DISTANCE + 2; distance++) {
+                stored.add(flipRandomBits(query, distance));
+            }
+        }
+        stored.forEach(index::add);
+
+        for (long query : queries) {
+            for (int distance = 0; distance <= NearDuplicateImageIndex.MAX_DISTANCE; distance++) {
+                assertThat(new HashSet<>(index.findWithin(query, distance)))
+                        .as("query=%s, distance=%d", Long.toHexString(query), distance)
+                        .isEqualTo(bruteForce(query, distance));
+            }
+        }
+    }
+
+    @Test
+    void addIgnoresDuplicates() {
+        index.add(42L);
+        index.add(42L);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findWithin(42L, 0)).containsExactly(42L);
+    }
+
+    @Test
+    void rejectsDistanceBeyondSupportedRadius() {
+        assertThatThrownBy(() -> index.findWithin(0L, NearDuplicateImageIndex.MAX_DISTANCE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.findWithin(0L, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void refreshPicksUpRowsWrittenByOtherServers() {
+        when(imageHashRepository.findPerceptualHashesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 0x10L}));
+        index.load();
+        assertThat(index.isReady()).isTrue();
+
+        // 다른 서버가 새로 저장한 행(id 2)과 수정한 기존 행
+        when(imageHashRepository.findPerceptualHashesAfter(eq(1L), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 0x20L}));
+        when(imageHashRepository.findPerceptualHashesModifiedSince(any())).thenReturn(List.of(0x30L));
+        index.refresh();
+
+        assertThat(index.findWithin(0x20L, 0)).containsExactly(0x20L);
+        assertThat(index.findWithin(0x30L, 0)).containsExactly(0x30L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void refreshIsSkippedUntilInitialLoadSucceeds() {
+        index.refresh();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.isReady()).isFalse();
+    }
+
+    private Set<Long> bruteForce(long query, int maxDistance) {
+        Set<Long> matches = new HashSet<>();
+        for (long hash : stored) {
+            if (Long.bitCount(hash ^ query) <= maxDistance) {
+                matches.add(hash);
+            }
+        }
+        return matches;
+    }
+
+    private long flipRandomBits(long hash, int bits) {
+        long result = hash;
+        Set<Integer> flipped = new HashSet<>();
+        while (flipped.size() < bits) {
+            int bit = random.nextInt(64);
+            if (flipped.add(bit)) {
+                result ^= 1L << bit;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+package com.kopo.hanagreenworld.common.controller;
+
+import com.kopo.hanagreenworld.common.storage.BlobStore;
+import com.kopo.hanagreenworld.common.storage.InMemoryBlobStore;
+import com.kopo.hanagreenworld.common.storage.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이미지 조회의 Range 처리 - 스트림 저장소(메모리)와 로컬 디스크, 서명 URL 저장소
+ */
+class ChallengeImageControllerTest {
+
+    private static final String KEY = "ab/ab0123456789.jpg";
+    private static final String URL = "/challenge_images/" + KEY;
+
+    private final byte[] image = new byte[100];
+
+    @TempDir
+    Path baseDir;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) i;
+        }
+    }
+
+    @Test
+    void streamedStoreServesFullImage() throws Exception {
+        MockMvc mockMvc = mockMvc(storeWithImage(new InMemoryBlobStore()));
+
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "100"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=2592000, public"))
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void streamedStoreServesSingleRange() throws Exception {
+        MockMvc mockMvc = mockMvc(storeWithImage(new InMemoryBlobStore()));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "10"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 10, 20)));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 95, 100)));
+
+        // 끝을 넘는 구간은 파일 끝에서 자른다
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=90-500"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 90-99/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 90, 100)));
+    }
+
+    @Test
+    void streamedStoreRejectsUnsatisfiableRange() throws Exception {
+        MockMvc mockMvc = mockMvc(storeWithImage(new InMemoryBlobStore()));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=100-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void streamedStoreRejectsMultipleRangesExplicitly() throws Exception {
+        MockMvc mockMvc = mockMvc(storeWithImage(new InMemoryBlobStore()));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void streamedStoreIgnoresMalformedRange() throws Exception {
+        MockMvc mockMvc = mockMvc(storeWithImage(new InMemoryBlobStore()));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=abc"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void localStoreServesFileWithSpringRangeHandling() throws Exception {
+        MockMvc mockMvc = mockMvc(storeWithImage(localStore()));
+
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 10, 20)));
+        // 파일 리소스는 여러 구간도 multipart/byteranges로 응답한다
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+                .andExpect(status().isPartialContent());
+    }
+
+    @Test
+    void missingOrInvalidKeyIsNotFound() throws Exception {
+        MockMvc memory = mockMvc(new InMemoryBlobStore());
+        MockMvc local = mockMvc(localStore());
+
+        memory.perform(get("/challenge_images/zz/missing.jpg")).andExpect(status().isNotFound());
+        local.perform(get("/challenge_images/zz/missing.jpg")).andExpect(status().isNotFound());
+        memory.perform(get("/challenge_images/ab/bad~key.jpg")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void signedUrlStoreRedirects() throws Exception {
+        BlobStore signing = mock(BlobStore.class);
+        when(signing.directUrl(eq(KEY), any(Duration.class)))
+                .thenReturn(Optional.of("https://images.example.com/" + KEY + "?signature=x"));
+
+        mockMvc(signing).perform(get(URL).header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, "https://images.example.com/" + KEY + "?signature=x"));
+    }
+
+    private MockMvc mockMvc(BlobStore blobStore) {
+        ChallengeImageController controller = new ChallengeImageController(blobStore);
+        ReflectionTestUtils.setField(controller, "directUrlTtlSeconds", 600L);
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    private BlobStore storeWithImage(BlobStore blobStore) throws IOException {
+        blobStore.put(KEY, new ByteArrayInputStream(image), image.length, "image/jpeg");
+        return blobStore;
+    }
+
+    private LocalBlobStore localStore() throws IOException {
+        LocalBlobStore store = new LocalBlobStore();
+        ReflectionTestUtils.setField(store, "baseDirName", baseDir.toString());
+        store.init();
+        return store;
+    }
+}
@@ -0,0 +1,128 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BlobStore 구현이 공통으로 지켜야 하는 동작 (구현별 테스트가 상속한다)
+ */
+abstract class BlobStoreContractTest {
+
+    private static final String KEY = "ab/ab0123456789.jpg";
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    protected BlobStore blobStore;
+
+    protected abstract BlobStore createStore() throws IOException;
+
+    @BeforeEach
+    void setUpStore() throws IOException {
+        blobStore = createStore();
+    }
+
+    @Test
+    void putThenOpenReturnsSameBytes() throws IOException {
+        byte[] content = content(5000);
+
+        blobStore.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        assertThat(read(blobStore.open(KEY))).isEqualTo(content);
+    }
+
+    @Test
+    void putFileStoresFileContent() throws IOException {
+        byte[] content = content(3000);
+        Path temp = blobStore.newTempFile();
+        Files.write(temp, content);
+
+        blobStore.putFile(KEY, temp, CONTENT_TYPE);
+        Files.deleteIfExists(temp);
+
+        assertThat(read(blobStore.open(KEY))).isEqualTo(content);
+    }
+
+    @Test
+    void putOverwritesExistingKey() throws IOException {
+        blobStore.put(KEY, new ByteArrayInputStream(content(100)), 100, CONTENT_TYPE);
+        byte[] replacement = content(40);
+
+        blobStore.put(KEY, new ByteArrayInputStream(replacement), replacement.length, CONTENT_TYPE);
+
+        assertThat(read(blobStore.open(KEY))).isEqualTo(replacement);
+        assertThat(blobStore.stat(KEY).orElseThrow().getSize()).isEqualTo(40);
+    }
+
+    @Test
+    void openRangeReturnsRequestedSlice() throws IOException {
+        byte[] content = content(1000);
+        blobStore.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        assertThat(read(blobStore.openRange(KEY, 0, 10))).isEqualTo(Arrays.copyOfRange(content, 0, 10));
+        assertThat(read(blobStore.openRange(KEY, 500, 100))).isEqualTo(Arrays.copyOfRange(content, 500, 600));
+        assertThat(read(blobStore.openRange(KEY, 999, 1))).isEqualTo(Arrays.copyOfRange(content, 999, 1000));
+    }
+
+    @Test
+    void openRangePastEndIsTruncated() throws IOException {
+        byte[] content = content(100);
+        blobStore.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        assertThat(read(blobStore.openRange(KEY, 90, 50))).isEqualTo(Arrays.copyOfRange(content, 90, 100));
+        assertThat(read(blobStore.openRange(KEY, 200, 10))).isEmpty();
+    }
+
+    @Test
+    void statReportsSizeAndContentType() throws IOException {
+        byte[] content = content(1234);
+        blobStore.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        Optional<BlobStore.BlobInfo> info = blobStore.stat(KEY);
+
+        assertThat(info).isPresent();
+        assertThat(info.get().getSize()).isEqualTo(1234);
+        assertThat(info.get().getContentType()).isEqualTo(CONTENT_TYPE);
+        assertThat(blobStore.exists(KEY)).isTrue();
+    }
+
+    @Test
+    void missingKeyIsReportedConsistently() throws IOException {
+        assertThat(blobStore.stat("zz/missing.jpg")).isEmpty();
+        assertThat(blobStore.exists("zz/missing.jpg")).isFalse();
+        assertThatThrownBy(() -> blobStore.open("zz/missing.jpg")).isInstanceOf(FileNotFoundException.class);
+        assertThatThrownBy(() -> blobStore.openRange("zz/missing.jpg", 0, 10)).isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void invalidKeyIsRejected() {
+        assertThatThrownBy(() -> blobStore.put("../escape.jpg", new ByteArrayInputStream(new byte[1]), 1, CONTENT_TYPE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.put("ab//x.jpg", new ByteArrayInputStream(new byte[1]), 1, CONTENT_TYPE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31 + size);
+        }
+        return content;
+    }
+
+    private static byte[] read(InputStream inputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            return in.readAllBytes();
+        }
+    }
+}
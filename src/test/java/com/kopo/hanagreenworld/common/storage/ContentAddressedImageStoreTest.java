@@ -0,0 +1,165 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저장하면서 계산한 MD5, 중복 저장 생략, 크기 제한, 매직 바이트 확장자 판별 확인
+ */
+class ContentAddressedImageStoreTest {
+
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+    private RecordingBlobStore blobStore;
+    private ContentAddressedImageStore store;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new RecordingBlobStore();
+        store = new ContentAddressedImageStore(blobStore);
+        ReflectionTestUtils.setField(store, "maxBytes", 1024L * 1024);
+    }
+
+    @Test
+    void digestIsComputedWhileStreaming() throws Exception {
+        byte[] content = image(JPEG_MAGIC, 200_000);
+
+        // 한 번에 몇 바이트씩만 내주는 스트림이어도 MD5/앞부분 판별이 같아야 한다
+        ContentAddressedImageStore.StoredImage stored = store.store(new TrickleInputStream(content, 5));
+
+        byte[] md5 = MessageDigest.getInstance("MD5").digest(content);
+        String hex = HexFormat.of().formatHex(md5);
+        assertThat(stored.getKey()).isEqualTo(hex.substring(0, 2) + "/" + hex + ".jpg");
+        assertThat(stored.getDigest()).isEqualTo(Base64.getEncoder().encodeToString(md5));
+        assertThat(stored.getSize()).isEqualTo(content.length);
+        assertThat(stored.isDeduplicated()).isFalse();
+        assertThat(ContentAddressedImageStore.digestFromKey(stored.getKey())).isEqualTo(stored.getDigest());
+        try (InputStream in = blobStore.open(stored.getKey())) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void sameContentIsStoredOnce() throws Exception {
+        byte[] content = image(PNG_MAGIC, 10_000);
+
+        ContentAddressedImageStore.StoredImage first = store.store(new ByteArrayInputStream(content));
+        ContentAddressedImageStore.StoredImage second = store.store(new ByteArrayInputStream(content));
+
+        assertThat(second.getKey()).isEqualTo(first.getKey());
+        assertThat(second.getDigest()).isEqualTo(first.getDigest());
+        assertThat(second.isDeduplicated()).isTrue();
+        assertThat(blobStore.putCount).isEqualTo(1);
+        assertThat(blobStore.tempFiles).allMatch(path -> !Files.exists(path));
+    }
+
+    @Test
+    void oversizedUploadIsRejectedAndNothingIsStored() {
+        ReflectionTestUtils.setField(store, "maxBytes", 100L);
+        byte[] content = image(JPEG_MAGIC, 101);
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(content)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(blobStore.putCount).isZero();
+        assertThat(blobStore.tempFiles).hasSize(1).allMatch(path -> !Files.exists(path));
+    }
+
+    @Test
+    void uploadAtExactLimitIsAccepted() throws Exception {
+        ReflectionTestUtils.setField(store, "maxBytes", 100L);
+
+        ContentAddressedImageStore.StoredImage stored = store.store(new ByteArrayInputStream(image(JPEG_MAGIC, 100)));
+
+        assertThat(stored.getSize()).isEqualTo(100);
+    }
+
+    @Test
+    void extensionComesFromMagicBytes() throws Exception {
+        assertThat(store.store(new ByteArrayInputStream(image(PNG_MAGIC, 64))).getKey()).endsWith(".png");
+        assertThat(store.store(new ByteArrayInputStream(image("GIF89a".getBytes(StandardCharsets.US_ASCII), 64)))
+                .getKey()).endsWith(".gif");
+        assertThat(store.store(new ByteArrayInputStream(image(ascii("RIFF\0\0\0\0WEBP"), 64))).getKey()).endsWith(".webp");
+        assertThat(store.store(new ByteArrayInputStream(image(ascii("\0\0\0\u0018ftypheic"), 64))).getKey()).endsWith(".heic");
+        assertThat(store.store(new ByteArrayInputStream(image(ascii("\0\0\0\u0018ftypmif1"), 64))).getKey()).endsWith(".heif");
+        // 판별할 수 없는 내용과 아주 짧은 내용은 기본 확장자
+        assertThat(store.store(new ByteArrayInputStream(image(ascii("plain text"), 64))).getKey()).endsWith(".jpg");
+        assertThat(store.store(new ByteArrayInputStream(new byte[]{(byte) 0x89, 'P'})).getKey()).endsWith(".jpg");
+    }
+
+    @Test
+    void digestFromKeyRejectsOtherKeyShapes() {
+        assertThat(ContentAddressedImageStore.digestFromKey(null)).isNull();
+        assertThat(ContentAddressedImageStore.digestFromKey("challenge_1.jpg")).isNull();
+        // 디렉터리 접두어가 해시 앞 2자리와 다르면 내용 주소 키가 아니다
+        assertThat(ContentAddressedImageStore.digestFromKey("ff/00" + "0".repeat(30) + ".jpg")).isNull();
+    }
+
+    private static byte[] image(byte[] magic, int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        System.arraycopy(magic, 0, content, 0, Math.min(magic.length, size));
+        return content;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 저장 횟수와 임시 파일을 기록하는 메모리 저장소
+     */
+    private static class RecordingBlobStore extends InMemoryBlobStore {
+        private final List<Path> tempFiles = new ArrayList<>();
+        private int putCount;
+
+        @Override
+        public Path newTempFile() throws IOException {
+            Path temp = super.newTempFile();
+            tempFiles.add(temp);
+            return temp;
+        }
+
+        @Override
+        public void putFile(String key, Path file, String contentType) throws IOException {
+            putCount++;
+            super.putFile(key, file, contentType);
+        }
+    }
+
+    /**
+     * read 한 번에 최대 chunk 바이트만 돌려주는 스트림
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+        private final int chunk;
+
+        TrickleInputStream(byte[] content, int chunk) {
+            super(new ByteArrayInputStream(content));
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, chunk));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.kopo.hanagreenworld.common.storage;
+
+class InMemoryBlobStoreTest extends BlobStoreContractTest {
+
+    @Override
+    protected BlobStore createStore() {
+        return new InMemoryBlobStore();
+    }
+}
@@ -0,0 +1,46 @@
+package com.kopo.hanagreenworld.common.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalBlobStoreTest extends BlobStoreContractTest {
+
+    @TempDir
+    Path baseDir;
+
+    @Override
+    protected BlobStore createStore() throws IOException {
+        LocalBlobStore store = new LocalBlobStore();
+        ReflectionTestUtils.setField(store, "baseDirName", baseDir.toString());
+        store.init();
+        return store;
+    }
+
+    @Test
+    void localPathPointsUnderBaseDirectory() throws IOException {
+        blobStore.put("cd/cd42.png", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/png");
+
+        Path path = blobStore.localPath("cd/cd42.png").orElseThrow();
+
+        assertThat(path).isEqualTo(baseDir.toAbsolutePath().normalize().resolve("cd/cd42.png"));
+        assertThat(Files.readAllBytes(path)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void tempFilesStayOnSameFileSystemAndLeaveNothingBehind() throws IOException {
+        blobStore.put("cd/cd43.png", new ByteArrayInputStream(new byte[]{4, 5}), 2, "image/png");
+
+        assertThat(blobStore.newTempFile()).startsWith(baseDir.toAbsolutePath().normalize());
+        try (var incoming = Files.list(baseDir.resolve(".incoming"))) {
+            assertThat(incoming).isEmpty();
+        }
+    }
+}
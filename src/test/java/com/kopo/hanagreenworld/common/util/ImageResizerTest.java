@@ -0,0 +1,152 @@
+package com.kopo.hanagreenworld.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영역 평균 축소와 EXIF 방향 보정이 픽셀 단위로 맞는지 확인
+ */
+class ImageResizerTest {
+
+    @Test
+    void areaAverageOfEvenBlocksIsExactBlockMean() {
+        // 4x4 원본을 2x2로 - 각 칸은 2x2 블록의 평균
+        BufferedImage source = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        int[][] values = {
+                {0, 100, 10, 30},
+                {200, 100, 50, 70},
+                {40, 40, 255, 255},
+                {40, 40, 255, 251}
+        };
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                source.setRGB(x, y, gray(values[y][x]));
+            }
+        }
+
+        BufferedImage target = ImageResizer.areaAverage(source, 2, 2);
+
+        assertThat(target.getWidth()).isEqualTo(2);
+        assertThat(target.getHeight()).isEqualTo(2);
+        assertThat(target.getRGB(0, 0) & 0xFFFFFF).isEqualTo(gray(100));
+        assertThat(target.getRGB(1, 0) & 0xFFFFFF).isEqualTo(gray(40));
+        assertThat(target.getRGB(0, 1) & 0xFFFFFF).isEqualTo(gray(40));
+        assertThat(target.getRGB(1, 1) & 0xFFFFFF).isEqualTo(gray(254));
+    }
+
+    @Test
+    void areaAverageKeepsChannelsSeparate() {
+        BufferedImage source = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000);
+        source.setRGB(1, 0, 0x0000FF);
+
+        BufferedImage target = ImageResizer.areaAverage(source, 1, 1);
+
+        assertThat(target.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0x7F007F);
+    }
+
+    @Test
+    void areaAverageWithUnevenRatioCoversEveryTargetPixel() {
+        // 7x5 → 3x2: 칸 크기가 나누어떨어지지 않아도 빈 칸 없이 원본 색을 유지한다
+        BufferedImage source = new BufferedImage(7, 5, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 7; x++) {
+                source.setRGB(x, y, 0x336699);
+            }
+        }
+
+        BufferedImage target = ImageResizer.areaAverage(source, 3, 2);
+
+        for (int y = 0; y < 2; y++) {
+            for (int x = 0; x < 3; x++) {
+                assertThat(target.getRGB(x, y) & 0xFFFFFF).isEqualTo(0x336699);
+            }
+        }
+    }
+
+    @Test
+    void fitWithinScalesLongEdgeAndKeepsAspectRatio() {
+        BufferedImage landscape = ImageResizer.fitWithin(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 768);
+        BufferedImage portrait = ImageResizer.fitWithin(new BufferedImage(1000, 4000, BufferedImage.TYPE_INT_RGB), 768);
+        BufferedImage small = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(landscape.getWidth()).isEqualTo(768);
+        assertThat(landscape.getHeight()).isEqualTo(576);
+        assertThat(portrait.getWidth()).isEqualTo(192);
+        assertThat(portrait.getHeight()).isEqualTo(768);
+        assertThat(ImageResizer.fitWithin(small, 768)).isSameAs(small);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4})
+    void orientationsUpToFourKeepDimensions(int orientation) {
+        BufferedImage rotated = ImageResizer.applyOrientation(labeled(), orientation);
+
+        assertThat(rotated.getWidth()).isEqualTo(3);
+        assertThat(rotated.getHeight()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 6, 7, 8})
+    void orientationsFiveToEightSwapWidthAndHeight(int orientation) {
+        BufferedImage rotated = ImageResizer.applyOrientation(labeled(), orientation);
+
+        assertThat(rotated.getWidth()).isEqualTo(2);
+        assertThat(rotated.getHeight()).isEqualTo(3);
+    }
+
+    @Test
+    void orientationMovesPixelsToExpectedPositions() {
+        // 원본 3x2 (값 = 원본 좌표)
+        //   A B C
+        //   D E F
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 2))).isEqualTo(new String[]{"CBA", "FED"});
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 3))).isEqualTo(new String[]{"FED", "CBA"});
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 4))).isEqualTo(new String[]{"DEF", "ABC"});
+        // 5: 전치, 6: 시계 방향 90도, 7: 반대 대각선 전치, 8: 반시계 방향 90도
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 5))).isEqualTo(new String[]{"AD", "BE", "CF"});
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 6))).isEqualTo(new String[]{"DA", "EB", "FC"});
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 7))).isEqualTo(new String[]{"FC", "EB", "DA"});
+        assertThat(pixels(ImageResizer.applyOrientation(labeled(), 8))).isEqualTo(new String[]{"CF", "BE", "AD"});
+    }
+
+    @Test
+    void unknownOrientationReturnsSameImage() {
+        BufferedImage image = labeled();
+
+        assertThat(ImageResizer.applyOrientation(image, 0)).isSameAs(image);
+        assertThat(ImageResizer.applyOrientation(image, 9)).isSameAs(image);
+    }
+
+    private static BufferedImage labeled() {
+        BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        char label = 'A';
+        for (int y = 0; y < 2; y++) {
+            for (int x = 0; x < 3; x++) {
+                image.setRGB(x, y, label++);
+            }
+        }
+        return image;
+    }
+
+    private static String[] pixels(BufferedImage image) {
+        String[] rows = new String[image.getHeight()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < image.getWidth(); x++) {
+                row.append((char) (image.getRGB(x, y) & 0xFF));
+            }
+            rows[y] = row.toString();
+        }
+        return rows;
+    }
+
+    private static int gray(int value) {
+        return value << 16 | value << 8 | value;
+    }
+}
@@ -0,0 +1,161 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 회원에 대한 동시 증감이 서로 덮어쓰지 않는지(lost update 없음) 확인
+ * (각 요청이 실제로 커밋해야 하므로 테스트 트랜잭션은 쓰지 않는다)
+ */
+@JpaSliceTest
+@Import(MemberProfileCounterService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberProfileCounterServiceTest {
+
+    private static final int THREADS = 4;
+    private static final int REQUESTS_PER_THREAD = 25;
+
+    @Autowired
+    private MemberProfileCounterService memberProfileCounterService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void resetWriteBehind() {
+        ReflectionTestUtils.setField(memberProfileCounterService, "writeBehind", false);
+    }
+
+    @Test
+    void concurrentApplyDoesNotLoseUpdates() throws Exception {
+        Long memberId = createMember("counter-apply");
+
+        runConcurrently(() -> transactionTemplate.executeWithoutResult(status -> {
+            MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+            memberProfileCounterService.apply(profile, MemberProfileCounterService.Delta.points(10));
+        }));
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        assertThat(profile.getCurrentPoints()).isEqualTo(10L * THREADS * REQUESTS_PER_THREAD);
+    }
+
+    @Test
+    void concurrentRecordActivitiesDoesNotLoseUpdates() throws Exception {
+        Long memberId = createMember("counter-activities");
+
+        runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                memberProfileCounterService.recordActivities(memberId, 1, 0.5)));
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        assertThat(profile.getTotalActivitiesCount()).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+        assertThat(profile.getTotalCarbonSaved()).isEqualTo(0.5 * THREADS * REQUESTS_PER_THREAD);
+    }
+
+    @Test
+    void concurrentIsolatedActivitiesDoNotLoseUpdates() throws Exception {
+        Long memberId = createMember("counter-isolated");
+
+        runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                memberProfileCounterService.recordActivityIsolated(memberId, null)));
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        assertThat(profile.getTotalActivitiesCount()).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+    }
+
+    @Test
+    void isolatedActivityIsSkippedWhenCallerRollsBack() {
+        Long memberId = createMember("counter-isolated-rollback");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberProfileCounterService.recordActivityIsolated(memberId, 1.0);
+            status.setRollbackOnly();
+        });
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        assertThat(profile.getTotalActivitiesCount()).isZero();
+        assertThat(profile.getTotalCarbonSaved()).isZero();
+    }
+
+    @Test
+    void writeBehindBuffersOnlyCommittedActivities() throws Exception {
+        ReflectionTestUtils.setField(memberProfileCounterService, "writeBehind", true);
+        Long memberId = createMember("counter-write-behind");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberProfileCounterService.recordActivities(memberId, 5, null);
+            status.setRollbackOnly();
+        });
+        runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                memberProfileCounterService.recordActivities(memberId, 1, null)));
+        memberProfileCounterService.flushBufferedActivities();
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        assertThat(profile.getTotalActivitiesCount()).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+    }
+
+    private void runConcurrently(Runnable request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        request.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long createMember(String loginId) {
+        return transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(Member.builder()
+                    .loginId(loginId)
+                    .email(loginId + "@test.com")
+                    .password("password")
+                    .name(loginId)
+                    .phoneNumber("010-0000-0000")
+                    .build());
+            memberProfileRepository.save(MemberProfile.builder()
+                    .member(member)
+                    .nickname(loginId)
+                    .build());
+            return member.getMemberId();
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.support.InMemoryZSetRedis;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리더보드 순위가 DB 대체 경로(findTeamRanksByIds)와 같은 기준(동점 = 같은 순위)인지 확인
+ */
+@JpaSliceTest
+@Import(TeamLeaderboardService.class)
+class TeamLeaderboardServiceTest {
+
+    @Autowired
+    private TeamLeaderboardService teamLeaderboardService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Test
+    void redisRanksMatchDatabaseRanksIncludingTies() {
+        // 월간: 두 팀 0점 동점, 두 팀 30점 동점 / 누적: 두 팀 50점 동점
+        Team zeroA = createTeam(50, 0);
+        Team zeroB = createTeam(50, 0);
+        Team thirtyA = createTeam(40, 30);
+        Team thirtyB = createTeam(70, 30);
+        Team five = createTeam(5, 5);
+        List<Long> teamIds = List.of(zeroA.getId(), zeroB.getId(), thirtyA.getId(), thirtyB.getId(), five.getId());
+        useRedisBuiltFromDatabase();
+
+        Map<Long, TeamLeaderboardService.TeamRank> redisRanks = teamLeaderboardService.getRanks(teamIds);
+        Map<Long, int[]> databaseRanks = new HashMap<>();
+        for (Object[] row : teamRepository.findTeamRanksByIds(teamIds)) {
+            databaseRanks.put(((Number) row[0]).longValue(),
+                    new int[]{((Number) row[1]).intValue(), ((Number) row[2]).intValue()});
+        }
+
+        assertThat(redisRanks).hasSize(teamIds.size());
+        for (Long teamId : teamIds) {
+            assertThat(redisRanks.get(teamId).getMonthlyRank()).isEqualTo(databaseRanks.get(teamId)[0]);
+            assertThat(redisRanks.get(teamId).getTotalRank()).isEqualTo(databaseRanks.get(teamId)[1]);
+        }
+        assertThat(redisRanks.get(zeroA.getId()).getMonthlyRank())
+                .isEqualTo(redisRanks.get(zeroB.getId()).getMonthlyRank());
+        assertThat(redisRanks.get(thirtyA.getId()).getMonthlyRank())
+                .isEqualTo(redisRanks.get(thirtyB.getId()).getMonthlyRank());
+        assertThat(redisRanks.get(zeroA.getId()).getTotalRank())
+                .isEqualTo(redisRanks.get(zeroB.getId()).getTotalRank());
+        // 동점 두 팀 다음 순위는 한 칸을 건너뛴다 (30점 두 팀 → 5점 팀은 +2)
+        assertThat(redisRanks.get(five.getId()).getMonthlyRank())
+                .isEqualTo(redisRanks.get(thirtyA.getId()).getMonthlyRank() + 2);
+    }
+
+    @Test
+    void teamMissingFromLeaderboardIsLeftForDatabaseFallback() {
+        Team team = createTeam(0, 0);
+        useRedisBuiltFromDatabase();
+        Team added = createTeam(0, 0);
+
+        Map<Long, TeamLeaderboardService.TeamRank> ranks =
+                teamLeaderboardService.getRanks(List.of(team.getId(), added.getId()));
+
+        assertThat(ranks).containsOnlyKeys(team.getId());
+    }
+
+    private void useRedisBuiltFromDatabase() {
+        InMemoryZSetRedis redis = new InMemoryZSetRedis();
+        for (Object[] row : teamRepository.findActiveTeamPoints()) {
+            redis.zadd("leaderboard:team:monthly", row[0].toString(), score(row[1]));
+            redis.zadd("leaderboard:team:total", row[0].toString(), score(row[2]));
+        }
+        ReflectionTestUtils.setField(teamLeaderboardService, "stringRedisTemplate", redis.template());
+        ReflectionTestUtils.setField(teamLeaderboardService, "available", true);
+    }
+
+    private double score(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    private Team createTeam(long totalPoints, long monthlyPoints) {
+        Team team = Team.builder()
+                .teamName("leaderboard-team-" + System.nanoTime())
+                .leaderId(1L)
+                .maxMembers(10)
+                .build();
+        team.addPoints(totalPoints - monthlyPoints);
+        team.resetMonthlyPoints();
+        team.addPoints(monthlyPoints);
+        return teamRepository.save(team);
+    }
+}
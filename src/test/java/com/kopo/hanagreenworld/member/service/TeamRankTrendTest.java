@@ -0,0 +1,184 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.activity.service.ChallengeCatalog;
+import com.kopo.hanagreenworld.chat.service.TeamChatService;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.domain.TeamRankSnapshot;
+import com.kopo.hanagreenworld.member.dto.TeamRankingResponse;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRankSnapshotRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.support.InMemoryZSetRedis;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내 팀 순위 추이가 스냅샷 순위와 현재 순위를 같은 기준(동점 = 같은 순위)으로 비교하는지 확인
+ * (현재 순위는 DB 대체 경로와 리더보드 경로 모두 확인)
+ */
+@JpaSliceTest
+@Import({TeamService.class, TeamStatsLoader.class, TeamLeaderboardService.class, TeamRankSnapshotService.class})
+class TeamRankTrendTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamLeaderboardService teamLeaderboardService;
+
+    @Autowired
+    private TeamRankSnapshotService teamRankSnapshotService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRankSnapshotRepository teamRankSnapshotRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberTeamRepository memberTeamRepository;
+
+    @MockitoBean
+    private ChallengeCatalog challengeCatalog;
+
+    @MockitoBean
+    private TeamChatService teamChatService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ReflectionTestUtils.setField(teamLeaderboardService, "stringRedisTemplate", null);
+        ReflectionTestUtils.setField(teamLeaderboardService, "available", false);
+    }
+
+    @Test
+    void tiedTeamsWithUnchangedScoresReportSameOnDatabaseRanks() {
+        List<Team> teams = createTiedTeams();
+        Member member = joinTeam(teams.get(1));
+        snapshotYesterday();
+
+        TeamRankingResponse.TeamRankingInfo myTeam = rankingOf(member);
+
+        assertThat(myTeam.getCurrentRank()).isEqualTo(myTeam.getPreviousRank());
+        assertThat(myTeam.getTrend()).isEqualTo("same");
+        assertThat(myTeam.getRankChange()).isZero();
+    }
+
+    @Test
+    void tiedTeamsWithUnchangedScoresReportSameOnLeaderboardRanks() {
+        List<Team> teams = createTiedTeams();
+        Member member = joinTeam(teams.get(2));
+        snapshotYesterday();
+        useRedisBuiltFromDatabase();
+
+        TeamRankingResponse.TeamRankingInfo myTeam = rankingOf(member);
+
+        assertThat(myTeam.getCurrentRank()).isEqualTo(myTeam.getPreviousRank());
+        assertThat(myTeam.getTrend()).isEqualTo("same");
+        assertThat(myTeam.getRankChange()).isZero();
+    }
+
+    @Test
+    void teamThatPassesLeaderMovesUp() {
+        List<Team> teams = createTiedTeams();
+        Team leader = createTeam();
+        leader.addPoints(20L);
+        teamRepository.saveAndFlush(leader);
+        Team mine = teams.get(2);
+        Member member = joinTeam(mine);
+        snapshotYesterday();
+        mine.addPoints(30L);
+        teamRepository.saveAndFlush(mine);
+
+        TeamRankingResponse.TeamRankingInfo myTeam = rankingOf(member);
+
+        assertThat(myTeam.getTrend()).isEqualTo("up");
+        assertThat(myTeam.getRankChange()).isEqualTo(1);
+        assertThat(myTeam.getPreviousRank() - myTeam.getCurrentRank()).isEqualTo(1);
+    }
+
+    @Test
+    void recordedSnapshotDateIsNotOverwritten() {
+        List<Team> teams = createTiedTeams();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        int saved = teamRankSnapshotService.takeSnapshot(TeamRankSnapshot.SnapshotType.DAILY, yesterday);
+        Team first = teams.get(0);
+        first.addPoints(10L);
+        teamRepository.saveAndFlush(first);
+
+        // 재시도나 다른 노드의 늦은 실행은 마감 이후 점수로 덮어쓰지 않는다
+        int retried = teamRankSnapshotService.takeSnapshot(TeamRankSnapshot.SnapshotType.DAILY, yesterday);
+
+        assertThat(saved).isGreaterThanOrEqualTo(teams.size());
+        assertThat(retried).isZero();
+        assertThat(teamRankSnapshotRepository.findByTeamIdAndSnapshotTypeAndSnapshotDate(
+                first.getId(), TeamRankSnapshot.SnapshotType.DAILY, yesterday).orElseThrow().getMonthlyPoints())
+                .isZero();
+    }
+
+    // 이번 달 포인트가 모두 0인 팀 3개 (새로 만든 팀들과 같은 상황)
+    private List<Team> createTiedTeams() {
+        return List.of(createTeam(), createTeam(), createTeam());
+    }
+
+    private Team createTeam() {
+        return teamRepository.save(Team.builder()
+                .teamName("trend-team-" + System.nanoTime())
+                .leaderId(1L)
+                .maxMembers(10)
+                .build());
+    }
+
+    private Member joinTeam(Team team) {
+        String loginId = "trend-member-" + System.nanoTime();
+        Member member = memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .email(loginId + "@test.com")
+                .password("password")
+                .name(loginId)
+                .phoneNumber("010-0000-0000")
+                .role(Member.MemberRole.USER)
+                .build());
+        memberTeamRepository.save(MemberTeam.builder().member(member).team(team).build());
+        return member;
+    }
+
+    private void snapshotYesterday() {
+        teamRankSnapshotService.takeSnapshot(TeamRankSnapshot.SnapshotType.DAILY, LocalDate.now().minusDays(1));
+    }
+
+    private TeamRankingResponse.TeamRankingInfo rankingOf(Member member) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                member, null, List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))));
+        return teamService.getTeamRanking().getMyTeam();
+    }
+
+    private void useRedisBuiltFromDatabase() {
+        InMemoryZSetRedis redis = new InMemoryZSetRedis();
+        for (Object[] row : teamRepository.findActiveTeamPoints()) {
+            redis.zadd("leaderboard:team:monthly", row[0].toString(), ((Number) row[1]).doubleValue());
+            redis.zadd("leaderboard:team:total", row[0].toString(), ((Number) row[2]).doubleValue());
+        }
+        ReflectionTestUtils.setField(teamLeaderboardService, "stringRedisTemplate", redis.template());
+        ReflectionTestUtils.setField(teamLeaderboardService, "available", true);
+    }
+}
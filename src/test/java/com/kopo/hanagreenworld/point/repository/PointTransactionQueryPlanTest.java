@@ -0,0 +1,183 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월간 적립 합계 쿼리의 실행 계획 회귀 테스트
+ *
+ * Hibernate가 실제로 만든 SQL을 가로채 같은 파라미터로 EXPLAIN하고,
+ * (member_id, transaction_type, occurred_at) 인덱스를 쓰는지 확인한다.
+ * H2 계획은 옵티마이저가 고른 인덱스만 보여 주므로, 파티션 프루닝까지 보려면
+ * POINT_PLAN_MYSQL_URL을 지정해 MySQL 검사를 함께 실행한다.
+ */
+@JpaSliceTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.kopo.hanagreenworld.point.repository.PointTransactionQueryPlanTest$CapturingStatementInspector")
+class PointTransactionQueryPlanTest {
+
+    private static final String INDEX = "idx_point_tx_member_type_occurred";
+    private static final LocalDateTime OCT_START = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime NOV_START = LocalDateTime.of(2026, 11, 1, 0, 0);
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        member = entityManager.persist(Member.builder()
+                .loginId("plan-member")
+                .email("plan-member@test.com")
+                .password("password")
+                .name("plan-member")
+                .phoneNumber("010-0000-0000")
+                .build());
+        team = entityManager.persist(Team.builder()
+                .teamName("plan-team")
+                .leaderId(member.getMemberId())
+                .maxMembers(10)
+                .build());
+        entityManager.persist(MemberTeam.builder()
+                .member(member)
+                .team(team)
+                .role(MemberTeam.TeamRole.LEADER)
+                .build());
+        for (int day = 1; day <= 28; day++) {
+            record(PointTransactionType.EARN, OCT_START.minusMonths(1).plusDays(day - 1));
+            record(PointTransactionType.EARN, OCT_START.plusDays(day - 1));
+            record(PointTransactionType.USE, OCT_START.plusDays(day - 1));
+        }
+        entityManager.flush();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void memberMonthlySumUsesMemberTypeOccurredIndex() {
+        pointTransactionRepository.sumEarnedPointsByMemberIdsBetween(List.of(member.getMemberId()), OCT_START, NOV_START);
+
+        String plan = explain(CapturingStatementInspector.lastSelect(), member.getMemberId(), OCT_START, NOV_START);
+
+        assertThat(plan).contains(INDEX);
+    }
+
+    @Test
+    void teamMonthlySumUsesMemberTypeOccurredIndex() {
+        pointTransactionRepository.sumTeamEarnedPointsBetween(List.of(team.getId()), OCT_START, NOV_START);
+
+        String plan = explain(CapturingStatementInspector.lastSelect(), team.getId(), OCT_START, NOV_START);
+
+        assertThat(plan).contains(INDEX);
+    }
+
+    /**
+     * 운영과 같은 MySQL 스키마(파티셔닝 스크립트 적용 후)에서의 계획 확인
+     * 데이터가 거의 없으면 MySQL이 전체 스캔을 고를 수 있으므로 원장이 쌓인 DB를 대상으로 실행한다.
+     * 예) POINT_PLAN_MYSQL_URL=jdbc:mysql://localhost:3306/hanagreenworld POINT_PLAN_MYSQL_USER=... ./gradlew test
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "POINT_PLAN_MYSQL_URL", matches = ".+")
+    void mysqlMonthlySumUsesIndexAndSinglePartition() throws Exception {
+        String sql = "EXPLAIN SELECT COALESCE(SUM(points_amount), 0) FROM point_transactions "
+                + "WHERE member_id IN (?) AND transaction_type = 'EARN' "
+                + "AND occurred_at >= ? AND occurred_at < ? GROUP BY member_id";
+
+        try (Connection connection = DriverManager.getConnection(System.getenv("POINT_PLAN_MYSQL_URL"),
+                System.getenv("POINT_PLAN_MYSQL_USER"), System.getenv("POINT_PLAN_MYSQL_PASSWORD"));
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, 1L);
+            statement.setObject(2, OCT_START);
+            statement.setObject(3, NOV_START);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                assertThat(resultSet.getString("key")).isEqualTo(INDEX);
+                String partitions = resultSet.getString("partitions");
+                if (partitions != null) {
+                    assertThat(partitions).isEqualTo("p202610");
+                }
+            }
+        }
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, parameters).stream()
+                .flatMap(row -> row.values().stream())
+                .map(String::valueOf)
+                .collect(Collectors.joining("\n"))
+                .toLowerCase();
+    }
+
+    private void record(PointTransactionType type, LocalDateTime occurredAt) {
+        entityManager.persist(PointTransaction.builder()
+                .member(member)
+                .pointTransactionType(type)
+                .category(type == PointTransactionType.EARN ? PointCategory.ECO_CHALLENGE
+                        : PointCategory.ENVIRONMENT_DONATION)
+                .description(type.name())
+                .pointsAmount(10)
+                .occurredAt(occurredAt)
+                .build());
+    }
+
+    /**
+     * Hibernate가 실행한 SQL을 기록 (실행 계획 확인용)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        static synchronized void clear() {
+            STATEMENTS.clear();
+        }
+
+        static synchronized String lastSelect() {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                String sql = STATEMENTS.get(i);
+                if (sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains("point_transactions")) {
+                    return sql;
+                }
+            }
+            throw new IllegalStateException("point_transactions 조회 SQL이 실행되지 않았습니다: " + STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (CapturingStatementInspector.class) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간별 적립 합계가 [start, end) 범위로 집계되는지 확인 (월 경계 포함)
+ */
+@JpaSliceTest
+class PointTransactionRepositoryTest {
+
+    private static final LocalDateTime FEB_START = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final LocalDateTime MAR_START = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void memberEarnedSumIncludesMonthStartAndExcludesNextMonthStart() {
+        Member member = createMember("range-member");
+        recordMonthBoundaryLedger(member);
+
+        Map<Long, Long> sums = toMap(pointTransactionRepository.sumEarnedPointsByMemberIdsBetween(
+                List.of(member.getMemberId()), FEB_START, MAR_START));
+
+        // 2/1 00:00 (10) + 2/28 23:59:59 (100), 1/31 마지막 초와 3/1 00:00 은 제외, USE 는 제외
+        assertThat(sums).containsExactly(Map.entry(member.getMemberId(), 110L));
+    }
+
+    @Test
+    void teamEarnedSumUsesSameHalfOpenRange() {
+        Member member = createMember("range-team-member");
+        Team team = entityManager.persist(Team.builder()
+                .teamName("range-team")
+                .leaderId(member.getMemberId())
+                .maxMembers(10)
+                .isActive(true)
+                .build());
+        entityManager.persist(MemberTeam.builder()
+                .member(member)
+                .team(team)
+                .role(MemberTeam.TeamRole.LEADER)
+                .build());
+        recordMonthBoundaryLedger(member);
+
+        Map<Long, Long> sums = toMap(pointTransactionRepository.sumTeamEarnedPointsBetween(
+                List.of(team.getId()), FEB_START, MAR_START));
+
+        assertThat(sums).containsExactly(Map.entry(team.getId(), 110L));
+    }
+
+    @Test
+    void emptyRangeReturnsNoRows() {
+        Member member = createMember("range-empty");
+        recordMonthBoundaryLedger(member);
+
+        assertThat(pointTransactionRepository.sumEarnedPointsByMemberIdsBetween(
+                List.of(member.getMemberId()), FEB_START, FEB_START)).isEmpty();
+    }
+
+    private void recordMonthBoundaryLedger(Member member) {
+        earn(member, 1, LocalDateTime.of(2026, 1, 31, 23, 59, 59));
+        earn(member, 10, FEB_START);
+        earn(member, 100, LocalDateTime.of(2026, 2, 28, 23, 59, 59));
+        earn(member, 1000, MAR_START);
+        entityManager.persist(PointTransaction.builder()
+                .member(member)
+                .pointTransactionType(PointTransactionType.USE)
+                .category(PointCategory.ENVIRONMENT_DONATION)
+                .description("USE")
+                .pointsAmount(50)
+                .occurredAt(LocalDateTime.of(2026, 2, 15, 12, 0))
+                .build());
+        entityManager.flush();
+    }
+
+    private void earn(Member member, int amount, LocalDateTime occurredAt) {
+        entityManager.persist(PointTransaction.builder()
+                .member(member)
+                .pointTransactionType(PointTransactionType.EARN)
+                .category(PointCategory.ECO_CHALLENGE)
+                .description("EARN")
+                .pointsAmount(amount)
+                .occurredAt(occurredAt)
+                .build());
+    }
+
+    private Member createMember(String loginId) {
+        return entityManager.persist(Member.builder()
+                .loginId(loginId)
+                .email(loginId + "@test.com")
+                .password("password")
+                .name(loginId)
+                .phoneNumber("010-0000-0000")
+                .build());
+    }
+
+    private Map<Long, Long> toMap(List<Object[]> rows) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+}
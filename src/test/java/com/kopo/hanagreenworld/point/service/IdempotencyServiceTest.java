@@ -0,0 +1,81 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.point.domain.ProcessedEvent;
+import com.kopo.hanagreenworld.point.repository.ProcessedEventRepository;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중복 이벤트가 예외 없이 false로 끝나고 호출 측 트랜잭션이 정상 커밋되는지 확인
+ */
+@JpaSliceTest
+@Import(IdempotencyService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ProcessedEventRepository processedEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void duplicateInSameTransactionReturnsFalseAndCommits() {
+        Boolean[] results = transactionTemplate.execute(status -> new Boolean[]{
+                idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION, "same-tx-1", 1L),
+                idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION, "same-tx-1", 1L)
+        });
+
+        assertThat(results).containsExactly(true, false);
+        assertThat(processedEventRepository.existsBySourceAndExternalId(
+                ProcessedEvent.Source.CARD_TRANSACTION, "same-tx-1")).isTrue();
+    }
+
+    @Test
+    void duplicateAfterCommitReturnsFalseWithoutRollbackOnly() {
+        assertThat(transactionTemplate.execute(status ->
+                idempotencyService.register(ProcessedEvent.Source.ELECTRONIC_RECEIPT, "committed-1", 1L))).isTrue();
+
+        Boolean second = transactionTemplate.execute(status -> {
+            boolean registered = idempotencyService.register(
+                    ProcessedEvent.Source.ELECTRONIC_RECEIPT, "committed-1", 1L);
+            assertThat(status.isRollbackOnly()).isFalse();
+            return registered;
+        });
+
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    void sameExternalIdFromOtherSourceIsIndependent() {
+        assertThat(transactionTemplate.execute(status ->
+                idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION, "shared-1", 1L))).isTrue();
+        assertThat(transactionTemplate.execute(status ->
+                idempotencyService.register(ProcessedEvent.Source.ELECTRONIC_RECEIPT, "shared-1", 1L))).isTrue();
+    }
+
+    @Test
+    void longIdsSharingAPrefixAreNotCollapsedByTruncation() {
+        String prefix = "x".repeat(100);
+        String first = prefix + "-first";
+        String second = prefix + "-second";
+
+        assertThat(transactionTemplate.execute(status ->
+                idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION, first, 1L))).isTrue();
+        assertThat(transactionTemplate.execute(status ->
+                idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION, second, 1L))).isTrue();
+        assertThat(transactionTemplate.execute(status ->
+                idempotencyService.register(ProcessedEvent.Source.CARD_TRANSACTION, first, 1L))).isFalse();
+        assertThat(idempotencyService.isProcessed(ProcessedEvent.Source.CARD_TRANSACTION, second)).isTrue();
+    }
+}
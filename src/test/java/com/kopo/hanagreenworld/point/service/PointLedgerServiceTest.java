@@ -0,0 +1,165 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileCounterService;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.support.JpaSliceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로필 원장 합계가 point_transactions 합계와 같은 부호/값을 유지하는지 확인
+ * (각 단계를 실제로 커밋해야 하므로 테스트 트랜잭션은 쓰지 않는다)
+ */
+@JpaSliceTest
+@Import({PointLedgerService.class, MemberProfileCounterService.class, DailyPointRollupService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointLedgerServiceTest {
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void totalsMatchLedgerAfterEarnUseConvertAndRefund() {
+        Long memberId = createMember("ledger-totals");
+
+        record(memberId, PointTransactionType.EARN, PointCategory.ECO_CHALLENGE, 1000);
+        record(memberId, PointTransactionType.USE, PointCategory.ENVIRONMENT_DONATION, 300);
+        record(memberId, PointTransactionType.CONVERT, PointCategory.HANA_MONEY_CONVERSION, 200);
+        recordRefund(memberId, 200);
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        Map<PointTransactionType, Long> ledger = ledgerSums(memberId);
+
+        assertThat(profile.getTotalEarnedPoints()).isEqualTo(ledger.get(PointTransactionType.EARN)).isEqualTo(1000L);
+        assertThat(profile.getTotalUsedPoints()).isEqualTo(ledger.get(PointTransactionType.USE)).isEqualTo(-300L);
+        // 전환 -200 후 환불 +200 (CONVERT_REFUND) → 순 전환 0
+        assertThat(ledger.get(PointTransactionType.CONVERT)).isEqualTo(-200L);
+        assertThat(ledger.get(PointTransactionType.CONVERT_REFUND)).isEqualTo(200L);
+        assertThat(profile.getTotalConvertedPoints())
+                .isEqualTo(ledger.get(PointTransactionType.CONVERT) + ledger.get(PointTransactionType.CONVERT_REFUND))
+                .isZero();
+        assertThat(profile.getCurrentPoints()).isEqualTo(700L);
+    }
+
+    @Test
+    void backfillSeedsSignedTotalsFromLedger() {
+        Long memberId = createMember("ledger-backfill");
+        record(memberId, PointTransactionType.EARN, PointCategory.DAILY_QUIZ, 500);
+        record(memberId, PointTransactionType.CONVERT, PointCategory.HANA_MONEY_CONVERSION, 120);
+        record(memberId, PointTransactionType.CONVERT, PointCategory.HANA_MONEY_CONVERSION, 30);
+        recordRefund(memberId, 30);
+        clearSummary(memberId);
+
+        Long afterId = 0L;
+        while (afterId != null) {
+            afterId = pointLedgerService.backfillSummaries(afterId, 100);
+        }
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        assertThat(profile.getTotalEarnedPoints()).isEqualTo(500L);
+        assertThat(profile.getTotalUsedPoints()).isZero();
+        assertThat(profile.getTotalConvertedPoints()).isEqualTo(-120L);
+    }
+
+    @Test
+    void firstRecordSeedsMissingTotalsBeforeApplying() {
+        Long memberId = createMember("ledger-seed");
+        record(memberId, PointTransactionType.EARN, PointCategory.WALKING, 400);
+        record(memberId, PointTransactionType.CONVERT, PointCategory.HANA_MONEY_CONVERSION, 100);
+        clearSummary(memberId);
+
+        record(memberId, PointTransactionType.EARN, PointCategory.WALKING, 50);
+
+        MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+        Map<PointTransactionType, Long> ledger = ledgerSums(memberId);
+        assertThat(profile.getTotalEarnedPoints()).isEqualTo(ledger.get(PointTransactionType.EARN)).isEqualTo(450L);
+        assertThat(profile.getTotalConvertedPoints()).isEqualTo(ledger.get(PointTransactionType.CONVERT)).isEqualTo(-100L);
+    }
+
+    private Long createMember(String loginId) {
+        return transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(Member.builder()
+                    .loginId(loginId)
+                    .email(loginId + "@test.com")
+                    .password("password")
+                    .name(loginId)
+                    .phoneNumber("010-0000-0000")
+                    .build());
+            memberProfileRepository.save(MemberProfile.builder()
+                    .member(member)
+                    .nickname(loginId)
+                    .build());
+            return member.getMemberId();
+        });
+    }
+
+    private void record(Long memberId, PointTransactionType type, PointCategory category, int amount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+            pointLedgerService.record(profile, PointTransaction.builder()
+                    .member(profile.getMember())
+                    .pointTransactionType(type)
+                    .category(category)
+                    .description(type.name())
+                    .pointsAmount(amount)
+                    .build());
+        });
+    }
+
+    private void recordRefund(Long memberId, int amount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+            pointLedgerService.record(profile, PointTransaction.conversionRefund(profile.getMember(), amount));
+        });
+    }
+
+    // 기존 회원처럼 합계 컬럼을 비운다
+    private void clearSummary(Long memberId) {
+        jdbcTemplate.update("UPDATE member_profiles SET total_earned_points = NULL, total_used_points = NULL, "
+                + "total_converted_points = NULL WHERE member_id = ?", memberId);
+    }
+
+    private Map<PointTransactionType, Long> ledgerSums(Long memberId) {
+        Map<PointTransactionType, Long> sums = new EnumMap<>(PointTransactionType.class);
+        for (PointTransactionType type : PointTransactionType.values()) {
+            sums.put(type, 0L);
+        }
+        for (Object[] row : pointTransactionRepository.sumPointsByMemberIdsGroupByType(List.of(memberId))) {
+            sums.put((PointTransactionType) row[1], ((Number) row[2]).longValue());
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,60 @@
+package com.kopo.hanagreenworld.support;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파이프라인의 ZSCORE/ZCOUNT만 흉내 내는 메모리 ZSET (Redis 없이 리더보드 순위 계산을 확인하는 용도)
+ *
+ * executePipelined에 넘긴 콜백을 가짜 연결로 실행하고, 명령 순서대로 결과를 돌려준다.
+ */
+public class InMemoryZSetRedis {
+
+    private final Map<String, Map<String, Double>> zsets = new HashMap<>();
+
+    public void zadd(String key, String member, double score) {
+        zsets.computeIfAbsent(key, k -> new HashMap<>()).put(member, score);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StringRedisTemplate template() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            List<Object> results = new ArrayList<>();
+            StringRedisConnection connection = mock(StringRedisConnection.class, call -> {
+                results.add(execute(call));
+                return null;
+            });
+            callback.doInRedis(connection);
+            return results;
+        });
+        return template;
+    }
+
+    private Object execute(InvocationOnMock call) {
+        String key = call.getArgument(0);
+        Map<String, Double> zset = zsets.getOrDefault(key, Map.of());
+        switch (call.getMethod().getName()) {
+            case "zScore":
+                return zset.get(call.<String>getArgument(1));
+            case "zCount":
+                double min = call.<Double>getArgument(1);
+                double max = call.<Double>getArgument(2);
+                return zset.values().stream().filter(score -> score >= min && score <= max).count();
+            default:
+                throw new UnsupportedOperationException("지원하지 않는 명령: " + call.getMethod().getName());
+        }
+    }
+}
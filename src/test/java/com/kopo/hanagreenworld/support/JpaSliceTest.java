@@ -0,0 +1,36 @@
+package com.kopo.hanagreenworld.support;
+
+import com.kopo.hanagreenworld.common.config.JpaConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2(MySQL 호환 모드) 위에서 JPA 슬라이스를 띄우는 테스트 설정
+ *
+ * 네이티브 쿼리(ON DUPLICATE KEY UPDATE 등)가 MySQL 문법이라 MODE=MySQL로 실행하고,
+ * 생성일 감사(@CreatedDate)가 필요하므로 JpaConfig를 함께 올린다. data.sql은 실행하지 않는다.
+ * 동시성 테스트가 같은 행을 두고 기다릴 수 있도록 잠금 대기 시간을 넉넉히 둔다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hanagreenworld;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+public @interface JpaSliceTest {
+}